@@ -0,0 +1,53 @@
+package com.medical.logistics.domian.order;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link Order#create} with item validation, from a rotating set of one to five item orders
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderCreateBenchmark {
+    private static final int ITEM_SETS = 1024;
+
+    private List<List<OrderItem>> itemSets;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        itemSets = new ArrayList<>(ITEM_SETS);
+        for (int i = 0; i < ITEM_SETS; i++) {
+            itemSets.add(SampleOrders.items(random));
+        }
+    }
+
+    @Benchmark
+    public Order create() {
+        return Order.create(itemSets.get(next++ & (ITEM_SETS - 1)));
+    }
+
+    @Benchmark
+    public OrderItem createItem() {
+        return new OrderItem("Nitrile Gloves M", 1 + (next++ & 127));
+    }
+}
@@ -0,0 +1,66 @@
+package com.medical.logistics.domian.order;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing, generating and hashing order ids. {@code generate} runs on four threads, since
+ * the time-ordered generator shares state between callers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderIdBenchmark {
+    private static final int IDS = 4096;
+
+    @Param({"time-ordered", "random"})
+    public String generator;
+
+    private OrderIdGenerator orderIds;
+    private String[] texts;
+    private OrderId[] ids;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        orderIds = generator.equals("random") ? OrderIdGenerator.random() : OrderIdGenerator.timeOrdered();
+        texts = new String[IDS];
+        ids = new OrderId[IDS];
+        for (int i = 0; i < IDS; i++) {
+            ids[i] = orderIds.nextId();
+            texts[i] = ids[i].toString();
+        }
+    }
+
+    @Benchmark
+    public OrderId parse() {
+        return OrderId.of(texts[next++ & (IDS - 1)]);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public OrderId generate() {
+        return orderIds.nextId();
+    }
+
+    @Benchmark
+    public int hash() {
+        return ids[next++ & (IDS - 1)].hashCode();
+    }
+}
@@ -0,0 +1,62 @@
+package com.medical.logistics.domian.order;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * Deterministic order data for the benchmarks: one to five items drawn from a fixed supply
+ * catalogue, about a third of the orders approved or cancelled. Ids are drawn from the same
+ * random source, in the UUIDv7 layout at their creation time, so a seed gives the same
+ * orders with the same ids every run.
+ */
+public final class SampleOrders {
+    private static final String[] SUPPLIES = {
+            "Syringe 5ml", "Syringe 10ml", "Nitrile Gloves M", "Nitrile Gloves L", "Surgical Mask",
+            "FFP2 Respirator", "Gauze Pad 10x10", "Elastic Bandage", "Saline 0.9% 500ml", "IV Cannula 20G",
+            "Alcohol Swab", "Suture Kit", "Scalpel No.10", "Thermometer Probe Cover", "Oxygen Mask"
+    };
+    private static final LocalDateTime EPOCH = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    private SampleOrders() {
+    }
+
+    public static List<OrderItem> items(SplittableRandom random) {
+        int count = 1 + random.nextInt(5);
+        List<OrderItem> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            items.add(new OrderItem(SUPPLIES[random.nextInt(SUPPLIES.length)], 1 + random.nextInt(200)));
+        }
+        return items;
+    }
+
+    public static Order order(SplittableRandom random) {
+        LocalDateTime createdAt = EPOCH.plusSeconds(random.nextInt(31_536_000));
+        OrderStatus status = switch (random.nextInt(6)) {
+            case 0 -> OrderStatus.APPROVED;
+            case 1 -> OrderStatus.CANCELLED;
+            default -> OrderStatus.PENDING;
+        };
+        long version = status == OrderStatus.PENDING ? 0 : 1;
+        return new Order(id(createdAt, random), items(random), status, createdAt, createdAt, version);
+    }
+
+    private static OrderId id(LocalDateTime createdAt, SplittableRandom random) {
+        long millis = createdAt.toInstant(ZoneOffset.UTC).toEpochMilli();
+        long msb = (millis << 16) | 0x7000L | random.nextInt(1 << 12);
+        long lsb = (random.nextLong() & 0x3FFF_FFFF_FFFF_FFFFL) | 0x8000_0000_0000_0000L;
+        return OrderId.of(new UUID(msb, lsb));
+    }
+
+    public static Order[] orders(int count, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        Order[] orders = new Order[count];
+        for (int i = 0; i < count; i++) {
+            orders[i] = order(random);
+        }
+        return orders;
+    }
+}
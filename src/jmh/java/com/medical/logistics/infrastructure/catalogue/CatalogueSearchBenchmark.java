@@ -0,0 +1,87 @@
+package com.medical.logistics.infrastructure.catalogue;
+
+import com.medical.logistics.domian.catalogue.CatalogueItem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Autocomplete searches of the supply catalogue on four threads, sampled so the report shows
+ * percentiles. Prefixes are one to six characters of random catalogue names, words and SKUs,
+ * so short prefixes with many matches are included. {@code containsName} is the check every
+ * order item goes through when catalogue validation is enabled.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CatalogueSearchBenchmark {
+    private static final int QUERIES = 4096;
+    private static final String[] SUPPLIES = {"Surgical Gloves", "Nitrile Gloves", "Syringe", "IV Cannula",
+            "Saline 0.9%", "Gauze Pad", "Elastic Bandage", "Suture Kit", "Surgical Mask", "Oxygen Mask",
+            "Urinary Catheter", "Alcohol Swab"};
+
+    @Param({"10000", "100000"})
+    public int items;
+
+    private InMemorySupplyCatalogue catalogue;
+    private String[] prefixes;
+    private String[] names;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        List<CatalogueItem> catalogueItems = new ArrayList<>(items);
+        for (int i = 0; i < items; i++) {
+            String supply = SUPPLIES[random.nextInt(SUPPLIES.length)];
+            catalogueItems.add(new CatalogueItem(String.format("%s-%06d", supply.substring(0, 3).toUpperCase(), i),
+                    supply + " " + (1 + random.nextInt(500)) + "ml REF-" + i));
+        }
+        catalogue = new InMemorySupplyCatalogue(new CatalogueSettings(null, false));
+        catalogue.replace(catalogueItems);
+
+        prefixes = new String[QUERIES];
+        names = new String[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            CatalogueItem item = catalogueItems.get(random.nextInt(items));
+            String[] words = item.name().split(" ");
+            String source = switch (random.nextInt(3)) {
+                case 0 -> item.name();
+                case 1 -> words[random.nextInt(words.length)];
+                default -> item.sku();
+            };
+            prefixes[i] = source.substring(0, Math.min(source.length(), 1 + random.nextInt(6)));
+            names[i] = item.name();
+        }
+    }
+
+    @Benchmark
+    @Threads(4)
+    public List<CatalogueItem> search() {
+        return catalogue.search(prefixes[next++ & (QUERIES - 1)], 10);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public boolean containsName() {
+        return catalogue.containsName(names[next++ & (QUERIES - 1)]);
+    }
+}
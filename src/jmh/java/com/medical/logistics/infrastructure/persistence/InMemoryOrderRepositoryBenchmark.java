@@ -0,0 +1,113 @@
+package com.medical.logistics.infrastructure.persistence;
+
+import com.medical.logistics.domian.order.Order;
+import com.medical.logistics.domian.order.OrderId;
+import com.medical.logistics.domian.order.SampleOrders;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lookups, saves and scans of the in-memory store at different sizes, with several threads
+ * hitting the same store. Saves overwrite stored orders, so the store keeps its size. Run
+ * the 10M size with {@code -Djmh.args="InMemoryOrderRepository -p orders=10000000 -jvmArgsAppend -Xmx12g"}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class InMemoryOrderRepositoryBenchmark {
+    private static final int PAGE_SIZE = 100;
+
+    @Param({"1000", "100000", "1000000"})
+    public int orders;
+
+    private InMemoryOrderRepository repository;
+    private Order[] stored;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        stored = SampleOrders.orders(orders, 42);
+        repository = new InMemoryOrderRepository(orders);
+        for (Order order : stored) {
+            repository.restore(order);
+        }
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Optional<Order> findById(Cursor cursor) {
+        return repository.findById(cursor.nextId(stored));
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Order save(Cursor cursor) {
+        return repository.save(cursor.nextOrder(stored));
+    }
+
+    @Benchmark
+    @Group("readWrite")
+    @GroupThreads(3)
+    public Optional<Order> readWriteFind(Cursor cursor) {
+        return repository.findById(cursor.nextId(stored));
+    }
+
+    @Benchmark
+    @Group("readWrite")
+    @GroupThreads(1)
+    public Order readWriteSave(Cursor cursor) {
+        return repository.save(cursor.nextOrder(stored));
+    }
+
+    @Benchmark
+    public List<Order> findPage(Cursor cursor) {
+        return repository.findPage(cursor.nextId(stored), PAGE_SIZE);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public List<Order> findAll() {
+        return repository.findAll();
+    }
+
+    /**
+     * Per-thread position in the stored orders, so threads do not share a counter
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+        private SplittableRandom random;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            random = new SplittableRandom(Thread.currentThread().threadId());
+        }
+
+        OrderId nextId(Order[] orders) {
+            return nextOrder(orders).getId();
+        }
+
+        Order nextOrder(Order[] orders) {
+            return orders[random.nextInt(orders.length)];
+        }
+    }
+}
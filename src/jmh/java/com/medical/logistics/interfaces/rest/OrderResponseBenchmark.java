@@ -0,0 +1,66 @@
+package com.medical.logistics.interfaces.rest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.medical.logistics.domian.order.Order;
+import com.medical.logistics.domian.order.SampleOrders;
+import com.medical.logistics.interfaces.rest.dto.OrderResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mapping an order to its response and writing it as JSON, with an object mapper configured
+ * the way Spring Boot configures the application's
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderResponseBenchmark {
+    private static final int ORDERS = 1024;
+
+    private final OrderMapper mapper = new OrderMapper();
+    private ObjectMapper objectMapper;
+    private Order[] orders;
+    private OrderResponse[] responses;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        orders = SampleOrders.orders(ORDERS, 42);
+        responses = new OrderResponse[ORDERS];
+        for (int i = 0; i < ORDERS; i++) {
+            responses[i] = mapper.toResponse(orders[i]);
+        }
+    }
+
+    @Benchmark
+    public OrderResponse toResponse() {
+        return mapper.toResponse(orders[next++ & (ORDERS - 1)]);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(responses[next++ & (ORDERS - 1)]);
+    }
+
+    @Benchmark
+    public byte[] mapAndSerialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(mapper.toResponse(orders[next++ & (ORDERS - 1)]));
+    }
+}
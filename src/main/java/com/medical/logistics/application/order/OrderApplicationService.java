@@ -3,10 +3,15 @@ package com.medical.logistics.application.order;
 import com.medical.logistics.application.order.commands.ApproveOrderCommand;
 import com.medical.logistics.application.order.commands.CancelOrderCommand;
 import com.medical.logistics.application.order.commands.PlaceOrderCommand;
+import com.medical.logistics.application.order.queries.OrderView;
 import com.medical.logistics.domian.order.OrderId;
+import com.medical.logistics.domian.order.OrderStatus;
+import com.medical.logistics.interfaces.rest.dto.BatchOrderResponse;
+import com.medical.logistics.interfaces.rest.dto.OrderPageResponse;
 import com.medical.logistics.interfaces.rest.dto.OrderResponse;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface OrderApplicationService {
 
@@ -17,23 +22,72 @@ public interface OrderApplicationService {
      */
     OrderResponse placeOrder(PlaceOrderCommand command);
 
+    /**
+     * Places several orders with a single repository write
+     * @param commands validated order placements
+     * @return the created orders, in command order
+     */
+    List<OrderResponse> placeOrders(List<PlaceOrderCommand> commands);
+
     /**
      * Approves a pending order
      * @param command containing order ID to approve
+     * @return the approved order
      */
-    void approveOrder(ApproveOrderCommand command);
+    OrderResponse approveOrder(ApproveOrderCommand command);
 
     /**
      * Cancels a pending order
      * @param command containing order ID to cancel
+     * @return the cancelled order
+     */
+    OrderResponse cancelOrder(CancelOrderCommand command);
+
+    /**
+     * Approves many orders, each atomically; one order failing does not affect the others
+     * @param commands one command per order
+     * @return the outcome for every command, in command order
+     */
+    BatchOrderResponse approveOrders(List<ApproveOrderCommand> commands);
+
+    /**
+     * Cancels many orders, each atomically; one order failing does not affect the others
+     * @param commands one command per order
+     * @return the outcome for every command, in command order
+     */
+    BatchOrderResponse cancelOrders(List<CancelOrderCommand> commands);
+
+    /**
+     * Retrieves one keyset page of orders in ascending id order
+     * @param cursor continuation token from the previous page, or null for the first page
+     * @param limit maximum number of orders in the page
+     * @return the page and the cursor of the next one
+     */
+    OrderPageResponse getOrders(String cursor, int limit);
+
+    /**
+     * Retrieves one keyset page of orders in the given status, in ascending id order
+     * @param status status to filter on
+     * @param cursor continuation token from the previous page, or null for the first page
+     * @param limit maximum number of orders in the page
+     * @return the page and the cursor of the next one
+     */
+    OrderPageResponse getOrdersByStatus(OrderStatus status, String cursor, int limit);
+
+    /**
+     * Retrieves the most recently changed orders
+     * @param limit maximum number of orders
+     * @return the orders, newest change first
      */
-    void cancelOrder(CancelOrderCommand command);
+    List<OrderResponse> getRecentOrders(int limit);
 
     /**
-     * Retrieves all orders
-     * @return list of all orders
+     * Walks every order in ascending id order, handing each one to the sink as it is
+     * reached, without collecting the order book first
+     * @param sink receives every order exactly once
+     * @return number of exported orders
      */
-    List<OrderResponse> getAllOrders();
+    long exportOrders(Consumer<OrderResponse> sink);
 
     /**
      * Retrieves a specific order
@@ -41,4 +95,24 @@ public interface OrderApplicationService {
      * @return order details
      */
     OrderResponse getOrder(OrderId orderId);
+
+    /**
+     * Retrieves a specific order without mapping it, for callers that can answer from its
+     * id and version alone
+     * @param orderId the order ID
+     * @return the order's current view
+     */
+    OrderView getOrderView(OrderId orderId);
+
+    /**
+     * @return token naming every order change made so far, for {@link #awaitChanges(long)}
+     */
+    long consistencyToken();
+
+    /**
+     * Waits, up to the configured consistency wait, until queries reflect every change named
+     * by {@code token}, so a client reads its own writes; queries that skip this never wait
+     * @param token a token returned by {@link #consistencyToken()} after the writes
+     */
+    void awaitChanges(long token);
 }
@@ -1,19 +1,50 @@
 package com.medical.logistics.application.order;
 
+import com.medical.logistics.application.order.OrderMetrics.Operation;
+import com.medical.logistics.application.order.OrderMetrics.Outcome;
 import com.medical.logistics.application.order.commands.ApproveOrderCommand;
 import com.medical.logistics.application.order.commands.CancelOrderCommand;
 import com.medical.logistics.application.order.commands.PlaceOrderCommand;
+import com.medical.logistics.application.order.queries.OrderCursor;
+import com.medical.logistics.application.order.queries.OrderQuery;
+import com.medical.logistics.application.order.queries.OrderView;
+import com.medical.logistics.domian.order.ItemNameDictionary;
 import com.medical.logistics.domian.order.Order;
 import com.medical.logistics.domian.order.OrderId;
+import com.medical.logistics.domian.order.OrderIdGenerator;
 import com.medical.logistics.domian.order.OrderItem;
 import com.medical.logistics.domian.order.OrderRepository;
+import com.medical.logistics.domian.order.OrderStatus;
+import com.medical.logistics.domian.order.TransitionResult;
+import com.medical.logistics.domian.order.events.OrderApprovedEvent;
+import com.medical.logistics.domian.order.events.OrderCancelledEvent;
+import com.medical.logistics.domian.order.events.OrderEvent;
+import com.medical.logistics.domian.order.events.OrderEventPublisher;
+import com.medical.logistics.domian.order.events.OrderPlacedEvent;
+import com.medical.logistics.domian.order.exceptions.ConcurrentOrderModificationException;
 import com.medical.logistics.domian.order.exceptions.OrderNotFoundException;
 import com.medical.logistics.interfaces.rest.OrderMapper;
+import com.medical.logistics.interfaces.rest.dto.BatchOrderResponse;
+import com.medical.logistics.interfaces.rest.dto.BatchOrderResult;
+import com.medical.logistics.interfaces.rest.dto.OrderPageResponse;
 import com.medical.logistics.interfaces.rest.dto.OrderResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -23,92 +54,361 @@ import java.util.stream.Collectors;
  * In an I/O-heavy system, methods would return CompletableFuture or Mono for
  * non-blocking operations. The command pattern enables easy integration with
  * message queues for asynchronous processing.
+ * <p>
+ * Commands go to the {@link OrderRepository}; queries are answered by the {@link OrderQuery}
+ * read model, which the events published here keep up to date. Every use case is timed
+ * by {@link OrderMetrics}.
  */
 @Slf4j
 @Service
 public class OrderApplicationServiceImpl implements OrderApplicationService {
+    static final int MAX_PAGE_SIZE = 500;
+    static final int BULK_CHUNK_SIZE = 256;
+
     private final OrderRepository orderRepository;
     private final OrderMapper orderMapper;
+    private final Executor bulkExecutor;
+    private final OrderEventPublisher eventPublisher;
+    private final OrderQuery orderQuery;
+    private final OrderMetrics metrics;
+    private final OrderItemValidator itemValidator;
+    private final ItemNameDictionary itemNames;
+    private final OrderIdGenerator orderIds;
 
-    public OrderApplicationServiceImpl(OrderRepository orderRepository, OrderMapper orderMapper) {
+    public OrderApplicationServiceImpl(OrderRepository orderRepository, OrderMapper orderMapper,
+                                       @Qualifier("applicationTaskExecutor") Executor bulkExecutor,
+                                       OrderEventPublisher eventPublisher, OrderQuery orderQuery,
+                                       OrderMetrics metrics, OrderItemValidator itemValidator,
+                                       ItemNameDictionary itemNames, OrderIdGenerator orderIds) {
         this.orderRepository = orderRepository;
         this.orderMapper = orderMapper;
+        this.bulkExecutor = bulkExecutor;
+        this.eventPublisher = eventPublisher;
+        this.orderQuery = orderQuery;
+        this.metrics = metrics;
+        this.itemValidator = itemValidator;
+        this.itemNames = itemNames;
+        this.orderIds = orderIds;
     }
 
     /**
      * Handles order placement
      */
     public OrderResponse placeOrder(PlaceOrderCommand command) {
-        log.info("Processing PlaceOrderCommand with {} items", command.getItems().size());
+        return timed(Operation.PLACE, () -> {
+            log.info("Processing PlaceOrderCommand with {} items", command.getItems().size());
+
+            try {
+                Order order = toOrder(command);
+                Order savedOrder = orderRepository.save(order);
+                eventPublisher.publish(new OrderPlacedEvent(savedOrder, Instant.now()));
+                log.info("Successfully placed order {} ", savedOrder.getId());
+                return orderMapper.toResponse(savedOrder);
+            } catch (Exception e) {
+                log.error("Failed to place order: {}", e.getMessage(), e);
+                throw e;
+            }
+        });
+    }
+
+    /**
+     * Handles batch order placement: every order is created first, then all are persisted
+     * through one saveAll call and logged with a single summary line. Callers reject orders
+     * with items missing from the catalogue one by one beforehand; one that still gets here
+     * rejects the whole batch before anything is saved.
+     */
+    public List<OrderResponse> placeOrders(List<PlaceOrderCommand> commands) {
+        return timed(Operation.PLACE_BATCH, () -> placeAll(commands));
+    }
 
+    private List<OrderResponse> placeAll(List<PlaceOrderCommand> commands) {
+        List<Order> orders = new ArrayList<>(commands.size());
+        for (PlaceOrderCommand command : commands) {
+            orders.add(toOrder(command));
+        }
         try {
-            List<OrderItem> items = command.getItems().stream()
-                    .map(item -> {
-                        log.debug("Creating OrderItem: {} x{}", item.name(), item.quantity());
-                        return new OrderItem(item.name(), item.quantity());
-                    })
-                    .collect(Collectors.toList());
-
-            Order order = Order.create(items);
-            Order savedOrder = orderRepository.save(order);
-            log.info("Successfully placed order {} ", savedOrder.getId());
-
-            // publish OrderPlacedEvent
-            return orderMapper.toResponse(savedOrder);
+            orderRepository.saveAll(orders);
         } catch (Exception e) {
-            log.error("Failed to place order: {}", e.getMessage(), e);
+            log.error("Failed to place batch of {} orders: {}", orders.size(), e.getMessage(), e);
             throw e;
         }
+        Instant placedAt = Instant.now();
+        for (Order order : orders) {
+            eventPublisher.publish(new OrderPlacedEvent(order, placedAt));
+        }
+        log.info("Successfully placed batch of {} orders", orders.size());
+        metrics.countResults(Operation.PLACE_BATCH, Outcome.SUCCESS, orders.size());
+
+        List<OrderResponse> responses = new ArrayList<>(orders.size());
+        for (Order order : orders) {
+            responses.add(orderMapper.toResponse(order));
+        }
+        return responses;
     }
 
     /**
      * Handles order approval
      * <p>
      * I/O Consideration: External service calls (inventory, payment) would be handled asynchronously with circuit breakers
-     *
+     * <p>
+     * The transition is a compare-and-set on the version that was read, so a concurrent
+     * approve or cancel of the same order fails with ConcurrentOrderModificationException
+     * instead of being silently overwritten.
+     */
+    public OrderResponse approveOrder(ApproveOrderCommand command) {
+        return timed(Operation.APPROVE, () -> {
+            log.info("Processing ApproveOrderCommand for order {}", command.getOrderId());
+            try {
+                Order order = findOrder(command.getOrderId());
+                Order approved = orderRepository.transition(order.getId(), order.getVersion(), Order::approve);
+                eventPublisher.publish(new OrderApprovedEvent(approved, Instant.now()));
+                log.info("Successfully approved order {}", command.getOrderId());
+                return orderMapper.toResponse(approved);
+            } catch (Exception e) {
+                log.error("Failed to approve order {}: {}", command.getOrderId(), e.getMessage(), e);
+                throw e;
+            }
+        });
+    }
+
+    public OrderResponse cancelOrder(CancelOrderCommand command) {
+        return timed(Operation.CANCEL, () -> {
+            log.info("Processing CancelOrderCommand for order {}", command.getOrderId());
+            try {
+                Order order = findOrder(command.getOrderId());
+                Order cancelled = orderRepository.transition(order.getId(), order.getVersion(), Order::cancel);
+                eventPublisher.publish(new OrderCancelledEvent(cancelled, Instant.now()));
+                log.info("Successfully cancelled order {}", command.getOrderId());
+                return orderMapper.toResponse(cancelled);
+            } catch (Exception e) {
+                log.error("Failed to cancel order {}: {}", command.getOrderId(), e.getMessage(), e);
+                throw e;
+            }
+        });
+    }
+
+    public BatchOrderResponse approveOrders(List<ApproveOrderCommand> commands) {
+        List<OrderId> ids = commands.stream().map(ApproveOrderCommand::getOrderId).toList();
+        return timed(Operation.APPROVE_BULK, () -> transitionAll(ids, Order::approve, BatchOrderResult.APPROVED,
+                OrderApprovedEvent::new, Operation.APPROVE_BULK));
+    }
+
+    public BatchOrderResponse cancelOrders(List<CancelOrderCommand> commands) {
+        List<OrderId> ids = commands.stream().map(CancelOrderCommand::getOrderId).toList();
+        return timed(Operation.CANCEL_BULK, () -> transitionAll(ids, Order::cancel, BatchOrderResult.CANCELLED,
+                OrderCancelledEvent::new, Operation.CANCEL_BULK));
+    }
+
+    public OrderPageResponse getOrders(String cursor, int limit) {
+        return timed(Operation.LIST, () -> {
+            validatePageLimit(limit);
+            // fetch one extra order to learn whether another page exists
+            List<OrderView> orders = orderQuery.findPage(decodeCursor(cursor), limit + 1);
+            OrderPageResponse page = toPage(orders, limit);
+
+            log.info("Retrieved {} orders", page.getItems().size());
+            return page;
+        });
+    }
+
+    public OrderPageResponse getOrdersByStatus(OrderStatus status, String cursor, int limit) {
+        return timed(Operation.LIST_BY_STATUS, () -> {
+            validatePageLimit(limit);
+            List<OrderView> orders = orderQuery.findByStatus(status, decodeCursor(cursor), limit + 1);
+            OrderPageResponse page = toPage(orders, limit);
+
+            log.info("Retrieved {} {} orders", page.getItems().size(), status);
+            return page;
+        });
+    }
+
+    public List<OrderResponse> getRecentOrders(int limit) {
+        return timed(Operation.RECENT, () -> {
+            validatePageLimit(limit);
+            List<OrderResponse> orders = orderQuery.findRecent(limit).stream()
+                    .map(orderMapper::toResponse)
+                    .toList();
+
+            log.info("Retrieved {} recent orders", orders.size());
+            return orders;
+        });
+    }
+
+    public long exportOrders(Consumer<OrderResponse> sink) {
+        return timed(Operation.EXPORT, () -> {
+            long exported = orderQuery.forEach(view -> sink.accept(orderMapper.toResponse(view)));
+
+            log.info("Exported {} orders", exported);
+            return exported;
+        });
+    }
+
+    /**
+     * Served by the read model; an order it has not seen yet is looked up in the store
      */
-    public void approveOrder(ApproveOrderCommand command) {
-        log.info("Processing ApproveOrderCommand for order {}", command.getOrderId());
+    public OrderResponse getOrder(OrderId orderId) {
+        return timed(Operation.GET, () -> orderMapper.toResponse(findView(orderId)));
+    }
+
+    public OrderView getOrderView(OrderId orderId) {
+        return timed(Operation.GET, () -> findView(orderId));
+    }
+
+    public long consistencyToken() {
+        return orderQuery.consistencyToken();
+    }
+
+    public void awaitChanges(long token) {
+        if (!orderQuery.awaitChanges(token)) {
+            log.debug("Read model has not applied changes up to {} yet, serving what it holds", token);
+        }
+    }
+
+    /**
+     * Runs a use case and records its latency and outcome
+     */
+    private <T> T timed(Operation operation, Supplier<T> action) {
+        long start = System.nanoTime();
         try {
-        Order order = findOrder(command.getOrderId());
-        order.approve();
-        orderRepository.save(order);
-        log.info("Successfully approved order {}", command.getOrderId());
-        // publish OrderApprovedEvent
-        } catch (Exception e) {
-            log.error("Failed to approve order {}: {}", command.getOrderId(), e.getMessage(), e);
+            T result = action.get();
+            metrics.record(operation, start, Outcome.SUCCESS);
+            return result;
+        } catch (RuntimeException e) {
+            metrics.record(operation, start, e);
             throw e;
         }
     }
 
-    public void cancelOrder(CancelOrderCommand command) {
-        log.info("Processing CancelOrderCommand for order {}", command.getOrderId());
+    /**
+     * Splits the ids into chunks that are transitioned in parallel; each chunk is one
+     * repository call, so durable stores persist it as one batch, and publishes the events
+     * of the orders it changed. Repeated ids are rejected rather than racing against
+     * themselves.
+     */
+    private BatchOrderResponse transitionAll(List<OrderId> ids, Consumer<Order> change, String successOutcome,
+                                             BiFunction<Order, Instant, OrderEvent> event, Operation operation) {
+        Set<OrderId> seen = new HashSet<>();
+        List<OrderId> unique = new ArrayList<>(ids.size());
+        for (OrderId id : ids) {
+            if (seen.add(id)) {
+                unique.add(id);
+            }
+        }
+
+        List<CompletableFuture<List<TransitionResult>>> chunks = new ArrayList<>();
+        for (int from = 0; from < unique.size(); from += BULK_CHUNK_SIZE) {
+            List<OrderId> chunk = unique.subList(from, Math.min(from + BULK_CHUNK_SIZE, unique.size()));
+            chunks.add(CompletableFuture.supplyAsync(() -> {
+                List<TransitionResult> transitioned = orderRepository.transitionAll(chunk, change);
+                Instant completedAt = Instant.now();
+                for (TransitionResult result : transitioned) {
+                    if (result.isSuccess()) {
+                        eventPublisher.publish(event.apply(result.order(), completedAt));
+                    }
+                }
+                return transitioned;
+            }, bulkExecutor));
+        }
+        Map<OrderId, TransitionResult> byId = new HashMap<>(unique.size() * 2);
+        for (CompletableFuture<List<TransitionResult>> chunk : chunks) {
+            joinChunk(chunk).forEach(result -> byId.put(result.id(), result));
+        }
+
+        List<BatchOrderResult> results = new ArrayList<>(ids.size());
+        Set<OrderId> reported = new HashSet<>();
+        int succeeded = 0;
+        for (int i = 0; i < ids.size(); i++) {
+            OrderId id = ids.get(i);
+            BatchOrderResult.BatchOrderResultBuilder result = BatchOrderResult.builder().index(i).orderId(id.getValue());
+            TransitionResult outcome = byId.get(id);
+            if (!reported.add(id)) {
+                result.outcome(BatchOrderResult.REJECTED).error("Duplicate order id in request");
+                metrics.countResults(operation, Outcome.INVALID_REQUEST, 1);
+            } else if (outcome.isSuccess()) {
+                result.outcome(successOutcome).order(orderMapper.toResponse(outcome.order()));
+                metrics.countResults(operation, Outcome.SUCCESS, 1);
+                succeeded++;
+            } else {
+                result.outcome(failureOutcome(outcome.failure())).error(outcome.failure().getMessage());
+                metrics.countResults(operation, Outcome.of(outcome.failure()), 1);
+            }
+            results.add(result.build());
+        }
+
+        log.info("Bulk {}: {} of {} orders succeeded", successOutcome, succeeded, ids.size());
+        return BatchOrderResponse.builder()
+                .succeeded(succeeded)
+                .failed(ids.size() - succeeded)
+                .results(results)
+                .build();
+    }
+
+    private static List<TransitionResult> joinChunk(CompletableFuture<List<TransitionResult>> chunk) {
         try {
-            Order order = findOrder(command.getOrderId());
-            order.cancel();
-            orderRepository.save(order);
-            log.info("Successfully cancelled order {}", command.getOrderId());
-            // publish OrderCancelledEvent
-        } catch (Exception e) {
-            log.error("Failed to cancel order {}: {}", command.getOrderId(), e.getMessage(), e);
+            return chunk.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
             throw e;
         }
     }
 
-    public List<OrderResponse> getAllOrders() {
-        List<OrderResponse> orderResponses = orderRepository.findAll().stream()
+    private static String failureOutcome(RuntimeException failure) {
+        if (failure instanceof OrderNotFoundException) {
+            return BatchOrderResult.NOT_FOUND;
+        }
+        if (failure instanceof ConcurrentOrderModificationException) {
+            return BatchOrderResult.CONFLICT;
+        }
+        return BatchOrderResult.INVALID_STATE;
+    }
+
+    private Order toOrder(PlaceOrderCommand command) {
+        itemValidator.validate(command);
+        List<OrderItem> items = command.getItems().stream()
+                .map(item -> {
+                    log.debug("Creating OrderItem: {} x{}", item.name(), item.quantity());
+                    return new OrderItem(itemNames.canonical(item.name()), item.quantity());
+                })
+                .collect(Collectors.toList());
+        return Order.create(orderIds.nextId(), items);
+    }
+
+    private OrderPageResponse toPage(List<OrderView> orders, int limit) {
+        boolean hasMore = orders.size() > limit;
+        List<OrderView> page = hasMore ? orders.subList(0, limit) : orders;
+
+        List<OrderResponse> orderResponses = page.stream()
                 .map(orderMapper::toResponse)
                 .collect(Collectors.toList());
 
-        log.info("Retrieved {} orders", orderResponses.size());
-        return orderResponses;
+        return OrderPageResponse.builder()
+                .items(orderResponses)
+                .nextCursor(hasMore ? OrderCursor.encode(page.get(page.size() - 1).id()) : null)
+                .build();
     }
 
-    public OrderResponse getOrder(OrderId orderId) {
-        Order order = findOrder(orderId);
+    private OrderId decodeCursor(String cursor) {
+        return cursor == null || cursor.isBlank() ? null : OrderCursor.decode(cursor);
+    }
+
+    private void validatePageLimit(int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+    }
+
+    private OrderView findView(OrderId orderId) {
+        OrderView view = orderQuery.findById(orderId).orElse(null);
+        if (view == null) {
+            Order order = findOrder(orderId);
+            log.info("Retrieved order {} with status {} from the order store", orderId, order.getStatus());
+            return OrderView.of(order);
+        }
 
-        log.info("Retrieved order {} with status {}", orderId, order.getStatus());
-        return orderMapper.toResponse(order);
+        log.info("Retrieved order {} with status {}", orderId, view.status());
+        return view;
     }
 
     private Order findOrder(OrderId orderId) {
@@ -0,0 +1,54 @@
+package com.medical.logistics.application.order;
+
+import com.medical.logistics.application.order.commands.PlaceOrderCommand;
+import com.medical.logistics.domian.catalogue.SupplyCatalogue;
+import com.medical.logistics.domian.catalogue.exceptions.UnknownCatalogueItemException;
+import com.medical.logistics.infrastructure.catalogue.CatalogueSettings;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Checks that every item of a new order names a supply in the {@link SupplyCatalogue}, so a
+ * typo is rejected instead of becoming a phantom item. Only enforced with
+ * {@code orders.catalogue.validate-items=true}; names must match exactly.
+ */
+@Component
+public class OrderItemValidator {
+    private final SupplyCatalogue catalogue;
+    private final boolean enabled;
+
+    @Autowired
+    public OrderItemValidator(SupplyCatalogue catalogue, CatalogueSettings settings) {
+        this(catalogue, settings.validateItems());
+    }
+
+    OrderItemValidator(SupplyCatalogue catalogue, boolean enabled) {
+        this.catalogue = catalogue;
+        this.enabled = enabled;
+    }
+
+    /**
+     * @throws UnknownCatalogueItemException for the first item not in the catalogue
+     */
+    public void validate(PlaceOrderCommand command) {
+        String error = unknownItemError(command);
+        if (error != null) {
+            throw new UnknownCatalogueItemException(error);
+        }
+    }
+
+    /**
+     * @return why the first item not in the catalogue is rejected, or null if every item is known
+     */
+    public String unknownItemError(PlaceOrderCommand command) {
+        if (!enabled) {
+            return null;
+        }
+        for (PlaceOrderCommand.OrderItemCommand item : command.getItems()) {
+            if (!catalogue.containsName(item.name())) {
+                return "Item '" + item.name() + "' is not in the supply catalogue";
+            }
+        }
+        return null;
+    }
+}
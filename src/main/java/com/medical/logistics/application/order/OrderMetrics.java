@@ -0,0 +1,137 @@
+package com.medical.logistics.application.order;
+
+import com.medical.logistics.domian.catalogue.exceptions.UnknownCatalogueItemException;
+import com.medical.logistics.domian.order.exceptions.ConcurrentOrderModificationException;
+import com.medical.logistics.domian.order.exceptions.InvalidOrderStateException;
+import com.medical.logistics.domian.order.exceptions.OrderNotFoundException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Latency and outcome metrics of the order use cases
+ * <p>
+ * Every command and query is timed into {@code orders.commands} or {@code orders.queries},
+ * tagged with the operation and its outcome and published as a percentile histogram.
+ * Commands that touch several orders also count each order's outcome in
+ * {@code orders.command.results}. Meters are registered on first use and then looked up by
+ * array index, so recording is a clock read and a histogram update.
+ */
+@Component
+public class OrderMetrics {
+    private static final Duration MIN_EXPECTED = Duration.of(10, ChronoUnit.MICROS);
+    private static final Duration MAX_EXPECTED = Duration.ofSeconds(10);
+    private static final int OUTCOMES = Outcome.values().length;
+
+    private final MeterRegistry registry;
+    private final AtomicReferenceArray<Timer> timers;
+    private final AtomicReferenceArray<Counter> results;
+
+    public OrderMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        this.timers = new AtomicReferenceArray<>(Operation.values().length * OUTCOMES);
+        this.results = new AtomicReferenceArray<>(Operation.values().length * OUTCOMES);
+    }
+
+    /**
+     * Records an operation that started at {@code startNanos}, a {@link System#nanoTime} reading
+     */
+    public void record(Operation operation, long startNanos, Outcome outcome) {
+        timer(operation, outcome).record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void record(Operation operation, long startNanos, RuntimeException failure) {
+        record(operation, startNanos, Outcome.of(failure));
+    }
+
+    /**
+     * Counts the outcome for {@code orders} orders of a command
+     */
+    public void countResults(Operation operation, Outcome outcome, int orders) {
+        int index = operation.ordinal() * OUTCOMES + outcome.ordinal();
+        Counter counter = results.get(index);
+        if (counter == null) {
+            counter = Counter.builder("orders.command.results")
+                    .description("Orders affected by a command, by outcome")
+                    .tag("command", operation.tag)
+                    .tag("outcome", outcome.tag)
+                    .register(registry);
+            results.set(index, counter);
+        }
+        counter.increment(orders);
+    }
+
+    private Timer timer(Operation operation, Outcome outcome) {
+        int index = operation.ordinal() * OUTCOMES + outcome.ordinal();
+        Timer timer = timers.get(index);
+        if (timer == null) {
+            // registering twice from racing threads returns the same meter
+            timer = Timer.builder(operation.command ? "orders.commands" : "orders.queries")
+                    .description(operation.command ? "Order command latency" : "Order query latency")
+                    .tag(operation.command ? "command" : "query", operation.tag)
+                    .tag("outcome", outcome.tag)
+                    .publishPercentileHistogram()
+                    .minimumExpectedValue(MIN_EXPECTED)
+                    .maximumExpectedValue(MAX_EXPECTED)
+                    .register(registry);
+            timers.set(index, timer);
+        }
+        return timer;
+    }
+
+    public enum Operation {
+        PLACE(true),
+        PLACE_BATCH(true),
+        APPROVE(true),
+        CANCEL(true),
+        APPROVE_BULK(true),
+        CANCEL_BULK(true),
+        GET(false),
+        LIST(false),
+        LIST_BY_STATUS(false),
+        RECENT(false),
+        EXPORT(false);
+
+        private final boolean command;
+        private final String tag;
+
+        Operation(boolean command) {
+            this.command = command;
+            this.tag = name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    public enum Outcome {
+        SUCCESS,
+        NOT_FOUND,
+        INVALID_STATE,
+        CONFLICT,
+        INVALID_REQUEST,
+        ERROR;
+
+        private final String tag = name().toLowerCase(Locale.ROOT);
+
+        public static Outcome of(RuntimeException failure) {
+            if (failure instanceof OrderNotFoundException) {
+                return NOT_FOUND;
+            }
+            if (failure instanceof InvalidOrderStateException) {
+                return INVALID_STATE;
+            }
+            if (failure instanceof ConcurrentOrderModificationException) {
+                return CONFLICT;
+            }
+            if (failure instanceof IllegalArgumentException || failure instanceof UnknownCatalogueItemException) {
+                return INVALID_REQUEST;
+            }
+            return ERROR;
+        }
+    }
+}
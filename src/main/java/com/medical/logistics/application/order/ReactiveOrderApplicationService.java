@@ -0,0 +1,61 @@
+package com.medical.logistics.application.order;
+
+import com.medical.logistics.application.order.commands.ApproveOrderCommand;
+import com.medical.logistics.application.order.commands.CancelOrderCommand;
+import com.medical.logistics.application.order.commands.PlaceOrderCommand;
+import com.medical.logistics.domian.order.OrderId;
+import com.medical.logistics.domian.order.OrderStatus;
+import com.medical.logistics.interfaces.rest.dto.OrderPageResponse;
+import com.medical.logistics.interfaces.rest.dto.OrderResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of {@link OrderApplicationService}, used by the reactive web stack
+ */
+public interface ReactiveOrderApplicationService {
+
+    /**
+     * Places a new order
+     * @param command containing order items
+     * @return the created order
+     */
+    Mono<OrderResponse> placeOrder(PlaceOrderCommand command);
+
+    /**
+     * Approves a pending order
+     * @param command containing order ID to approve
+     * @return the approved order
+     */
+    Mono<OrderResponse> approveOrder(ApproveOrderCommand command);
+
+    /**
+     * Cancels a pending order
+     * @param command containing order ID to cancel
+     * @return the cancelled order
+     */
+    Mono<OrderResponse> cancelOrder(CancelOrderCommand command);
+
+    /**
+     * Retrieves one keyset page of orders, optionally in one status, in ascending id order
+     * @param status status to filter on, or null for every order
+     * @param cursor continuation token from the previous page, or null for the first page
+     * @param limit maximum number of orders in the page
+     * @return the page and the cursor of the next one
+     */
+    Mono<OrderPageResponse> getOrders(OrderStatus status, String cursor, int limit);
+
+    /**
+     * Streams every order, optionally in one status, in ascending id order; the store is
+     * read only as fast as the subscriber consumes
+     * @param status status to filter on, or null for every order
+     */
+    Flux<OrderResponse> streamOrders(OrderStatus status);
+
+    /**
+     * Retrieves a specific order
+     * @param orderId the order ID
+     * @return order details
+     */
+    Mono<OrderResponse> getOrder(OrderId orderId);
+}
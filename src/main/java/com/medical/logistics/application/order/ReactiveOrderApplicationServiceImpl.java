@@ -0,0 +1,145 @@
+package com.medical.logistics.application.order;
+
+import com.medical.logistics.application.order.commands.ApproveOrderCommand;
+import com.medical.logistics.application.order.commands.CancelOrderCommand;
+import com.medical.logistics.application.order.commands.PlaceOrderCommand;
+import com.medical.logistics.application.order.queries.OrderCursor;
+import com.medical.logistics.domian.order.ItemNameDictionary;
+import com.medical.logistics.domian.order.Order;
+import com.medical.logistics.domian.order.OrderId;
+import com.medical.logistics.domian.order.OrderIdGenerator;
+import com.medical.logistics.domian.order.OrderItem;
+import com.medical.logistics.domian.order.OrderStatus;
+import com.medical.logistics.domian.order.ReactiveOrderRepository;
+import com.medical.logistics.domian.order.events.OrderApprovedEvent;
+import com.medical.logistics.domian.order.events.OrderCancelledEvent;
+import com.medical.logistics.domian.order.events.OrderEvent;
+import com.medical.logistics.domian.order.events.OrderEventPublisher;
+import com.medical.logistics.domian.order.events.OrderPlacedEvent;
+import com.medical.logistics.domian.order.exceptions.OrderNotFoundException;
+import com.medical.logistics.interfaces.rest.OrderMapper;
+import com.medical.logistics.interfaces.rest.dto.OrderPageResponse;
+import com.medical.logistics.interfaces.rest.dto.OrderResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+
+import static com.medical.logistics.application.order.OrderApplicationServiceImpl.MAX_PAGE_SIZE;
+
+/**
+ * Reactive Order Application Service
+ * <p>
+ * Same use cases and rules as {@link OrderApplicationServiceImpl}, composed over the
+ * {@link ReactiveOrderRepository} port so no call blocks the event loop.
+ */
+@Slf4j
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveOrderApplicationServiceImpl implements ReactiveOrderApplicationService {
+    private final ReactiveOrderRepository orderRepository;
+    private final OrderMapper orderMapper;
+    private final OrderEventPublisher eventPublisher;
+    private final OrderItemValidator itemValidator;
+    private final ItemNameDictionary itemNames;
+    private final OrderIdGenerator orderIds;
+
+    public ReactiveOrderApplicationServiceImpl(ReactiveOrderRepository orderRepository, OrderMapper orderMapper,
+                                               OrderEventPublisher eventPublisher, OrderItemValidator itemValidator,
+                                               ItemNameDictionary itemNames, OrderIdGenerator orderIds) {
+        this.orderRepository = orderRepository;
+        this.orderMapper = orderMapper;
+        this.eventPublisher = eventPublisher;
+        this.itemValidator = itemValidator;
+        this.itemNames = itemNames;
+        this.orderIds = orderIds;
+    }
+
+    public Mono<OrderResponse> placeOrder(PlaceOrderCommand command) {
+        return Mono.fromCallable(() -> toOrder(command))
+                .flatMap(orderRepository::save)
+                .doOnNext(saved -> eventPublisher.publish(new OrderPlacedEvent(saved, Instant.now())))
+                .doOnNext(saved -> log.info("Successfully placed order {} ", saved.getId()))
+                .doOnError(e -> log.error("Failed to place order: {}", e.getMessage()))
+                .map(orderMapper::toResponse);
+    }
+
+    public Mono<OrderResponse> approveOrder(ApproveOrderCommand command) {
+        return transition(command.getOrderId(), Order::approve, OrderApprovedEvent::new, "approve");
+    }
+
+    public Mono<OrderResponse> cancelOrder(CancelOrderCommand command) {
+        return transition(command.getOrderId(), Order::cancel, OrderCancelledEvent::new, "cancel");
+    }
+
+    public Mono<OrderPageResponse> getOrders(OrderStatus status, String cursor, int limit) {
+        return Mono.defer(() -> {
+            validatePageLimit(limit);
+            OrderId after = decodeCursor(cursor);
+            // fetch one extra order to learn whether another page exists
+            Flux<Order> orders = status == null
+                    ? orderRepository.findPage(after, limit + 1)
+                    : orderRepository.findByStatus(status, after, limit + 1);
+            return orders.collectList().map(page -> toPage(page, limit));
+        });
+    }
+
+    public Flux<OrderResponse> streamOrders(OrderStatus status) {
+        return orderRepository.streamAll(status).map(orderMapper::toResponse);
+    }
+
+    public Mono<OrderResponse> getOrder(OrderId orderId) {
+        return findOrder(orderId).map(orderMapper::toResponse);
+    }
+
+    /**
+     * Compare-and-set on the version that was read, as in the servlet service
+     */
+    private Mono<OrderResponse> transition(OrderId orderId, Consumer<Order> change,
+                                           BiFunction<Order, Instant, OrderEvent> event, String action) {
+        return findOrder(orderId)
+                .flatMap(order -> orderRepository.transition(order.getId(), order.getVersion(), change))
+                .doOnNext(next -> eventPublisher.publish(event.apply(next, Instant.now())))
+                .doOnNext(order -> log.info("Successfully {}d order {}", action, orderId))
+                .doOnError(e -> log.error("Failed to {} order {}: {}", action, orderId, e.getMessage()))
+                .map(orderMapper::toResponse);
+    }
+
+    private Mono<Order> findOrder(OrderId orderId) {
+        return orderRepository.findById(orderId)
+                .switchIfEmpty(Mono.error(() -> new OrderNotFoundException("Order not found with id: " + orderId)));
+    }
+
+    private Order toOrder(PlaceOrderCommand command) {
+        itemValidator.validate(command);
+        List<OrderItem> items = command.getItems().stream()
+                .map(item -> new OrderItem(itemNames.canonical(item.name()), item.quantity()))
+                .toList();
+        return Order.create(orderIds.nextId(), items);
+    }
+
+    private OrderPageResponse toPage(List<Order> orders, int limit) {
+        boolean hasMore = orders.size() > limit;
+        List<Order> page = hasMore ? orders.subList(0, limit) : orders;
+        return OrderPageResponse.builder()
+                .items(page.stream().map(orderMapper::toResponse).toList())
+                .nextCursor(hasMore ? OrderCursor.encode(page.get(page.size() - 1).getId()) : null)
+                .build();
+    }
+
+    private static OrderId decodeCursor(String cursor) {
+        return cursor == null || cursor.isBlank() ? null : OrderCursor.decode(cursor);
+    }
+
+    private static void validatePageLimit(int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+    }
+}
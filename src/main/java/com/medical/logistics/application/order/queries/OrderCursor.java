@@ -0,0 +1,42 @@
+package com.medical.logistics.application.order.queries;
+
+import com.medical.logistics.domian.order.OrderId;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Opaque continuation token for keyset pagination.
+ * <p>
+ * The token is the URL-safe Base64 form of the last returned order id, so clients
+ * cannot rely on its structure and the server can change the encoding later.
+ */
+public final class OrderCursor {
+    private static final int ID_BYTES = 16;
+
+    private OrderCursor() {
+    }
+
+    public static String encode(OrderId lastId) {
+        UUID value = lastId.getValue();
+        ByteBuffer buffer = ByteBuffer.allocate(ID_BYTES)
+                .putLong(value.getMostSignificantBits())
+                .putLong(value.getLeastSignificantBits());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    public static OrderId decode(String cursor) {
+        byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+        }
+        if (bytes.length != ID_BYTES) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return OrderId.of(new UUID(buffer.getLong(), buffer.getLong()));
+    }
+}
@@ -0,0 +1,307 @@
+package com.medical.logistics.application.order.queries;
+
+import com.medical.logistics.domian.order.Order;
+import com.medical.logistics.domian.order.OrderId;
+import com.medical.logistics.domian.order.OrderRepository;
+import com.medical.logistics.domian.order.OrderStatus;
+import com.medical.logistics.domian.order.events.OrderEvent;
+import com.medical.logistics.infrastructure.events.OrderEventBus;
+import com.medical.logistics.infrastructure.events.OrderEventHandler;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.function.SingletonSupplier;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+/**
+ * Denormalized order read model, maintained from the order event bus
+ * <p>
+ * Each change is kept as a compact {@link OrderView} in id order; the status and recency
+ * indexes hold only ids and are resolved against it, and responses are mapped on read.
+ * Readers walk the concurrent maps without locking. The bus thread is the only writer. A
+ * change is applied only if it is newer than the version already held, so events for the
+ * same order may arrive in any order.
+ * <p>
+ * The projection is loaded from the order store on startup. Reads never wait for it to
+ * catch up; a client that needs its own writes waits with {@link #awaitChanges(long)}, up to
+ * {@code orders.query.consistency-wait}. If a change cannot be applied, the indexes may no
+ * longer agree, so the whole model is rebuilt from the store and swapped in; if that fails
+ * too, every read fails until restart rather than serving a model known to be wrong.
+ * <p>
+ * The model holds a full copy of every order. With {@code orders.repository.type=compact}
+ * that copy would outweigh the store, so {@link RepositoryOrderQuery} reads the store instead.
+ */
+@Slf4j
+@Component
+@ConditionalOnExpression("'${orders.repository.type:in-memory}' != 'compact'")
+@EnableConfigurationProperties(OrderQuerySettings.class)
+public class OrderProjection implements OrderQuery, OrderEventHandler, MeterBinder {
+    private static final long WAIT_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private final OrderRepository orderRepository;
+    private final LongSupplier publishedSequence;
+    private final int recentCapacity;
+    private final long consistencyWaitNanos;
+    private final AtomicLong staleReads = new AtomicLong();
+    private final AtomicLong rebuilds = new AtomicLong();
+
+    private volatile Indexes indexes;
+    private volatile RuntimeException failure;
+    private volatile long appliedSequence = -1;
+
+    @Autowired
+    public OrderProjection(OrderQuerySettings settings, OrderRepository orderRepository,
+                           ObjectProvider<OrderEventBus> eventBus) {
+        this(settings, orderRepository, publishedSequenceOf(eventBus));
+    }
+
+    /**
+     * @param publishedSequence sequence of the last event published to the bus
+     */
+    public OrderProjection(OrderQuerySettings settings, OrderRepository orderRepository,
+                           LongSupplier publishedSequence) {
+        this.orderRepository = orderRepository;
+        this.publishedSequence = publishedSequence;
+        this.recentCapacity = settings.recentCapacity();
+        this.consistencyWaitNanos = settings.consistencyWait().toNanos();
+        this.indexes = load();
+        log.info("Order read model loaded {} orders", indexes.byId.size());
+    }
+
+    @Override
+    public void onEvent(OrderEvent event, long sequence, boolean endOfBatch) {
+        if (failure == null) {
+            try {
+                indexes.apply(event.order());
+            } catch (RuntimeException e) {
+                log.error("Order read model failed to apply event {}, rebuilding it from the order store", sequence, e);
+                rebuild();
+            }
+        }
+        appliedSequence = sequence;
+    }
+
+    @Override
+    public long consistencyToken() {
+        return publishedSequence.getAsLong();
+    }
+
+    @Override
+    public boolean awaitChanges(long token) {
+        if (appliedSequence >= token) {
+            return true;
+        }
+        long deadline = System.nanoTime() + consistencyWaitNanos;
+        while (appliedSequence < token) {
+            if (System.nanoTime() - deadline >= 0) {
+                staleReads.incrementAndGet();
+                return false;
+            }
+            LockSupport.parkNanos(WAIT_PARK_NANOS);
+        }
+        return true;
+    }
+
+    @Override
+    public Optional<OrderView> findById(OrderId orderId) {
+        Entry entry = current().byId.get(orderId);
+        return entry == null ? Optional.empty() : Optional.of(entry.view());
+    }
+
+    @Override
+    public List<OrderView> findPage(OrderId after, int limit) {
+        NavigableMap<OrderId, OrderView> ordered = current().ordered;
+        NavigableMap<OrderId, OrderView> from = after == null ? ordered : ordered.tailMap(after, false);
+        List<OrderView> page = new ArrayList<>(Math.min(limit, 64));
+        for (OrderView view : from.values()) {
+            if (page.size() == limit) {
+                break;
+            }
+            page.add(view);
+        }
+        return page;
+    }
+
+    @Override
+    public List<OrderView> findByStatus(OrderStatus status, OrderId after, int limit) {
+        Indexes current = current();
+        NavigableSet<OrderId> ids = current.byStatus.get(status);
+        List<OrderView> page = new ArrayList<>(Math.min(limit, 64));
+        // an order moving to another status meanwhile is skipped rather than shown twice
+        resolve(current, after == null ? ids : ids.tailSet(after, false), view -> view.status() == status, limit, page);
+        return page;
+    }
+
+    @Override
+    public List<OrderView> findRecent(int limit) {
+        Indexes current = current();
+        List<OrderView> page = new ArrayList<>(Math.min(limit, 64));
+        resolve(current, current.recent.descendingMap().values(), view -> true, limit, page);
+        return page;
+    }
+
+    @Override
+    public long forEach(Consumer<OrderView> sink) {
+        long visited = 0;
+        for (OrderView view : current().ordered.values()) {
+            sink.accept(view);
+            visited++;
+        }
+        return visited;
+    }
+
+    /**
+     * Events published to the bus that the projection has not applied yet
+     */
+    public long lag() {
+        return Math.max(0, publishedSequence.getAsLong() - appliedSequence);
+    }
+
+    public int size() {
+        return indexes.byId.size();
+    }
+
+    public long count(OrderStatus status) {
+        return indexes.statusCounts.get(status.ordinal());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("orders.query.lag", this, OrderProjection::lag)
+                .description("Order events the read model has not applied yet")
+                .register(registry);
+        for (OrderStatus status : OrderStatus.values()) {
+            Gauge.builder("orders.store.size", this, projection -> projection.count(status))
+                    .description("Orders in each status, as held by the read model")
+                    .tag("status", status.name())
+                    .register(registry);
+        }
+        FunctionCounter.builder("orders.query.stale.reads", staleReads, AtomicLong::get)
+                .description("Reads that gave up waiting for the read model to apply their consistency token")
+                .register(registry);
+        FunctionCounter.builder("orders.query.rebuilds", rebuilds, AtomicLong::get)
+                .description("Times the read model was rebuilt from the order store after a change failed to apply")
+                .register(registry);
+    }
+
+    private Indexes load() {
+        Indexes loaded = new Indexes(recentCapacity);
+        orderRepository.forEach(loaded::apply);
+        return loaded;
+    }
+
+    private void rebuild() {
+        rebuilds.incrementAndGet();
+        try {
+            indexes = load();
+            log.info("Order read model rebuilt with {} orders", indexes.byId.size());
+        } catch (RuntimeException e) {
+            failure = e;
+            log.error("Order read model could not be rebuilt; order queries fail until restart", e);
+        }
+    }
+
+    private Indexes current() {
+        RuntimeException failed = failure;
+        if (failed != null) {
+            throw new IllegalStateException("Order read model is unavailable after a failed rebuild", failed);
+        }
+        return indexes;
+    }
+
+    private static void resolve(Indexes indexes, Collection<OrderId> ids,
+                                Predicate<OrderView> matches, int limit, List<OrderView> page) {
+        for (OrderId id : ids) {
+            if (page.size() == limit) {
+                break;
+            }
+            Entry entry = indexes.byId.get(id);
+            if (entry != null && matches.test(entry.view())) {
+                page.add(entry.view());
+            }
+        }
+    }
+
+    static LongSupplier publishedSequenceOf(ObjectProvider<OrderEventBus> eventBus) {
+        // resolved on first use: the bus is created after its handlers
+        SingletonSupplier<OrderEventBus> bus = SingletonSupplier.of(eventBus::getObject);
+        return () -> bus.obtain().publishedSequence();
+    }
+
+    /**
+     * One generation of the model; only the bus thread, or the loading one, applies changes
+     */
+    private static final class Indexes {
+        private final int recentCapacity;
+        private final Map<OrderId, Entry> byId = new ConcurrentHashMap<>();
+        private final ConcurrentSkipListMap<OrderId, OrderView> ordered = new ConcurrentSkipListMap<>();
+        private final Map<OrderStatus, ConcurrentSkipListSet<OrderId>> byStatus = new EnumMap<>(OrderStatus.class);
+        private final ConcurrentSkipListMap<Long, OrderId> recent = new ConcurrentSkipListMap<>();
+        private final AtomicLongArray statusCounts = new AtomicLongArray(OrderStatus.values().length);
+        private long changes;
+        private int recentSize;
+
+        private Indexes(int recentCapacity) {
+            this.recentCapacity = recentCapacity;
+            for (OrderStatus status : OrderStatus.values()) {
+                byStatus.put(status, new ConcurrentSkipListSet<>());
+            }
+        }
+
+        private void apply(Order order) {
+            Entry current = byId.get(order.getId());
+            if (current != null && current.view().version() >= order.getVersion()) {
+                return;
+            }
+            OrderView view = OrderView.of(order);
+            long recentKey = changes++;
+            byId.put(order.getId(), new Entry(view, recentKey));
+            ordered.put(order.getId(), view);
+            if (current == null || current.view().status() != view.status()) {
+                if (current != null) {
+                    byStatus.get(current.view().status()).remove(order.getId());
+                    statusCounts.decrementAndGet(current.view().status().ordinal());
+                }
+                byStatus.get(view.status()).add(order.getId());
+                statusCounts.incrementAndGet(view.status().ordinal());
+            }
+
+            recent.put(recentKey, order.getId());
+            if (current == null || recent.remove(current.recentKey()) == null) {
+                recentSize++;
+            }
+            while (recentSize > recentCapacity) {
+                recent.pollFirstEntry();
+                recentSize--;
+            }
+        }
+    }
+
+    private record Entry(OrderView view, long recentKey) {
+    }
+}
@@ -1,4 +1,64 @@
 package com.medical.logistics.application.order.queries;
 
-public class OrderQuery {
+import com.medical.logistics.domian.order.OrderId;
+import com.medical.logistics.domian.order.OrderStatus;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Query side of the order model
+ * <p>
+ * Serves reads from a projection kept apart from the write store, so reads take no lock
+ * the commands use. Reads never wait: they return whatever the projection has applied. A
+ * client that must see its own writes passes the {@link #consistencyToken()} taken after
+ * them to {@link #awaitChanges(long)} before reading.
+ */
+public interface OrderQuery {
+
+    /**
+     * @return token naming every change published so far
+     */
+    long consistencyToken();
+
+    /**
+     * Waits, up to the configured consistency wait, until the projection has applied every
+     * change named by {@code token}
+     * @return false if the wait ran out first and reads may still miss some of them
+     */
+    boolean awaitChanges(long token);
+
+    /**
+     * @param orderId the order ID
+     * @return the order, or empty if the projection has not seen it
+     */
+    Optional<OrderView> findById(OrderId orderId);
+
+    /**
+     * @param after last id of the previous page, or null for the first page
+     * @param limit maximum number of orders
+     * @return orders with ids greater than {@code after}, in ascending id order
+     */
+    List<OrderView> findPage(OrderId after, int limit);
+
+    /**
+     * @param status status to filter on
+     * @param after  last id of the previous page, or null for the first page
+     * @param limit  maximum number of orders
+     * @return orders in the status with ids greater than {@code after}, in ascending id order
+     */
+    List<OrderView> findByStatus(OrderStatus status, OrderId after, int limit);
+
+    /**
+     * @param limit maximum number of orders
+     * @return the most recently changed orders, newest change first
+     */
+    List<OrderView> findRecent(int limit);
+
+    /**
+     * Hands every order to the sink in ascending id order, without copying the projection
+     * @return number of orders visited
+     */
+    long forEach(Consumer<OrderView> sink);
 }
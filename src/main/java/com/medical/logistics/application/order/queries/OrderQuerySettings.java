@@ -0,0 +1,28 @@
+package com.medical.logistics.application.order.queries;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Order read model configuration, bound from {@code orders.query.*}
+ *
+ * @param recentCapacity  most recently changed orders kept for {@link OrderQuery#findRecent}
+ * @param consistencyWait longest a read given a consistency token waits for the projection to
+ *                        apply the changes it names; zero serves whatever the projection holds
+ */
+@ConfigurationProperties(prefix = "orders.query")
+public record OrderQuerySettings(
+        @DefaultValue("1000") int recentCapacity,
+        @DefaultValue("100ms") Duration consistencyWait) {
+
+    public OrderQuerySettings {
+        if (recentCapacity < 1) {
+            throw new IllegalArgumentException("Recent order capacity must be positive");
+        }
+        if (consistencyWait.isNegative()) {
+            throw new IllegalArgumentException("Consistency wait cannot be negative");
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.medical.logistics.application.order.queries;
+
+import com.medical.logistics.domian.order.Order;
+import com.medical.logistics.domian.order.OrderId;
+import com.medical.logistics.domian.order.OrderItem;
+import com.medical.logistics.domian.order.OrderStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Read-side copy of one order version
+ * <p>
+ * Holds the order's own immutable parts rather than a response, referring to the id, items
+ * and timestamps of the order it was taken from instead of copying them; responses are
+ * mapped from it on read. A projection still keeps one per order, plus its index entries,
+ * next to whatever the order store holds.
+ */
+public record OrderView(OrderId id, OrderStatus status, long version, List<OrderItem> items,
+                        LocalDateTime createdAt, LocalDateTime updatedAt) {
+
+    public static OrderView of(Order order) {
+        return new OrderView(order.getId(), order.getStatus(), order.getVersion(), order.getItems(),
+                order.getCreatedAt(), order.getUpdatedAt());
+    }
+}
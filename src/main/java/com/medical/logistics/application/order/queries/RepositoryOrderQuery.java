@@ -0,0 +1,173 @@
+package com.medical.logistics.application.order.queries;
+
+import com.medical.logistics.domian.order.Order;
+import com.medical.logistics.domian.order.OrderId;
+import com.medical.logistics.domian.order.OrderRepository;
+import com.medical.logistics.domian.order.OrderStatus;
+import com.medical.logistics.domian.order.events.OrderEvent;
+import com.medical.logistics.domian.order.events.OrderPlacedEvent;
+import com.medical.logistics.infrastructure.events.OrderEventBus;
+import com.medical.logistics.infrastructure.events.OrderEventHandler;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * Order queries answered straight from the order store, for {@code orders.repository.type=compact}
+ * <p>
+ * A projection would hold a view object and four index nodes per order next to the store's
+ * flat record, which undoes what the compact store saves. Here views are built from the
+ * store on each read and dropped with the response, so a read sees every write that returned
+ * before it and a consistency token never has to be waited for. Only what the store cannot
+ * answer is kept from the event bus: the ids of the {@code recentCapacity} most recently
+ * changed orders and a count per status. Counts move by event type rather than by the
+ * version held, so events of one order arriving out of write order still add up.
+ */
+@Component
+@ConditionalOnProperty(name = "orders.repository.type", havingValue = "compact")
+@EnableConfigurationProperties(OrderQuerySettings.class)
+public class RepositoryOrderQuery implements OrderQuery, OrderEventHandler, MeterBinder {
+    private final OrderRepository orderRepository;
+    private final LongSupplier publishedSequence;
+    private final int recentCapacity;
+    private final ConcurrentSkipListMap<Long, OrderId> recent = new ConcurrentSkipListMap<>();
+    // bus thread only; holds no more than recentCapacity ids
+    private final Map<OrderId, Long> recentKeys = new HashMap<>();
+    private final AtomicLongArray statusCounts = new AtomicLongArray(OrderStatus.values().length);
+    private long changes;
+    private volatile long appliedSequence = -1;
+
+    @Autowired
+    public RepositoryOrderQuery(OrderQuerySettings settings, OrderRepository orderRepository,
+                                ObjectProvider<OrderEventBus> eventBus) {
+        this(settings, orderRepository, OrderProjection.publishedSequenceOf(eventBus));
+    }
+
+    /**
+     * @param publishedSequence sequence of the last event published to the bus
+     */
+    public RepositoryOrderQuery(OrderQuerySettings settings, OrderRepository orderRepository,
+                                LongSupplier publishedSequence) {
+        this.orderRepository = orderRepository;
+        this.publishedSequence = publishedSequence;
+        this.recentCapacity = settings.recentCapacity();
+        orderRepository.forEach(order -> statusCounts.incrementAndGet(order.getStatus().ordinal()));
+    }
+
+    @Override
+    public void onEvent(OrderEvent event, long sequence, boolean endOfBatch) {
+        Order order = event.order();
+        if (event instanceof OrderPlacedEvent) {
+            statusCounts.incrementAndGet(OrderStatus.PENDING.ordinal());
+        } else {
+            // orders only leave PENDING
+            statusCounts.decrementAndGet(OrderStatus.PENDING.ordinal());
+            statusCounts.incrementAndGet(order.getStatus().ordinal());
+        }
+
+        long recentKey = changes++;
+        recent.put(recentKey, order.getId());
+        Long previous = recentKeys.put(order.getId(), recentKey);
+        if (previous != null) {
+            recent.remove(previous);
+        }
+        while (recentKeys.size() > recentCapacity) {
+            recentKeys.remove(recent.pollFirstEntry().getValue());
+        }
+        appliedSequence = sequence;
+    }
+
+    @Override
+    public long consistencyToken() {
+        return publishedSequence.getAsLong();
+    }
+
+    @Override
+    public boolean awaitChanges(long token) {
+        return true;
+    }
+
+    @Override
+    public Optional<OrderView> findById(OrderId orderId) {
+        return orderRepository.findById(orderId).map(OrderView::of);
+    }
+
+    @Override
+    public List<OrderView> findPage(OrderId after, int limit) {
+        return views(orderRepository.findPage(after, limit));
+    }
+
+    @Override
+    public List<OrderView> findByStatus(OrderStatus status, OrderId after, int limit) {
+        return views(orderRepository.findByStatus(status, after, limit));
+    }
+
+    @Override
+    public List<OrderView> findRecent(int limit) {
+        List<OrderView> page = new ArrayList<>(Math.min(limit, 64));
+        for (OrderId id : recent.descendingMap().values()) {
+            if (page.size() == limit) {
+                break;
+            }
+            orderRepository.findById(id).ifPresent(order -> page.add(OrderView.of(order)));
+        }
+        return page;
+    }
+
+    @Override
+    public long forEach(Consumer<OrderView> sink) {
+        long[] visited = new long[1];
+        orderRepository.forEach(order -> {
+            sink.accept(OrderView.of(order));
+            visited[0]++;
+        });
+        return visited[0];
+    }
+
+    /**
+     * Events published to the bus that the recent list and counts do not include yet
+     */
+    public long lag() {
+        return Math.max(0, publishedSequence.getAsLong() - appliedSequence);
+    }
+
+    public long count(OrderStatus status) {
+        return statusCounts.get(status.ordinal());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("orders.query.lag", this, RepositoryOrderQuery::lag)
+                .description("Order events the recent list and status counts do not include yet")
+                .register(registry);
+        for (OrderStatus status : OrderStatus.values()) {
+            Gauge.builder("orders.store.size", this, query -> query.count(status))
+                    .description("Orders in each status, counted from the order events")
+                    .tag("status", status.name())
+                    .register(registry);
+        }
+    }
+
+    private static List<OrderView> views(List<Order> orders) {
+        List<OrderView> views = new ArrayList<>(orders.size());
+        for (Order order : orders) {
+            views.add(OrderView.of(order));
+        }
+        return views;
+    }
+}
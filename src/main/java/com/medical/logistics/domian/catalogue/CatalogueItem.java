@@ -0,0 +1,22 @@
+package com.medical.logistics.domian.catalogue;
+
+import java.util.Objects;
+
+/**
+ * One supply that can be ordered: its stock keeping unit and the item name orders use
+ */
+public record CatalogueItem(String sku, String name) {
+
+    public CatalogueItem {
+        Objects.requireNonNull(sku, "SKU cannot be null");
+        Objects.requireNonNull(name, "Item name cannot be null");
+        sku = sku.strip();
+        name = name.strip();
+        if (sku.isEmpty()) {
+            throw new IllegalArgumentException("SKU cannot be blank");
+        }
+        if (name.isEmpty()) {
+            throw new IllegalArgumentException("Item name cannot be blank");
+        }
+    }
+}
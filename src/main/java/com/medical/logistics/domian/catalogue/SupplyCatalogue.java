@@ -0,0 +1,37 @@
+package com.medical.logistics.domian.catalogue;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * The supplies that can be ordered
+ */
+public interface SupplyCatalogue {
+
+    /**
+     * Items whose name, a word of their name, or SKU starts with {@code prefix}, ignoring case
+     */
+    List<CatalogueItem> search(String prefix, int limit);
+
+    /**
+     * @return whether an item has exactly this name
+     */
+    boolean containsName(String name);
+
+    /**
+     * Replaces the whole catalogue; searches running meanwhile see either the old or the new one
+     *
+     * @throws IllegalArgumentException if two items share a SKU
+     */
+    void replace(Collection<CatalogueItem> items);
+
+    /**
+     * Replaces the whole catalogue with the contents of its configured source
+     *
+     * @return the number of items loaded
+     * @throws IllegalArgumentException if no source is configured or it is malformed
+     */
+    int reload();
+
+    int size();
+}
@@ -0,0 +1,10 @@
+package com.medical.logistics.domian.catalogue.exceptions;
+
+/**
+ * Domain exception for an order item whose name is not in the supply catalogue
+ */
+public class UnknownCatalogueItemException extends RuntimeException {
+    public UnknownCatalogueItemException(String msg) {
+        super(msg);
+    }
+}
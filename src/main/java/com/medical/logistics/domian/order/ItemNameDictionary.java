@@ -0,0 +1,122 @@
+package com.medical.logistics.domian.order;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+/**
+ * Bounded dictionary of item names
+ * <p>
+ * The supply catalogue has a few thousand distinct names repeated across millions of order
+ * lines. Items are created with the dictionary's canonical copy of their name, so each
+ * distinct name is held once, and each name gets a small int code that compact stores can
+ * keep instead of the reference. Only names the {@code known} predicate accepts, normally
+ * those in the supply catalogue, are added; any other name keeps its own string and gets
+ * {@link #NO_CODE}, so free-form client input cannot fill the dictionary. Codes are assigned
+ * in first-seen order and never reused, also for names later dropped from the catalogue,
+ * since stored orders may still refer to them. Once {@code capacity} names are known, new
+ * names are no longer added either.
+ * <p>
+ * One instance belongs to one application context and lives as long as the stores that
+ * hold its codes.
+ */
+public final class ItemNameDictionary {
+    /**
+     * Codes fit in an unsigned 16-bit value
+     */
+    public static final int CAPACITY = 1 << 16;
+    public static final int NO_CODE = -1;
+
+    private final int capacity;
+    private final Predicate<String> known;
+    private final Map<String, Integer> codes = new ConcurrentHashMap<>();
+    private final AtomicReferenceArray<String> names;
+    private final AtomicInteger size = new AtomicInteger();
+    private final LongAdder unencoded = new LongAdder();
+
+    /**
+     * @param known the names that may be added, typically {@code SupplyCatalogue::containsName}
+     */
+    public ItemNameDictionary(Predicate<String> known) {
+        this(CAPACITY, known);
+    }
+
+    ItemNameDictionary(int capacity, Predicate<String> known) {
+        if (capacity < 1 || capacity > CAPACITY) {
+            throw new IllegalArgumentException("Capacity must be between 1 and " + CAPACITY);
+        }
+        this.capacity = capacity;
+        this.known = Objects.requireNonNull(known, "Known names cannot be null");
+        this.names = new AtomicReferenceArray<>(capacity);
+    }
+
+    /**
+     * @return the name's code, adding it if it is known and there is room, otherwise {@link #NO_CODE}
+     */
+    public int encode(String name) {
+        Integer code = codes.get(name);
+        if (code != null) {
+            return code;
+        }
+        if (!known.test(name)) {
+            return NO_CODE;
+        }
+        if (size.get() >= capacity) {
+            unencoded.increment();
+            return NO_CODE;
+        }
+        code = codes.computeIfAbsent(name, this::assign);
+        if (code == null) {
+            unencoded.increment();
+            return NO_CODE;
+        }
+        return code;
+    }
+
+    /**
+     * @throws IllegalArgumentException if no name has this code
+     */
+    public String decode(int code) {
+        String name = code >= 0 && code < capacity ? names.get(code) : null;
+        if (name == null) {
+            throw new IllegalArgumentException("Unknown item name code: " + code);
+        }
+        return name;
+    }
+
+    /**
+     * @return the dictionary's copy of {@code name}, or {@code name} itself if it has no code
+     */
+    public String canonical(String name) {
+        int code = encode(name);
+        return code == NO_CODE ? name : names.get(code);
+    }
+
+    public int size() {
+        return size.get();
+    }
+
+    /**
+     * Known names that were not encoded because the dictionary was full
+     */
+    public long unencoded() {
+        return unencoded.sum();
+    }
+
+    // runs under the map's lock for this name only, so codes are claimed with a CAS
+    private Integer assign(String name) {
+        int code;
+        do {
+            code = size.get();
+            if (code >= capacity) {
+                return null;
+            }
+        } while (!size.compareAndSet(code, code + 1));
+        names.set(code, name);
+        return code;
+    }
+}
@@ -10,6 +10,9 @@ import java.util.Objects;
 
 /**
  * Order Aggregate Root
+ * <p>
+ * Every state change bumps {@code version}, which repositories use for optimistic
+ * concurrency: see {@link OrderRepository#transition}.
  */
 public class Order {
 
@@ -23,14 +26,22 @@ public class Order {
 
     private LocalDateTime updatedAt;
 
+    private long version;
 
     /**
      * Factory method for creating new orders
      */
     public static Order create(List<OrderItem> items) {
+        return create(OrderId.generate(), items);
+    }
+
+    /**
+     * Factory method for creating a new order under an id drawn by the caller
+     */
+    public static Order create(OrderId id, List<OrderItem> items) {
         validateItems(items);
         return new Order(
-                OrderId.generate(),
+                id,
                 new ArrayList<>(items),
                 OrderStatus.PENDING,
                 LocalDateTime.now(),
@@ -41,6 +52,15 @@ public class Order {
     // Constructor used when loading from database
     public Order(OrderId id, List<OrderItem> items, OrderStatus status,
                  LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this(id, items, status, createdAt, updatedAt, 0);
+    }
+
+    public Order(OrderId id, List<OrderItem> items, OrderStatus status,
+                 LocalDateTime createdAt, LocalDateTime updatedAt, long version) {
+        if (version < 0) {
+            throw new IllegalArgumentException("Version cannot be negative");
+        }
+        this.version = version;
         this.id = Objects.requireNonNull(id, "Order ID cannot be null");
         this.items = new ArrayList<>(Objects.requireNonNull(items, "Items cannot be null"));
         this.status = Objects.requireNonNull(status, "Status cannot be null");
@@ -56,6 +76,7 @@ public class Order {
         }
         this.status = OrderStatus.APPROVED;
         this.updatedAt = LocalDateTime.now();
+        this.version++;
     }
 
     public void cancel() {
@@ -66,7 +87,14 @@ public class Order {
         }
         this.status = OrderStatus.CANCELLED;
         this.updatedAt = LocalDateTime.now();
-        // emit OrderCancelledEvent
+        this.version++;
+    }
+
+    /**
+     * Independent copy to apply a change to, leaving this instance untouched for readers
+     */
+    public Order copy() {
+        return new Order(id, items, status, createdAt, updatedAt, version);
     }
 
     private boolean canTransitionTo() {
@@ -98,4 +126,8 @@ public class Order {
     public LocalDateTime getUpdatedAt() {
         return updatedAt;
     }
+
+    public long getVersion() {
+        return version;
+    }
 }
@@ -5,16 +5,27 @@ import java.util.UUID;
 
 /**
  * OrderId Value Object
+ * <p>
+ * Ids are ordered by the unsigned value of the underlying UUID, which matches the
+ * lexical order of their canonical string form. Repositories rely on this order
+ * for keyset pagination. With the default time-ordered generator that order is also
+ * creation order.
  */
-public class OrderId {
+public class OrderId implements Comparable<OrderId> {
+    private static final OrderIdGenerator DEFAULT_GENERATOR = OrderIdGenerator.timeOrdered();
+
     private final UUID value;
 
     private OrderId(UUID value) {
         this.value = Objects.requireNonNull(value, "OrderId value cannot be null");
     }
 
+    /**
+     * A new time-ordered id; the application services draw ids from the configured
+     * {@link OrderIdGenerator} instead
+     */
     public static OrderId generate() {
-        return new OrderId(UUID.randomUUID());
+        return DEFAULT_GENERATOR.nextId();
     }
 
     public static OrderId of(UUID value) {
@@ -33,6 +44,15 @@ public class OrderId {
         return value;
     }
 
+    @Override
+    public int compareTo(OrderId other) {
+        int result = Long.compareUnsigned(value.getMostSignificantBits(), other.value.getMostSignificantBits());
+        if (result != 0) {
+            return result;
+        }
+        return Long.compareUnsigned(value.getLeastSignificantBits(), other.value.getLeastSignificantBits());
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -43,7 +63,7 @@ public class OrderId {
 
     @Override
     public int hashCode() {
-        return Objects.hash(value);
+        return value.hashCode();
     }
 
     @Override
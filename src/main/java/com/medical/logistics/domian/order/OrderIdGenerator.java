@@ -0,0 +1,30 @@
+package com.medical.logistics.domian.order;
+
+import java.util.UUID;
+
+/**
+ * Strategy for generating the UUID behind new {@link OrderId}s
+ */
+@FunctionalInterface
+public interface OrderIdGenerator {
+
+    UUID next();
+
+    default OrderId nextId() {
+        return OrderId.of(next());
+    }
+
+    /**
+     * Random (version 4) ids backed by SecureRandom; ids carry no ordering
+     */
+    static OrderIdGenerator random() {
+        return UUID::randomUUID;
+    }
+
+    /**
+     * Time-ordered (version 7) ids that sort by creation time
+     */
+    static OrderIdGenerator timeOrdered() {
+        return new TimeOrderedOrderIdGenerator(System::currentTimeMillis);
+    }
+}
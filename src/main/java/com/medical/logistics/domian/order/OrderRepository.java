@@ -1,18 +1,107 @@
 package com.medical.logistics.domian.order;
 
+import com.medical.logistics.domian.order.exceptions.ConcurrentOrderModificationException;
+import com.medical.logistics.domian.order.exceptions.InvalidOrderStateException;
+import com.medical.logistics.domian.order.exceptions.OrderNotFoundException;
+
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * Order Repository Interface
  *
  * Design Consideration: Interface allows for multiple implementations
  * - In-memory for testing
- * - Async/Reactive for I/O-heavy production use
+ * - Async/Reactive for I/O-heavy production use (see {@link ReactiveOrderRepository})
  * - Cached for performance optimization
  */
 public interface OrderRepository {
+    int FOR_EACH_PAGE_SIZE = 500;
+
     Order save(Order order);
+
+    /**
+     * Saves several orders at once; durable implementations persist them as one batch.
+     * @param orders orders to save
+     * @return the saved orders, in the given order
+     */
+    default List<Order> saveAll(List<Order> orders) {
+        orders.forEach(this::save);
+        return orders;
+    }
+
     Optional<Order> findById(OrderId id);
     List<Order> findAll();
+
+    /**
+     * Keyset page over all orders in ascending {@link OrderId} order.
+     * @param after exclusive lower bound, or null to start from the first order
+     * @param limit maximum number of orders to return
+     * @return at most {@code limit} orders whose id is greater than {@code after}
+     */
+    List<Order> findPage(OrderId after, int limit);
+
+    /**
+     * Keyset page over orders in the given status, in ascending {@link OrderId} order.
+     * @param status status to filter on
+     * @param after exclusive lower bound, or null to start from the first matching order
+     * @param limit maximum number of orders to return
+     * @return at most {@code limit} orders in {@code status} whose id is greater than {@code after}
+     */
+    List<Order> findByStatus(OrderStatus status, OrderId after, int limit);
+
+    /**
+     * Visits every stored order once, in no particular order, e.g. to build a read model.
+     * Implementations without a cheap sorted index should override the default, which pages
+     * through {@link #findPage}.
+     * @param visitor receives each order
+     */
+    default void forEach(Consumer<Order> visitor) {
+        OrderId after = null;
+        List<Order> page;
+        do {
+            page = findPage(after, FOR_EACH_PAGE_SIZE);
+            page.forEach(visitor);
+            if (!page.isEmpty()) {
+                after = page.get(page.size() - 1).getId();
+            }
+        } while (page.size() == FOR_EACH_PAGE_SIZE);
+    }
+
+    /**
+     * Atomically applies {@code change} to the stored order if its version still equals
+     * {@code expectedVersion}. The change runs on a copy, so readers never see a half-applied
+     * transition; it may run while the entry is locked and must not touch other orders.
+     * @param id              order to change
+     * @param expectedVersion version the caller based its decision on
+     * @param change          state change, expected to bump the version
+     * @return the stored new state
+     * @throws OrderNotFoundException when no order has this id
+     * @throws ConcurrentOrderModificationException when the order changed after {@code expectedVersion}
+     */
+    Order transition(OrderId id, long expectedVersion, Consumer<Order> change);
+
+    /**
+     * Applies {@code change} to each order based on the version read just before, as
+     * {@link #transition} does; a failure for one order does not affect the others.
+     * Durable implementations persist the successful transitions as one batch.
+     * @param ids    orders to change
+     * @param change state change, expected to bump the version
+     * @return one result per id, in the given order
+     */
+    default List<TransitionResult> transitionAll(List<OrderId> ids, Consumer<Order> change) {
+        List<TransitionResult> results = new ArrayList<>(ids.size());
+        for (OrderId id : ids) {
+            try {
+                Order current = findById(id)
+                        .orElseThrow(() -> new OrderNotFoundException("Order not found with id: " + id));
+                results.add(TransitionResult.succeeded(transition(id, current.getVersion(), change)));
+            } catch (OrderNotFoundException | InvalidOrderStateException | ConcurrentOrderModificationException e) {
+                results.add(TransitionResult.failed(id, e));
+            }
+        }
+        return results;
+    }
 }
@@ -0,0 +1,48 @@
+package com.medical.logistics.domian.order;
+
+import com.medical.logistics.domian.order.exceptions.ConcurrentOrderModificationException;
+import com.medical.logistics.domian.order.exceptions.OrderNotFoundException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.function.Consumer;
+
+/**
+ * Non-blocking Order Repository port
+ * <p>
+ * Mirrors {@link OrderRepository} with {@code Mono}/{@code Flux} results. Nothing happens
+ * until a result is subscribed to, and streams only read as far ahead as the subscriber
+ * has requested.
+ */
+public interface ReactiveOrderRepository {
+    Mono<Order> save(Order order);
+
+    /**
+     * @return the order, or an empty Mono when no order has this id
+     */
+    Mono<Order> findById(OrderId id);
+
+    /**
+     * Keyset page over all orders in ascending {@link OrderId} order, as {@link OrderRepository#findPage}
+     */
+    Flux<Order> findPage(OrderId after, int limit);
+
+    /**
+     * Keyset page over orders in the given status, as {@link OrderRepository#findByStatus}
+     */
+    Flux<Order> findByStatus(OrderStatus status, OrderId after, int limit);
+
+    /**
+     * Every order in ascending id order. Orders are read from the store one page at a time
+     * as the subscriber requests them, so a slow consumer holds back the reads.
+     * @param status status to filter on, or null for every order
+     */
+    Flux<Order> streamAll(OrderStatus status);
+
+    /**
+     * Compare-and-set state change, as {@link OrderRepository#transition}
+     * @return the stored new state; errors with {@link OrderNotFoundException} or
+     * {@link ConcurrentOrderModificationException}
+     */
+    Mono<Order> transition(OrderId id, long expectedVersion, Consumer<Order> change);
+}
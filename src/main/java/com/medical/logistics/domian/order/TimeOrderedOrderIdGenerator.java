@@ -0,0 +1,52 @@
+package com.medical.logistics.domian.order;
+
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * UUIDv7 generator (RFC 9562)
+ * <p>
+ * Layout: 48-bit Unix epoch milliseconds, version 7, a 12-bit counter and 62 random bits.
+ * The millisecond and counter form one monotonic tick shared by all threads, so ids are
+ * strictly increasing even within a millisecond; when the counter overflows the tick
+ * borrows from the next millisecond. The random bits come from ThreadLocalRandom, which
+ * never blocks and takes no shared lock.
+ */
+public final class TimeOrderedOrderIdGenerator implements OrderIdGenerator {
+    private static final int COUNTER_BITS = 12;
+    private static final long VERSION_7 = 0x7000L;
+    private static final long VARIANT_MASK = 0x3FFF_FFFF_FFFF_FFFFL;
+    private static final long VARIANT_RFC_9562 = 0x8000_0000_0000_0000L;
+
+    private final LongSupplier clock;
+    private final AtomicLong lastTick = new AtomicLong();
+
+    public TimeOrderedOrderIdGenerator(LongSupplier clock) {
+        this.clock = Objects.requireNonNull(clock, "Clock cannot be null");
+    }
+
+    @Override
+    public UUID next() {
+        long tick = nextTick();
+        long millis = tick >>> COUNTER_BITS;
+        long counter = tick & ((1L << COUNTER_BITS) - 1);
+
+        long msb = (millis << 16) | VERSION_7 | counter;
+        long lsb = (ThreadLocalRandom.current().nextLong() & VARIANT_MASK) | VARIANT_RFC_9562;
+        return new UUID(msb, lsb);
+    }
+
+    private long nextTick() {
+        long now = clock.getAsLong() << COUNTER_BITS;
+        while (true) {
+            long last = lastTick.get();
+            long next = Math.max(now, last + 1);
+            if (lastTick.compareAndSet(last, next)) {
+                return next;
+            }
+        }
+    }
+}
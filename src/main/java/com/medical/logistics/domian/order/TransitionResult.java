@@ -0,0 +1,29 @@
+package com.medical.logistics.domian.order;
+
+import java.util.Objects;
+
+/**
+ * Outcome of one transition in a batch: the new state, or the domain exception that
+ * prevented it (not found, invalid state or concurrent modification)
+ */
+public record TransitionResult(OrderId id, Order order, RuntimeException failure) {
+
+    public TransitionResult {
+        Objects.requireNonNull(id, "Order ID cannot be null");
+        if ((order == null) == (failure == null)) {
+            throw new IllegalArgumentException("Exactly one of order and failure must be set");
+        }
+    }
+
+    public static TransitionResult succeeded(Order order) {
+        return new TransitionResult(order.getId(), order, null);
+    }
+
+    public static TransitionResult failed(OrderId id, RuntimeException failure) {
+        return new TransitionResult(id, null, failure);
+    }
+
+    public boolean isSuccess() {
+        return order != null;
+    }
+}
@@ -0,0 +1,11 @@
+package com.medical.logistics.domian.order.events;
+
+import com.medical.logistics.domian.order.Order;
+
+import java.time.Instant;
+
+/**
+ * An order was approved
+ */
+public record OrderApprovedEvent(Order order, Instant occurredAt) implements OrderEvent {
+}
@@ -0,0 +1,23 @@
+package com.medical.logistics.domian.order.events;
+
+import com.medical.logistics.domian.order.Order;
+import com.medical.logistics.domian.order.OrderId;
+
+import java.time.Instant;
+
+/**
+ * Something that happened to an order, published once the change is stored
+ * <p>
+ * {@link #order()} is the stored state right after the change. Stored orders are never
+ * mutated (transitions apply to a copy), so consumers may keep the reference.
+ */
+public sealed interface OrderEvent permits OrderPlacedEvent, OrderApprovedEvent, OrderCancelledEvent {
+
+    Order order();
+
+    Instant occurredAt();
+
+    default OrderId orderId() {
+        return order().getId();
+    }
+}
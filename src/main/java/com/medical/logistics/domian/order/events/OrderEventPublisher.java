@@ -0,0 +1,16 @@
+package com.medical.logistics.domian.order.events;
+
+import java.util.List;
+
+/**
+ * Outbound port for order events
+ * <p>
+ * Implementations must return quickly: publishing sits on the command path.
+ */
+public interface OrderEventPublisher {
+    void publish(OrderEvent event);
+
+    default void publishAll(List<? extends OrderEvent> events) {
+        events.forEach(this::publish);
+    }
+}
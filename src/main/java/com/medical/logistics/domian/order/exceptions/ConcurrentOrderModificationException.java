@@ -0,0 +1,11 @@
+package com.medical.logistics.domian.order.exceptions;
+
+/**
+ * Domain exception for a state transition that lost the race against another change
+ * to the same order
+ */
+public class ConcurrentOrderModificationException extends RuntimeException {
+    public ConcurrentOrderModificationException(String msg) {
+        super(msg);
+    }
+}
@@ -0,0 +1,232 @@
+package com.medical.logistics.infrastructure.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.medical.logistics.domian.order.Order;
+import com.medical.logistics.domian.order.events.OrderEvent;
+import com.medical.logistics.domian.order.events.OrderPlacedEvent;
+import com.medical.logistics.infrastructure.events.OrderEventHandler;
+import com.medical.logistics.interfaces.rest.dto.OrderResponse;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Serialized JSON of single orders, keyed by order id and version
+ * <p>
+ * An order changes at most twice, so its bytes are written once per version and then
+ * served as they are. An entry is replaced when a newer version is serialized and
+ * dropped as soon as a transition event arrives. Memory is bounded by {@code maxSize}:
+ * entries are evicted in insertion order, but one read since it was last considered
+ * gives an entry a second chance (the CLOCK approximation of LRU). Reads take no lock.
+ */
+@Component
+@EnableConfigurationProperties(ResponseCacheSettings.class)
+public class OrderResponseCache implements OrderEventHandler, MeterBinder {
+    // map node, entry object and array header, roughly
+    static final int ENTRY_OVERHEAD_BYTES = 96;
+    private static final int STALE_NODE_ALLOWANCE = 1024;
+
+    private final ObjectWriter writer;
+    private final long maxBytes;
+    private final Map<UUID, Entry> entries = new ConcurrentHashMap<>();
+    private final Queue<Node> clock = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicLong bytes = new AtomicLong();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    public OrderResponseCache(ResponseCacheSettings settings, ObjectMapper objectMapper) {
+        this.writer = objectMapper.writerFor(OrderResponse.class);
+        this.maxBytes = settings.maxSize().toBytes();
+    }
+
+    /**
+     * Strong entity tag of an order representation; the id and version determine every field
+     */
+    public static String etag(UUID id, long version) {
+        return "\"" + id + "-" + version + "\"";
+    }
+
+    /**
+     * JSON of {@code order}, from the cache when this version was serialized before
+     */
+    public byte[] serialize(OrderResponse order) {
+        return serialize(order.getId(), order.getVersion(), () -> order);
+    }
+
+    /**
+     * JSON of version {@code version} of an order; {@code order} is only asked for the
+     * response, and the response serialized, when that version is not cached
+     */
+    public byte[] serialize(UUID id, long version, Supplier<OrderResponse> order) {
+        Entry current = entries.get(id);
+        if (current != null && current.version == version) {
+            current.referenced = true;
+            hits.increment();
+            return current.json;
+        }
+        misses.increment();
+        byte[] json = write(order.get());
+        if (json.length + ENTRY_OVERHEAD_BYTES <= maxBytes) {
+            install(id, new Entry(version, json));
+        }
+        return json;
+    }
+
+    /**
+     * Drops the cached JSON of an order that has just changed
+     */
+    @Override
+    public void onEvent(OrderEvent event, long sequence, boolean endOfBatch) {
+        if (event instanceof OrderPlacedEvent) {
+            return;
+        }
+        Order order = event.order();
+        Entry current = entries.get(order.getId().getValue());
+        if (current != null && current.version < order.getVersion()
+                && entries.remove(order.getId().getValue(), current)) {
+            bytes.addAndGet(-current.weight());
+            invalidations.increment();
+        }
+    }
+
+    public long hits() {
+        return hits.sum();
+    }
+
+    public long misses() {
+        return misses.sum();
+    }
+
+    public long evictions() {
+        return evictions.sum();
+    }
+
+    public long bytes() {
+        return bytes.get();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("orders.response.cache.requests", hits, LongAdder::sum)
+                .tag("result", "hit")
+                .description("Order reads served from cached JSON")
+                .register(registry);
+        FunctionCounter.builder("orders.response.cache.requests", misses, LongAdder::sum)
+                .tag("result", "miss")
+                .description("Order reads that serialized the order")
+                .register(registry);
+        FunctionCounter.builder("orders.response.cache.evictions", evictions, LongAdder::sum)
+                .description("Cached order JSON dropped to stay within the memory bound")
+                .register(registry);
+        FunctionCounter.builder("orders.response.cache.invalidations", invalidations, LongAdder::sum)
+                .description("Cached order JSON dropped because the order changed")
+                .register(registry);
+        Gauge.builder("orders.response.cache.bytes", bytes, AtomicLong::get)
+                .description("Memory held by cached order JSON")
+                .baseUnit("bytes")
+                .register(registry);
+        Gauge.builder("orders.response.cache.size", entries, Map::size)
+                .description("Orders with cached JSON")
+                .register(registry);
+    }
+
+    private void install(UUID id, Entry fresh) {
+        while (true) {
+            Entry current = entries.get(id);
+            if (current == null) {
+                if (entries.putIfAbsent(id, fresh) == null) {
+                    bytes.addAndGet(fresh.weight());
+                    break;
+                }
+            } else if (current.version >= fresh.version) {
+                // a concurrent read installed this or a newer version
+                return;
+            } else if (entries.replace(id, current, fresh)) {
+                bytes.addAndGet(fresh.weight() - current.weight());
+                break;
+            }
+        }
+        clock.add(new Node(id, fresh));
+        queued.incrementAndGet();
+        evict();
+    }
+
+    // one evicting thread at a time; callers that lose the race leave the work to the winner
+    private void evict() {
+        if (!evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            Node hand;
+            while ((bytes.get() > maxBytes || queued.get() > entries.size() * 2 + STALE_NODE_ALLOWANCE)
+                    && (hand = clock.poll()) != null) {
+                if (entries.get(hand.id) != hand.entry) {
+                    // replaced or invalidated since it was queued
+                    queued.decrementAndGet();
+                } else if (hand.entry.referenced) {
+                    hand.entry.referenced = false;
+                    clock.add(hand);
+                } else {
+                    queued.decrementAndGet();
+                    if (entries.remove(hand.id, hand.entry)) {
+                        bytes.addAndGet(-hand.entry.weight());
+                        evictions.increment();
+                    }
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private byte[] write(OrderResponse order) {
+        try {
+            return writer.writeValueAsBytes(order);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static final class Entry {
+        private final long version;
+        private final byte[] json;
+        private volatile boolean referenced;
+
+        private Entry(long version, byte[] json) {
+            this.version = version;
+            this.json = json;
+        }
+
+        private long weight() {
+            return json.length + ENTRY_OVERHEAD_BYTES;
+        }
+    }
+
+    private record Node(UUID id, Entry entry) {
+    }
+}
@@ -0,0 +1,20 @@
+package com.medical.logistics.infrastructure.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Serialized order response cache configuration, bound from {@code orders.response-cache.*}
+ *
+ * @param maxSize memory the cached JSON may take, entry overhead included; zero disables caching
+ */
+@ConfigurationProperties(prefix = "orders.response-cache")
+public record ResponseCacheSettings(@DefaultValue("64MB") DataSize maxSize) {
+
+    public ResponseCacheSettings {
+        if (maxSize.isNegative()) {
+            throw new IllegalArgumentException("Response cache size cannot be negative");
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.medical.logistics.infrastructure.catalogue;
+
+import com.medical.logistics.domian.catalogue.CatalogueItem;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable prefix index over a catalogue snapshot
+ * <p>
+ * Every item contributes a few lower-cased search keys: its full name, the rest of its name
+ * from each later word on, and its SKU. The keys are sorted into one array with the position
+ * of their item alongside, so a prefix search is a binary search for the first key not below
+ * the prefix followed by a walk over the keys that start with it, stopping after
+ * {@code limit} distinct items. Results come in key order. Nothing changes after
+ * construction, so any number of threads can search one instance without coordination.
+ */
+public final class CatalogueIndex {
+    private static final CatalogueIndex EMPTY = new CatalogueIndex(List.of());
+
+    private final CatalogueItem[] items;
+    private final String[] keys;
+    private final int[] positions;
+    private final Set<String> names;
+
+    private CatalogueIndex(Collection<CatalogueItem> catalogue) {
+        items = catalogue.toArray(CatalogueItem[]::new);
+        Arrays.sort(items, Comparator.comparing(CatalogueItem::name, String.CASE_INSENSITIVE_ORDER)
+                .thenComparing(CatalogueItem::name)
+                .thenComparing(CatalogueItem::sku));
+
+        Map<String, CatalogueItem> bySku = new HashMap<>(items.length * 2);
+        names = new HashSet<>(items.length * 2);
+        List<Key> entries = new ArrayList<>(items.length * 3);
+        for (int position = 0; position < items.length; position++) {
+            CatalogueItem item = items[position];
+            CatalogueItem previous = bySku.put(item.sku(), item);
+            if (previous != null) {
+                throw new IllegalArgumentException("Duplicate SKU " + item.sku() + " for items '" + previous.name()
+                        + "' and '" + item.name() + "'");
+            }
+            names.add(item.name());
+            String name = normalize(item.name());
+            entries.add(new Key(name, position));
+            for (int i = 1; i < name.length(); i++) {
+                if (Character.isWhitespace(name.charAt(i - 1)) && !Character.isWhitespace(name.charAt(i))) {
+                    entries.add(new Key(name.substring(i), position));
+                }
+            }
+            entries.add(new Key(normalize(item.sku()), position));
+        }
+        entries.sort(Comparator.comparing(Key::text).thenComparingInt(Key::position));
+
+        keys = new String[entries.size()];
+        positions = new int[entries.size()];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = entries.get(i).text();
+            positions[i] = entries.get(i).position();
+        }
+    }
+
+    /**
+     * @throws IllegalArgumentException if two items share a SKU
+     */
+    public static CatalogueIndex of(Collection<CatalogueItem> items) {
+        return items.isEmpty() ? EMPTY : new CatalogueIndex(items);
+    }
+
+    public static CatalogueIndex empty() {
+        return EMPTY;
+    }
+
+    public List<CatalogueItem> search(String prefix, int limit) {
+        String key = normalize(prefix);
+        int from = Arrays.binarySearch(keys, key);
+        if (from < 0) {
+            from = -from - 1;
+        }
+        int[] found = new int[Math.min(limit, items.length)];
+        int count = 0;
+        for (int i = from; i < keys.length && count < found.length && keys[i].startsWith(key); i++) {
+            if (!contains(found, count, positions[i])) {
+                found[count++] = positions[i];
+            }
+        }
+
+        List<CatalogueItem> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(items[found[i]]);
+        }
+        return result;
+    }
+
+    public boolean containsName(String name) {
+        return names.contains(name);
+    }
+
+    public int size() {
+        return items.length;
+    }
+
+    static String normalize(String text) {
+        return text.strip().toLowerCase(Locale.ROOT);
+    }
+
+    // the result is at most a page of suggestions, so a linear scan beats hashing
+    private static boolean contains(int[] found, int count, int position) {
+        for (int i = 0; i < count; i++) {
+            if (found[i] == position) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private record Key(String text, int position) {
+    }
+}
@@ -0,0 +1,18 @@
+package com.medical.logistics.infrastructure.catalogue;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.core.io.Resource;
+
+/**
+ * Supply catalogue configuration, bound from {@code orders.catalogue.*}
+ *
+ * @param file          CSV of {@code sku,name} lines loaded on startup and by a reload; none leaves the
+ *                      catalogue empty until it is replaced through the API
+ * @param validateItems reject orders with an item name that is not in the catalogue
+ */
+@ConfigurationProperties(prefix = "orders.catalogue")
+public record CatalogueSettings(
+        Resource file,
+        @DefaultValue("false") boolean validateItems) {
+}
@@ -0,0 +1,128 @@
+package com.medical.logistics.infrastructure.catalogue;
+
+import com.medical.logistics.domian.catalogue.CatalogueItem;
+import com.medical.logistics.domian.catalogue.SupplyCatalogue;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Supply catalogue held in memory as an immutable {@link CatalogueIndex}
+ * <p>
+ * Searches read the current index from a volatile field and never lock. A replace or reload
+ * builds a complete new index first and then publishes it with a single write, so readers
+ * keep using the old snapshot until the new one is ready and never see a partial catalogue.
+ * Replacements are serialized so the last one to finish is the one that stays.
+ */
+@Slf4j
+@Component
+@EnableConfigurationProperties(CatalogueSettings.class)
+public class InMemorySupplyCatalogue implements SupplyCatalogue, MeterBinder {
+    private final Resource file;
+    private final ReentrantLock replaceLock = new ReentrantLock();
+    private final LongAdder replacements = new LongAdder();
+    private volatile CatalogueIndex index = CatalogueIndex.empty();
+
+    public InMemorySupplyCatalogue(CatalogueSettings settings) {
+        this.file = settings.file();
+        if (file != null) {
+            reload();
+        }
+    }
+
+    @Override
+    public List<CatalogueItem> search(String prefix, int limit) {
+        return index.search(prefix, limit);
+    }
+
+    @Override
+    public boolean containsName(String name) {
+        return index.containsName(name);
+    }
+
+    @Override
+    public void replace(Collection<CatalogueItem> items) {
+        replaceLock.lock();
+        try {
+            CatalogueIndex next = CatalogueIndex.of(items);
+            index = next;
+            replacements.increment();
+            log.info("Supply catalogue replaced with {} items", next.size());
+        } finally {
+            replaceLock.unlock();
+        }
+    }
+
+    /**
+     * Replaces the catalogue with the contents of {@code orders.catalogue.file}
+     *
+     * @throws IllegalArgumentException if no file is configured or a line is not {@code sku,name}
+     */
+    @Override
+    public int reload() {
+        if (file == null) {
+            throw new IllegalArgumentException("No catalogue file configured in orders.catalogue.file");
+        }
+        List<CatalogueItem> items = read(file);
+        replace(items);
+        return items.size();
+    }
+
+    @Override
+    public int size() {
+        return index.size();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("orders.catalogue.items", this, SupplyCatalogue::size)
+                .description("Items in the supply catalogue")
+                .register(registry);
+        FunctionCounter.builder("orders.catalogue.replacements", replacements, LongAdder::sum)
+                .description("Times the supply catalogue was replaced or reloaded")
+                .register(registry);
+    }
+
+    /**
+     * Reads {@code sku,name} lines; the name is everything after the first comma. Blank
+     * lines and lines starting with {@code #} are skipped.
+     */
+    static List<CatalogueItem> read(Resource resource) {
+        List<CatalogueItem> items = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            int number = 0;
+            while ((line = reader.readLine()) != null) {
+                number++;
+                if (line.isBlank() || line.startsWith("#")) {
+                    continue;
+                }
+                int comma = line.indexOf(',');
+                if (comma < 0 || line.substring(0, comma).isBlank() || line.substring(comma + 1).isBlank()) {
+                    throw new IllegalArgumentException("Catalogue line " + number + " is not sku,name: " + line);
+                }
+                items.add(new CatalogueItem(line.substring(0, comma), line.substring(comma + 1)));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read catalogue " + resource.getDescription(), e);
+        }
+        return items;
+    }
+}
@@ -0,0 +1,78 @@
+package com.medical.logistics.infrastructure.changelog;
+
+import com.medical.logistics.domian.order.Order;
+import com.medical.logistics.infrastructure.persistence.journal.OrderRecordCodec;
+import com.medical.logistics.infrastructure.persistence.journal.SegmentedJournal;
+
+import java.nio.ByteBuffer;
+import java.util.function.Consumer;
+import java.util.zip.CRC32C;
+
+/**
+ * One decoded change log entry
+ * <p>
+ * Reads return raw frames, exactly as stored: {@code [body length:int][crc32c(body):int]}
+ * followed by the body {@code [offset:long][journal sequence:long][change type:byte][order record]},
+ * big-endian, where the order record is the {@link OrderRecordCodec} form of the order after
+ * the change. {@link #decodeAll} parses them for Java consumers.
+ *
+ * @param offset         position in the change log
+ * @param sourceSequence order journal sequence the change was taken from
+ */
+public record ChangeLogEntry(long offset, long sourceSequence, ChangeType type, Order order) {
+    private static final ChangeType[] TYPES = ChangeType.values();
+    static final int PREFIX_BYTES = 8 + 1;
+
+    /**
+     * Decodes every whole frame in {@code frames}
+     * @return the number of entries handed to {@code sink}
+     * @throws IllegalStateException when a frame fails its checksum
+     */
+    public static int decodeAll(ByteBuffer frames, Consumer<ChangeLogEntry> sink) {
+        CRC32C crc = new CRC32C();
+        int count = 0;
+        int position = frames.position();
+        while (position + SegmentedJournal.HEADER_BYTES <= frames.limit()) {
+            int bodyLength = frames.getInt(position);
+            if (position + SegmentedJournal.HEADER_BYTES + bodyLength > frames.limit()) {
+                break;
+            }
+            ByteBuffer body = frames.slice(position + SegmentedJournal.HEADER_BYTES, bodyLength);
+            crc.reset();
+            crc.update(body.duplicate());
+            if ((int) crc.getValue() != frames.getInt(position + 4)) {
+                throw new IllegalStateException("Change log frame at byte " + position + " fails its checksum");
+            }
+            long offset = body.getLong();
+            long sourceSequence = body.getLong();
+            ChangeType type = TYPES[body.get()];
+            sink.accept(new ChangeLogEntry(offset, sourceSequence, type, OrderRecordCodec.decode(body)));
+            position += SegmentedJournal.HEADER_BYTES + bodyLength;
+            count++;
+        }
+        frames.position(position);
+        return count;
+    }
+
+    /**
+     * Change log payload for an order journal record: journal sequence, change type, order record
+     */
+    static byte[] encode(long sourceSequence, ByteBuffer orderRecord) {
+        ByteBuffer payload = ByteBuffer.allocate(PREFIX_BYTES + orderRecord.remaining());
+        payload.putLong(sourceSequence)
+                .put((byte) typeOf(orderRecord).ordinal())
+                .put(orderRecord.duplicate());
+        return payload.array();
+    }
+
+    private static ChangeType typeOf(ByteBuffer orderRecord) {
+        if (OrderRecordCodec.peekVersion(orderRecord) == 0) {
+            return ChangeType.PLACED;
+        }
+        return switch (OrderRecordCodec.peekStatus(orderRecord)) {
+            case APPROVED -> ChangeType.APPROVED;
+            case CANCELLED -> ChangeType.CANCELLED;
+            case PENDING -> throw new IllegalStateException("Changed order is still pending");
+        };
+    }
+}
@@ -0,0 +1,17 @@
+package com.medical.logistics.infrastructure.changelog;
+
+/**
+ * Thrown when a read starts below the oldest offset still retained
+ */
+public class ChangeLogOffsetExpiredException extends RuntimeException {
+    private final long earliestOffset;
+
+    public ChangeLogOffsetExpiredException(long offset, long earliestOffset) {
+        super("Offset " + offset + " is no longer retained, the earliest offset is " + earliestOffset);
+        this.earliestOffset = earliestOffset;
+    }
+
+    public long getEarliestOffset() {
+        return earliestOffset;
+    }
+}
@@ -0,0 +1,40 @@
+package com.medical.logistics.infrastructure.changelog;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Order change log configuration, bound from {@code orders.changelog.*}
+ *
+ * @param directory              where change log segments and consumer offsets are kept
+ * @param segmentSize            size after which the active segment is rolled; retention drops whole segments
+ * @param retentionSize          total size kept; the oldest segments beyond it are deleted
+ * @param retentionAge           sealed segments last written longer ago than this are deleted
+ * @param retentionCheckInterval how often retention runs
+ * @param maxReadSize            most bytes returned by one read
+ */
+@ConfigurationProperties(prefix = "orders.changelog")
+public record ChangeLogSettings(
+        @DefaultValue("data/changelog") Path directory,
+        @DefaultValue("64MB") DataSize segmentSize,
+        @DefaultValue("1GB") DataSize retentionSize,
+        @DefaultValue("7d") Duration retentionAge,
+        @DefaultValue("1m") Duration retentionCheckInterval,
+        @DefaultValue("8MB") DataSize maxReadSize) {
+
+    public ChangeLogSettings {
+        if (segmentSize.toBytes() <= 0 || retentionSize.toBytes() <= 0 || maxReadSize.toBytes() <= 0) {
+            throw new IllegalArgumentException("Change log sizes must be positive");
+        }
+        if (retentionAge.isNegative() || retentionAge.isZero()) {
+            throw new IllegalArgumentException("Change log retention age must be positive");
+        }
+        if (retentionCheckInterval.isNegative()) {
+            throw new IllegalArgumentException("Change log retention interval must not be negative");
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.medical.logistics.infrastructure.changelog;
+
+import java.nio.file.Path;
+
+/**
+ * A run of whole change log frames inside one segment file, ready to be sent as is
+ *
+ * @param file       segment holding the frames
+ * @param position   byte position of the first frame
+ * @param length     bytes covered
+ * @param offset     offset of the first frame
+ * @param nextOffset offset to read from next
+ */
+public record ChangeLogSlice(Path file, long position, long length, long offset, long nextOffset) {
+
+    public long count() {
+        return nextOffset - offset;
+    }
+}
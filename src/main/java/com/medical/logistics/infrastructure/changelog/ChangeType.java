@@ -0,0 +1,8 @@
+package com.medical.logistics.infrastructure.changelog;
+
+/**
+ * Kind of change a change log entry records
+ */
+public enum ChangeType {
+    PLACED, APPROVED, CANCELLED
+}
@@ -0,0 +1,102 @@
+package com.medical.logistics.infrastructure.changelog;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32C;
+
+/**
+ * Committed change log offsets, one small file per consumer
+ * <p>
+ * A commit writes {@code [offset:long][crc32c:int]} to a temporary file, syncs it and renames
+ * it over the consumer's file, so a crash leaves either the old or the new offset, never a
+ * mix. A file that fails its checksum is treated as no commit.
+ */
+@Slf4j
+public class ConsumerOffsetStore {
+    private static final Pattern CONSUMER_NAME = Pattern.compile("[A-Za-z0-9._-]{1,64}");
+    private static final String SUFFIX = ".offset";
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final int RECORD_BYTES = 8 + 4;
+
+    private final Path directory;
+    private final ConcurrentHashMap<String, Long> committed = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, ReentrantLock> commitLocks = new ConcurrentHashMap<>();
+
+    public ConsumerOffsetStore(Path directory) throws IOException {
+        this.directory = directory;
+        Files.createDirectories(directory);
+    }
+
+    public void commit(String consumer, long offset) throws IOException {
+        Path target = fileOf(consumer);
+        Path temp = target.resolveSibling(target.getFileName() + TEMP_SUFFIX);
+        ByteBuffer record = ByteBuffer.allocate(RECORD_BYTES).putLong(offset).putInt(checksum(offset)).flip();
+        // consumers commit concurrently, but each consumer's file has one writer at a time
+        ReentrantLock lock = commitLocks.computeIfAbsent(consumer, name -> new ReentrantLock());
+        lock.lock();
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                while (record.hasRemaining()) {
+                    channel.write(record);
+                }
+                channel.force(true);
+            }
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            committed.put(consumer, offset);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public OptionalLong committed(String consumer) throws IOException {
+        Long cached = committed.get(consumer);
+        if (cached != null) {
+            return OptionalLong.of(cached);
+        }
+        ByteBuffer record = ByteBuffer.allocate(RECORD_BYTES);
+        try (FileChannel channel = FileChannel.open(fileOf(consumer), StandardOpenOption.READ)) {
+            while (record.hasRemaining() && channel.read(record) >= 0) {
+                // read until full or end of file
+            }
+        } catch (NoSuchFileException e) {
+            return OptionalLong.empty();
+        }
+        if (record.hasRemaining()) {
+            log.warn("Ignoring truncated offset file for consumer {}", consumer);
+            return OptionalLong.empty();
+        }
+        long offset = record.getLong(0);
+        if (record.getInt(8) != checksum(offset)) {
+            log.warn("Ignoring damaged offset file for consumer {}", consumer);
+            return OptionalLong.empty();
+        }
+        committed.put(consumer, offset);
+        return OptionalLong.of(offset);
+    }
+
+    private Path fileOf(String consumer) {
+        if (consumer == null || !CONSUMER_NAME.matcher(consumer).matches()) {
+            throw new IllegalArgumentException("Consumer name must be 1 to 64 letters, digits, '.', '_' or '-'");
+        }
+        return directory.resolve(consumer + SUFFIX);
+    }
+
+    private static int checksum(long offset) {
+        CRC32C crc = new CRC32C();
+        crc.update(ByteBuffer.allocate(8).putLong(offset).flip());
+        return (int) crc.getValue();
+    }
+}
@@ -0,0 +1,312 @@
+package com.medical.logistics.infrastructure.changelog;
+
+import com.medical.logistics.infrastructure.persistence.journal.DurabilityMode;
+import com.medical.logistics.infrastructure.persistence.journal.JournalFollower;
+import com.medical.logistics.infrastructure.persistence.journal.JournalSettings;
+import com.medical.logistics.infrastructure.persistence.journal.SegmentedJournal;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Durable, append-only log of order changes for downstream systems
+ * <p>
+ * The order journal is the outbox: a change exists once its journal record is committed,
+ * and this log follows the journal as a {@link JournalFollower}. Each entry records the
+ * journal sequence it came from, so after a crash the journal tail it had not yet made
+ * durable is replayed into it on startup, exactly once and in order. The journal keeps
+ * those segments through compaction until they are copied.
+ * <p>
+ * Entries are stored in {@link SegmentedJournal} segments with offsets as sequences, and
+ * reads hand out {@link ChangeLogSlice}s of whole frames that are sent straight from the
+ * file with {@link FileChannel#transferTo}. Consumers commit offsets by name; retention
+ * drops whole segments by total size or age regardless of consumers.
+ * Enabled with {@code orders.changelog.enabled=true}, fed by {@code orders.repository.type=journal}.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "orders.changelog.enabled", havingValue = "true")
+@EnableConfigurationProperties(ChangeLogSettings.class)
+public class OrderChangeLog implements JournalFollower, MeterBinder, AutoCloseable {
+    private static final String OFFSETS_DIRECTORY = "offsets";
+
+    private final ChangeLogSettings settings;
+    private final Path directory;
+    private final SegmentedJournal journal;
+    private final ConsumerOffsetStore offsets;
+    private final ConcurrentSkipListMap<Long, SegmentIndex> segments = new ConcurrentSkipListMap<>();
+    // first offset not yet durable, so not yet readable
+    private final AtomicLong endOffset = new AtomicLong();
+    private final ScheduledExecutorService retention;
+    private volatile long resumeSequence;
+    // only touched by whoever the journal calls handle() from: startup replay, then its follower thread
+    private long lastFollowedSequence;
+
+    public OrderChangeLog(ChangeLogSettings settings) throws IOException {
+        this.settings = settings;
+        this.directory = settings.directory();
+        Files.createDirectories(directory);
+        this.offsets = new ConsumerOffsetStore(directory.resolve(OFFSETS_DIRECTORY));
+
+        List<Path> existing = SegmentedJournal.listSegments(directory);
+        long lastSource = lastSourceSequence(existing);
+        long lastSegmentBase = existing.isEmpty() ? 0 : SegmentedJournal.baseSequence(existing.get(existing.size() - 1));
+        this.journal = SegmentedJournal.open(journalSettings(settings), lastSegmentBase, (offset, payload) -> { },
+                (offset, payload) -> {
+                    endOffset.set(offset + 1);
+                    resumeSequence = payload.getLong(0) + 1;
+                });
+        this.endOffset.set(journal.nextSequence());
+        this.resumeSequence = lastSource + 1;
+        this.lastFollowedSequence = lastSource;
+        refreshSegments();
+        log.info("Order change log opened at {}: offsets {} to {}, following the journal from sequence {}",
+                directory, earliestOffset(), endOffset.get(), resumeSequence);
+
+        long intervalMillis = settings.retentionCheckInterval().toMillis();
+        if (intervalMillis > 0) {
+            this.retention = Executors.newSingleThreadScheduledExecutor(
+                    Thread.ofPlatform().name("changelog-retention").daemon().factory());
+            retention.scheduleWithFixedDelay(this::scheduledRetention, intervalMillis, intervalMillis,
+                    TimeUnit.MILLISECONDS);
+        } else {
+            this.retention = null;
+        }
+    }
+
+    @Override
+    public long resumeSequence() {
+        return resumeSequence;
+    }
+
+    /**
+     * Copies one committed order journal record into the log without waiting for it to be
+     * durable; records already copied are skipped. Called from the order journal's follower
+     * thread, so a full buffer here holds up only the copying, not order writes.
+     */
+    @Override
+    public void handle(long sequence, ByteBuffer payload) {
+        if (sequence <= lastFollowedSequence) {
+            return;
+        }
+        if (sequence > lastFollowedSequence + 1) {
+            log.warn("Order change log skips journal sequences {} to {}; they were compacted before it followed them",
+                    lastFollowedSequence + 1, sequence - 1);
+        }
+        journal.appendAsync(ChangeLogEntry.encode(sequence, payload));
+        lastFollowedSequence = sequence;
+    }
+
+    /**
+     * Offset the next change will get; every offset below it can be read
+     */
+    public long endOffset() {
+        return endOffset.get();
+    }
+
+    /**
+     * Oldest offset still retained
+     */
+    public long earliestOffset() {
+        Long first = segments.isEmpty() ? null : segments.firstKey();
+        return first == null ? endOffset.get() : Math.min(first, endOffset.get());
+    }
+
+    /**
+     * Locates whole frames from {@code offset}, up to {@code maxBytes} (capped at
+     * {@code orders.changelog.max-read-size}) but always at least one
+     * @return empty when {@code offset} is at the end of the log
+     * @throws ChangeLogOffsetExpiredException when {@code offset} is no longer retained
+     */
+    public Optional<ChangeLogSlice> read(long offset, long maxBytes) throws IOException {
+        if (offset < 0 || maxBytes <= 0) {
+            throw new IllegalArgumentException("Offset must not be negative and the read size must be positive");
+        }
+        long end = endOffset.get();
+        if (offset >= end) {
+            return Optional.empty();
+        }
+        long earliest = earliestOffset();
+        if (offset < earliest) {
+            throw new ChangeLogOffsetExpiredException(offset, earliest);
+        }
+        long bytes = Math.min(maxBytes, settings.maxReadSize().toBytes());
+        try {
+            for (int attempt = 0; attempt < 2; attempt++) {
+                Map.Entry<Long, SegmentIndex> segment = segments.floorEntry(offset);
+                if (segment == null) {
+                    throw new ChangeLogOffsetExpiredException(offset, earliestOffset());
+                }
+                Long nextBase = segments.higherKey(segment.getKey());
+                long limit = nextBase == null ? end : Math.min(end, nextBase);
+                SegmentIndex index = segment.getValue();
+                index.extendTo(limit);
+                if (index.scannedOffset() > offset) {
+                    return Optional.of(index.slice(offset, bytes, limit));
+                }
+                // the offset lives in a segment rolled since the last listing
+                refreshSegments();
+            }
+        } catch (NoSuchFileException e) {
+            // deleted by retention while being read
+            refreshSegments();
+            throw new ChangeLogOffsetExpiredException(offset, earliestOffset());
+        }
+        throw new IOException("Change log offset " + offset + " is below the end but not found in any segment");
+    }
+
+    /**
+     * Sends the frames of {@code slice} to {@code target}; a socket or file target gets them
+     * without a copy through user space
+     */
+    public void transferTo(ChangeLogSlice slice, WritableByteChannel target) throws IOException {
+        try (FileChannel channel = FileChannel.open(slice.file(), StandardOpenOption.READ)) {
+            long position = slice.position();
+            long remaining = slice.length();
+            while (remaining > 0) {
+                long sent = channel.transferTo(position, remaining, target);
+                if (sent <= 0 && channel.size() < position + remaining) {
+                    throw new IOException("Change log segment " + slice.file() + " ended early");
+                }
+                position += sent;
+                remaining -= sent;
+            }
+        }
+    }
+
+    public void commitOffset(String consumer, long offset) throws IOException {
+        if (offset < 0 || offset > endOffset.get()) {
+            throw new IllegalArgumentException("Offset must be between 0 and the end offset " + endOffset.get());
+        }
+        offsets.commit(consumer, offset);
+    }
+
+    public OptionalLong committedOffset(String consumer) throws IOException {
+        return offsets.committed(consumer);
+    }
+
+    /**
+     * Deletes the oldest sealed segments while the log is over its size limit or they are
+     * older than the age limit. The newest segment holding entries always stays, since its
+     * last entry tells where to follow the journal on from after a restart.
+     * @return number of deleted segments
+     */
+    public int applyRetention() throws IOException {
+        List<Path> files = SegmentedJournal.listSegments(directory);
+        long total = 0;
+        for (Path file : files) {
+            total += Files.size(file);
+        }
+        int newestWithEntries = files.size() - 1;
+        while (newestWithEntries > 0 && Files.size(files.get(newestWithEntries)) == 0) {
+            newestWithEntries--;
+        }
+        Instant expiry = Instant.now().minus(settings.retentionAge());
+        long cutoff = -1;
+        for (int i = 0; i < newestWithEntries; i++) {
+            boolean oversized = total > settings.retentionSize().toBytes();
+            boolean expired = Files.getLastModifiedTime(files.get(i)).toInstant().isBefore(expiry);
+            if (!oversized && !expired) {
+                break;
+            }
+            total -= Files.size(files.get(i));
+            cutoff = SegmentedJournal.baseSequence(files.get(i + 1));
+        }
+        if (cutoff < 0) {
+            return 0;
+        }
+        int deleted = journal.deleteSegmentsBefore(cutoff);
+        segments.headMap(cutoff).clear();
+        log.info("Change log retention removed {} segments, earliest offset is now {}", deleted, earliestOffset());
+        return deleted;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("orders.changelog.end.offset", endOffset, AtomicLong::get)
+                .description("Offset the next order change will be written at")
+                .register(registry);
+        Gauge.builder("orders.changelog.earliest.offset", this, OrderChangeLog::earliestOffset)
+                .description("Oldest order change offset still retained")
+                .register(registry);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (retention != null) {
+            retention.shutdown();
+            try {
+                retention.awaitTermination(1, TimeUnit.MINUTES);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        journal.close();
+    }
+
+    private void scheduledRetention() {
+        try {
+            applyRetention();
+        } catch (IOException | RuntimeException e) {
+            log.error("Change log retention failed, retrying at the next check", e);
+        }
+    }
+
+    private void refreshSegments() {
+        try {
+            Set<Long> present = new HashSet<>();
+            for (Path file : SegmentedJournal.listSegments(directory)) {
+                long base = SegmentedJournal.baseSequence(file);
+                present.add(base);
+                segments.computeIfAbsent(base, key -> new SegmentIndex(file, key));
+            }
+            segments.keySet().retainAll(present);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to list change log segments in " + directory, e);
+        }
+    }
+
+    // The newest segment is empty when the process stopped right after a roll, so older
+    // segments are searched back to the last entry.
+    private static long lastSourceSequence(List<Path> segments) throws IOException {
+        long[] lastSource = {-1};
+        for (int i = segments.size() - 1; i >= 0 && lastSource[0] < 0; i--) {
+            SegmentedJournal.readSegment(segments.get(i), (offset, payload) -> lastSource[0] = payload.getLong(0));
+        }
+        return lastSource[0];
+    }
+
+    private static JournalSettings journalSettings(ChangeLogSettings settings) {
+        // group commit: the end offset only moves once entries are synced, so readers never see
+        // an entry a crash could take back
+        return new JournalSettings(settings.directory(), settings.segmentSize(), DurabilityMode.GROUP,
+                Duration.ofMillis(100), 65536, Duration.ZERO);
+    }
+}
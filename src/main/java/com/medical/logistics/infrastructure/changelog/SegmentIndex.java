@@ -0,0 +1,186 @@
+package com.medical.logistics.infrastructure.changelog;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static com.medical.logistics.infrastructure.persistence.journal.SegmentedJournal.HEADER_BYTES;
+import static com.medical.logistics.infrastructure.persistence.journal.SegmentedJournal.SEQUENCE_BYTES;
+
+/**
+ * Sparse offset-to-byte-position index of one change log segment
+ * <p>
+ * Built lazily by scanning frame headers, and extended as the active segment grows. One
+ * entry is kept per {@value #INTERVAL_BYTES} bytes, so locating any offset costs a binary
+ * search plus a few header reads.
+ */
+final class SegmentIndex {
+    private static final int INTERVAL_BYTES = 4096;
+    private static final int SCAN_BUFFER_BYTES = 1 << 16;
+
+    private final Path file;
+    private final ReentrantLock lock = new ReentrantLock();
+    private long[] offsets = new long[16];
+    private long[] positions = new long[16];
+    private int entries;
+    // first offset not yet scanned, and the byte position it starts at
+    private long scannedOffset;
+    private long scannedPosition;
+
+    SegmentIndex(Path file, long baseOffset) {
+        this.file = file;
+        this.scannedOffset = baseOffset;
+        add(baseOffset, 0);
+    }
+
+    Path file() {
+        return file;
+    }
+
+    long scannedOffset() {
+        lock.lock();
+        try {
+            return scannedOffset;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Scans frames below {@code limitOffset}, stopping early at the end of the file
+     */
+    void extendTo(long limitOffset) throws IOException {
+        lock.lock();
+        try {
+            if (scannedOffset >= limitOffset) {
+                return;
+            }
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                long size = channel.size();
+                ByteBuffer buffer = ByteBuffer.allocate(SCAN_BUFFER_BYTES);
+                long lastIndexed = positions[entries - 1];
+                while (scannedOffset < limitOffset && scannedPosition + HEADER_BYTES <= size) {
+                    buffer.clear();
+                    int read = channel.read(buffer, scannedPosition);
+                    long at = 0;
+                    boolean complete = true;
+                    while (scannedOffset < limitOffset && at + HEADER_BYTES <= read) {
+                        int bodyLength = buffer.getInt((int) at);
+                        long recordLength = HEADER_BYTES + (long) bodyLength;
+                        if (bodyLength < SEQUENCE_BYTES || scannedPosition + recordLength > size) {
+                            complete = false;
+                            break;
+                        }
+                        if (at + HEADER_BYTES + SEQUENCE_BYTES <= read
+                                && buffer.getLong((int) at + HEADER_BYTES) != scannedOffset) {
+                            throw new IOException("Change log segment " + file + " is out of sequence at offset "
+                                    + scannedOffset);
+                        }
+                        if (scannedPosition - lastIndexed >= INTERVAL_BYTES) {
+                            add(scannedOffset, scannedPosition);
+                            lastIndexed = scannedPosition;
+                        }
+                        scannedPosition += recordLength;
+                        scannedOffset++;
+                        at += recordLength;
+                    }
+                    if (!complete || read < HEADER_BYTES) {
+                        break;
+                    }
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Whole frames from {@code offset}, up to {@code maxBytes} but at least one frame, and
+     * never at or beyond {@code limitOffset}; the segment must be scanned past {@code offset}
+     */
+    ChangeLogSlice slice(long offset, long maxBytes, long limitOffset) throws IOException {
+        lock.lock();
+        try {
+            long limit = Math.min(limitOffset, scannedOffset);
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                int floor = floorEntry(offset);
+                long start = walk(channel, offsets[floor], positions[floor], offset);
+                long maxEnd = start + maxBytes;
+                // jump to the last indexed frame that still fits, then walk frame by frame
+                int from = Math.max(floor, floorPosition(maxEnd));
+                while (from > floor && offsets[from] > limit) {
+                    from--;
+                }
+                long fromOffset = Math.max(offsets[from], offset);
+                long fromPosition = fromOffset == offset ? start : positions[from];
+                long[] end = walkWhileFits(channel, fromOffset, fromPosition, limit, maxEnd, offset);
+                return new ChangeLogSlice(file, start, end[1] - start, offset, end[0]);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // position of targetOffset, walking frame headers from a known frame
+    private static long walk(FileChannel channel, long offset, long position, long targetOffset)
+            throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(4);
+        while (offset < targetOffset) {
+            position += HEADER_BYTES + readBodyLength(channel, position, header);
+            offset++;
+        }
+        return position;
+    }
+
+    // {end offset, end position} of the frames from a known frame that fit before maxEnd
+    private static long[] walkWhileFits(FileChannel channel, long offset, long position, long limit, long maxEnd,
+                                        long firstOffset) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(4);
+        while (offset < limit) {
+            long next = position + HEADER_BYTES + readBodyLength(channel, position, header);
+            if (next > maxEnd && offset > firstOffset) {
+                break;
+            }
+            position = next;
+            offset++;
+            if (next >= maxEnd) {
+                break;
+            }
+        }
+        return new long[]{offset, position};
+    }
+
+    private static int readBodyLength(FileChannel channel, long position, ByteBuffer header) throws IOException {
+        header.clear();
+        while (header.hasRemaining()) {
+            if (channel.read(header, position + header.position()) < 0) {
+                throw new IOException("Unexpected end of change log segment at byte " + position);
+            }
+        }
+        return header.getInt(0);
+    }
+
+    private int floorEntry(long offset) {
+        int index = Arrays.binarySearch(offsets, 0, entries, offset);
+        return index >= 0 ? index : -index - 2;
+    }
+
+    private int floorPosition(long position) {
+        int index = Arrays.binarySearch(positions, 0, entries, position);
+        return index >= 0 ? index : Math.max(0, -index - 2);
+    }
+
+    private void add(long offset, long position) {
+        if (entries == offsets.length) {
+            offsets = Arrays.copyOf(offsets, entries * 2);
+            positions = Arrays.copyOf(positions, entries * 2);
+        }
+        offsets[entries] = offset;
+        positions[entries] = position;
+        entries++;
+    }
+}
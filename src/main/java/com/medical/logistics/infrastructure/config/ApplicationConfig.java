@@ -1,5 +1,13 @@
 package com.medical.logistics.infrastructure.config;
 
+import com.medical.logistics.domian.catalogue.SupplyCatalogue;
+import com.medical.logistics.domian.order.ItemNameDictionary;
+import com.medical.logistics.domian.order.OrderIdGenerator;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 /**
@@ -14,4 +22,41 @@ import org.springframework.context.annotation.Configuration;
 @Configuration
 public class ApplicationConfig {
 
+    /**
+     * Order id generation mode: {@code time-ordered} (UUIDv7, default) or {@code random} (UUIDv4);
+     * used by the application services of this context for the orders they place
+     */
+    @Bean
+    public OrderIdGenerator orderIdGenerator(@Value("${orders.id.generator:time-ordered}") String mode) {
+        return switch (mode) {
+            case "time-ordered" -> OrderIdGenerator.timeOrdered();
+            case "random" -> OrderIdGenerator.random();
+            default -> throw new IllegalArgumentException("Unknown orders.id.generator: " + mode);
+        };
+    }
+
+    /**
+     * Dictionary of the item names in the supply catalogue, shared by the application services
+     * and the order stores of this context; it stays empty unless {@code orders.catalogue.file}
+     * loads a catalogue
+     */
+    @Bean
+    public ItemNameDictionary itemNameDictionary(SupplyCatalogue catalogue) {
+        return new ItemNameDictionary(catalogue::containsName);
+    }
+
+    /**
+     * Distinct item names in the dictionary, and catalogue names left unencoded because it is full
+     */
+    @Bean
+    public MeterBinder itemNameDictionaryMetrics(ItemNameDictionary dictionary) {
+        return registry -> {
+            Gauge.builder("orders.item.names", dictionary, ItemNameDictionary::size)
+                    .description("Distinct item names in the item name dictionary")
+                    .register(registry);
+            FunctionCounter.builder("orders.item.names.unencoded", dictionary, ItemNameDictionary::unencoded)
+                    .description("Catalogue item names kept as their own string because the dictionary was full")
+                    .register(registry);
+        };
+    }
 }
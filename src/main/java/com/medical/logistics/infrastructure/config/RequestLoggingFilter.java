@@ -1,51 +1,84 @@
 package com.medical.logistics.infrastructure.config;
 
 
-import jakarta.servlet.*;
+import com.medical.logistics.infrastructure.logging.AccessLog;
+import com.medical.logistics.infrastructure.logging.AccessLogMode;
+import com.medical.logistics.infrastructure.logging.AccessLogSettings;
+import com.medical.logistics.infrastructure.logging.RequestIds;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.time.Duration;
-import java.time.Instant;
-import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * Assigns every request an id and logs it according to {@code orders.access-log.mode}
+ * <p>
+ * The id is taken from an acceptable {@code X-Request-Id} header or generated, returned in
+ * the same header and kept in the MDC as {@code requestId} while the request runs. In
+ * SAMPLED mode only a share of ordinary requests is logged, but errors ({@code 4xx},
+ * {@code 5xx} or an exception) and slow requests always are, and the line is written by
+ * {@link AccessLog} off the request thread.
+ */
 @Slf4j
 @Component
-public class RequestLoggingFilter implements Filter {
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class RequestLoggingFilter extends OncePerRequestFilter {
+    public static final String REQUEST_ID_HEADER = "X-Request-Id";
 
-    @Override
-    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
-            throws IOException, ServletException {
+    private final AccessLog accessLog;
+    private final AccessLogMode mode;
+    private final double sampleRate;
+    private final long slowThresholdNanos;
 
-        HttpServletRequest httpRequest = (HttpServletRequest) request;
-        HttpServletResponse httpResponse = (HttpServletResponse) response;
+    public RequestLoggingFilter(AccessLog accessLog, AccessLogSettings settings) {
+        this.accessLog = accessLog;
+        this.mode = settings.mode();
+        this.sampleRate = settings.sampleRate();
+        this.slowThresholdNanos = settings.slowThreshold().toNanos();
+    }
 
-        Instant start = Instant.now();
-        String requestId = UUID.randomUUID().toString().substring(0, 8);
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long start = System.nanoTime();
+        String inbound = request.getHeader(REQUEST_ID_HEADER);
+        String requestId = RequestIds.isAcceptable(inbound) ? inbound : RequestIds.next();
+        response.setHeader(REQUEST_ID_HEADER, requestId);
+        MDC.put(AccessLog.REQUEST_ID_KEY, requestId);
 
+        if (mode == AccessLogMode.DETAILED) {
+            log.info("{} {} from {}", request.getMethod(), request.getRequestURI(), request.getRemoteAddr());
+        }
+        boolean failed = true;
         try {
-            log.info("[{}] {} {} from {}",
-                    requestId,
-                    httpRequest.getMethod(),
-                    httpRequest.getRequestURI(),
-                    httpRequest.getRemoteAddr()
-            );
-
             chain.doFilter(request, response);
-
+            failed = false;
         } finally {
-            Duration duration = Duration.between(start, Instant.now());
-
-            log.info("[{}] {} {} - Status: {} - Duration: {}ms",
-                    requestId,
-                    httpRequest.getMethod(),
-                    httpRequest.getRequestURI(),
-                    httpResponse.getStatus(),
-                    duration.toMillis()
-            );
+            long duration = System.nanoTime() - start;
+            int status = failed ? HttpServletResponse.SC_INTERNAL_SERVER_ERROR : response.getStatus();
+            if (mode == AccessLogMode.DETAILED) {
+                log.info("{} {} - Status: {} - Duration: {}ms", request.getMethod(), request.getRequestURI(), status,
+                        TimeUnit.NANOSECONDS.toMillis(duration));
+            } else if (mode == AccessLogMode.SAMPLED && shouldLog(status, duration)) {
+                accessLog.offer(new AccessLog.Entry(requestId, request.getMethod(), request.getRequestURI(),
+                        status, duration, request.getRemoteAddr()));
+            }
+            MDC.remove(AccessLog.REQUEST_ID_KEY);
         }
     }
+
+    private boolean shouldLog(int status, long durationNanos) {
+        return status >= 400
+                || durationNanos >= slowThresholdNanos
+                || (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate);
+    }
 }
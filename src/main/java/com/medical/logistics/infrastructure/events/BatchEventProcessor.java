@@ -0,0 +1,76 @@
+package com.medical.logistics.infrastructure.events;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.function.BooleanSupplier;
+
+/**
+ * Runs one {@link EventHandler} over a {@link RingBuffer} on a dedicated thread
+ * <p>
+ * Each wake-up takes every event published since the last one as a batch and advances
+ * the consumer sequence once per batch, so a consumer that falls behind catches up with
+ * fewer cross-thread writes. A handler failure is logged and skipped; it never stops the
+ * processor or the producers.
+ */
+@Slf4j
+public final class BatchEventProcessor<E> implements Runnable {
+    private final RingBuffer<E> ringBuffer;
+    private final EventHandler<? super E> handler;
+    private final String name;
+    private final Sequence sequence = new Sequence(-1);
+    private volatile boolean running = true;
+    private final BooleanSupplier halted = () -> !running;
+
+    public BatchEventProcessor(RingBuffer<E> ringBuffer, EventHandler<? super E> handler, String name) {
+        this.ringBuffer = ringBuffer;
+        this.handler = handler;
+        this.name = name;
+        ringBuffer.addGatingSequence(sequence);
+    }
+
+    /**
+     * Last sequence this processor has fully handled
+     */
+    public Sequence sequence() {
+        return sequence;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    /**
+     * Stops the processor after the batch in progress; events not yet taken are left unhandled
+     */
+    public void halt() {
+        running = false;
+        ringBuffer.waitStrategy().signalAllWhenBlocking();
+    }
+
+    @Override
+    public void run() {
+        WaitStrategy waitStrategy = ringBuffer.waitStrategy();
+        long next = sequence.get() + 1;
+        while (running) {
+            long available = waitStrategy.waitFor(next, ringBuffer.cursor(), halted);
+            if (available < next) {
+                continue;
+            }
+            long highest = ringBuffer.highestPublished(next, available);
+            if (highest < next) {
+                // claimed by a producer that has not published yet
+                Thread.onSpinWait();
+                continue;
+            }
+            for (long current = next; current <= highest; current++) {
+                try {
+                    handler.onEvent(ringBuffer.get(current), current, current == highest);
+                } catch (Exception e) {
+                    log.error("Event handler {} failed on sequence {}", name, current, e);
+                }
+            }
+            sequence.set(highest);
+            next = highest + 1;
+        }
+    }
+}
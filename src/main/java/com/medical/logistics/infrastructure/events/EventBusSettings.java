@@ -0,0 +1,22 @@
+package com.medical.logistics.infrastructure.events;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Order event bus configuration, bound from {@code orders.events.*}
+ *
+ * @param ringSize     preallocated slots, a power of 2; publishers wait when the slowest handler is this far behind
+ * @param waitStrategy how idle handlers wait for new events
+ */
+@ConfigurationProperties(prefix = "orders.events")
+public record EventBusSettings(
+        @DefaultValue("65536") int ringSize,
+        @DefaultValue("SLEEPING") WaitStrategyType waitStrategy) {
+
+    public EventBusSettings {
+        if (ringSize < 1 || Integer.bitCount(ringSize) != 1) {
+            throw new IllegalArgumentException("Event ring size must be a power of 2");
+        }
+    }
+}
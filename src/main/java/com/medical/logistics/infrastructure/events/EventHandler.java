@@ -0,0 +1,12 @@
+package com.medical.logistics.infrastructure.events;
+
+/**
+ * Consumes events from a {@link RingBuffer} on its processor thread
+ */
+@FunctionalInterface
+public interface EventHandler<E> {
+    /**
+     * @param endOfBatch true for the last event currently available, a natural point to flush
+     */
+    void onEvent(E event, long sequence, boolean endOfBatch) throws Exception;
+}
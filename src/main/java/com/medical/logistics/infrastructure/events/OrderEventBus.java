@@ -0,0 +1,157 @@
+package com.medical.logistics.infrastructure.events;
+
+import com.medical.logistics.domian.order.events.OrderEvent;
+import com.medical.logistics.domian.order.events.OrderEventPublisher;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * In-process, asynchronous order event bus
+ * <p>
+ * Events are published into a preallocated {@link RingBuffer}; every
+ * {@link OrderEventHandler} bean consumes them in batches on its own thread. Publishing is
+ * a slot claim plus a reference write, so the command path does not wait on any handler
+ * unless the slowest one is a full ring behind. Each slot counts down the handlers still to
+ * see its event and the last one clears the reference, so the ring does not keep up to
+ * {@code ring-size} handled events, and the orders they carry, reachable.
+ */
+@Slf4j
+@Component
+@EnableConfigurationProperties(EventBusSettings.class)
+public class OrderEventBus implements OrderEventPublisher, MeterBinder, AutoCloseable {
+    private static final long DRAIN_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(5);
+
+    private final RingBuffer<Slot> ringBuffer;
+    private final List<BatchEventProcessor<Slot>> processors = new ArrayList<>();
+    private final List<Thread> threads = new ArrayList<>();
+    private final int handlerCount;
+    private volatile boolean closed;
+
+    @Autowired
+    public OrderEventBus(EventBusSettings settings, ObjectProvider<OrderEventHandler> handlers) {
+        this(settings, handlers.orderedStream().toList());
+    }
+
+    public OrderEventBus(EventBusSettings settings, List<? extends OrderEventHandler> handlers) {
+        // request threads, bulk workers and reactive pipelines all publish
+        this.ringBuffer = new RingBuffer<>(Slot::new, settings.ringSize(), ProducerType.MULTI,
+                WaitStrategy.of(settings.waitStrategy()));
+        this.handlerCount = handlers.size();
+        for (OrderEventHandler handler : handlers) {
+            String name = "order-events-" + handler.getClass().getSimpleName();
+            BatchEventProcessor<Slot> processor = new BatchEventProcessor<>(ringBuffer,
+                    (slot, sequence, endOfBatch) -> {
+                        try {
+                            handler.onEvent(slot.event, sequence, endOfBatch);
+                        } finally {
+                            slot.handled();
+                        }
+                    }, name);
+            processors.add(processor);
+            threads.add(Thread.ofPlatform().name(name).daemon().start(processor));
+        }
+        log.info("Order event bus started with {} handlers, ring size {}, {} wait strategy",
+                processors.size(), settings.ringSize(), settings.waitStrategy());
+    }
+
+    @Override
+    public void publish(OrderEvent event) {
+        if (processors.isEmpty()) {
+            return;
+        }
+        if (closed) {
+            log.warn("Order event bus is closed, dropping {} for order {}",
+                    event.getClass().getSimpleName(), event.orderId());
+            return;
+        }
+        ringBuffer.publishEvent((slot, published) -> slot.fill(published, handlerCount), event);
+    }
+
+    /**
+     * Sequence of the last event published, -1 before the first; a handler is caught up
+     * once it has handled this sequence
+     */
+    public long publishedSequence() {
+        return ringBuffer.cursor().get();
+    }
+
+    /**
+     * Events published but not yet handled by the slowest handler
+     */
+    public long backlog() {
+        long published = ringBuffer.cursor().get();
+        long slowest = published;
+        for (BatchEventProcessor<Slot> processor : processors) {
+            slowest = Math.min(slowest, processor.sequence().get());
+        }
+        return published - slowest;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("orders.events.published", ringBuffer, ring -> ring.cursor().get() + 1)
+                .description("Order events published to the in-process bus")
+                .register(registry);
+        Gauge.builder("orders.events.backlog", this, OrderEventBus::backlog)
+                .description("Order events not yet handled by the slowest handler")
+                .register(registry);
+    }
+
+    /**
+     * Lets handlers finish what has been published, then stops them
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        long deadline = System.nanoTime() + DRAIN_TIMEOUT_NANOS;
+        while (backlog() > 0 && System.nanoTime() - deadline < 0) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+        if (backlog() > 0) {
+            log.warn("Stopping order event handlers with {} events unhandled", backlog());
+        }
+        processors.forEach(BatchEventProcessor::halt);
+        for (Thread thread : threads) {
+            try {
+                thread.join(TimeUnit.SECONDS.toMillis(1));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static final class Slot {
+        private final AtomicInteger unhandled = new AtomicInteger();
+        private OrderEvent event;
+
+        // published with the slot's sequence, which the handlers read before the event
+        private void fill(OrderEvent published, int handlers) {
+            event = published;
+            unhandled.set(handlers);
+        }
+
+        // the producer reuses the slot only after every handler moved past it, so this
+        // write is ordered before the next fill
+        private void handled() {
+            if (unhandled.decrementAndGet() == 0) {
+                event = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.medical.logistics.infrastructure.events;
+
+import com.medical.logistics.domian.order.events.OrderEvent;
+
+/**
+ * Asynchronous consumer of order events. Every bean of this type gets its own processor
+ * thread on the {@link OrderEventBus} and sees every event in publish order.
+ */
+public interface OrderEventHandler extends EventHandler<OrderEvent> {
+}
@@ -0,0 +1,16 @@
+package com.medical.logistics.infrastructure.events;
+
+/**
+ * How many threads may publish to a {@link RingBuffer}
+ */
+public enum ProducerType {
+    /**
+     * One publishing thread; claiming a slot is a plain increment
+     */
+    SINGLE,
+    /**
+     * Any number of publishing threads; slots are claimed with a CAS and marked available
+     * one by one, so consumers never read a claimed but unwritten slot
+     */
+    MULTI
+}
@@ -0,0 +1,174 @@
+package com.medical.logistics.infrastructure.events;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Bounded ring of preallocated events, in the style of the LMAX Disruptor
+ * <p>
+ * Publishing claims the next sequence, fills the preallocated event in that slot and
+ * publishes the sequence; nothing is allocated and no lock is taken. Consumers track their
+ * own {@link Sequence}, registered as gating sequences, and a producer that would lap the
+ * slowest consumer waits for it, so a full ring applies backpressure rather than dropping.
+ * <p>
+ * With {@link ProducerType#SINGLE} the claim is a plain increment and the cursor is the
+ * publish point. With {@link ProducerType#MULTI} slots are claimed with a CAS on the cursor
+ * and each published slot is flagged in an availability array, so consumers stop at the
+ * first slot that is claimed but not yet written.
+ */
+public final class RingBuffer<E> {
+    private static final VarHandle AVAILABLE = MethodHandles.arrayElementVarHandle(int[].class);
+
+    private final Object[] entries;
+    private final int mask;
+    private final int indexShift;
+    private final ProducerType producerType;
+    private final WaitStrategy waitStrategy;
+    private final Sequence cursor = new Sequence(-1);
+    private final int[] available;
+    private volatile Sequence[] gatingSequences = new Sequence[0];
+
+    // single producer: only ever touched by the publishing thread
+    private long nextValue = -1;
+    private long cachedGatingValue = -1;
+
+    // multi producer: last known minimum of the gating sequences
+    private final Sequence gatingSequenceCache = new Sequence(-1);
+
+    public RingBuffer(Supplier<E> eventFactory, int bufferSize, ProducerType producerType, WaitStrategy waitStrategy) {
+        if (bufferSize < 1 || Integer.bitCount(bufferSize) != 1) {
+            throw new IllegalArgumentException("Ring buffer size must be a power of 2");
+        }
+        this.entries = new Object[bufferSize];
+        for (int i = 0; i < bufferSize; i++) {
+            entries[i] = eventFactory.get();
+        }
+        this.mask = bufferSize - 1;
+        this.indexShift = Integer.numberOfTrailingZeros(bufferSize);
+        this.producerType = producerType;
+        this.waitStrategy = waitStrategy;
+        if (producerType == ProducerType.MULTI) {
+            this.available = new int[bufferSize];
+            Arrays.fill(available, -1);
+        } else {
+            this.available = null;
+        }
+    }
+
+    /**
+     * Claims the next slot, fills it through {@code translator} and publishes it
+     */
+    public <A> void publishEvent(BiConsumer<E, A> translator, A argument) {
+        long sequence = next();
+        try {
+            translator.accept(get(sequence), argument);
+        } finally {
+            publish(sequence);
+        }
+    }
+
+    /**
+     * Claims the next sequence, waiting while the ring is full
+     */
+    public long next() {
+        return producerType == ProducerType.SINGLE ? nextSingle() : nextMulti();
+    }
+
+    /**
+     * Makes the event at {@code sequence} visible to consumers
+     */
+    public void publish(long sequence) {
+        if (producerType == ProducerType.SINGLE) {
+            cursor.set(sequence);
+        } else {
+            AVAILABLE.setRelease(available, (int) sequence & mask, (int) (sequence >>> indexShift));
+        }
+        waitStrategy.signalAllWhenBlocking();
+    }
+
+    @SuppressWarnings("unchecked")
+    public E get(long sequence) {
+        return (E) entries[(int) sequence & mask];
+    }
+
+    public int bufferSize() {
+        return entries.length;
+    }
+
+    /**
+     * Highest sequence claimed by a producer; consumers must also check
+     * {@link #highestPublished} before reading
+     */
+    public Sequence cursor() {
+        return cursor;
+    }
+
+    WaitStrategy waitStrategy() {
+        return waitStrategy;
+    }
+
+    /**
+     * Registers a consumer sequence that producers must not overtake; register every
+     * consumer before the first publish
+     */
+    public synchronized void addGatingSequence(Sequence sequence) {
+        Sequence[] current = gatingSequences;
+        Sequence[] updated = Arrays.copyOf(current, current.length + 1);
+        updated[current.length] = sequence;
+        gatingSequences = updated;
+    }
+
+    /**
+     * Highest sequence in {@code [lowerBound, availableSequence]} up to which every slot
+     * has been published
+     */
+    public long highestPublished(long lowerBound, long availableSequence) {
+        if (producerType == ProducerType.SINGLE) {
+            return availableSequence;
+        }
+        for (long sequence = lowerBound; sequence <= availableSequence; sequence++) {
+            int flag = (int) AVAILABLE.getAcquire(available, (int) sequence & mask);
+            if (flag != (int) (sequence >>> indexShift)) {
+                return sequence - 1;
+            }
+        }
+        return availableSequence;
+    }
+
+    private long nextSingle() {
+        long next = nextValue + 1;
+        long wrapPoint = next - entries.length;
+        if (wrapPoint > cachedGatingValue || cachedGatingValue > nextValue) {
+            long minSequence;
+            while (wrapPoint > (minSequence = Sequence.minimum(gatingSequences, nextValue))) {
+                LockSupport.parkNanos(1);
+            }
+            cachedGatingValue = minSequence;
+        }
+        nextValue = next;
+        return next;
+    }
+
+    private long nextMulti() {
+        while (true) {
+            long current = cursor.get();
+            long next = current + 1;
+            long wrapPoint = next - entries.length;
+            long cachedGating = gatingSequenceCache.get();
+            if (wrapPoint > cachedGating || cachedGating > current) {
+                long gating = Sequence.minimum(gatingSequences, current);
+                if (wrapPoint > gating) {
+                    LockSupport.parkNanos(1);
+                    continue;
+                }
+                gatingSequenceCache.set(gating);
+            } else if (cursor.compareAndSet(current, next)) {
+                return next;
+            }
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.medical.logistics.infrastructure.events;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+
+/**
+ * How a consumer waits for the producer cursor to reach the sequence it needs
+ */
+public interface WaitStrategy {
+
+    /**
+     * @return the cursor value once it is at least {@code sequence}, or a smaller value
+     * when {@code halted} became true while waiting
+     */
+    long waitFor(long sequence, Sequence cursor, BooleanSupplier halted);
+
+    /**
+     * Wakes consumers parked by strategies that block; called after every publish
+     */
+    default void signalAllWhenBlocking() {
+    }
+
+    static WaitStrategy of(WaitStrategyType type) {
+        return switch (type) {
+            case BUSY_SPIN -> new BusySpin();
+            case YIELDING -> new Yielding();
+            case SLEEPING -> new Sleeping();
+            case BLOCKING -> new Blocking();
+        };
+    }
+
+    final class BusySpin implements WaitStrategy {
+        @Override
+        public long waitFor(long sequence, Sequence cursor, BooleanSupplier halted) {
+            long available;
+            while ((available = cursor.get()) < sequence) {
+                if (halted.getAsBoolean()) {
+                    return available;
+                }
+                Thread.onSpinWait();
+            }
+            return available;
+        }
+    }
+
+    final class Yielding implements WaitStrategy {
+        private static final int SPIN_TRIES = 100;
+
+        @Override
+        public long waitFor(long sequence, Sequence cursor, BooleanSupplier halted) {
+            int counter = SPIN_TRIES;
+            long available;
+            while ((available = cursor.get()) < sequence) {
+                if (halted.getAsBoolean()) {
+                    return available;
+                }
+                if (counter > 0) {
+                    counter--;
+                    Thread.onSpinWait();
+                } else {
+                    Thread.yield();
+                }
+            }
+            return available;
+        }
+    }
+
+    /**
+     * Spins, then yields, then parks for the shortest time the OS allows; a good default
+     * when consumers should not burn a core while idle
+     */
+    final class Sleeping implements WaitStrategy {
+        private static final int RETRIES = 200;
+        private static final long SLEEP_NANOS = 100;
+
+        @Override
+        public long waitFor(long sequence, Sequence cursor, BooleanSupplier halted) {
+            int counter = RETRIES;
+            long available;
+            while ((available = cursor.get()) < sequence) {
+                if (halted.getAsBoolean()) {
+                    return available;
+                }
+                if (counter > 100) {
+                    counter--;
+                    Thread.onSpinWait();
+                } else if (counter > 0) {
+                    counter--;
+                    Thread.yield();
+                } else {
+                    LockSupport.parkNanos(SLEEP_NANOS);
+                }
+            }
+            return available;
+        }
+    }
+
+    /**
+     * Parks consumers on a condition. Publishers only take the lock when a consumer has
+     * announced that it is about to wait, so an uncontended publish stays lock-free.
+     */
+    final class Blocking implements WaitStrategy {
+        private static final long MAX_AWAIT_MILLIS = 100;
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition published = lock.newCondition();
+        private final AtomicBoolean signalNeeded = new AtomicBoolean();
+
+        @Override
+        public long waitFor(long sequence, Sequence cursor, BooleanSupplier halted) {
+            long available = cursor.get();
+            if (available >= sequence) {
+                return available;
+            }
+            lock.lock();
+            try {
+                while (true) {
+                    signalNeeded.set(true);
+                    available = cursor.get();
+                    if (available >= sequence || halted.getAsBoolean()) {
+                        return available;
+                    }
+                    published.await(MAX_AWAIT_MILLIS, TimeUnit.MILLISECONDS);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return cursor.get();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public void signalAllWhenBlocking() {
+            if (signalNeeded.getAndSet(false)) {
+                lock.lock();
+                try {
+                    published.signalAll();
+                } finally {
+                    lock.unlock();
+                }
+            }
+        }
+    }
+}
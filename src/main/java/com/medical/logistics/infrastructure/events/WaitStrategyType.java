@@ -0,0 +1,23 @@
+package com.medical.logistics.infrastructure.events;
+
+/**
+ * Consumer wait strategies, from lowest latency and highest CPU use to the reverse
+ */
+public enum WaitStrategyType {
+    /**
+     * Spins on the cursor; lowest latency, keeps one core busy per consumer
+     */
+    BUSY_SPIN,
+    /**
+     * Spins briefly, then yields the core between checks
+     */
+    YIELDING,
+    /**
+     * Spins, yields, then parks for short intervals; low idle CPU with sub-millisecond wake-up
+     */
+    SLEEPING,
+    /**
+     * Parks on a lock condition until a publish signals it; least CPU, highest wake-up latency
+     */
+    BLOCKING
+}
@@ -0,0 +1,214 @@
+package com.medical.logistics.infrastructure.idempotency;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Remembers the result of a request by its idempotency key so a retry gets the original
+ * result instead of running the request again.
+ * <p>
+ * The first request for a key registers an in-flight future before it runs, so concurrent
+ * duplicates wait for that result rather than executing themselves. A request that fails
+ * is forgotten and may be retried. Every TTL is the same, so insertion order is also expiry
+ * order: one FIFO queue gives both TTL expiry and oldest-first eviction once
+ * {@code maxEntries} is reached, keeping memory bounded however many keys arrive.
+ */
+@Component
+@EnableConfigurationProperties(IdempotencySettings.class)
+public class IdempotencyCache implements MeterBinder {
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Queue<Node> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final LongSupplier nanoClock;
+
+    @Autowired
+    public IdempotencyCache(IdempotencySettings settings) {
+        this(settings, System::nanoTime);
+    }
+
+    IdempotencyCache(IdempotencySettings settings, LongSupplier nanoClock) {
+        this.maxEntries = settings.maxEntries();
+        this.ttlNanos = settings.ttl().toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Runs {@code action} once per key. A repeat of a key within the TTL returns the first
+     * result, waiting for it if that request is still running.
+     *
+     * @param canonicalRequest the request in a canonical serialized form; only its SHA-256 digest
+     *                         is kept, and a repeat of the key with a different digest is rejected
+     * @throws IdempotencyKeyReuseException if the key was first used for a different request
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Execution<T> execute(String key, byte[] canonicalRequest, Supplier<T> action) {
+        long now = nanoClock.getAsLong();
+        byte[] fingerprint = sha256(canonicalRequest);
+        Entry fresh = new Entry(fingerprint, now + ttlNanos);
+        Entry existing;
+        while ((existing = entries.putIfAbsent(key, fresh)) != null) {
+            if (existing.expiresAt - now > 0) {
+                if (!MessageDigest.isEqual(existing.fingerprint, fingerprint)) {
+                    throw new IdempotencyKeyReuseException(
+                            "Idempotency key " + key + " was already used for a different request");
+                }
+                hits.increment();
+                return new Execution<>((T) await(existing.result), true);
+            }
+            // expired but not evicted yet
+            entries.remove(key, existing);
+        }
+
+        misses.increment();
+        insertionOrder.add(new Node(key, fresh));
+        queued.incrementAndGet();
+        evict(now);
+        try {
+            T value = action.get();
+            fresh.result.complete(value);
+            return new Execution<>(value, false);
+        } catch (RuntimeException | Error e) {
+            entries.remove(key, fresh);
+            fresh.result.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    public long hits() {
+        return hits.sum();
+    }
+
+    public long misses() {
+        return misses.sum();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("orders.idempotency.requests", hits, LongAdder::sum)
+                .tag("result", "hit")
+                .description("Requests answered from a stored idempotent result")
+                .register(registry);
+        FunctionCounter.builder("orders.idempotency.requests", misses, LongAdder::sum)
+                .tag("result", "miss")
+                .description("Requests executed because their idempotency key was new")
+                .register(registry);
+        FunctionCounter.builder("orders.idempotency.evictions", evictions, LongAdder::sum)
+                .description("Stored results dropped by TTL or size bound")
+                .register(registry);
+        Gauge.builder("orders.idempotency.cache.size", entries, Map::size)
+                .description("Idempotency keys currently remembered")
+                .register(registry);
+        Gauge.builder("orders.idempotency.hit.ratio", this, IdempotencyCache::hitRatio)
+                .description("Share of keyed requests answered from the cache")
+                .register(registry);
+    }
+
+    private double hitRatio() {
+        long hit = hits.sum();
+        long total = hit + misses.sum();
+        return total == 0 ? 0 : (double) hit / total;
+    }
+
+    // one evicting thread at a time; callers that lose the race leave the work to the winner
+    private void evict(long now) {
+        if (!evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            Node head;
+            int skipped = 0;
+            while ((head = insertionOrder.peek()) != null
+                    && (queued.get() > maxEntries || head.entry.expiresAt - now <= 0)) {
+                insertionOrder.poll();
+                if (!head.entry.result.isDone()) {
+                    // still running: forgetting it would let a retry execute the request again,
+                    // so it goes to the back and the bound is exceeded by in-flight requests only
+                    insertionOrder.add(head);
+                    if (++skipped >= queued.get()) {
+                        break;
+                    }
+                    continue;
+                }
+                queued.decrementAndGet();
+                if (entries.remove(head.key, head.entry)) {
+                    evictions.increment();
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private static Object await(CompletableFuture<Object> result) {
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Result of {@link #execute}
+     *
+     * @param replayed whether the value is a stored result rather than a new execution
+     */
+    public record Execution<T>(T value, boolean replayed) {
+    }
+
+    private static byte[] sha256(byte[] request) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(request);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static final class Entry {
+        private final byte[] fingerprint;
+        private final long expiresAt;
+        private final CompletableFuture<Object> result = new CompletableFuture<>();
+
+        private Entry(byte[] fingerprint, long expiresAt) {
+            this.fingerprint = fingerprint;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    private record Node(String key, Entry entry) {
+    }
+}
@@ -0,0 +1,10 @@
+package com.medical.logistics.infrastructure.idempotency;
+
+/**
+ * Thrown when an idempotency key is sent again with a different request
+ */
+public class IdempotencyKeyReuseException extends RuntimeException {
+    public IdempotencyKeyReuseException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,27 @@
+package com.medical.logistics.infrastructure.idempotency;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Idempotency key configuration, bound from {@code orders.idempotency.*}
+ *
+ * @param maxEntries results kept at most; the oldest is evicted first once the cache is full
+ * @param ttl        how long a result is replayed for a retried key
+ */
+@ConfigurationProperties(prefix = "orders.idempotency")
+public record IdempotencySettings(
+        @DefaultValue("200000") int maxEntries,
+        @DefaultValue("24h") Duration ttl) {
+
+    public IdempotencySettings {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("Idempotency cache size must be positive");
+        }
+        if (ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("Idempotency key TTL must be positive");
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.medical.logistics.infrastructure.logging;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded, asynchronous access log
+ * <p>
+ * Request threads hand over a small record with {@link #offer} and return; one background
+ * thread formats and writes the lines in batches. When the queue is full the line is
+ * dropped and counted, so a slow log destination never slows requests down. Each line is
+ * written with the request's id in the MDC, so it carries the same correlation id as the
+ * lines the request itself logged.
+ */
+@Slf4j
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@EnableConfigurationProperties(AccessLogSettings.class)
+public class AccessLog implements MeterBinder, AutoCloseable {
+    public static final String REQUEST_ID_KEY = "requestId";
+    private static final int WRITE_BATCH_SIZE = 256;
+    private static final long STOP_TIMEOUT_MILLIS = 1000;
+
+    private final BlockingQueue<Entry> queue;
+    private final LongAdder written = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final Thread writer;
+    private volatile boolean closed;
+
+    public AccessLog(AccessLogSettings settings) {
+        this.queue = new ArrayBlockingQueue<>(settings.queueSize());
+        this.writer = Thread.ofPlatform().name("access-log").daemon().start(this::drain);
+    }
+
+    /**
+     * Queues one line without waiting
+     *
+     * @return false if the line was dropped because the queue is full or the log is closed
+     */
+    public boolean offer(Entry entry) {
+        if (closed || !queue.offer(entry)) {
+            dropped.increment();
+            return false;
+        }
+        return true;
+    }
+
+    public long written() {
+        return written.sum();
+    }
+
+    public long dropped() {
+        return dropped.sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("orders.access.log.lines", written, LongAdder::sum)
+                .description("Access log lines written")
+                .register(registry);
+        FunctionCounter.builder("orders.access.log.dropped", dropped, LongAdder::sum)
+                .description("Access log lines dropped because the writer fell behind")
+                .register(registry);
+        Gauge.builder("orders.access.log.queued", queue, BlockingQueue::size)
+                .description("Access log lines waiting to be written")
+                .register(registry);
+    }
+
+    /**
+     * Writes what is queued, then stops the writer
+     */
+    @Override
+    public void close() {
+        closed = true;
+        writer.interrupt();
+        try {
+            writer.join(STOP_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void drain() {
+        List<Entry> batch = new ArrayList<>(WRITE_BATCH_SIZE);
+        while (!closed) {
+            try {
+                Entry first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+            } catch (InterruptedException e) {
+                // closing; write what is left below
+                break;
+            }
+            queue.drainTo(batch, WRITE_BATCH_SIZE - 1);
+            write(batch);
+        }
+        queue.drainTo(batch);
+        write(batch);
+    }
+
+    private void write(List<Entry> batch) {
+        for (Entry entry : batch) {
+            MDC.put(REQUEST_ID_KEY, entry.requestId());
+            try {
+                log.info("{} {} - Status: {} - Duration: {}ms from {}", entry.method(), entry.uri(), entry.status(),
+                        TimeUnit.NANOSECONDS.toMillis(entry.durationNanos()), entry.remoteAddress());
+                written.increment();
+            } catch (RuntimeException e) {
+                dropped.increment();
+            }
+        }
+        MDC.remove(REQUEST_ID_KEY);
+        batch.clear();
+    }
+
+    /**
+     * One completed request
+     */
+    public record Entry(String requestId, String method, String uri, int status, long durationNanos,
+                        String remoteAddress) {
+    }
+}
@@ -0,0 +1,20 @@
+package com.medical.logistics.infrastructure.logging;
+
+/**
+ * How requests are logged by the request logging filter
+ */
+public enum AccessLogMode {
+    /**
+     * No access log; request ids are still assigned
+     */
+    OFF,
+    /**
+     * One line when a request starts and one when it ends, written on the request thread
+     */
+    DETAILED,
+    /**
+     * One line per sampled request, errors and slow requests always, written by a background
+     * thread; lines are dropped rather than slowing requests down
+     */
+    SAMPLED
+}
@@ -0,0 +1,34 @@
+package com.medical.logistics.infrastructure.logging;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Access log configuration, bound from {@code orders.access-log.*}
+ *
+ * @param mode          how requests are logged
+ * @param sampleRate    share of ordinary requests logged in SAMPLED mode, from 0 to 1
+ * @param slowThreshold requests taking at least this long are always logged in SAMPLED mode
+ * @param queueSize     lines waiting for the background writer before new ones are dropped
+ */
+@ConfigurationProperties(prefix = "orders.access-log")
+public record AccessLogSettings(
+        @DefaultValue("SAMPLED") AccessLogMode mode,
+        @DefaultValue("0.01") double sampleRate,
+        @DefaultValue("500ms") Duration slowThreshold,
+        @DefaultValue("8192") int queueSize) {
+
+    public AccessLogSettings {
+        if (sampleRate < 0 || sampleRate > 1) {
+            throw new IllegalArgumentException("Access log sample rate must be between 0 and 1");
+        }
+        if (slowThreshold.isNegative()) {
+            throw new IllegalArgumentException("Slow request threshold cannot be negative");
+        }
+        if (queueSize < 1) {
+            throw new IllegalArgumentException("Access log queue size must be positive");
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.medical.logistics.infrastructure.logging;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Request ids that are unique within a process and cheap to make
+ * <p>
+ * An id is a random per-process prefix and a counter, both in hex: one atomic increment
+ * and one small string, with no {@code SecureRandom} and no UUID formatting.
+ */
+public final class RequestIds {
+    private static final int PREFIX_CHARS = 6;
+    private static final String PREFIX = hex(ThreadLocalRandom.current().nextLong(), PREFIX_CHARS);
+    private static final AtomicLong COUNTER = new AtomicLong();
+    private static final int MAX_INBOUND_LENGTH = 64;
+
+    private RequestIds() {
+    }
+
+    public static String next() {
+        long sequence = COUNTER.incrementAndGet();
+        int digits = Math.max(1, (Long.SIZE - Long.numberOfLeadingZeros(sequence) + 3) / 4);
+        char[] id = new char[PREFIX_CHARS + 1 + digits];
+        PREFIX.getChars(0, PREFIX_CHARS, id, 0);
+        id[PREFIX_CHARS] = '-';
+        for (int i = id.length - 1; i > PREFIX_CHARS; i--) {
+            id[i] = Character.forDigit((int) (sequence & 0xF), 16);
+            sequence >>>= 4;
+        }
+        return new String(id);
+    }
+
+    /**
+     * Whether an id sent by the caller may be reused: short, and only characters that are
+     * safe in a header and a log line
+     */
+    public static boolean isAcceptable(String id) {
+        if (id == null || id.isEmpty() || id.length() > MAX_INBOUND_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < id.length(); i++) {
+            char c = id.charAt(i);
+            boolean safe = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                    || c == '-' || c == '_' || c == '.';
+            if (!safe) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String hex(long value, int chars) {
+        char[] digits = new char[chars];
+        for (int i = chars - 1; i >= 0; i--) {
+            digits[i] = Character.forDigit((int) (value & 0xF), 16);
+            value >>>= 4;
+        }
+        return new String(digits);
+    }
+}
@@ -0,0 +1,208 @@
+package com.medical.logistics.infrastructure.persistence;
+
+import com.medical.logistics.domian.order.ItemNameDictionary;
+import com.medical.logistics.domian.order.Order;
+import com.medical.logistics.domian.order.OrderId;
+import com.medical.logistics.domian.order.OrderItem;
+import com.medical.logistics.domian.order.OrderRepository;
+import com.medical.logistics.domian.order.OrderStatus;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * OrderRepository that holds each order as one flat record in a {@link UuidKeyedTable}
+ * <p>
+ * The id lives in the table as its two longs; the record keeps the status as a byte, both
+ * timestamps as epoch nanoseconds and the items packed into a {@code long[]} of item name
+ * codes and quantities. That replaces the {@code Order}, {@code OrderId}, {@code UUID},
+ * item list, items and four date-time objects of the object graph with two arrays and
+ * one small object. Item name codes come from the context's {@link ItemNameDictionary}, and
+ * materialized items share its copy of each name. Domain orders are materialized on each
+ * read. Like the open-addressing store there is no sorted index, so keyset pages are
+ * selected by a scan that keeps only the {@code limit} smallest candidate ids. Enabled
+ * with {@code orders.repository.type=compact}.
+ */
+@Repository
+@ConditionalOnProperty(name = "orders.repository.type", havingValue = "compact")
+public class CompactOrderRepository implements OrderRepository {
+    private static final OrderStatus[] STATUSES = OrderStatus.values();
+
+    private final UuidKeyedTable<FlatOrder> table = new UuidKeyedTable<>();
+    private final ItemNameDictionary itemNames;
+
+    public CompactOrderRepository(ItemNameDictionary itemNames) {
+        this.itemNames = itemNames;
+    }
+
+    @Override
+    public Order save(Order order) {
+        UUID id = order.getId().getValue();
+        table.put(id.getMostSignificantBits(), id.getLeastSignificantBits(), FlatOrder.of(order, itemNames));
+        return order;
+    }
+
+    @Override
+    public Optional<Order> findById(OrderId id) {
+        UUID value = id.getValue();
+        FlatOrder flat = table.get(value.getMostSignificantBits(), value.getLeastSignificantBits());
+        return flat == null ? Optional.empty() : Optional.of(flat.toOrder(id, itemNames));
+    }
+
+    @Override
+    public List<Order> findAll() {
+        List<Order> orders = new ArrayList<>((int) Math.min(table.size(), Integer.MAX_VALUE));
+        forEach(orders::add);
+        return orders;
+    }
+
+    @Override
+    public List<Order> findPage(OrderId after, int limit) {
+        return scan(after, limit, null);
+    }
+
+    @Override
+    public List<Order> findByStatus(OrderStatus status, OrderId after, int limit) {
+        return scan(after, limit, status);
+    }
+
+    @Override
+    public void forEach(Consumer<Order> visitor) {
+        table.forEach((msb, lsb, flat) -> visitor.accept(flat.toOrder(OrderId.of(new UUID(msb, lsb)), itemNames)));
+    }
+
+    @Override
+    public Order transition(OrderId id, long expectedVersion, Consumer<Order> change) {
+        UUID value = id.getValue();
+        Order[] next = new Order[1];
+        table.compute(value.getMostSignificantBits(), value.getLeastSignificantBits(), current -> {
+            Order order = current == null ? null : current.toOrder(id, itemNames);
+            next[0] = OrderTransitions.apply(id, order, expectedVersion, change);
+            return FlatOrder.of(next[0], itemNames);
+        });
+        return next[0];
+    }
+
+    long size() {
+        return table.size();
+    }
+
+    private List<Order> scan(OrderId after, int limit, OrderStatus status) {
+        // max-heap on the raw key halves, compared as OrderId does; only the page is materialized
+        PriorityQueue<Candidate> smallest = new PriorityQueue<>(Math.min(limit, 1024) + 1,
+                Comparator.<Candidate>naturalOrder().reversed());
+        Candidate lowerBound = after == null ? null
+                : new Candidate(after.getValue().getMostSignificantBits(), after.getValue().getLeastSignificantBits(), null);
+        table.forEach((msb, lsb, flat) -> {
+            if (status != null && flat.status() != status) {
+                return;
+            }
+            if (lowerBound != null && Candidate.compare(msb, lsb, lowerBound) <= 0) {
+                return;
+            }
+            if (smallest.size() < limit) {
+                smallest.add(new Candidate(msb, lsb, flat));
+            } else if (Candidate.compare(msb, lsb, smallest.peek()) < 0) {
+                smallest.poll();
+                smallest.add(new Candidate(msb, lsb, flat));
+            }
+        });
+        List<Candidate> candidates = new ArrayList<>(smallest);
+        candidates.sort(Comparator.naturalOrder());
+        List<Order> page = new ArrayList<>(candidates.size());
+        for (Candidate candidate : candidates) {
+            page.add(candidate.flat().toOrder(OrderId.of(new UUID(candidate.msb(), candidate.lsb())), itemNames));
+        }
+        return page;
+    }
+
+    private record Candidate(long msb, long lsb, FlatOrder flat) implements Comparable<Candidate> {
+        static int compare(long msb, long lsb, Candidate other) {
+            int result = Long.compareUnsigned(msb, other.msb);
+            return result != 0 ? result : Long.compareUnsigned(lsb, other.lsb);
+        }
+
+        @Override
+        public int compareTo(Candidate other) {
+            return compare(msb, lsb, other);
+        }
+    }
+
+    /**
+     * One stored order without its id. Each item is a long holding the item name code in
+     * the high half and the quantity in the low half; a name the dictionary could not
+     * encode is kept in {@code names} at the same position.
+     */
+    private static final class FlatOrder {
+        private final long createdAtNanos;
+        private final long updatedAtNanos;
+        private final long version;
+        private final byte statusOrdinal;
+        private final long[] items;
+        private final String[] names;
+
+        private FlatOrder(long createdAtNanos, long updatedAtNanos, long version, byte statusOrdinal, long[] items,
+                          String[] names) {
+            this.createdAtNanos = createdAtNanos;
+            this.updatedAtNanos = updatedAtNanos;
+            this.version = version;
+            this.statusOrdinal = statusOrdinal;
+            this.items = items;
+            this.names = names;
+        }
+
+        static FlatOrder of(Order order, ItemNameDictionary itemNames) {
+            List<OrderItem> orderItems = order.getItems();
+            long[] items = new long[orderItems.size()];
+            String[] names = null;
+            for (int i = 0; i < items.length; i++) {
+                OrderItem item = orderItems.get(i);
+                int code = itemNames.encode(item.getName());
+                items[i] = ((long) code << 32) | (item.getQuantity() & 0xFFFFFFFFL);
+                if (code == ItemNameDictionary.NO_CODE) {
+                    if (names == null) {
+                        names = new String[items.length];
+                    }
+                    names[i] = item.getName();
+                }
+            }
+            return new FlatOrder(epochNanos(order.getCreatedAt()), epochNanos(order.getUpdatedAt()),
+                    order.getVersion(), (byte) order.getStatus().ordinal(), items, names);
+        }
+
+        OrderStatus status() {
+            return STATUSES[statusOrdinal];
+        }
+
+        Order toOrder(OrderId id, ItemNameDictionary itemNames) {
+            List<OrderItem> orderItems = new ArrayList<>(items.length);
+            for (int i = 0; i < items.length; i++) {
+                int code = (int) (items[i] >> 32);
+                int quantity = (int) items[i];
+                orderItems.add(new OrderItem(code == ItemNameDictionary.NO_CODE ? names[i] : itemNames.decode(code),
+                        quantity));
+            }
+            return new Order(id, orderItems, status(), dateTime(createdAtNanos), dateTime(updatedAtNanos), version);
+        }
+
+        // epoch nanoseconds cover 1677 to 2262 and keep the full precision of LocalDateTime.now()
+        private static long epochNanos(LocalDateTime dateTime) {
+            return Math.addExact(Math.multiplyExact(dateTime.toEpochSecond(ZoneOffset.UTC), 1_000_000_000L),
+                    dateTime.getNano());
+        }
+
+        private static LocalDateTime dateTime(long epochNanos) {
+            return LocalDateTime.ofEpochSecond(Math.floorDiv(epochNanos, 1_000_000_000L),
+                    (int) Math.floorMod(epochNanos, 1_000_000_000L), ZoneOffset.UTC);
+        }
+    }
+}
@@ -3,28 +3,84 @@ package com.medical.logistics.infrastructure.persistence;
 import com.medical.logistics.domian.order.Order;
 import com.medical.logistics.domian.order.OrderId;
 import com.medical.logistics.domian.order.OrderRepository;
+import com.medical.logistics.domian.order.OrderStatus;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Repository;
 
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableSet;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.Consumer;
 
 /**
  * In-memory implementation of OrderRepository
- *
+ * <p>
+ * Orders live in a hash map for O(1) lookups; a sorted id index backs keyset
+ * pagination so a page costs O(log n + limit) and never copies the whole store.
+ * A sorted id index per {@link OrderStatus} serves status queries at a cost
+ * proportional to the page rather than the store.
+ * Default implementation, selected by {@code orders.repository.type=in-memory}.
  */
 @Repository
+@ConditionalOnProperty(name = "orders.repository.type", havingValue = "in-memory", matchIfMissing = true)
 public class InMemoryOrderRepository implements OrderRepository {
-    private final Map<OrderId, Order> store = new ConcurrentHashMap<>();
+    private final Map<OrderId, Order> store;
+    private final NavigableSet<OrderId> ids = new ConcurrentSkipListSet<>();
+    private final Map<OrderStatus, NavigableSet<OrderId>> idsByStatus = new EnumMap<>(OrderStatus.class);
+
+    public InMemoryOrderRepository() {
+        this(16);
+    }
+
+    /**
+     * @param expectedSize number of orders to size the store for, e.g. before a bulk restore
+     */
+    public InMemoryOrderRepository(int expectedSize) {
+        this.store = new ConcurrentHashMap<>(expectedSize);
+        for (OrderStatus status : OrderStatus.values()) {
+            idsByStatus.put(status, new ConcurrentSkipListSet<>());
+        }
+    }
 
     @Override
     public Order save(Order order) {
-        store.put(order.getId(), order);
+        // The status index is updated inside compute, which serializes saves of the same
+        // order, so the last save to run always leaves the id under the status it observed.
+        // Publishing to the store before the id index means paging never sees a dangling id.
+        store.compute(order.getId(), (id, previous) -> {
+            reindex(id, order.getStatus());
+            return order;
+        });
+        ids.add(order.getId());
         return order;
     }
 
+    @Override
+    public Order transition(OrderId id, long expectedVersion, Consumer<Order> change) {
+        // compute locks only this order's bin, so transitions of different orders run in parallel
+        return store.compute(id, (key, current) -> {
+            Order next = OrderTransitions.apply(id, current, expectedVersion, change);
+            reindex(key, next.getStatus());
+            return next;
+        });
+    }
+
+    /**
+     * Bulk-loading variant of {@link #save} for rebuilding state at startup. The id must not
+     * be stored yet, which lets it skip the status index cleanup a save performs; distinct
+     * orders may be restored from several threads at once.
+     */
+    public void restore(Order order) {
+        store.put(order.getId(), order);
+        idsByStatus.get(order.getStatus()).add(order.getId());
+        ids.add(order.getId());
+    }
+
     @Override
     public Optional<Order> findById(OrderId id) {
         return Optional.ofNullable(store.get(id));
@@ -34,4 +90,40 @@ public class InMemoryOrderRepository implements OrderRepository {
     public List<Order> findAll() {
         return new ArrayList<>(store.values());
     }
+
+    @Override
+    public List<Order> findPage(OrderId after, int limit) {
+        return collect(ids, after, limit, null);
+    }
+
+    @Override
+    public List<Order> findByStatus(OrderStatus status, OrderId after, int limit) {
+        return collect(idsByStatus.get(status), after, limit, status);
+    }
+
+    // add before removing, so a concurrent page never finds the id in no index at all
+    private void reindex(OrderId id, OrderStatus status) {
+        idsByStatus.get(status).add(id);
+        idsByStatus.forEach((indexed, index) -> {
+            if (indexed != status) {
+                index.remove(id);
+            }
+        });
+    }
+
+    private List<Order> collect(NavigableSet<OrderId> index, OrderId after, int limit, OrderStatus status) {
+        NavigableSet<OrderId> tail = after == null ? index : index.tailSet(after, false);
+        List<Order> page = new ArrayList<>(Math.min(limit, 1024));
+        for (OrderId id : tail) {
+            if (page.size() >= limit) {
+                break;
+            }
+            Order order = store.get(id);
+            // an id can briefly sit in two status indexes while a save is in flight
+            if (order != null && (status == null || order.getStatus() == status)) {
+                page.add(order);
+            }
+        }
+        return page;
+    }
 }
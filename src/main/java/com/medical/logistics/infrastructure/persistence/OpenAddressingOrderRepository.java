@@ -0,0 +1,101 @@
+package com.medical.logistics.infrastructure.persistence;
+
+import com.medical.logistics.domian.order.Order;
+import com.medical.logistics.domian.order.OrderId;
+import com.medical.logistics.domian.order.OrderRepository;
+import com.medical.logistics.domian.order.OrderStatus;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * OrderRepository backed by a {@link UuidKeyedTable}
+ * <p>
+ * Trades ordered access for footprint: lookups hash the UUID halves directly and the
+ * table holds no per-entry node objects, but there is no sorted index, so keyset pages
+ * are selected by a full scan that keeps only the {@code limit} smallest candidate ids.
+ * A page therefore costs O(n log limit) time but still only O(limit) memory.
+ * Enabled with {@code orders.repository.type=open-addressing}.
+ */
+@Repository
+@ConditionalOnProperty(name = "orders.repository.type", havingValue = "open-addressing")
+public class OpenAddressingOrderRepository implements OrderRepository {
+    private final UuidKeyedTable<Order> table = new UuidKeyedTable<>();
+
+    @Override
+    public Order save(Order order) {
+        UUID id = order.getId().getValue();
+        table.put(id.getMostSignificantBits(), id.getLeastSignificantBits(), order);
+        return order;
+    }
+
+    @Override
+    public Optional<Order> findById(OrderId id) {
+        UUID value = id.getValue();
+        return Optional.ofNullable(table.get(value.getMostSignificantBits(), value.getLeastSignificantBits()));
+    }
+
+    @Override
+    public List<Order> findAll() {
+        List<Order> orders = new ArrayList<>((int) Math.min(table.size(), Integer.MAX_VALUE));
+        table.forEach((msb, lsb, order) -> orders.add(order));
+        return orders;
+    }
+
+    @Override
+    public List<Order> findPage(OrderId after, int limit) {
+        return scan(after, limit, null);
+    }
+
+    @Override
+    public List<Order> findByStatus(OrderStatus status, OrderId after, int limit) {
+        return scan(after, limit, status);
+    }
+
+    @Override
+    public void forEach(Consumer<Order> visitor) {
+        table.forEach((msb, lsb, order) -> visitor.accept(order));
+    }
+
+    @Override
+    public Order transition(OrderId id, long expectedVersion, Consumer<Order> change) {
+        UUID value = id.getValue();
+        // compute returns the previous value, so capture the new one; only this id's segment is locked
+        Order[] next = new Order[1];
+        table.compute(value.getMostSignificantBits(), value.getLeastSignificantBits(),
+                current -> next[0] = OrderTransitions.apply(id, current, expectedVersion, change));
+        return next[0];
+    }
+
+    long size() {
+        return table.size();
+    }
+
+    private List<Order> scan(OrderId after, int limit, OrderStatus status) {
+        // max-heap on id: the head is the largest id kept so far and is evicted first
+        Comparator<Order> byId = Comparator.comparing(Order::getId);
+        PriorityQueue<Order> smallest = new PriorityQueue<>(Math.min(limit, 1024) + 1, byId.reversed());
+        table.forEach((msb, lsb, order) -> {
+            if ((status != null && order.getStatus() != status)
+                    || (after != null && order.getId().compareTo(after) <= 0)) {
+                return;
+            }
+            if (smallest.size() < limit) {
+                smallest.add(order);
+            } else if (byId.compare(order, smallest.peek()) < 0) {
+                smallest.poll();
+                smallest.add(order);
+            }
+        });
+        List<Order> page = new ArrayList<>(smallest);
+        page.sort(byId);
+        return page;
+    }
+}
@@ -0,0 +1,34 @@
+package com.medical.logistics.infrastructure.persistence;
+
+import com.medical.logistics.domian.order.Order;
+import com.medical.logistics.domian.order.OrderId;
+import com.medical.logistics.domian.order.exceptions.ConcurrentOrderModificationException;
+import com.medical.logistics.domian.order.exceptions.OrderNotFoundException;
+
+import java.util.function.Consumer;
+
+/**
+ * Version check and copy-on-write shared by the repositories' compare-and-set transitions
+ */
+public final class OrderTransitions {
+
+    private OrderTransitions() {
+    }
+
+    /**
+     * Computes the next state of {@code current}; called while the entry is locked
+     */
+    public static Order apply(OrderId id, Order current, long expectedVersion, Consumer<Order> change) {
+        if (current == null) {
+            throw new OrderNotFoundException("Order not found with id: " + id);
+        }
+        if (current.getVersion() != expectedVersion) {
+            throw new ConcurrentOrderModificationException(String.format(
+                    "Order %s was modified concurrently: expected version %d but found %d",
+                    id, expectedVersion, current.getVersion()));
+        }
+        Order next = current.copy();
+        change.accept(next);
+        return next;
+    }
+}
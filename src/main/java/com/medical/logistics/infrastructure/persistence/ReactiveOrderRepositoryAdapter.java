@@ -0,0 +1,95 @@
+package com.medical.logistics.infrastructure.persistence;
+
+import com.medical.logistics.domian.order.Order;
+import com.medical.logistics.domian.order.OrderId;
+import com.medical.logistics.domian.order.OrderRepository;
+import com.medical.logistics.domian.order.OrderStatus;
+import com.medical.logistics.domian.order.ReactiveOrderRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * ReactiveOrderRepository over the configured {@link OrderRepository}
+ * <p>
+ * The in-memory stores answer without blocking, so their calls run directly on the
+ * subscribing thread. Writes to the journal store can wait on an fsync; for it they are
+ * moved to the bounded elastic scheduler so the event loop never blocks.
+ * Active when the application runs as a reactive web application.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveOrderRepositoryAdapter implements ReactiveOrderRepository {
+    static final int STREAM_PAGE_SIZE = 256;
+
+    private final OrderRepository delegate;
+    private final Scheduler writeScheduler;
+
+    @Autowired
+    public ReactiveOrderRepositoryAdapter(OrderRepository delegate,
+                                          @Value("${orders.repository.type:in-memory}") String repositoryType) {
+        this(delegate, "journal".equals(repositoryType) ? Schedulers.boundedElastic() : Schedulers.immediate());
+    }
+
+    public ReactiveOrderRepositoryAdapter(OrderRepository delegate, Scheduler writeScheduler) {
+        this.delegate = delegate;
+        this.writeScheduler = writeScheduler;
+    }
+
+    @Override
+    public Mono<Order> save(Order order) {
+        return Mono.fromCallable(() -> delegate.save(order)).subscribeOn(writeScheduler);
+    }
+
+    @Override
+    public Mono<Order> findById(OrderId id) {
+        return Mono.defer(() -> Mono.justOrEmpty(delegate.findById(id)));
+    }
+
+    @Override
+    public Flux<Order> findPage(OrderId after, int limit) {
+        return Flux.defer(() -> Flux.fromIterable(delegate.findPage(after, limit)));
+    }
+
+    @Override
+    public Flux<Order> findByStatus(OrderStatus status, OrderId after, int limit) {
+        return Flux.defer(() -> Flux.fromIterable(delegate.findByStatus(status, after, limit)));
+    }
+
+    @Override
+    public Flux<Order> streamAll(OrderStatus status) {
+        // generate reads a page only when the previous one has been consumed
+        return Flux.<List<Order>, PageCursor>generate(() -> new PageCursor(null, false), (cursor, sink) -> {
+                    List<Order> page = cursor.exhausted() ? List.of() : readPage(status, cursor.after());
+                    if (page.isEmpty()) {
+                        sink.complete();
+                        return cursor;
+                    }
+                    sink.next(page);
+                    return new PageCursor(page.get(page.size() - 1).getId(), page.size() < STREAM_PAGE_SIZE);
+                })
+                .concatMapIterable(page -> page, 1);
+    }
+
+    @Override
+    public Mono<Order> transition(OrderId id, long expectedVersion, Consumer<Order> change) {
+        return Mono.fromCallable(() -> delegate.transition(id, expectedVersion, change)).subscribeOn(writeScheduler);
+    }
+
+    private List<Order> readPage(OrderStatus status, OrderId after) {
+        return status == null
+                ? delegate.findPage(after, STREAM_PAGE_SIZE)
+                : delegate.findByStatus(status, after, STREAM_PAGE_SIZE);
+    }
+
+    private record PageCursor(OrderId after, boolean exhausted) {
+    }
+}
@@ -0,0 +1,234 @@
+package com.medical.logistics.infrastructure.persistence;
+
+import java.util.Objects;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.BiConsumer;
+import java.util.function.UnaryOperator;
+
+/**
+ * Concurrent open-addressing hash table keyed on the two {@code long} halves of a UUID.
+ * <p>
+ * Keys are stored inline in a {@code long[]} next to a parallel value array, so an entry
+ * costs two longs and one reference instead of a map node, an {@code OrderId} and a
+ * {@code UUID}. The table is split into lock-striped segments using linear probing.
+ * Reads are optimistic and take no lock unless a writer raced them; writes lock a single
+ * segment. Entries are never removed, which keeps probing free of tombstones.
+ *
+ * @param <V> value type
+ */
+public class UuidKeyedTable<V> {
+    private static final int DEFAULT_SEGMENTS = 64;
+    private static final int INITIAL_SEGMENT_CAPACITY = 16;
+
+    private final Segment<V>[] segments;
+    private final int segmentMask;
+
+    public UuidKeyedTable() {
+        this(DEFAULT_SEGMENTS);
+    }
+
+    @SuppressWarnings("unchecked")
+    public UuidKeyedTable(int segmentCount) {
+        if (Integer.bitCount(segmentCount) != 1) {
+            throw new IllegalArgumentException("Segment count must be a power of two");
+        }
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment<>();
+        }
+        this.segmentMask = segmentCount - 1;
+    }
+
+    public V get(long msb, long lsb) {
+        long hash = hash(msb, lsb);
+        return segmentFor(hash).get(msb, lsb, hash);
+    }
+
+    /**
+     * @return the previous value, or null if the key was absent
+     */
+    public V put(long msb, long lsb, V value) {
+        Objects.requireNonNull(value, "Value cannot be null");
+        return compute(msb, lsb, previous -> value);
+    }
+
+    /**
+     * Atomically replaces the value for a key while holding its segment lock.
+     * The function receives null when the key is absent and must not return null.
+     * @return the previous value, or null if the key was absent
+     */
+    public V compute(long msb, long lsb, UnaryOperator<V> remapping) {
+        long hash = hash(msb, lsb);
+        return segmentFor(hash).compute(msb, lsb, hash, remapping);
+    }
+
+    public long size() {
+        long size = 0;
+        for (Segment<V> segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    /**
+     * Visits every entry; each segment is read under its read lock, so writers to
+     * that segment wait for the visit of the segment to finish.
+     */
+    public void forEach(EntryVisitor<V> visitor) {
+        for (Segment<V> segment : segments) {
+            segment.forEach(visitor);
+        }
+    }
+
+    private Segment<V> segmentFor(long hash) {
+        return segments[(int) (hash >>> 32) & segmentMask];
+    }
+
+    // MurmurHash3 finalizer; random UUID bits are already well mixed but sequential
+    // time-ordered prefixes are not
+    private static long hash(long msb, long lsb) {
+        long h = msb ^ Long.rotateLeft(lsb, 32);
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+
+    @FunctionalInterface
+    public interface EntryVisitor<V> {
+        void visit(long msb, long lsb, V value);
+    }
+
+    private static final class Segment<V> {
+        private final StampedLock lock = new StampedLock();
+        // keys and values are swapped together by resize, so a reader always sees a matching pair
+        private volatile Table table = new Table(INITIAL_SEGMENT_CAPACITY);
+        private int size;
+
+        V get(long msb, long lsb, long hash) {
+            long stamp = lock.tryOptimisticRead();
+            V value = table.probe(msb, lsb, hash);
+            if (lock.validate(stamp)) {
+                return value;
+            }
+            stamp = lock.readLock();
+            try {
+                return table.probe(msb, lsb, hash);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        V compute(long msb, long lsb, long hash, UnaryOperator<V> remapping) {
+            long stamp = lock.writeLock();
+            try {
+                Table current = table;
+                int slot = current.findSlot(msb, lsb, hash);
+                @SuppressWarnings("unchecked")
+                V previous = (V) current.values[slot];
+                V next = Objects.requireNonNull(remapping.apply(previous), "Value cannot be null");
+                if (previous == null) {
+                    current.keys[slot * 2] = msb;
+                    current.keys[slot * 2 + 1] = lsb;
+                    current.values[slot] = next;
+                    if (++size * 4 > current.values.length * 3) {
+                        table = current.resize();
+                    }
+                } else {
+                    current.values[slot] = next;
+                }
+                return previous;
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+
+        int size() {
+            long stamp = lock.tryOptimisticRead();
+            int current = size;
+            if (lock.validate(stamp)) {
+                return current;
+            }
+            stamp = lock.readLock();
+            try {
+                return size;
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        void forEach(EntryVisitor<V> visitor) {
+            long stamp = lock.readLock();
+            try {
+                Table current = table;
+                for (int slot = 0; slot < current.values.length; slot++) {
+                    Object value = current.values[slot];
+                    if (value != null) {
+                        visitor.visit(current.keys[slot * 2], current.keys[slot * 2 + 1], (V) value);
+                    }
+                }
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+    }
+
+    /**
+     * One generation of a segment's arrays. Slots are filled in place under the segment's write
+     * lock; growing builds a new generation that replaces this one as a whole.
+     */
+    private static final class Table {
+        private final long[] keys;
+        private final Object[] values;
+
+        Table(int capacity) {
+            this.keys = new long[capacity * 2];
+            this.values = new Object[capacity];
+        }
+
+        // Bounded by the table length so a torn optimistic read can never spin forever
+        @SuppressWarnings("unchecked")
+        <V> V probe(long msb, long lsb, long hash) {
+            int mask = values.length - 1;
+            int slot = (int) hash & mask;
+            for (int probes = 0; probes < values.length; probes++) {
+                Object value = values[slot];
+                if (value == null) {
+                    return null;
+                }
+                if (keys[slot * 2] == msb && keys[slot * 2 + 1] == lsb) {
+                    return (V) value;
+                }
+                slot = (slot + 1) & mask;
+            }
+            return null;
+        }
+
+        int findSlot(long msb, long lsb, long hash) {
+            int mask = values.length - 1;
+            int slot = (int) hash & mask;
+            while (values[slot] != null && (keys[slot * 2] != msb || keys[slot * 2 + 1] != lsb)) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+
+        Table resize() {
+            Table grown = new Table(values.length * 2);
+            for (int slot = 0; slot < values.length; slot++) {
+                if (values[slot] != null) {
+                    long msb = keys[slot * 2];
+                    long lsb = keys[slot * 2 + 1];
+                    int target = grown.findSlot(msb, lsb, hash(msb, lsb));
+                    grown.keys[target * 2] = msb;
+                    grown.keys[target * 2 + 1] = lsb;
+                    grown.values[target] = values[slot];
+                }
+            }
+            return grown;
+        }
+    }
+}
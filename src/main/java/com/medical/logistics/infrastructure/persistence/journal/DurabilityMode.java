@@ -0,0 +1,21 @@
+package com.medical.logistics.infrastructure.persistence.journal;
+
+/**
+ * When a journal append is considered durable
+ */
+public enum DurabilityMode {
+    /**
+     * Every append is written and fsynced before the caller returns
+     */
+    PER_WRITE,
+    /**
+     * Appends are queued to a writer thread that writes whatever has accumulated and
+     * fsyncs once per batch; callers wait for the batch fsync
+     */
+    GROUP,
+    /**
+     * Appends are queued and callers return immediately; the writer thread fsyncs on a
+     * fixed interval, so a crash can lose the last interval of writes
+     */
+    ASYNC
+}
@@ -0,0 +1,16 @@
+package com.medical.logistics.infrastructure.persistence.journal;
+
+/**
+ * Consumer that follows the order journal record by record, such as a change log fed from
+ * it. Records reach {@link #handle} on the journal's follower thread once they are synced
+ * to disk, and on startup every record from {@link #resumeSequence()} on is handed over
+ * again, so a follower that lost its tail in a crash catches up. Journal segments it still
+ * needs are kept through compaction.
+ */
+public interface JournalFollower extends JournalRecordHandler {
+
+    /**
+     * First journal sequence the follower has not yet durably taken over
+     */
+    long resumeSequence();
+}
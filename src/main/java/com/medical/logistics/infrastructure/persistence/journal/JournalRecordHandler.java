@@ -0,0 +1,16 @@
+package com.medical.logistics.infrastructure.persistence.journal;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Receives journal records in append order during replay
+ */
+@FunctionalInterface
+public interface JournalRecordHandler {
+
+    /**
+     * @param sequence monotonically increasing record sequence
+     * @param payload  read-only view of the record payload, valid only during the call
+     */
+    void handle(long sequence, ByteBuffer payload);
+}
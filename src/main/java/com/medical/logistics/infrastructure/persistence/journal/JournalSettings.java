@@ -0,0 +1,40 @@
+package com.medical.logistics.infrastructure.persistence.journal;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Journal configuration, bound from {@code orders.journal.*}
+ *
+ * @param directory     where segment files are kept
+ * @param segmentSize   size after which the active segment is rolled
+ * @param durability    when an append counts as durable
+ * @param flushInterval how often {@link DurabilityMode#ASYNC} fsyncs
+ * @param queueCapacity pending appends allowed before writers block in group and async modes
+ * @param snapshotInterval how often a snapshot is taken and the journal compacted; zero disables
+ */
+@ConfigurationProperties(prefix = "orders.journal")
+public record JournalSettings(
+        @DefaultValue("data/journal") Path directory,
+        @DefaultValue("64MB") DataSize segmentSize,
+        @DefaultValue("GROUP") DurabilityMode durability,
+        @DefaultValue("100ms") Duration flushInterval,
+        @DefaultValue("65536") int queueCapacity,
+        @DefaultValue("15m") Duration snapshotInterval) {
+
+    public JournalSettings {
+        if (segmentSize.toBytes() <= 0) {
+            throw new IllegalArgumentException("Journal segment size must be positive");
+        }
+        if (queueCapacity <= 0) {
+            throw new IllegalArgumentException("Journal queue capacity must be positive");
+        }
+        if (snapshotInterval.isNegative()) {
+            throw new IllegalArgumentException("Snapshot interval must not be negative");
+        }
+    }
+}
@@ -0,0 +1,297 @@
+package com.medical.logistics.infrastructure.persistence.journal;
+
+import com.medical.logistics.domian.order.ItemNameDictionary;
+import com.medical.logistics.domian.order.Order;
+import com.medical.logistics.domian.order.OrderId;
+import com.medical.logistics.domian.order.OrderRepository;
+import com.medical.logistics.domian.order.OrderStatus;
+import com.medical.logistics.domian.order.TransitionResult;
+import com.medical.logistics.domian.order.exceptions.InvalidOrderStateException;
+import com.medical.logistics.domian.order.exceptions.OrderNotFoundException;
+import com.medical.logistics.infrastructure.persistence.InMemoryOrderRepository;
+import com.medical.logistics.infrastructure.persistence.OrderTransitions;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Repository;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+
+/**
+ * Durable OrderRepository: every write is appended to a {@link SegmentedJournal} as a full
+ * order record first and applied in memory only once the append returned, so no reader
+ * ever sees a change that is not in the journal. The in-memory state is rebuilt on startup
+ * from the latest snapshot plus the journal tail after it (the record with the highest
+ * version for an id wins).
+ * <p>
+ * Writes to the same order are serialized by a striped lock held from reading the current
+ * state until the new state is applied, so the journal and memory agree on the order of
+ * changes. Writers also hold the read side of a snapshot barrier across append and apply.
+ * <p>
+ * Snapshots are taken without pausing writers for longer than a roll: under the barrier's
+ * write side the journal is rolled to a new segment starting at sequence S, which waits for
+ * in-flight writes, so every record below S is already in memory. Memory is then copied
+ * page by page; saves racing with the copy land at S or later and are replayed on top.
+ * Once the snapshot is durable the segments below S are deleted, except those a
+ * {@link JournalFollower} has not caught up on. Enabled with {@code orders.repository.type=journal}.
+ */
+@Slf4j
+@Repository
+@ConditionalOnProperty(name = "orders.repository.type", havingValue = "journal")
+@EnableConfigurationProperties(JournalSettings.class)
+public class JournaledOrderRepository implements OrderRepository, AutoCloseable {
+    private static final int SNAPSHOT_PAGE_SIZE = 10_000;
+    private static final int ORDER_LOCK_STRIPES = 1024;
+
+    private final InMemoryOrderRepository memory;
+    private final OrderSnapshotStore snapshots;
+    private final SegmentedJournal journal;
+    private final JournalFollower follower;
+    private final ScheduledExecutorService snapshotScheduler;
+    private final ReentrantLock snapshotLock = new ReentrantLock();
+    private final ReentrantReadWriteLock snapshotBarrier = new ReentrantReadWriteLock();
+    private final ReentrantLock[] orderLocks = new ReentrantLock[ORDER_LOCK_STRIPES];
+
+    public JournaledOrderRepository(JournalSettings settings) throws IOException {
+        this(settings, (JournalFollower) null);
+    }
+
+    @Autowired
+    public JournaledOrderRepository(JournalSettings settings, ObjectProvider<JournalFollower> follower,
+                                    ItemNameDictionary itemNames) throws IOException {
+        this(settings, follower.getIfAvailable(), itemNames::canonical);
+    }
+
+    public JournaledOrderRepository(JournalSettings settings, JournalFollower follower) throws IOException {
+        this(settings, follower, UnaryOperator.identity());
+    }
+
+    /**
+     * @param itemNames maps each item name read back from a snapshot or the journal to the
+     *                  instance the order should keep
+     */
+    public JournaledOrderRepository(JournalSettings settings, JournalFollower follower,
+                                    UnaryOperator<String> itemNames) throws IOException {
+        this.follower = follower;
+        for (int i = 0; i < ORDER_LOCK_STRIPES; i++) {
+            orderLocks[i] = new ReentrantLock();
+        }
+        long started = System.nanoTime();
+        this.snapshots = new OrderSnapshotStore(settings.directory(), itemNames);
+        Optional<OrderSnapshotStore.Snapshot> snapshot = snapshots.latest();
+        long loaded = snapshot.map(OrderSnapshotStore.Snapshot::orderCount).orElse(0L);
+        this.memory = new InMemoryOrderRepository((int) Math.min(loaded, Integer.MAX_VALUE - 8));
+        if (snapshot.isPresent()) {
+            snapshots.load(snapshot.get(), memory::restore);
+        }
+        long snapshotSequence = snapshot.map(OrderSnapshotStore.Snapshot::sequence).orElse(0L);
+        long followFrom = follower == null ? Long.MAX_VALUE : follower.resumeSequence();
+        long[] replayed = {0};
+        this.journal = SegmentedJournal.open(settings, Math.min(snapshotSequence, followFrom), (sequence, payload) -> {
+            if (sequence >= followFrom) {
+                follower.handle(sequence, payload.duplicate());
+            }
+            if (sequence < snapshotSequence) {
+                return;
+            }
+            Order order = OrderRecordCodec.decode(payload, itemNames);
+            // concurrent transitions of one order may reach the journal out of order
+            if (memory.findById(order.getId()).map(Order::getVersion).orElse(-1L) <= order.getVersion()) {
+                memory.save(order);
+            }
+            replayed[0]++;
+        }, follower);
+        log.info("Restored {} orders from snapshot and {} journal records in {} ms",
+                loaded, replayed[0], (System.nanoTime() - started) / 1_000_000);
+
+        long intervalMillis = settings.snapshotInterval().toMillis();
+        if (intervalMillis > 0) {
+            this.snapshotScheduler = Executors.newSingleThreadScheduledExecutor(
+                    Thread.ofPlatform().name("journal-snapshot").daemon().factory());
+            snapshotScheduler.scheduleWithFixedDelay(this::scheduledSnapshot,
+                    intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        } else {
+            this.snapshotScheduler = null;
+        }
+    }
+
+    @Override
+    public Order save(Order order) {
+        byte[] record = OrderRecordCodec.encode(order);
+        return locked(List.of(order.getId()), () -> {
+            journal.append(record);
+            memory.save(order);
+            return order;
+        });
+    }
+
+    @Override
+    public List<Order> saveAll(List<Order> orders) {
+        List<byte[]> records = new ArrayList<>(orders.size());
+        List<OrderId> ids = new ArrayList<>(orders.size());
+        for (Order order : orders) {
+            records.add(OrderRecordCodec.encode(order));
+            ids.add(order.getId());
+        }
+        return locked(ids, () -> {
+            // one queue hand-off and, in group mode, one wait for the fsync covering the whole batch
+            journal.appendAll(records);
+            orders.forEach(memory::save);
+            return orders;
+        });
+    }
+
+    @Override
+    public Order transition(OrderId id, long expectedVersion, Consumer<Order> change) {
+        return locked(List.of(id), () -> {
+            Order next = OrderTransitions.apply(id, memory.findById(id).orElse(null), expectedVersion, change);
+            journal.append(OrderRecordCodec.encode(next));
+            memory.save(next);
+            return next;
+        });
+    }
+
+    @Override
+    public List<TransitionResult> transitionAll(List<OrderId> ids, Consumer<Order> change) {
+        return locked(ids, () -> {
+            List<TransitionResult> results = new ArrayList<>(ids.size());
+            List<byte[]> records = new ArrayList<>(ids.size());
+            for (OrderId id : ids) {
+                try {
+                    Order current = memory.findById(id).orElse(null);
+                    long expectedVersion = current == null ? 0 : current.getVersion();
+                    Order next = OrderTransitions.apply(id, current, expectedVersion, change);
+                    results.add(TransitionResult.succeeded(next));
+                    records.add(OrderRecordCodec.encode(next));
+                } catch (OrderNotFoundException | InvalidOrderStateException e) {
+                    results.add(TransitionResult.failed(id, e));
+                }
+            }
+            journal.appendAll(records);
+            for (TransitionResult result : results) {
+                if (result.isSuccess()) {
+                    memory.save(result.order());
+                }
+            }
+            return results;
+        });
+    }
+
+    /**
+     * Runs a write holding the lock stripes of {@code ids}, taken in stripe order so
+     * overlapping batches cannot deadlock, and the read side of the snapshot barrier
+     */
+    private <T> T locked(List<OrderId> ids, Supplier<T> write) {
+        int[] stripes = ids.stream().mapToInt(id -> (id.hashCode() & 0x7fffffff) % ORDER_LOCK_STRIPES)
+                .distinct().sorted().toArray();
+        int held = 0;
+        try {
+            for (int stripe : stripes) {
+                orderLocks[stripe].lock();
+                held++;
+            }
+            snapshotBarrier.readLock().lock();
+            try {
+                return write.get();
+            } finally {
+                snapshotBarrier.readLock().unlock();
+            }
+        } finally {
+            for (int i = held - 1; i >= 0; i--) {
+                orderLocks[stripes[i]].unlock();
+            }
+        }
+    }
+
+    /**
+     * Writes a snapshot of the current state and deletes the journal segments it covers
+     */
+    public void snapshot() throws IOException {
+        snapshotLock.lock();
+        try {
+            long started = System.nanoTime();
+            long sequence;
+            snapshotBarrier.writeLock().lock();
+            try {
+                sequence = journal.rollSegment();
+            } finally {
+                snapshotBarrier.writeLock().unlock();
+            }
+            snapshots.write(sequence, allOrders());
+            long keepFrom = follower == null ? sequence : Math.min(sequence, follower.resumeSequence());
+            int compacted = journal.deleteSegmentsBefore(keepFrom);
+            log.info("Snapshot at journal sequence {} took {} ms, removed {} segments",
+                    sequence, (System.nanoTime() - started) / 1_000_000, compacted);
+        } finally {
+            snapshotLock.unlock();
+        }
+    }
+
+    private void scheduledSnapshot() {
+        try {
+            snapshot();
+        } catch (IOException | RuntimeException e) {
+            log.error("Order snapshot failed, the journal is kept until the next attempt", e);
+        }
+    }
+
+    private Stream<Order> allOrders() {
+        return Stream.iterate(memory.findPage(null, SNAPSHOT_PAGE_SIZE),
+                        page -> !page.isEmpty(),
+                        page -> memory.findPage(page.get(page.size() - 1).getId(), SNAPSHOT_PAGE_SIZE))
+                .flatMap(List::stream);
+    }
+
+    @Override
+    public Optional<Order> findById(OrderId id) {
+        return memory.findById(id);
+    }
+
+    @Override
+    public List<Order> findAll() {
+        return memory.findAll();
+    }
+
+    @Override
+    public List<Order> findPage(OrderId after, int limit) {
+        return memory.findPage(after, limit);
+    }
+
+    @Override
+    public List<Order> findByStatus(OrderStatus status, OrderId after, int limit) {
+        return memory.findByStatus(status, after, limit);
+    }
+
+    @Override
+    public void close() {
+        if (snapshotScheduler != null) {
+            // no interrupt: it would close the journal channel under a running snapshot
+            snapshotScheduler.shutdown();
+            try {
+                snapshotScheduler.awaitTermination(1, TimeUnit.MINUTES);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        try {
+            journal.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to close order journal", e);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.medical.logistics.infrastructure.persistence.journal;
+
+import com.medical.logistics.domian.order.Order;
+import com.medical.logistics.domian.order.OrderId;
+import com.medical.logistics.domian.order.OrderItem;
+import com.medical.logistics.domian.order.OrderStatus;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.UnaryOperator;
+
+/**
+ * Compact binary form of an {@link Order}
+ * <p>
+ * Layout (big-endian): id msb, id lsb, status ordinal (byte), version (long), createdAt and
+ * updatedAt as epoch nanoseconds in UTC, item count (short), then per item the UTF-8 name
+ * length (short), name bytes and quantity (int). A single-item order is typically under 80 bytes.
+ */
+public final class OrderRecordCodec {
+    private static final OrderStatus[] STATUSES = OrderStatus.values();
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    private static final int MAX_UNSIGNED_SHORT = 0xFFFF;
+
+    private OrderRecordCodec() {
+    }
+
+    public static byte[] encode(Order order) {
+        List<OrderItem> items = order.getItems();
+        if (items.size() > MAX_UNSIGNED_SHORT) {
+            throw new IllegalArgumentException("Order has too many items to persist: " + items.size());
+        }
+        byte[][] names = new byte[items.size()][];
+        int size = 16 + 1 + 8 + 8 + 8 + 2;
+        for (int i = 0; i < items.size(); i++) {
+            names[i] = items.get(i).getName().getBytes(StandardCharsets.UTF_8);
+            if (names[i].length > MAX_UNSIGNED_SHORT) {
+                throw new IllegalArgumentException("Item name is too long to persist");
+            }
+            size += 2 + names[i].length + 4;
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        UUID id = order.getId().getValue();
+        buffer.putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits())
+                .put((byte) order.getStatus().ordinal())
+                .putLong(order.getVersion())
+                .putLong(toEpochNanos(order.getCreatedAt()))
+                .putLong(toEpochNanos(order.getUpdatedAt()))
+                .putShort((short) items.size());
+        for (int i = 0; i < items.size(); i++) {
+            buffer.putShort((short) names[i].length)
+                    .put(names[i])
+                    .putInt(items.get(i).getQuantity());
+        }
+        return buffer.array();
+    }
+
+    public static Order decode(ByteBuffer buffer) {
+        return decode(buffer, UnaryOperator.identity());
+    }
+
+    /**
+     * @param itemNames maps each decoded item name to the instance the order should keep
+     */
+    public static Order decode(ByteBuffer buffer, UnaryOperator<String> itemNames) {
+        OrderId id = OrderId.of(new UUID(buffer.getLong(), buffer.getLong()));
+        OrderStatus status = STATUSES[buffer.get()];
+        long version = buffer.getLong();
+        LocalDateTime createdAt = fromEpochNanos(buffer.getLong());
+        LocalDateTime updatedAt = fromEpochNanos(buffer.getLong());
+        int itemCount = Short.toUnsignedInt(buffer.getShort());
+        List<OrderItem> items = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            byte[] name = new byte[Short.toUnsignedInt(buffer.getShort())];
+            buffer.get(name);
+            items.add(new OrderItem(itemNames.apply(new String(name, StandardCharsets.UTF_8)), buffer.getInt()));
+        }
+        return new Order(id, items, status, createdAt, updatedAt, version);
+    }
+
+    /**
+     * Status of the encoded order, read without decoding the record
+     */
+    public static OrderStatus peekStatus(ByteBuffer record) {
+        return STATUSES[record.get(record.position() + 16)];
+    }
+
+    /**
+     * Version of the encoded order, read without decoding the record
+     */
+    public static long peekVersion(ByteBuffer record) {
+        return record.getLong(record.position() + 17);
+    }
+
+    private static long toEpochNanos(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * NANOS_PER_SECOND + dateTime.getNano();
+    }
+
+    private static LocalDateTime fromEpochNanos(long epochNanos) {
+        return LocalDateTime.ofEpochSecond(
+                Math.floorDiv(epochNanos, NANOS_PER_SECOND),
+                (int) Math.floorMod(epochNanos, NANOS_PER_SECOND),
+                ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,331 @@
+package com.medical.logistics.infrastructure.persistence.journal;
+
+import com.medical.logistics.domian.order.Order;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Point-in-time snapshots of the order store, kept next to the journal segments
+ * <p>
+ * A snapshot named {@code snapshot-<sequence>.snap} holds every order as of journal
+ * sequence {@code sequence}: replaying journal records from that sequence on top of it
+ * restores the full state. Layout (big-endian):
+ * <pre>
+ * header  magic:int version:int sequence:long
+ * chunk*  recordCount:int byteLength:int crc32c(records):int records[byteLength]
+ *         where record = length:int {@link OrderRecordCodec} payload
+ * footer  chunkOffset:long * chunkCount, chunkCount:int, orderCount:long, crc32c(footer):int, magic:int
+ * </pre>
+ * Chunks are independently checksummed so a load maps and decodes them in parallel.
+ * Snapshots are written to a temporary file, fsynced and atomically renamed, so a crash
+ * mid-write never leaves a partial snapshot under a snapshot name.
+ */
+@Slf4j
+public class OrderSnapshotStore {
+    static final int MAGIC = 0x4F534E50; // "OSNP"
+    static final int VERSION = 2;
+    private static final int HEADER_BYTES = 16;
+    private static final int CHUNK_HEADER_BYTES = 12;
+    private static final int TRAILER_BYTES = 20;
+    private static final int CHUNK_TARGET_BYTES = 4 << 20;
+    private static final String SNAPSHOT_PREFIX = "snapshot-";
+    private static final String SNAPSHOT_SUFFIX = ".snap";
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private final Path directory;
+    private final UnaryOperator<String> itemNames;
+
+    public OrderSnapshotStore(Path directory) {
+        this(directory, UnaryOperator.identity());
+    }
+
+    /**
+     * @param itemNames maps each loaded item name to the instance the order should keep
+     */
+    public OrderSnapshotStore(Path directory, UnaryOperator<String> itemNames) {
+        this.directory = directory;
+        this.itemNames = itemNames;
+    }
+
+    /**
+     * Writes a snapshot covering the journal up to, but excluding, {@code sequence}
+     * and removes the snapshots it supersedes
+     * @param sequence first journal sequence not reflected in {@code orders}
+     * @param orders   the orders to persist; each id must appear at most once
+     * @return the snapshot file
+     */
+    public Path write(long sequence, Stream<Order> orders) throws IOException {
+        Files.createDirectories(directory);
+        Path target = directory.resolve(snapshotName(sequence));
+        Path temp = directory.resolve(snapshotName(sequence) + TEMP_SUFFIX);
+        List<Long> chunkOffsets = new ArrayList<>();
+        long orderCount = 0;
+
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            writeFully(channel, ByteBuffer.allocate(HEADER_BYTES).putInt(MAGIC).putInt(VERSION).putLong(sequence).flip());
+
+            ChunkBuffer chunk = new ChunkBuffer();
+            Iterator<Order> iterator = orders.iterator();
+            while (iterator.hasNext()) {
+                chunk.add(OrderRecordCodec.encode(iterator.next()));
+                orderCount++;
+                if (chunk.size() >= CHUNK_TARGET_BYTES) {
+                    chunkOffsets.add(channel.position());
+                    chunk.writeTo(channel);
+                }
+            }
+            if (chunk.count() > 0) {
+                chunkOffsets.add(channel.position());
+                chunk.writeTo(channel);
+            }
+
+            ByteBuffer footer = ByteBuffer.allocate(chunkOffsets.size() * 8 + TRAILER_BYTES);
+            chunkOffsets.forEach(footer::putLong);
+            footer.putInt(chunkOffsets.size()).putLong(orderCount);
+            footer.putInt(crc(footer.duplicate().flip())).putInt(MAGIC);
+            writeFully(channel, footer.flip());
+            channel.force(true);
+        }
+
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        forceDirectory();
+        deleteSnapshotsBefore(sequence);
+        log.info("Wrote snapshot {} with {} orders", target.getFileName(), orderCount);
+        return target;
+    }
+
+    /**
+     * Finds the most recent snapshot and checks its header and footer
+     * @return the latest snapshot, or empty when there is none
+     * @throws IOException when the latest snapshot is damaged; older snapshots are not
+     *                     a safe fallback because the journal they need may be compacted
+     */
+    public Optional<Snapshot> latest() throws IOException {
+        deleteTemporaryFiles();
+        List<Path> snapshots = listSnapshots();
+        if (snapshots.isEmpty()) {
+            return Optional.empty();
+        }
+        Path latest = snapshots.get(snapshots.size() - 1);
+        try (FileChannel channel = FileChannel.open(latest, StandardOpenOption.READ)) {
+            ByteBuffer header = readAt(channel, 0, Math.min(HEADER_BYTES, (int) channel.size()));
+            if (header.remaining() < HEADER_BYTES || header.getInt() != MAGIC || header.getInt() != VERSION) {
+                throw corrupt(latest, "unknown header");
+            }
+            long sequence = header.getLong();
+            return Optional.of(new Snapshot(latest, sequence, readFooter(channel, latest).orderCount()));
+        }
+    }
+
+    /**
+     * Hands every order in the snapshot to {@code sink}. Chunks are mapped and decoded
+     * in parallel, so the sink must be thread-safe; within a chunk orders arrive in
+     * ascending id order when they were written that way.
+     */
+    public void load(Snapshot snapshot, Consumer<Order> sink) throws IOException {
+        try (FileChannel channel = FileChannel.open(snapshot.file(), StandardOpenOption.READ)) {
+            Footer footer = readFooter(channel, snapshot.file());
+            long loaded = Arrays.stream(footer.chunkOffsets()).parallel()
+                    .map(offset -> loadChunk(channel, snapshot.file(), offset, sink))
+                    .sum();
+            if (loaded != footer.orderCount()) {
+                throw corrupt(snapshot.file(), "expected " + footer.orderCount() + " orders but found " + loaded);
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private Footer readFooter(FileChannel channel, Path file) throws IOException {
+        long size = channel.size();
+        if (size < HEADER_BYTES + TRAILER_BYTES) {
+            throw corrupt(file, "file is truncated");
+        }
+        ByteBuffer trailer = readAt(channel, size - TRAILER_BYTES, TRAILER_BYTES);
+        int chunkCount = trailer.getInt();
+        long orderCount = trailer.getLong();
+        int footerCrc = trailer.getInt();
+        if (trailer.getInt() != MAGIC || chunkCount < 0 || size - TRAILER_BYTES - chunkCount * 8L < HEADER_BYTES) {
+            throw corrupt(file, "unknown footer");
+        }
+        ByteBuffer footer = readAt(channel, size - TRAILER_BYTES - chunkCount * 8L, chunkCount * 8 + 12);
+        if (crc(footer.duplicate()) != footerCrc) {
+            throw corrupt(file, "footer checksum mismatch");
+        }
+        long[] offsets = new long[chunkCount];
+        for (int i = 0; i < chunkCount; i++) {
+            offsets[i] = footer.getLong();
+        }
+        return new Footer(offsets, orderCount);
+    }
+
+    private long loadChunk(FileChannel channel, Path file, long offset, Consumer<Order> sink) {
+        try {
+            ByteBuffer header = readAt(channel, offset, CHUNK_HEADER_BYTES);
+            int recordCount = header.getInt();
+            int byteLength = header.getInt();
+            int expectedCrc = header.getInt();
+            if (byteLength < 0 || offset + CHUNK_HEADER_BYTES + byteLength > channel.size()) {
+                throw corrupt(file, "chunk at offset " + offset + " is truncated");
+            }
+            MappedByteBuffer records = channel.map(FileChannel.MapMode.READ_ONLY, offset + CHUNK_HEADER_BYTES, byteLength);
+            if (crc(records.duplicate()) != expectedCrc) {
+                throw corrupt(file, "chunk at offset " + offset + " checksum mismatch");
+            }
+            for (int i = 0; i < recordCount; i++) {
+                int length = records.getInt();
+                sink.accept(OrderRecordCodec.decode(records.slice(records.position(), length), itemNames));
+                records.position(records.position() + length);
+            }
+            return recordCount;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void deleteSnapshotsBefore(long sequence) throws IOException {
+        for (Path snapshot : listSnapshots()) {
+            if (sequenceOf(snapshot) < sequence) {
+                Files.deleteIfExists(snapshot);
+            }
+        }
+    }
+
+    private void deleteTemporaryFiles() throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                String name = file.getFileName().toString();
+                if (name.startsWith(SNAPSHOT_PREFIX) && name.endsWith(SNAPSHOT_SUFFIX + TEMP_SUFFIX)) {
+                    log.warn("Removing incomplete snapshot {}", file);
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+    }
+
+    private List<Path> listSnapshots() throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(OrderSnapshotStore::isSnapshot)
+                    .sorted((a, b) -> Long.compare(sequenceOf(a), sequenceOf(b)))
+                    .toList();
+        }
+    }
+
+    private void forceDirectory() {
+        try (FileChannel dir = FileChannel.open(directory, StandardOpenOption.READ)) {
+            dir.force(true);
+        } catch (IOException e) {
+            log.debug("Directory fsync not supported for {}", directory);
+        }
+    }
+
+    private static ByteBuffer readAt(FileChannel channel, long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("Unexpected end of snapshot at offset " + (position + buffer.position()));
+            }
+        }
+        return buffer.flip();
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private static int crc(ByteBuffer buffer) {
+        CRC32C checksum = new CRC32C();
+        checksum.update(buffer);
+        return (int) checksum.getValue();
+    }
+
+    private static IOException corrupt(Path file, String reason) {
+        return new IOException("Corrupt snapshot " + file + ": " + reason);
+    }
+
+    static String snapshotName(long sequence) {
+        return String.format("%s%020d%s", SNAPSHOT_PREFIX, sequence, SNAPSHOT_SUFFIX);
+    }
+
+    static boolean isSnapshot(Path path) {
+        String name = path.getFileName().toString();
+        return name.startsWith(SNAPSHOT_PREFIX) && name.endsWith(SNAPSHOT_SUFFIX);
+    }
+
+    static long sequenceOf(Path snapshot) {
+        String name = snapshot.getFileName().toString();
+        return Long.parseLong(name.substring(SNAPSHOT_PREFIX.length(), name.length() - SNAPSHOT_SUFFIX.length()));
+    }
+
+    /**
+     * A loaded snapshot
+     * @param file       snapshot file
+     * @param sequence   first journal sequence to replay on top of it
+     * @param orderCount number of orders it held
+     */
+    public record Snapshot(Path file, long sequence, long orderCount) {
+    }
+
+    private record Footer(long[] chunkOffsets, long orderCount) {
+    }
+
+    // accumulates one chunk of length-prefixed records before it is checksummed and written
+    private static final class ChunkBuffer {
+        private ByteBuffer records = ByteBuffer.allocate(CHUNK_TARGET_BYTES + 1024);
+        private int count;
+
+        void add(byte[] payload) {
+            if (records.remaining() < 4 + payload.length) {
+                ByteBuffer larger = ByteBuffer.allocate(Math.max(records.capacity() * 2, records.position() + 4 + payload.length));
+                records = larger.put(records.flip());
+            }
+            records.putInt(payload.length).put(payload);
+            count++;
+        }
+
+        int size() {
+            return records.position();
+        }
+
+        int count() {
+            return count;
+        }
+
+        void writeTo(FileChannel channel) throws IOException {
+            ByteBuffer body = records.flip();
+            ByteBuffer header = ByteBuffer.allocate(CHUNK_HEADER_BYTES)
+                    .putInt(count).putInt(body.remaining()).putInt(crc(body.duplicate()));
+            writeFully(channel, header.flip());
+            writeFully(channel, body);
+            records.clear();
+            count = 0;
+        }
+    }
+}
@@ -0,0 +1,599 @@
+package com.medical.logistics.infrastructure.persistence.journal;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Append-only journal split into size-bounded segment files
+ * <p>
+ * Each record is framed as {@code [body length:int][crc32c(body):int][sequence:long][payload]}.
+ * Segment files are named after the sequence of their first record, so they replay in
+ * name order. On open, every segment is replayed and a torn or corrupt record at the tail
+ * of the last segment (a crash mid-write) is truncated away; damage anywhere else fails
+ * the open rather than silently dropping acknowledged writes.
+ * <p>
+ * In {@link DurabilityMode#GROUP} and {@link DurabilityMode#ASYNC} modes a single writer
+ * thread owns the file: it drains every append queued while the previous fsync was in
+ * flight and commits them with one write and one fsync.
+ * <p>
+ * An optional commit listener sees every record, in sequence order, once it is synced to
+ * disk, which lets another log follow this one. Synced records are handed to a follower
+ * thread of their own, so a slow listener never holds the file lock or the writer.
+ */
+@Slf4j
+public class SegmentedJournal implements AutoCloseable {
+    public static final int HEADER_BYTES = 8;
+    public static final int SEQUENCE_BYTES = 8;
+    private static final String SEGMENT_PREFIX = "journal-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final int WRITE_BUFFER_BYTES = 1 << 20;
+    private static final int MAX_BATCH = 4096;
+
+    private final Path directory;
+    private final long segmentSize;
+    private final DurabilityMode durability;
+    private final long flushIntervalNanos;
+    private final BlockingQueue<PendingAppend> queue;
+    private final ByteBuffer writeBuffer = ByteBuffer.allocateDirect(WRITE_BUFFER_BYTES);
+    private final CRC32C crc = new CRC32C();
+    // a lock rather than a monitor: a virtual thread blocked in fsync under synchronized pins its carrier
+    private final ReentrantLock fileLock = new ReentrantLock();
+    private final Thread writer;
+    private final JournalRecordHandler commitListener;
+    // written but not yet synced, so not yet shown to the commit listener; guarded by fileLock
+    private final List<CommittedRecords> unsynced = new ArrayList<>();
+    private final BlockingQueue<CommittedRecords> synced = new LinkedBlockingQueue<>();
+    private final Thread follower;
+
+    private FileChannel channel;
+    private long segmentBytes;
+    private long nextSequence;
+    private long lastForceNanos = System.nanoTime();
+    private boolean dirty;
+    private volatile boolean closed;
+    private volatile IOException failure;
+
+    private SegmentedJournal(JournalSettings settings, JournalRecordHandler commitListener) {
+        this.directory = settings.directory();
+        this.commitListener = commitListener;
+        this.segmentSize = settings.segmentSize().toBytes();
+        this.durability = settings.durability();
+        this.flushIntervalNanos = settings.flushInterval().toNanos();
+        this.queue = new LinkedBlockingQueue<>(settings.queueCapacity());
+        this.writer = durability == DurabilityMode.PER_WRITE
+                ? null
+                : Thread.ofPlatform().name("journal-writer").daemon().unstarted(this::runWriter);
+        this.follower = commitListener == null
+                ? null
+                : Thread.ofPlatform().name("journal-follower").daemon().unstarted(this::runFollower);
+    }
+
+    /**
+     * Opens the journal, replaying every record to the handler before accepting appends
+     */
+    public static SegmentedJournal open(JournalSettings settings, JournalRecordHandler handler) throws IOException {
+        return open(settings, 0, handler);
+    }
+
+    /**
+     * Opens the journal, replaying only records with a sequence of at least
+     * {@code fromSequence}, for example the tail after a snapshot
+     */
+    public static SegmentedJournal open(JournalSettings settings, long fromSequence, JournalRecordHandler handler)
+            throws IOException {
+        return open(settings, fromSequence, handler, null);
+    }
+
+    /**
+     * Opens the journal like {@link #open(JournalSettings, long, JournalRecordHandler)}, then
+     * hands every record appended from now on to {@code commitListener} once it is synced.
+     * The listener runs on the journal's follower thread, in sequence order; records wait in
+     * memory until it takes them, so appends never wait for the listener.
+     */
+    public static SegmentedJournal open(JournalSettings settings, long fromSequence, JournalRecordHandler handler,
+                                        JournalRecordHandler commitListener) throws IOException {
+        SegmentedJournal journal = new SegmentedJournal(settings, commitListener);
+        Files.createDirectories(journal.directory);
+        journal.recover(fromSequence, handler);
+        if (journal.writer != null) {
+            journal.writer.start();
+        }
+        if (journal.follower != null) {
+            journal.follower.start();
+        }
+        return journal;
+    }
+
+    /**
+     * Appends one record, returning once it is durable according to the durability mode
+     */
+    public void append(byte[] payload) {
+        ensureWritable();
+        if (durability == DurabilityMode.PER_WRITE) {
+            appendNow(payload);
+            return;
+        }
+        PendingAppend pending = new PendingAppend(payload, new CompletableFuture<>());
+        enqueue(pending);
+        if (durability == DurabilityMode.GROUP) {
+            await(pending.done());
+        }
+    }
+
+    /**
+     * Queues one record without waiting for it to be written; in
+     * {@link DurabilityMode#PER_WRITE} mode it is written and synced before returning.
+     * The commit listener tells when it is durable.
+     */
+    public void appendAsync(byte[] payload) {
+        ensureWritable();
+        if (durability == DurabilityMode.PER_WRITE) {
+            appendNow(payload);
+            return;
+        }
+        enqueue(new PendingAppend(payload, new CompletableFuture<>()));
+    }
+
+    /**
+     * Appends several records, returning once all are durable according to the durability
+     * mode. In {@link DurabilityMode#PER_WRITE} mode they share a single fsync.
+     */
+    public void appendAll(List<byte[]> payloads) {
+        ensureWritable();
+        if (payloads.isEmpty()) {
+            return;
+        }
+        if (durability == DurabilityMode.PER_WRITE) {
+            appendAllNow(payloads);
+            return;
+        }
+        CompletableFuture<?>[] done = new CompletableFuture<?>[payloads.size()];
+        for (int i = 0; i < payloads.size(); i++) {
+            PendingAppend pending = new PendingAppend(payloads.get(i), new CompletableFuture<>());
+            enqueue(pending);
+            done[i] = pending.done();
+        }
+        if (durability == DurabilityMode.GROUP) {
+            await(CompletableFuture.allOf(done));
+        }
+    }
+
+    /**
+     * Sequence the next appended record will receive
+     */
+    public long nextSequence() {
+        fileLock.lock();
+        try {
+            return nextSequence;
+        } finally {
+            fileLock.unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (writer != null) {
+            try {
+                writer.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        fileLock.lock();
+        try {
+            if (channel != null && failure != null) {
+                // nothing more can be made durable after a write failure
+                channel.close();
+            } else if (channel != null) {
+                flushBuffer();
+                force();
+                channel.close();
+            }
+        } finally {
+            fileLock.unlock();
+            stopFollower();
+        }
+    }
+
+    /**
+     * Closes the active segment and starts a new one, so every record appended so far
+     * lives in a sealed segment
+     * @return the sequence of the first record in the new segment
+     */
+    public long rollSegment() throws IOException {
+        fileLock.lock();
+        try {
+            ensureWritable();
+            flushBuffer();
+            roll();
+            return nextSequence;
+        } finally {
+            fileLock.unlock();
+        }
+    }
+
+    /**
+     * Deletes sealed segments that only hold records below {@code sequence}
+     * @return number of deleted segments
+     */
+    public int deleteSegmentsBefore(long sequence) throws IOException {
+        List<Path> segments = listSegments(directory);
+        int deleted = 0;
+        // a segment is fully covered when the next segment starts at or below the sequence
+        for (int i = 0; i < segments.size() - 1; i++) {
+            if (baseSequence(segments.get(i + 1)) > sequence) {
+                break;
+            }
+            Files.delete(segments.get(i));
+            deleted++;
+        }
+        if (deleted > 0) {
+            forceDirectory();
+        }
+        return deleted;
+    }
+
+    private void recover(long fromSequence, JournalRecordHandler handler) throws IOException {
+        List<Path> segments = listSegments(directory);
+        long lastSequence = -1;
+        for (int i = 0; i < segments.size(); i++) {
+            Path segment = segments.get(i);
+            boolean lastSegment = i == segments.size() - 1;
+            if (!lastSegment && baseSequence(segments.get(i + 1)) <= fromSequence) {
+                continue;
+            }
+            lastSequence = Math.max(lastSequence, replaySegment(segment, lastSegment, (sequence, payload) -> {
+                if (sequence >= fromSequence) {
+                    handler.handle(sequence, payload);
+                }
+            }));
+        }
+        nextSequence = Math.max(lastSequence + 1, fromSequence);
+
+        if (segments.isEmpty()) {
+            openSegment(nextSequence);
+        } else {
+            Path last = segments.get(segments.size() - 1);
+            nextSequence = Math.max(nextSequence, baseSequence(last));
+            channel = FileChannel.open(last, StandardOpenOption.WRITE);
+            segmentBytes = channel.size();
+            channel.position(segmentBytes);
+        }
+        log.info("Journal {} recovered, next sequence {}", directory, nextSequence);
+    }
+
+    private long replaySegment(Path segment, boolean lastSegment, JournalRecordHandler handler) throws IOException {
+        long[] lastSequence = {-1};
+        long validBytes = readSegment(segment, (sequence, payload) -> {
+            lastSequence[0] = sequence;
+            handler.handle(sequence, payload);
+        });
+        long size = Files.size(segment);
+        if (validBytes < size) {
+            if (!lastSegment) {
+                throw new IOException("Corrupt record at offset " + validBytes + " in journal segment " + segment);
+            }
+            log.warn("Truncating torn tail of journal segment {} from {} to {} bytes", segment, size, validBytes);
+            try (FileChannel truncateChannel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+                truncateChannel.truncate(validBytes);
+                truncateChannel.force(true);
+            }
+        }
+        return lastSequence[0];
+    }
+
+    private void appendNow(byte[] payload) {
+        appendAllNow(List.of(payload));
+    }
+
+    private void appendAllNow(List<byte[]> payloads) {
+        fileLock.lock();
+        try {
+            long first = nextSequence;
+            for (byte[] payload : payloads) {
+                writeRecord(payload);
+            }
+            flushBuffer();
+            holdForSync(first, payloads);
+            force();
+        } catch (IOException e) {
+            failure = e;
+            throw new UncheckedIOException("Journal append failed", e);
+        } finally {
+            fileLock.unlock();
+        }
+    }
+
+    private void enqueue(PendingAppend pending) {
+        try {
+            queue.put(pending);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while queueing journal append", e);
+        }
+    }
+
+    private void await(CompletableFuture<Void> done) {
+        try {
+            done.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof IOException io) {
+                throw new UncheckedIOException("Journal append failed", io);
+            }
+            throw e;
+        }
+    }
+
+    // The writer is stopped by the closed flag rather than an interrupt: interrupting a
+    // thread inside FileChannel I/O closes the channel.
+    private void runWriter() {
+        List<PendingAppend> batch = new ArrayList<>(MAX_BATCH);
+        long pollNanos = Math.max(Math.min(flushIntervalNanos, 100_000_000L), 1_000_000L);
+        while (true) {
+            PendingAppend first;
+            try {
+                first = queue.poll(pollNanos, TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                first = queue.poll();
+            }
+            if (first == null) {
+                if (closed) {
+                    return;
+                }
+                forceIfDue();
+                continue;
+            }
+            batch.add(first);
+            queue.drainTo(batch, MAX_BATCH - 1);
+            commit(batch);
+            batch.clear();
+        }
+    }
+
+    private void commit(List<PendingAppend> batch) {
+        fileLock.lock();
+        try {
+            long first = nextSequence;
+            for (PendingAppend pending : batch) {
+                writeRecord(pending.payload());
+            }
+            flushBuffer();
+            dirty = true;
+            holdForSync(first, batch.stream().map(PendingAppend::payload).toList());
+            if (durability == DurabilityMode.GROUP) {
+                force();
+            } else {
+                forceIfDue();
+            }
+        } catch (IOException e) {
+            failure = e;
+            log.error("Journal write failed, rejecting further appends", e);
+            batch.forEach(pending -> pending.done().completeExceptionally(e));
+            return;
+        } finally {
+            fileLock.unlock();
+        }
+        batch.forEach(pending -> pending.done().complete(null));
+    }
+
+    private void holdForSync(long firstSequence, List<byte[]> payloads) {
+        if (commitListener != null) {
+            unsynced.add(new CommittedRecords(firstSequence, payloads));
+        }
+    }
+
+    private void stopFollower() {
+        if (follower == null) {
+            return;
+        }
+        synced.add(CommittedRecords.END);
+        try {
+            follower.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // Stopped by the END marker close() queues after the last sync, so every synced record
+    // is handed over first.
+    private void runFollower() {
+        while (true) {
+            CommittedRecords records;
+            try {
+                records = synced.take();
+            } catch (InterruptedException e) {
+                continue;
+            }
+            if (records == CommittedRecords.END) {
+                return;
+            }
+            for (int i = 0; i < records.payloads().size(); i++) {
+                long sequence = records.firstSequence() + i;
+                try {
+                    commitListener.handle(sequence, ByteBuffer.wrap(records.payloads().get(i)).asReadOnlyBuffer());
+                } catch (RuntimeException e) {
+                    log.error("Journal commit listener failed on sequence {}", sequence, e);
+                }
+            }
+        }
+    }
+
+    private void forceIfDue() {
+        if (!dirty || System.nanoTime() - lastForceNanos < flushIntervalNanos) {
+            return;
+        }
+        fileLock.lock();
+        try {
+            force();
+        } catch (IOException e) {
+            failure = e;
+            log.error("Journal fsync failed, rejecting further appends", e);
+        } finally {
+            fileLock.unlock();
+        }
+    }
+
+    private void force() throws IOException {
+        channel.force(false);
+        dirty = false;
+        lastForceNanos = System.nanoTime();
+        synced.addAll(unsynced);
+        unsynced.clear();
+    }
+
+    private void writeRecord(byte[] payload) throws IOException {
+        int bodyLength = SEQUENCE_BYTES + payload.length;
+        int recordLength = HEADER_BYTES + bodyLength;
+        if (segmentBytes > 0 && segmentBytes + recordLength > segmentSize) {
+            flushBuffer();
+            roll();
+        }
+        if (writeBuffer.remaining() < recordLength) {
+            flushBuffer();
+        }
+        ByteBuffer target = recordLength <= writeBuffer.capacity() ? writeBuffer : ByteBuffer.allocate(recordLength);
+
+        int start = target.position();
+        target.putInt(bodyLength).putInt(0).putLong(nextSequence++).put(payload);
+        crc.reset();
+        crc.update(target.duplicate().position(start + HEADER_BYTES).limit(start + recordLength));
+        target.putInt(start + 4, (int) crc.getValue());
+        segmentBytes += recordLength;
+
+        if (target != writeBuffer) {
+            target.flip();
+            writeFully(target);
+        }
+    }
+
+    private void flushBuffer() throws IOException {
+        writeBuffer.flip();
+        writeFully(writeBuffer);
+        writeBuffer.clear();
+    }
+
+    private void writeFully(ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private void roll() throws IOException {
+        force();
+        channel.close();
+        openSegment(nextSequence);
+    }
+
+    private void openSegment(long baseSequence) throws IOException {
+        Path segment = directory.resolve(segmentName(baseSequence));
+        channel = FileChannel.open(segment, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        segmentBytes = channel.size();
+        channel.position(segmentBytes);
+        forceDirectory();
+    }
+
+    // makes the new segment's directory entry durable
+    private void forceDirectory() {
+        try (FileChannel dir = FileChannel.open(directory, StandardOpenOption.READ)) {
+            dir.force(true);
+        } catch (IOException e) {
+            log.debug("Directory fsync not supported for {}", directory);
+        }
+    }
+
+    private void ensureWritable() {
+        if (closed) {
+            throw new IllegalStateException("Journal is closed");
+        }
+        if (failure != null) {
+            throw new UncheckedIOException("Journal is unavailable after a write failure", failure);
+        }
+    }
+
+    /**
+     * Hands the intact records of {@code segment} to {@code handler} without repairing it,
+     * stopping at the first torn or corrupt one
+     * @return bytes up to that record
+     */
+    public static long readSegment(Path segment, JournalRecordHandler handler) throws IOException {
+        try (FileChannel readChannel = FileChannel.open(segment, StandardOpenOption.READ)) {
+            long size = readChannel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Journal segment too large to replay: " + segment);
+            }
+            MappedByteBuffer buffer = readChannel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            CRC32C checksum = new CRC32C();
+            int position = 0;
+            while (position + HEADER_BYTES <= size) {
+                int bodyLength = buffer.getInt(position);
+                if (bodyLength < SEQUENCE_BYTES || (long) position + HEADER_BYTES + bodyLength > size) {
+                    break;
+                }
+                int expectedCrc = buffer.getInt(position + 4);
+                ByteBuffer body = buffer.slice(position + HEADER_BYTES, bodyLength);
+                checksum.reset();
+                checksum.update(body.duplicate());
+                if ((int) checksum.getValue() != expectedCrc) {
+                    break;
+                }
+                handler.handle(body.getLong(0), body.slice(SEQUENCE_BYTES, bodyLength - SEQUENCE_BYTES).asReadOnlyBuffer());
+                position += HEADER_BYTES + bodyLength;
+            }
+            return position;
+        }
+    }
+
+    /**
+     * Segment files in {@code directory}, oldest first
+     */
+    public static List<Path> listSegments(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(SegmentedJournal::isSegment)
+                    .sorted((a, b) -> Long.compare(baseSequence(a), baseSequence(b)))
+                    .toList();
+        }
+    }
+
+    public static String segmentName(long baseSequence) {
+        return String.format("%s%020d%s", SEGMENT_PREFIX, baseSequence, SEGMENT_SUFFIX);
+    }
+
+    public static boolean isSegment(Path path) {
+        String name = path.getFileName().toString();
+        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+    }
+
+    public static long baseSequence(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    private record PendingAppend(byte[] payload, CompletableFuture<Void> done) {
+    }
+
+    private record CommittedRecords(long firstSequence, List<byte[]> payloads) {
+        static final CommittedRecords END = new CommittedRecords(-1, List.of());
+    }
+}
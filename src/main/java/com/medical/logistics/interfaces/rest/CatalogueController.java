@@ -0,0 +1,69 @@
+package com.medical.logistics.interfaces.rest;
+
+import com.medical.logistics.domian.catalogue.CatalogueItem;
+import com.medical.logistics.domian.catalogue.SupplyCatalogue;
+import com.medical.logistics.interfaces.rest.dto.CatalogueItemDto;
+import com.medical.logistics.interfaces.rest.dto.CatalogueSummaryResponse;
+import com.medical.logistics.interfaces.rest.dto.ReplaceCatalogueRequest;
+import jakarta.validation.Valid;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * REST Controller for the supply catalogue: item name autocomplete and catalogue replacement
+ * <p>
+ * Searches are answered from an in-memory snapshot without blocking, on the servlet and the
+ * reactive stack alike.
+ */
+@RestController
+@RequestMapping("/api/catalogue")
+public class CatalogueController {
+    static final int MAX_SUGGESTIONS = 50;
+    private static final String DEFAULT_SUGGESTIONS = "10";
+
+    private final SupplyCatalogue catalogue;
+
+    public CatalogueController(SupplyCatalogue catalogue) {
+        this.catalogue = catalogue;
+    }
+
+    /**
+     * Suggests items whose name, a word of their name, or SKU starts with {@code prefix},
+     * ignoring case
+     */
+    @GetMapping("/items")
+    public List<CatalogueItemDto> searchItems(
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = DEFAULT_SUGGESTIONS) int limit) {
+        if (prefix.isBlank()) {
+            throw new IllegalArgumentException("Prefix must not be blank");
+        }
+        if (limit < 1 || limit > MAX_SUGGESTIONS) {
+            throw new IllegalArgumentException("Suggestion limit must be between 1 and " + MAX_SUGGESTIONS);
+        }
+        return catalogue.search(prefix, limit).stream()
+                .map(item -> new CatalogueItemDto(item.sku(), item.name()))
+                .toList();
+    }
+
+    /**
+     * Replaces the whole catalogue. Searches keep being served from the previous catalogue
+     * until the new one is ready.
+     */
+    @PutMapping("/items")
+    public CatalogueSummaryResponse replaceItems(@Valid @RequestBody ReplaceCatalogueRequest request) {
+        catalogue.replace(request.getItems().stream()
+                .map(item -> new CatalogueItem(item.getSku(), item.getName()))
+                .toList());
+        return CatalogueSummaryResponse.builder().items(catalogue.size()).build();
+    }
+
+    /**
+     * Reloads the catalogue from {@code orders.catalogue.file}
+     */
+    @PostMapping("/reload")
+    public CatalogueSummaryResponse reload() {
+        return CatalogueSummaryResponse.builder().items(catalogue.reload()).build();
+    }
+}
@@ -0,0 +1,112 @@
+package com.medical.logistics.interfaces.rest;
+
+import com.medical.logistics.infrastructure.changelog.ChangeLogSlice;
+import com.medical.logistics.infrastructure.changelog.OrderChangeLog;
+import com.medical.logistics.interfaces.rest.dto.CommitOffsetRequest;
+import com.medical.logistics.interfaces.rest.dto.ConsumerOffsetResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+/**
+ * Read access to the order change log for downstream systems such as warehouses and billing
+ * <p>
+ * {@code GET /api/changelog} returns raw change log frames (see
+ * {@link com.medical.logistics.infrastructure.changelog.ChangeLogEntry}) with the offset to
+ * continue from in {@code X-Next-Offset}. On Tomcat the frames go from the segment file to the
+ * socket with sendfile; elsewhere they are streamed with {@code transferTo}.
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(name = "orders.changelog.enabled", havingValue = "true")
+@RequestMapping("/api/changelog")
+public class ChangeLogController {
+    static final String NEXT_OFFSET_HEADER = "X-Next-Offset";
+    static final String END_OFFSET_HEADER = "X-End-Offset";
+    private static final String DEFAULT_READ_SIZE = "1048576";
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final OrderChangeLog changeLog;
+
+    public ChangeLogController(OrderChangeLog changeLog) {
+        this.changeLog = changeLog;
+    }
+
+    /**
+     * Reads changes from {@code offset}, or from the consumer's committed offset when only
+     * {@code consumer} is given. An empty body means the reader is caught up.
+     */
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> read(
+            @RequestParam(required = false) Long offset,
+            @RequestParam(required = false) String consumer,
+            @RequestParam(defaultValue = DEFAULT_READ_SIZE) long maxBytes,
+            HttpServletRequest request) throws IOException {
+        long from = startOffset(offset, consumer);
+        Optional<ChangeLogSlice> slice = changeLog.read(from, maxBytes);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .header(NEXT_OFFSET_HEADER, Long.toString(slice.map(ChangeLogSlice::nextOffset).orElse(from)))
+                .header(END_OFFSET_HEADER, Long.toString(changeLog.endOffset()));
+        if (slice.isEmpty()) {
+            return response.contentLength(0).build();
+        }
+        ChangeLogSlice frames = slice.get();
+        response.contentLength(frames.length());
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, frames.file().toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, frames.position());
+            request.setAttribute(SENDFILE_END, frames.position() + frames.length());
+            return response.build();
+        }
+        return response.body(out -> changeLog.transferTo(frames, Channels.newChannel(out)));
+    }
+
+    @GetMapping("/consumers/{consumer}")
+    public ConsumerOffsetResponse getConsumerOffset(@PathVariable String consumer) throws IOException {
+        return toResponse(consumer, changeLog.committedOffset(consumer));
+    }
+
+    @PutMapping("/consumers/{consumer}")
+    public ConsumerOffsetResponse commitConsumerOffset(@PathVariable String consumer,
+                                                       @Valid @RequestBody CommitOffsetRequest request)
+            throws IOException {
+        changeLog.commitOffset(consumer, request.getOffset());
+        return toResponse(consumer, OptionalLong.of(request.getOffset()));
+    }
+
+    private long startOffset(Long offset, String consumer) throws IOException {
+        if (offset != null) {
+            return offset;
+        }
+        if (consumer == null) {
+            throw new IllegalArgumentException("Either offset or consumer is required");
+        }
+        return changeLog.committedOffset(consumer).orElse(changeLog.earliestOffset());
+    }
+
+    private ConsumerOffsetResponse toResponse(String consumer, OptionalLong committed) {
+        long end = changeLog.endOffset();
+        long earliest = changeLog.earliestOffset();
+        return ConsumerOffsetResponse.builder()
+                .consumer(consumer)
+                .committedOffset(committed.isPresent() ? committed.getAsLong() : null)
+                .earliestOffset(earliest)
+                .endOffset(end)
+                .lag(end - (committed.isPresent() ? Math.max(committed.getAsLong(), earliest) : earliest))
+                .build();
+    }
+}
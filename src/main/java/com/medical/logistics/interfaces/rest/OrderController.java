@@ -2,76 +2,324 @@ package com.medical.logistics.interfaces.rest;
 
 
 import com.medical.logistics.application.order.OrderApplicationService;
+import com.medical.logistics.application.order.OrderItemValidator;
 import com.medical.logistics.application.order.commands.ApproveOrderCommand;
 import com.medical.logistics.application.order.commands.CancelOrderCommand;
 import com.medical.logistics.application.order.commands.PlaceOrderCommand;
+import com.medical.logistics.application.order.queries.OrderView;
 import com.medical.logistics.domian.order.OrderId;
+import com.medical.logistics.domian.order.OrderStatus;
+import com.medical.logistics.infrastructure.cache.OrderResponseCache;
+import com.medical.logistics.infrastructure.idempotency.IdempotencyCache;
+import com.medical.logistics.interfaces.rest.dto.BatchCreateOrderRequest;
+import com.medical.logistics.interfaces.rest.dto.BatchOrderResponse;
+import com.medical.logistics.interfaces.rest.dto.BatchOrderResult;
+import com.medical.logistics.interfaces.rest.dto.BulkOrderTransitionRequest;
 import com.medical.logistics.interfaces.rest.dto.CreateOrderRequest;
+import com.medical.logistics.interfaces.rest.dto.OrderPageResponse;
 import com.medical.logistics.interfaces.rest.dto.OrderResponse;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
 /**
  * REST Controller for Order operations
  * <p>
- * In I/O-heavy scenarios, could return DeferredResult or use WebFlux for non-blocking responses.
+ * Every write answers with an {@code X-Consistency-Token} header. Reads are served from the
+ * read model as it stands; a read sent with that header first waits, briefly, until the
+ * model reflects the writes the token was issued after.
+ * <p>
+ * In I/O-heavy scenarios, could return DeferredResult or use WebFlux for non-blocking responses;
+ * {@link ReactiveOrderController} serves the same API when the application runs reactive.
  */
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("/api/orders")
 public class OrderController {
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+    static final String CONSISTENCY_TOKEN_HEADER = "X-Consistency-Token";
+    private static final String DEFAULT_PAGE_SIZE = "50";
+    private static final String DEFAULT_RECENT_SIZE = "20";
+    private static final int MAX_IDEMPOTENCY_KEY_LENGTH = 255;
 
     private final OrderApplicationService orderService;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter ndjsonWriter;
+    private final Validator validator;
+    private final IdempotencyCache idempotencyCache;
+    private final OrderResponseCache responseCache;
+    private final OrderItemValidator itemValidator;
+    private final OrderMapper orderMapper;
 
-    public OrderController(OrderApplicationService orderService) {
+    public OrderController(OrderApplicationService orderService, ObjectMapper objectMapper, Validator validator,
+                           IdempotencyCache idempotencyCache, OrderResponseCache responseCache,
+                           OrderItemValidator itemValidator, OrderMapper orderMapper) {
         this.orderService = orderService;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.itemValidator = itemValidator;
+        this.orderMapper = orderMapper;
+        this.idempotencyCache = idempotencyCache;
+        this.responseCache = responseCache;
+        // flushing is left to the servlet buffer instead of one socket write per order
+        this.ndjsonWriter = objectMapper.writerFor(OrderResponse.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
     }
 
+    /**
+     * Places an order. With an {@code Idempotency-Key} header, a retry of the same request
+     * returns the order created the first time, flagged by {@code Idempotent-Replayed: true},
+     * instead of placing a duplicate.
+     */
     @PostMapping
-    public ResponseEntity<OrderResponse> placeOrder(@Valid @RequestBody CreateOrderRequest request) {
-        PlaceOrderCommand command = new PlaceOrderCommand(
-                request.getItems().stream()
-                        .map(item -> new PlaceOrderCommand.OrderItemCommand(
-                                item.getName(), item.getQuantity()
-                        ))
-                        .collect(Collectors.toList())
-        );
+    public ResponseEntity<OrderResponse> placeOrder(
+            @RequestHeader(name = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            @Valid @RequestBody CreateOrderRequest request) {
+        if (idempotencyKey == null) {
+            OrderResponse created = orderService.placeOrder(toCommand(request));
+            return written(HttpStatus.CREATED).body(created);
+        }
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_IDEMPOTENCY_KEY_LENGTH) {
+            throw new IllegalArgumentException(
+                    IDEMPOTENCY_KEY_HEADER + " must be 1 to " + MAX_IDEMPOTENCY_KEY_LENGTH + " characters");
+        }
+        IdempotencyCache.Execution<OrderResponse> execution = idempotencyCache.execute(
+                idempotencyKey, canonical(request), () -> orderService.placeOrder(toCommand(request)));
+
+        ResponseEntity.BodyBuilder response = written(HttpStatus.CREATED);
+        if (execution.replayed()) {
+            response.header(IDEMPOTENT_REPLAYED_HEADER, "true");
+        }
+        return response.body(execution.value());
+    }
 
-        OrderResponse orderResponse = orderService.placeOrder(command);
+    // the DTO serializes its fields in declaration order, so equal requests give equal bytes
+    private byte[] canonical(CreateOrderRequest request) {
+        try {
+            return objectMapper.writeValueAsBytes(request);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to serialize order request", e);
+        }
+    }
+
+    /**
+     * Places many orders in one round trip. Each order is validated individually in a
+     * single pass, including its items against the supply catalogue; the valid ones are
+     * persisted together and the response reports the outcome of every entry by its
+     * position in the request.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<BatchOrderResponse> placeOrders(@Valid @RequestBody BatchCreateOrderRequest request) {
+        List<CreateOrderRequest> orders = request.getOrders();
+        BatchOrderResult[] results = new BatchOrderResult[orders.size()];
+        List<PlaceOrderCommand> commands = new ArrayList<>(orders.size());
+        List<Integer> commandIndexes = new ArrayList<>(orders.size());
+        for (int i = 0; i < orders.size(); i++) {
+            String error = validationError(orders.get(i));
+            PlaceOrderCommand command = error == null ? toCommand(orders.get(i)) : null;
+            if (command != null) {
+                error = itemValidator.unknownItemError(command);
+            }
+            if (error == null) {
+                commands.add(command);
+                commandIndexes.add(i);
+            } else {
+                results[i] = BatchOrderResult.builder().index(i).outcome(BatchOrderResult.REJECTED).error(error).build();
+            }
+        }
+
+        List<OrderResponse> created = commands.isEmpty() ? List.of() : orderService.placeOrders(commands);
+        for (int i = 0; i < created.size(); i++) {
+            int index = commandIndexes.get(i);
+            results[index] = BatchOrderResult.builder()
+                    .index(index).outcome(BatchOrderResult.CREATED).order(created.get(i)).build();
+        }
 
-        return ResponseEntity
-                .status(HttpStatus.CREATED)
-                .body(orderResponse);
+        return written(HttpStatus.OK).body(BatchOrderResponse.builder()
+                .succeeded(created.size())
+                .failed(orders.size() - created.size())
+                .results(Arrays.asList(results))
+                .build());
     }
 
     @PutMapping("/{orderId}/approve")
     public ResponseEntity<OrderResponse> approveOrder(@PathVariable UUID orderId) {
-        orderService.approveOrder(new ApproveOrderCommand(OrderId.of(orderId)));
-        OrderResponse orderResponse = orderService.getOrder(OrderId.of(orderId));
-        return ResponseEntity.ok(orderResponse);
+        OrderResponse orderResponse = orderService.approveOrder(new ApproveOrderCommand(OrderId.of(orderId)));
+        return written(HttpStatus.OK).body(orderResponse);
     }
 
     @PutMapping("/{orderId}/cancel")
     public ResponseEntity<OrderResponse> cancelOrder(@PathVariable UUID orderId) {
-        orderService.cancelOrder(new CancelOrderCommand(OrderId.of(orderId)));
-        OrderResponse orderResponse = orderService.getOrder(OrderId.of(orderId));
-        return ResponseEntity.ok(orderResponse);
+        OrderResponse orderResponse = orderService.cancelOrder(new CancelOrderCommand(OrderId.of(orderId)));
+        return written(HttpStatus.OK).body(orderResponse);
+    }
+
+    /**
+     * Approves many orders in one call. Each order is transitioned atomically on its own
+     * and the response reports the outcome for every id in request order.
+     */
+    @PostMapping("/batch/approve")
+    public ResponseEntity<BatchOrderResponse> approveOrders(@Valid @RequestBody BulkOrderTransitionRequest request) {
+        List<ApproveOrderCommand> commands = request.getOrderIds().stream()
+                .map(id -> new ApproveOrderCommand(OrderId.of(id)))
+                .toList();
+        BatchOrderResponse approved = orderService.approveOrders(commands);
+        return written(HttpStatus.OK).body(approved);
     }
 
+    /**
+     * Cancels many orders in one call, with the same per-order semantics as the bulk approve
+     */
+    @PostMapping("/batch/cancel")
+    public ResponseEntity<BatchOrderResponse> cancelOrders(@Valid @RequestBody BulkOrderTransitionRequest request) {
+        List<CancelOrderCommand> commands = request.getOrderIds().stream()
+                .map(id -> new CancelOrderCommand(OrderId.of(id)))
+                .toList();
+        BatchOrderResponse cancelled = orderService.cancelOrders(commands);
+        return written(HttpStatus.OK).body(cancelled);
+    }
+
+    /**
+     * Lists orders one keyset page at a time, optionally filtered by status. The body stays
+     * a plain JSON array; the continuation token for the next page is returned in the
+     * {@code X-Next-Cursor} header.
+     */
     @GetMapping
-    public ResponseEntity<List<OrderResponse>> getAllOrders() {
-        List<OrderResponse> orderResponses = orderService.getAllOrders();
-        return ResponseEntity.ok(orderResponses);
+    public ResponseEntity<List<OrderResponse>> getAllOrders(
+            @RequestHeader(name = CONSISTENCY_TOKEN_HEADER, required = false) Long consistencyToken,
+            @RequestParam(required = false) OrderStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int limit) {
+        awaitChanges(consistencyToken);
+        OrderPageResponse page = status == null
+                ? orderService.getOrders(cursor, limit)
+                : orderService.getOrdersByStatus(status, cursor, limit);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getItems());
+    }
+
+    /**
+     * Lists the most recently changed orders, newest change first
+     */
+    @GetMapping("/recent")
+    public ResponseEntity<List<OrderResponse>> getRecentOrders(
+            @RequestHeader(name = CONSISTENCY_TOKEN_HEADER, required = false) Long consistencyToken,
+            @RequestParam(defaultValue = DEFAULT_RECENT_SIZE) int limit) {
+        awaitChanges(consistencyToken);
+        return ResponseEntity.ok(orderService.getRecentOrders(limit));
+    }
+
+    /**
+     * Streams the full order book as newline-delimited JSON. Orders are written as the
+     * read model is walked, so heap use does not grow with the number of orders.
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportOrders(
+            @RequestHeader(name = CONSISTENCY_TOKEN_HEADER, required = false) Long consistencyToken) {
+        awaitChanges(consistencyToken);
+        StreamingResponseBody body = out -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                generator.setRootValueSeparator(null);
+                orderService.exportOrders(order -> writeLine(generator, order));
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    // taken once the write has returned, so the token covers it
+    private ResponseEntity.BodyBuilder written(HttpStatus status) {
+        return ResponseEntity.status(status)
+                .header(CONSISTENCY_TOKEN_HEADER, Long.toString(orderService.consistencyToken()));
+    }
+
+    private void awaitChanges(Long consistencyToken) {
+        if (consistencyToken != null) {
+            orderService.awaitChanges(consistencyToken);
+        }
+    }
+
+    private void writeLine(JsonGenerator generator, OrderResponse order) {
+        try {
+            ndjsonWriter.writeValue(generator, order);
+            generator.writeRaw('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private String validationError(CreateOrderRequest request) {
+        if (request == null) {
+            return "Order is required";
+        }
+        Set<ConstraintViolation<CreateOrderRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    static PlaceOrderCommand toCommand(CreateOrderRequest request) {
+        return new PlaceOrderCommand(
+                request.getItems().stream()
+                        .map(item -> new PlaceOrderCommand.OrderItemCommand(
+                                item.getName(), item.getQuantity()
+                        ))
+                        .collect(Collectors.toList())
+        );
     }
 
+    /**
+     * Returns one order as cached JSON bytes with a strong {@code ETag} built from its id and
+     * version. A request whose {@code If-None-Match} names the current version gets
+     * {@code 304}, and a cached version is served as it is; the order is only mapped and
+     * serialized when its current version is not cached.
+     */
     @GetMapping("/{orderId}")
-    public ResponseEntity<OrderResponse> getOrder(@PathVariable UUID orderId) {
-        OrderResponse orderResponse = orderService.getOrder(OrderId.of(orderId));
-        return ResponseEntity.ok(orderResponse);
+    public ResponseEntity<byte[]> getOrder(
+            @RequestHeader(name = CONSISTENCY_TOKEN_HEADER, required = false) Long consistencyToken,
+            @PathVariable UUID orderId, WebRequest request) {
+        awaitChanges(consistencyToken);
+        OrderView view = orderService.getOrderView(OrderId.of(orderId));
+        String etag = OrderResponseCache.etag(orderId, view.version());
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(responseCache.serialize(orderId, view.version(), () -> orderMapper.toResponse(view)));
     }
 }
@@ -1,10 +1,13 @@
 package com.medical.logistics.interfaces.rest;
 
+import com.medical.logistics.application.order.queries.OrderView;
 import com.medical.logistics.domian.order.Order;
+import com.medical.logistics.domian.order.OrderItem;
 import com.medical.logistics.interfaces.rest.dto.OrderItemDto;
 import com.medical.logistics.interfaces.rest.dto.OrderResponse;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
 import java.util.stream.Collectors;
 
 /**
@@ -17,11 +20,27 @@ public class OrderMapper {
         return OrderResponse.builder()
                 .id(order.getId().getValue())
                 .status(order.getStatus().name())
-                .items(order.getItems().stream()
-                        .map(item -> new OrderItemDto(item.getName(), item.getQuantity()))
-                        .collect(Collectors.toList()))
+                .items(toDtos(order.getItems()))
                 .createdAt(order.getCreatedAt())
                 .updatedAt(order.getUpdatedAt())
+                .version(order.getVersion())
                 .build();
     }
+
+    public OrderResponse toResponse(OrderView view) {
+        return OrderResponse.builder()
+                .id(view.id().getValue())
+                .status(view.status().name())
+                .items(toDtos(view.items()))
+                .createdAt(view.createdAt())
+                .updatedAt(view.updatedAt())
+                .version(view.version())
+                .build();
+    }
+
+    private static List<OrderItemDto> toDtos(List<OrderItem> items) {
+        return items.stream()
+                .map(item -> new OrderItemDto(item.getName(), item.getQuantity()))
+                .collect(Collectors.toList());
+    }
 }
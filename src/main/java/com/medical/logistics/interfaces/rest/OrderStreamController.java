@@ -0,0 +1,81 @@
+package com.medical.logistics.interfaces.rest;
+
+import com.medical.logistics.domian.order.OrderStatus;
+import com.medical.logistics.interfaces.rest.stream.OrderChange;
+import com.medical.logistics.interfaces.rest.stream.OrderChangeBroadcaster;
+import com.medical.logistics.interfaces.rest.stream.OrderChangeSink;
+import com.medical.logistics.interfaces.rest.stream.OrderChangeSubscription;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+
+/**
+ * Server-Sent Events stream of order changes for dashboards that would otherwise poll
+ * <p>
+ * The response is asynchronous, so an idle subscriber holds a connection but no request thread.
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequestMapping("/api/orders")
+public class OrderStreamController {
+    static final String RETRY_AFTER_SECONDS = "5";
+
+    private final OrderChangeBroadcaster broadcaster;
+
+    public OrderStreamController(OrderChangeBroadcaster broadcaster) {
+        this.broadcaster = broadcaster;
+    }
+
+    /**
+     * Streams {@code placed}, {@code approved} and {@code cancelled} events, optionally only
+     * for orders that end up in {@code status}. A {@code resync} event means changes were
+     * dropped because the client fell behind, and it should reload the orders it shows.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamChanges(@RequestParam(required = false) OrderStatus status) {
+        // no timeout: heartbeats detect clients that went away
+        SseEmitter emitter = new SseEmitter(0L);
+        OrderChangeSubscription subscription = broadcaster.subscribe(status, new EmitterSink(emitter));
+        if (subscription == null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                    .build();
+        }
+        emitter.onCompletion(subscription::close);
+        emitter.onTimeout(subscription::close);
+        emitter.onError(e -> subscription.close());
+        // commits the response headers now rather than with the first change
+        subscription.heartbeat();
+        return ResponseEntity.ok(emitter);
+    }
+
+    private record EmitterSink(SseEmitter emitter) implements OrderChangeSink {
+
+        @Override
+        public void send(OrderChange change) throws IOException {
+            if (change.type() == OrderChange.Type.HEARTBEAT) {
+                emitter.send(SseEmitter.event().comment("heartbeat"));
+                return;
+            }
+            SseEmitter.SseEventBuilder event = SseEmitter.event().name(change.type().eventName());
+            if (change.sequence() >= 0) {
+                event.id(Long.toString(change.sequence()));
+            }
+            emitter.send(event.data(change.data(), MediaType.APPLICATION_JSON));
+        }
+
+        @Override
+        public void complete() {
+            emitter.complete();
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.medical.logistics.interfaces.rest;
+
+import com.medical.logistics.application.order.ReactiveOrderApplicationService;
+import com.medical.logistics.application.order.commands.ApproveOrderCommand;
+import com.medical.logistics.application.order.commands.CancelOrderCommand;
+import com.medical.logistics.domian.order.OrderId;
+import com.medical.logistics.domian.order.OrderStatus;
+import com.medical.logistics.interfaces.rest.dto.CreateOrderRequest;
+import com.medical.logistics.interfaces.rest.dto.OrderResponse;
+import com.medical.logistics.interfaces.rest.stream.OrderChange;
+import com.medical.logistics.interfaces.rest.stream.OrderChangeBroadcaster;
+import com.medical.logistics.interfaces.rest.stream.OrderChangeSink;
+import com.medical.logistics.interfaces.rest.stream.OrderChangeSubscription;
+import jakarta.validation.Valid;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.UUID;
+
+import static com.medical.logistics.interfaces.rest.OrderController.NEXT_CURSOR_HEADER;
+import static com.medical.logistics.interfaces.rest.OrderStreamController.RETRY_AFTER_SECONDS;
+
+/**
+ * Reactive REST Controller for Order operations
+ * <p>
+ * Serves the order API on the WebFlux stack when started with
+ * {@code spring.main.web-application-type=reactive}, so both stacks can be compared
+ * under the same load. Streaming endpoints honour backpressure: orders are read from
+ * the store only as fast as the client consumes them.
+ */
+@RestController
+@RequestMapping("/api/orders")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveOrderController {
+    private static final String DEFAULT_PAGE_SIZE = "50";
+
+    private final ReactiveOrderApplicationService orderService;
+    private final OrderChangeBroadcaster broadcaster;
+
+    public ReactiveOrderController(ReactiveOrderApplicationService orderService, OrderChangeBroadcaster broadcaster) {
+        this.orderService = orderService;
+        this.broadcaster = broadcaster;
+    }
+
+    @PostMapping
+    public Mono<ResponseEntity<OrderResponse>> placeOrder(@Valid @RequestBody CreateOrderRequest request) {
+        return orderService.placeOrder(OrderController.toCommand(request))
+                .map(order -> ResponseEntity.status(HttpStatus.CREATED).body(order));
+    }
+
+    @PutMapping("/{orderId}/approve")
+    public Mono<OrderResponse> approveOrder(@PathVariable UUID orderId) {
+        return orderService.approveOrder(new ApproveOrderCommand(OrderId.of(orderId)));
+    }
+
+    @PutMapping("/{orderId}/cancel")
+    public Mono<OrderResponse> cancelOrder(@PathVariable UUID orderId) {
+        return orderService.cancelOrder(new CancelOrderCommand(OrderId.of(orderId)));
+    }
+
+    /**
+     * Lists orders one keyset page at a time, with the same contract as the servlet
+     * endpoint: a JSON array body and the next cursor in {@code X-Next-Cursor}
+     */
+    @GetMapping
+    public Mono<ResponseEntity<List<OrderResponse>>> getAllOrders(
+            @RequestParam(required = false) OrderStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int limit) {
+        return orderService.getOrders(status, cursor, limit).map(page -> {
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+            if (page.getNextCursor() != null) {
+                response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+            }
+            return response.body(page.getItems());
+        });
+    }
+
+    /**
+     * Streams every order, optionally filtered by status, as newline-delimited JSON
+     */
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<OrderResponse> streamOrders(@RequestParam(required = false) OrderStatus status) {
+        return orderService.streamOrders(status);
+    }
+
+    /**
+     * Streams the full order book as newline-delimited JSON, like the servlet export
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<OrderResponse> exportOrders() {
+        return orderService.streamOrders(null);
+    }
+
+    /**
+     * Server-Sent Events stream of order changes, as on the servlet stack. Changes are only
+     * written as the client requests them; the subscription's bounded queue absorbs the rest.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<Flux<ServerSentEvent<String>>> streamChanges(
+            @RequestParam(required = false) OrderStatus status) {
+        if (broadcaster.subscribers() >= broadcaster.maxSubscribers()) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                    .build();
+        }
+        return ResponseEntity.ok(Flux.create(sink -> {
+            OrderChangeSubscription subscription = broadcaster.subscribe(status, new FluxSinkAdapter(sink));
+            if (subscription == null) {
+                sink.complete();
+                return;
+            }
+            sink.onRequest(requested -> subscription.wake());
+            sink.onDispose(subscription::close);
+            subscription.heartbeat();
+        }));
+    }
+
+    @GetMapping("/{orderId}")
+    public Mono<OrderResponse> getOrder(@PathVariable UUID orderId) {
+        return orderService.getOrder(OrderId.of(orderId));
+    }
+
+    private record FluxSinkAdapter(FluxSink<ServerSentEvent<String>> sink) implements OrderChangeSink {
+
+        @Override
+        public boolean ready() {
+            return sink.requestedFromDownstream() > 0;
+        }
+
+        @Override
+        public void send(OrderChange change) {
+            if (change.type() == OrderChange.Type.HEARTBEAT) {
+                sink.next(ServerSentEvent.<String>builder().comment("heartbeat").build());
+                return;
+            }
+            ServerSentEvent.Builder<String> event = ServerSentEvent.builder(change.data())
+                    .event(change.type().eventName());
+            if (change.sequence() >= 0) {
+                event.id(Long.toString(change.sequence()));
+            }
+            sink.next(event.build());
+        }
+
+        @Override
+        public void complete() {
+            sink.complete();
+        }
+    }
+}
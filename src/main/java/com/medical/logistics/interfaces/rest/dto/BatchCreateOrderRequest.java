@@ -0,0 +1,24 @@
+package com.medical.logistics.interfaces.rest.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Several orders placed in one request. Each order is validated on its own, so one
+ * invalid order is reported without rejecting the rest of the batch.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchCreateOrderRequest {
+    public static final int MAX_ORDERS = 1000;
+
+    @NotEmpty(message = "Batch must have at least one order")
+    @Size(max = MAX_ORDERS, message = "Batch must not have more than " + MAX_ORDERS + " orders")
+    private List<CreateOrderRequest> orders;
+}
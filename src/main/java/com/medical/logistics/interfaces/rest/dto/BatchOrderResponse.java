@@ -0,0 +1,17 @@
+package com.medical.logistics.interfaces.rest.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Per-entry outcomes of a batch request, in request order
+ */
+@Data
+@Builder
+public class BatchOrderResponse {
+    private int succeeded;
+    private int failed;
+    private List<BatchOrderResult> results;
+}
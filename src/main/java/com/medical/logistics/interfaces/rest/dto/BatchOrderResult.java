@@ -0,0 +1,30 @@
+package com.medical.logistics.interfaces.rest.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.UUID;
+
+/**
+ * Outcome for one entry of a batch request; {@code index} is the entry's position in the request
+ * and {@code orderId} the order it refers to, when known
+ */
+@Data
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BatchOrderResult {
+    public static final String CREATED = "CREATED";
+    public static final String REJECTED = "REJECTED";
+    public static final String APPROVED = "APPROVED";
+    public static final String CANCELLED = "CANCELLED";
+    public static final String NOT_FOUND = "NOT_FOUND";
+    public static final String INVALID_STATE = "INVALID_STATE";
+    public static final String CONFLICT = "CONFLICT";
+
+    private int index;
+    private UUID orderId;
+    private String outcome;
+    private OrderResponse order;
+    private String error;
+}
@@ -0,0 +1,25 @@
+package com.medical.logistics.interfaces.rest.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Orders to approve or cancel in one request
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkOrderTransitionRequest {
+    public static final int MAX_ORDERS = 5000;
+
+    @NotEmpty(message = "At least one order id is required")
+    @Size(max = MAX_ORDERS, message = "No more than " + MAX_ORDERS + " order ids per request")
+    private List<@NotNull(message = "Order id cannot be null") UUID> orderIds;
+}
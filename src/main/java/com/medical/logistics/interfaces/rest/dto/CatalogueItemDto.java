@@ -0,0 +1,17 @@
+package com.medical.logistics.interfaces.rest.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CatalogueItemDto {
+    @NotBlank(message = "SKU is required")
+    private String sku;
+
+    @NotBlank(message = "Item name is required")
+    private String name;
+}
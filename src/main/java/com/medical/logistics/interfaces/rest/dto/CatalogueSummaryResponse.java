@@ -0,0 +1,13 @@
+package com.medical.logistics.interfaces.rest.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * The supply catalogue after a replace or reload
+ */
+@Data
+@Builder
+public class CatalogueSummaryResponse {
+    private int items;
+}
@@ -0,0 +1,20 @@
+package com.medical.logistics.interfaces.rest.dto;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Change log offset a consumer has processed everything below
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommitOffsetRequest {
+
+    @NotNull(message = "Offset is required")
+    @PositiveOrZero(message = "Offset cannot be negative")
+    private Long offset;
+}
@@ -0,0 +1,18 @@
+package com.medical.logistics.interfaces.rest.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * A consumer's position in the change log
+ */
+@Data
+@Builder
+public class ConsumerOffsetResponse {
+    private String consumer;
+    /** Null until the consumer first commits */
+    private Long committedOffset;
+    private long earliestOffset;
+    private long endOffset;
+    private long lag;
+}
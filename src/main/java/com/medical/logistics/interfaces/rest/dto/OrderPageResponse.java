@@ -0,0 +1,16 @@
+package com.medical.logistics.interfaces.rest.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * One keyset page of orders; {@code nextCursor} is null on the last page
+ */
+@Data
+@Builder
+public class OrderPageResponse {
+    private List<OrderResponse> items;
+    private String nextCursor;
+}
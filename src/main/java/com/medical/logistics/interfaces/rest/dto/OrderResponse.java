@@ -15,4 +15,5 @@ public class OrderResponse {
     private List<OrderItemDto> items;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private long version;
 }
@@ -0,0 +1,20 @@
+package com.medical.logistics.interfaces.rest.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * The complete supply catalogue, replacing the current one; an empty list clears it
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReplaceCatalogueRequest {
+    @NotNull(message = "Items are required")
+    private List<@Valid @NotNull(message = "Item cannot be null") CatalogueItemDto> items;
+}
@@ -0,0 +1,28 @@
+package com.medical.logistics.interfaces.rest.stream;
+
+import com.medical.logistics.domian.order.OrderStatus;
+
+/**
+ * One message on the order change stream. {@code data} is the order serialized once
+ * for all subscribers.
+ *
+ * @param sequence position on the event bus, sent as the SSE event id
+ * @param status   order status after the change, used for subscriber filters
+ */
+public record OrderChange(Type type, long sequence, OrderStatus status, String data) {
+    static final OrderChange HEARTBEAT = new OrderChange(Type.HEARTBEAT, -1, null, null);
+    static final OrderChange RESYNC = new OrderChange(Type.RESYNC, -1, null,
+            "{\"reason\":\"subscriber fell behind, reload orders\"}");
+
+    public enum Type {
+        PLACED, APPROVED, CANCELLED,
+        /** Changes were dropped; the client should reload the orders it shows */
+        RESYNC,
+        /** Keep-alive, sent as an SSE comment */
+        HEARTBEAT;
+
+        public String eventName() {
+            return name().toLowerCase();
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.medical.logistics.interfaces.rest.stream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.medical.logistics.domian.order.OrderStatus;
+import com.medical.logistics.domian.order.events.OrderApprovedEvent;
+import com.medical.logistics.domian.order.events.OrderCancelledEvent;
+import com.medical.logistics.domian.order.events.OrderEvent;
+import com.medical.logistics.domian.order.events.OrderPlacedEvent;
+import com.medical.logistics.infrastructure.events.OrderEventHandler;
+import com.medical.logistics.interfaces.rest.OrderMapper;
+import com.medical.logistics.interfaces.rest.dto.OrderResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fans order events out to the subscribers of {@code GET /api/orders/stream}
+ * <p>
+ * Runs as an {@link OrderEventHandler}, so it is fed from the event bus and never from the
+ * command path. Each change is mapped and serialized once, then queued for the subscribers
+ * whose filter matches. Writes happen on virtual threads that exist only while a subscriber
+ * has queued changes. Changes are forwarded in bus order, which for one order need not be
+ * write order; subscribers keep the one with the higher version.
+ */
+@Slf4j
+@Component
+@EnableConfigurationProperties(OrderStreamSettings.class)
+public class OrderChangeBroadcaster implements OrderEventHandler, MeterBinder, AutoCloseable {
+    private final OrderStreamSettings settings;
+    private final OrderMapper orderMapper;
+    private final ObjectWriter writer;
+    private final ExecutorService deliveryExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final ScheduledExecutorService heartbeats;
+    private final Set<OrderChangeSubscription> unfiltered = ConcurrentHashMap.newKeySet();
+    private final Set<OrderChangeSubscription>[] byStatus;
+    private final AtomicInteger subscribers = new AtomicInteger();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    @Autowired
+    public OrderChangeBroadcaster(OrderStreamSettings settings, OrderMapper orderMapper, ObjectMapper objectMapper) {
+        this(settings, orderMapper, objectMapper, true);
+    }
+
+    @SuppressWarnings("unchecked")
+    OrderChangeBroadcaster(OrderStreamSettings settings, OrderMapper orderMapper, ObjectMapper objectMapper,
+                           boolean heartbeat) {
+        this.settings = settings;
+        this.orderMapper = orderMapper;
+        this.writer = objectMapper.writerFor(OrderResponse.class);
+        this.byStatus = new Set[OrderStatus.values().length];
+        for (int i = 0; i < byStatus.length; i++) {
+            byStatus[i] = ConcurrentHashMap.newKeySet();
+        }
+        if (heartbeat) {
+            long interval = settings.heartbeatInterval().toMillis();
+            this.heartbeats = Executors.newSingleThreadScheduledExecutor(
+                    Thread.ofPlatform().name("order-stream-heartbeat").daemon().factory());
+            heartbeats.scheduleAtFixedRate(this::heartbeat, interval, interval, TimeUnit.MILLISECONDS);
+        } else {
+            this.heartbeats = null;
+        }
+    }
+
+    /**
+     * Registers a subscriber for changes to orders in {@code status}, or all changes when it is
+     * {@code null}; returns {@code null} when the subscriber limit is reached
+     */
+    public OrderChangeSubscription subscribe(OrderStatus status, OrderChangeSink sink) {
+        if (subscribers.incrementAndGet() > settings.maxSubscribers()) {
+            subscribers.decrementAndGet();
+            rejected.increment();
+            return null;
+        }
+        OrderChangeSubscription subscription = new OrderChangeSubscription(status, settings.bufferSize(), sink,
+                deliveryExecutor, this::remove);
+        subscriptionsFor(status).add(subscription);
+        return subscription;
+    }
+
+    public int subscribers() {
+        return subscribers.get();
+    }
+
+    public int maxSubscribers() {
+        return settings.maxSubscribers();
+    }
+
+    @Override
+    public void onEvent(OrderEvent event, long sequence, boolean endOfBatch) throws Exception {
+        if (subscribers.get() == 0) {
+            return;
+        }
+        OrderStatus status = event.order().getStatus();
+        Set<OrderChangeSubscription> filtered = byStatus[status.ordinal()];
+        if (unfiltered.isEmpty() && filtered.isEmpty()) {
+            return;
+        }
+        OrderChange change = new OrderChange(typeOf(event), sequence, status,
+                writer.writeValueAsString(orderMapper.toResponse(event.order())));
+        deliver(unfiltered, change);
+        deliver(filtered, change);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("orders.stream.subscribers", subscribers, AtomicInteger::get)
+                .description("Open order change stream subscriptions")
+                .register(registry);
+        FunctionCounter.builder("orders.stream.dropped", dropped, LongAdder::sum)
+                .description("Order changes dropped for subscribers that fell behind")
+                .register(registry);
+        FunctionCounter.builder("orders.stream.rejected", rejected, LongAdder::sum)
+                .description("Order change stream subscriptions refused at the subscriber limit")
+                .register(registry);
+    }
+
+    @Override
+    public void close() {
+        if (heartbeats != null) {
+            heartbeats.shutdownNow();
+        }
+        unfiltered.forEach(OrderChangeSubscription::close);
+        for (Set<OrderChangeSubscription> subscriptions : byStatus) {
+            subscriptions.forEach(OrderChangeSubscription::close);
+        }
+        deliveryExecutor.shutdown();
+    }
+
+    private void deliver(Set<OrderChangeSubscription> subscriptions, OrderChange change) {
+        for (OrderChangeSubscription subscription : subscriptions) {
+            if (!subscription.offer(change)) {
+                dropped.increment();
+            }
+        }
+    }
+
+    private void heartbeat() {
+        unfiltered.forEach(OrderChangeSubscription::heartbeat);
+        for (Set<OrderChangeSubscription> subscriptions : byStatus) {
+            subscriptions.forEach(OrderChangeSubscription::heartbeat);
+        }
+    }
+
+    private void remove(OrderChangeSubscription subscription) {
+        if (subscriptionsFor(subscription.status()).remove(subscription)) {
+            subscribers.decrementAndGet();
+        }
+    }
+
+    private Set<OrderChangeSubscription> subscriptionsFor(OrderStatus status) {
+        return status == null ? unfiltered : byStatus[status.ordinal()];
+    }
+
+    private static OrderChange.Type typeOf(OrderEvent event) {
+        return switch (event) {
+            case OrderPlacedEvent placed -> OrderChange.Type.PLACED;
+            case OrderApprovedEvent approved -> OrderChange.Type.APPROVED;
+            case OrderCancelledEvent cancelled -> OrderChange.Type.CANCELLED;
+        };
+    }
+}
@@ -0,0 +1,27 @@
+package com.medical.logistics.interfaces.rest.stream;
+
+import java.io.IOException;
+
+/**
+ * Connection a subscription writes to, adapting the servlet and reactive stacks
+ */
+public interface OrderChangeSink {
+
+    /**
+     * Whether the connection can take another change now; a sink that returns {@code false}
+     * must call {@link OrderChangeSubscription#wake()} once it can
+     */
+    default boolean ready() {
+        return true;
+    }
+
+    /**
+     * Writes one change; an exception ends the subscription
+     */
+    void send(OrderChange change) throws IOException;
+
+    /**
+     * Ends the response; called once when the subscription closes
+     */
+    void complete();
+}
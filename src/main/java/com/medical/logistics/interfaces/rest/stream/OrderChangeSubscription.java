@@ -0,0 +1,126 @@
+package com.medical.logistics.interfaces.rest.stream;
+
+import com.medical.logistics.domian.order.OrderStatus;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * One subscriber of the order change stream
+ * <p>
+ * Changes are queued up to a fixed bound and written by a drain task that only exists while
+ * there is something to write, so an idle subscriber holds no thread. When the queue is
+ * full further changes are dropped, and once the queued ones are written the subscriber gets
+ * a {@code resync} event telling it to reload. Publishers never wait on a subscriber.
+ */
+@Slf4j
+public final class OrderChangeSubscription {
+    private final OrderStatus status;
+    private final int capacity;
+    private final OrderChangeSink sink;
+    private final Executor executor;
+    private final Consumer<OrderChangeSubscription> onClose;
+    private final Queue<OrderChange> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean overflowed = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    OrderChangeSubscription(OrderStatus status, int capacity, OrderChangeSink sink, Executor executor,
+                            Consumer<OrderChangeSubscription> onClose) {
+        this.status = status;
+        this.capacity = capacity;
+        this.sink = sink;
+        this.executor = executor;
+        this.onClose = onClose;
+    }
+
+    /**
+     * Status this subscriber filters on, or {@code null} for every change
+     */
+    public OrderStatus status() {
+        return status;
+    }
+
+    /**
+     * Queues a change; returns {@code false} when it was dropped because the subscriber is behind
+     */
+    boolean offer(OrderChange change) {
+        if (closed.get()) {
+            return true;
+        }
+        if (queued.incrementAndGet() > capacity) {
+            queued.decrementAndGet();
+            overflowed.set(true);
+            return false;
+        }
+        queue.offer(change);
+        wake();
+        return true;
+    }
+
+    /**
+     * Sends a keep-alive unless changes are already queued
+     */
+    public void heartbeat() {
+        if (queued.get() == 0) {
+            offer(OrderChange.HEARTBEAT);
+        }
+    }
+
+    /**
+     * Starts a drain task unless one is running
+     */
+    public void wake() {
+        if (!closed.get() && hasWork() && draining.compareAndSet(false, true)) {
+            try {
+                executor.execute(this::drain);
+            } catch (RuntimeException e) {
+                log.warn("Could not schedule order stream delivery: {}", e.getMessage());
+                close();
+            }
+        }
+    }
+
+    public void close() {
+        if (closed.compareAndSet(false, true)) {
+            queue.clear();
+            onClose.accept(this);
+            sink.complete();
+        }
+    }
+
+    public boolean isClosed() {
+        return closed.get();
+    }
+
+    private void drain() {
+        try {
+            do {
+                OrderChange change;
+                while (!closed.get() && sink.ready() && (change = queue.poll()) != null) {
+                    queued.decrementAndGet();
+                    sink.send(change);
+                }
+                // dropped changes come after everything still queued, so the resync goes last
+                if (!closed.get() && sink.ready() && queue.isEmpty() && overflowed.compareAndSet(true, false)) {
+                    sink.send(OrderChange.RESYNC);
+                }
+                draining.set(false);
+            } while (!closed.get() && sink.ready() && hasWork() && draining.compareAndSet(false, true));
+        } catch (Exception e) {
+            log.debug("Order stream subscriber disconnected: {}", e.getMessage());
+            draining.set(false);
+            close();
+        }
+    }
+
+    private boolean hasWork() {
+        return !queue.isEmpty() || overflowed.get();
+    }
+}
@@ -0,0 +1,32 @@
+package com.medical.logistics.interfaces.rest.stream;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Order change stream configuration, bound from {@code orders.stream.*}
+ *
+ * @param bufferSize        changes queued per subscriber; a subscriber that falls further behind is resynced
+ * @param maxSubscribers    concurrent subscribers accepted; further ones get {@code 503}
+ * @param heartbeatInterval how often idle subscribers get a comment line, which also detects closed connections
+ */
+@ConfigurationProperties(prefix = "orders.stream")
+public record OrderStreamSettings(
+        @DefaultValue("256") int bufferSize,
+        @DefaultValue("50000") int maxSubscribers,
+        @DefaultValue("15s") Duration heartbeatInterval) {
+
+    public OrderStreamSettings {
+        if (bufferSize <= 0) {
+            throw new IllegalArgumentException("Stream buffer size must be positive");
+        }
+        if (maxSubscribers <= 0) {
+            throw new IllegalArgumentException("Stream subscriber limit must be positive");
+        }
+        if (heartbeatInterval.isNegative() || heartbeatInterval.isZero()) {
+            throw new IllegalArgumentException("Stream heartbeat interval must be positive");
+        }
+    }
+}
@@ -1,24 +1,49 @@
 package com.medical.logistics.application.order;
 
 import com.medical.logistics.application.order.commands.*;
+import com.medical.logistics.application.order.queries.OrderCursor;
+import com.medical.logistics.application.order.queries.OrderQuery;
+import com.medical.logistics.application.order.queries.OrderView;
+import com.medical.logistics.domian.catalogue.CatalogueItem;
+import com.medical.logistics.domian.catalogue.exceptions.UnknownCatalogueItemException;
 import com.medical.logistics.domian.order.*;
+import com.medical.logistics.domian.order.exceptions.ConcurrentOrderModificationException;
+import com.medical.logistics.domian.order.events.OrderApprovedEvent;
+import com.medical.logistics.domian.order.events.OrderEventPublisher;
+import com.medical.logistics.domian.order.events.OrderPlacedEvent;
+import com.medical.logistics.domian.order.exceptions.InvalidOrderStateException;
 import com.medical.logistics.domian.order.exceptions.OrderNotFoundException;
+import com.medical.logistics.infrastructure.catalogue.CatalogueSettings;
+import com.medical.logistics.infrastructure.catalogue.InMemorySupplyCatalogue;
 import com.medical.logistics.interfaces.rest.OrderMapper;
+import com.medical.logistics.interfaces.rest.dto.BatchOrderResponse;
+import com.medical.logistics.interfaces.rest.dto.BatchOrderResult;
 import com.medical.logistics.interfaces.rest.dto.OrderItemDto;
+import com.medical.logistics.interfaces.rest.dto.OrderPageResponse;
 import com.medical.logistics.interfaces.rest.dto.OrderResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
+import org.mockito.stubbing.Answer;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -30,11 +55,25 @@ class OrderApplicationServiceTest {
     @Mock
     private OrderMapper orderMapper;
 
+    @Mock
+    private OrderEventPublisher eventPublisher;
+
+    @Mock
+    private OrderQuery orderQuery;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final InMemorySupplyCatalogue catalogue = new InMemorySupplyCatalogue(new CatalogueSettings(null, false));
+
     private OrderApplicationServiceImpl orderService;
 
+    private Order appliedTransition;
+
     @BeforeEach
     void setUp() {
-        orderService = new OrderApplicationServiceImpl(orderRepository, orderMapper);
+        orderService = new OrderApplicationServiceImpl(orderRepository, orderMapper, Runnable::run, eventPublisher,
+                orderQuery, new OrderMetrics(meterRegistry), new OrderItemValidator(catalogue, false),
+                new ItemNameDictionary(catalogue::containsName), OrderIdGenerator.timeOrdered());
     }
 
     @Test
@@ -74,6 +113,79 @@ class OrderApplicationServiceTest {
         assertThat(response.getItems()).hasSize(2);
         verify(orderRepository, times(1)).save(any(Order.class));
         verify(orderMapper, times(1)).toResponse(savedOrder);
+        verify(eventPublisher).publish(argThat(event -> event instanceof OrderPlacedEvent
+                && event.order() == savedOrder));
+    }
+
+    @Test
+    @DisplayName("Should draw new order ids from the configured generator")
+    void shouldDrawNewOrderIdsFromTheConfiguredGenerator() {
+        // Given
+        UUID id = UUID.fromString("00000000-0000-4000-8000-000000000001");
+        OrderApplicationServiceImpl service = new OrderApplicationServiceImpl(orderRepository, orderMapper,
+                Runnable::run, eventPublisher, orderQuery, new OrderMetrics(meterRegistry),
+                new OrderItemValidator(catalogue, false), new ItemNameDictionary(catalogue::containsName), () -> id);
+        when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        service.placeOrder(new PlaceOrderCommand(List.of(new PlaceOrderCommand.OrderItemCommand("Syringe", 1))));
+
+        // Then
+        verify(orderRepository).save(argThat(order -> order.getId().equals(OrderId.of(id))));
+    }
+
+    @Test
+    @DisplayName("Should reject an item missing from the catalogue when validation is enabled")
+    void shouldRejectAnItemMissingFromTheCatalogueWhenValidationIsEnabled() {
+        // Given
+        catalogue.replace(List.of(new CatalogueItem("SYR-5", "Syringe 5ml"), new CatalogueItem("GZE-10", "Gauze Pad")));
+        OrderApplicationServiceImpl validatingService = new OrderApplicationServiceImpl(orderRepository, orderMapper,
+                Runnable::run, eventPublisher, orderQuery, new OrderMetrics(meterRegistry),
+                new OrderItemValidator(catalogue, true), new ItemNameDictionary(catalogue::containsName),
+                OrderIdGenerator.timeOrdered());
+        PlaceOrderCommand command = new PlaceOrderCommand(List.of(
+                new PlaceOrderCommand.OrderItemCommand("Syringe 5ml", 10),
+                new PlaceOrderCommand.OrderItemCommand("Syringe 5 ml", 20)));
+        when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        validatingService.placeOrder(new PlaceOrderCommand(
+                List.of(new PlaceOrderCommand.OrderItemCommand("Gauze Pad", 3))));
+
+        // Then
+        assertThatThrownBy(() -> validatingService.placeOrder(command))
+                .isInstanceOf(UnknownCatalogueItemException.class)
+                .hasMessage("Item 'Syringe 5 ml' is not in the supply catalogue");
+        assertThatThrownBy(() -> validatingService.placeOrders(List.of(command)))
+                .isInstanceOf(UnknownCatalogueItemException.class);
+        verify(orderRepository, times(1)).save(any(Order.class));
+        verify(orderRepository, never()).saveAll(anyList());
+        assertThat(meterRegistry.get("orders.commands").tags("command", "place", "outcome", "invalid_request")
+                .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should place a batch of orders with one repository write")
+    void shouldPlaceABatchOfOrdersWithOneRepositoryWrite() {
+        // Given
+        List<PlaceOrderCommand> commands = List.of(
+                new PlaceOrderCommand(List.of(new PlaceOrderCommand.OrderItemCommand("Syringe", 10))),
+                new PlaceOrderCommand(List.of(new PlaceOrderCommand.OrderItemCommand("Gauze", 3))));
+        when(orderRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(orderMapper.toResponse(any(Order.class))).thenAnswer(invocation -> OrderResponse.builder()
+                .id(invocation.<Order>getArgument(0).getId().getValue())
+                .items(List.of(new OrderItemDto(invocation.<Order>getArgument(0).getItems().get(0).getName(), 1)))
+                .build());
+
+        // When
+        List<OrderResponse> responses = orderService.placeOrders(commands);
+
+        // Then
+        assertThat(responses).extracting(response -> response.getItems().get(0).getName())
+                .containsExactly("Syringe", "Gauze");
+        verify(orderRepository, times(1)).saveAll(argThat(orders -> orders.size() == 2));
+        verify(orderRepository, never()).save(any());
+        verify(eventPublisher, times(2)).publish(any(OrderPlacedEvent.class));
     }
 
     @Test
@@ -84,15 +196,38 @@ class OrderApplicationServiceTest {
         Order order = Order.create(List.of(new OrderItem("Mask", 100)));
 
         when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
-        when(orderRepository.save(any(Order.class))).thenReturn(order);
+        when(orderRepository.transition(eq(order.getId()), eq(0L), any())).thenAnswer(applyTransition(order));
+        OrderResponse response = OrderResponse.builder().status("APPROVED").build();
+        when(orderMapper.toResponse(any(Order.class))).thenReturn(response);
 
         // When
-        orderService.approveOrder(new ApproveOrderCommand(orderId));
+        OrderResponse result = orderService.approveOrder(new ApproveOrderCommand(orderId));
 
         // Then
-        assertThat(order.getStatus()).isEqualTo(OrderStatus.APPROVED);
+        assertThat(result).isSameAs(response);
+        verify(orderMapper).toResponse(appliedTransition);
+        verify(eventPublisher).publish(argThat(event -> event instanceof OrderApprovedEvent
+                && event.order() == appliedTransition));
+        assertThat(order.getStatus()).as("the loaded instance is not mutated").isEqualTo(OrderStatus.PENDING);
+        assertThat(appliedTransition).returns(OrderStatus.APPROVED, Order::getStatus).returns(1L, Order::getVersion);
         verify(orderRepository, times(1)).findById(orderId);
-        verify(orderRepository, times(1)).save(order);
+        verify(orderRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Should surface a concurrent modification of the order being approved")
+    void shouldSurfaceAConcurrentModificationOfTheOrderBeingApproved() {
+        // Given
+        OrderId orderId = OrderId.generate();
+        Order order = Order.create(List.of(new OrderItem("Mask", 100)));
+
+        when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
+        when(orderRepository.transition(eq(order.getId()), eq(0L), any()))
+                .thenThrow(new ConcurrentOrderModificationException("modified concurrently"));
+
+        // When/Then
+        assertThatThrownBy(() -> orderService.approveOrder(new ApproveOrderCommand(orderId)))
+                .isInstanceOf(ConcurrentOrderModificationException.class);
     }
 
     @Test
@@ -108,7 +243,9 @@ class OrderApplicationServiceTest {
                 .hasMessageContaining("Order not found with id");
 
         verify(orderRepository, times(1)).findById(orderId);
-        verify(orderRepository, never()).save(any());
+        verify(orderRepository, never()).transition(any(), anyLong(), any());
+        assertThat(meterRegistry.get("orders.commands").tags("command", "approve", "outcome", "not_found")
+                .timer().count()).isEqualTo(1);
     }
 
     @Test
@@ -119,26 +256,84 @@ class OrderApplicationServiceTest {
         Order order = Order.create(List.of(new OrderItem("Thermometer", 5)));
 
         when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
-        when(orderRepository.save(any(Order.class))).thenReturn(order);
+        when(orderRepository.transition(eq(order.getId()), eq(0L), any())).thenAnswer(applyTransition(order));
 
         // When
         orderService.cancelOrder(new CancelOrderCommand(orderId));
 
         // Then
-        assertThat(order.getStatus()).isEqualTo(OrderStatus.CANCELLED);
+        assertThat(appliedTransition).returns(OrderStatus.CANCELLED, Order::getStatus).returns(1L, Order::getVersion);
         verify(orderRepository, times(1)).findById(orderId);
-        verify(orderRepository, times(1)).save(order);
+        verify(orderRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Should report an outcome for every id of a bulk approve")
+    void shouldReportAnOutcomeForEveryIdOfABulkApprove() {
+        // Given
+        Order pending = Order.create(List.of(new OrderItem("Mask", 100)));
+        OrderId missing = OrderId.generate();
+        OrderId conflicting = OrderId.generate();
+        when(orderRepository.transitionAll(anyList(), any())).thenReturn(List.of(
+                TransitionResult.succeeded(pending),
+                TransitionResult.failed(missing, new OrderNotFoundException("Order not found with id: " + missing)),
+                TransitionResult.failed(conflicting, new ConcurrentOrderModificationException("modified"))));
+        when(orderMapper.toResponse(pending)).thenReturn(OrderResponse.builder().status("APPROVED").build());
+
+        // When
+        BatchOrderResponse response = orderService.approveOrders(List.of(
+                new ApproveOrderCommand(pending.getId()),
+                new ApproveOrderCommand(missing),
+                new ApproveOrderCommand(conflicting),
+                new ApproveOrderCommand(pending.getId())));
+
+        // Then
+        assertThat(response.getSucceeded()).isEqualTo(1);
+        assertThat(response.getFailed()).isEqualTo(3);
+        assertThat(response.getResults()).extracting(BatchOrderResult::getOutcome).containsExactly(
+                BatchOrderResult.APPROVED, BatchOrderResult.NOT_FOUND, BatchOrderResult.CONFLICT, BatchOrderResult.REJECTED);
+        assertThat(response.getResults().get(3).getError()).isEqualTo("Duplicate order id in request");
+        verify(orderRepository, times(1)).transitionAll(eq(List.of(pending.getId(), missing, conflicting)), any());
+        verify(eventPublisher, times(1)).publish(argThat(event -> event instanceof OrderApprovedEvent
+                && event.orderId().equals(pending.getId())));
+        assertThat(meterRegistry.get("orders.commands").tags("command", "approve_bulk", "outcome", "success")
+                .timer().count()).isEqualTo(1);
+        for (String outcome : List.of("success", "not_found", "conflict", "invalid_request")) {
+            assertThat(meterRegistry.get("orders.command.results").tags("command", "approve_bulk", "outcome", outcome)
+                    .counter().count()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    @DisplayName("Should split a large bulk cancel into chunks")
+    void shouldSplitALargeBulkCancelIntoChunks() {
+        // Given
+        List<CancelOrderCommand> commands = new ArrayList<>();
+        for (int i = 0; i < OrderApplicationServiceImpl.BULK_CHUNK_SIZE * 2 + 1; i++) {
+            commands.add(new CancelOrderCommand(OrderId.generate()));
+        }
+        when(orderRepository.transitionAll(anyList(), any())).thenAnswer(invocation -> invocation.<List<OrderId>>getArgument(0)
+                .stream()
+                .map(id -> TransitionResult.failed(id, new InvalidOrderStateException("Cannot cancel order in APPROVED status")))
+                .toList());
+
+        // When
+        BatchOrderResponse response = orderService.cancelOrders(commands);
+
+        // Then
+        assertThat(response.getFailed()).isEqualTo(commands.size());
+        assertThat(response.getResults()).allMatch(result -> result.getOutcome().equals(BatchOrderResult.INVALID_STATE));
+        assertThat(response.getResults().get(300).getOrderId()).isEqualTo(commands.get(300).getOrderId().getValue());
+        verify(orderRepository, times(3)).transitionAll(anyList(), any());
     }
 
     @Test
-    @DisplayName("Should get all orders")
-    void shouldGetAllOrders() {
+    @DisplayName("Should get first page of orders from the read model")
+    void shouldGetFirstPageOfOrdersFromTheReadModel() {
         // Given
         Order order1 = Order.create(List.of(new OrderItem("Item1", 10)));
         Order order2 = Order.create(List.of(new OrderItem("Item2", 20)));
 
-        List<Order> orders = List.of(order1, order2);
-
         OrderResponse response1 = OrderResponse.builder()
                 .id(order1.getId().getValue())
                 .status("PENDING")
@@ -151,27 +346,132 @@ class OrderApplicationServiceTest {
                 .items(List.of(new OrderItemDto("Item2", 20)))
                 .build();
 
-        when(orderRepository.findAll()).thenReturn(orders);
-        when(orderMapper.toResponse(order1)).thenReturn(response1);
-        when(orderMapper.toResponse(order2)).thenReturn(response2);
+        List<OrderView> views = List.of(view(order1, response1), view(order2, response2));
+        when(orderQuery.findPage(null, 11)).thenReturn(views);
 
         // When
-        List<OrderResponse> result = orderService.getAllOrders();
+        OrderPageResponse result = orderService.getOrders(null, 10);
 
         // Then
-        assertThat(result).hasSize(2);
-        assertThat(result.get(0).getItems()).hasSize(1);
-        assertThat(result.get(1).getItems()).hasSize(1);
-        verify(orderRepository, times(1)).findAll();
-        verify(orderMapper, times(2)).toResponse(any(Order.class));
+        assertThat(result.getItems()).containsExactly(response1, response2);
+        assertThat(result.getNextCursor()).isNull();
+        verify(orderQuery, times(1)).findPage(null, 11);
+        verifyNoInteractions(orderRepository);
     }
 
     @Test
-    @DisplayName("Should get order by id")
-    void shouldGetOrderById() {
+    @DisplayName("Should return cursor of last order when more orders exist")
+    void shouldReturnCursorOfLastOrderWhenMoreOrdersExist() {
+        // Given
+        Order order1 = Order.create(List.of(new OrderItem("Item1", 10)));
+        Order order2 = Order.create(List.of(new OrderItem("Item2", 20)));
+        OrderId after = OrderId.generate();
+
+        List<OrderView> views = List.of(
+                view(order1, OrderResponse.builder().build()), view(order2, OrderResponse.builder().build()));
+        when(orderQuery.findPage(after, 2)).thenReturn(views);
+
+        // When
+        OrderPageResponse result = orderService.getOrders(OrderCursor.encode(after), 1);
+
+        // Then
+        assertThat(result.getItems()).hasSize(1);
+        assertThat(OrderCursor.decode(result.getNextCursor())).isEqualTo(order1.getId());
+    }
+
+    @Test
+    @DisplayName("Should get orders by status")
+    void shouldGetOrdersByStatus() {
+        // Given
+        Order order = Order.create(List.of(new OrderItem("Item1", 10)));
+        OrderResponse response = OrderResponse.builder()
+                .id(order.getId().getValue())
+                .status("PENDING")
+                .build();
+
+        List<OrderView> views = List.of(view(order, response));
+        when(orderQuery.findByStatus(OrderStatus.PENDING, null, 11)).thenReturn(views);
+
+        // When
+        OrderPageResponse result = orderService.getOrdersByStatus(OrderStatus.PENDING, null, 10);
+
+        // Then
+        assertThat(result.getItems()).containsExactly(response);
+        assertThat(result.getNextCursor()).isNull();
+        verify(orderQuery, never()).findPage(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should reject invalid page limit")
+    void shouldRejectInvalidPageLimit() {
+        assertThatThrownBy(() -> orderService.getOrders(null, 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Page limit must be between 1 and");
+
+        verify(orderQuery, never()).findPage(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should reject malformed cursor")
+    void shouldRejectMalformedCursor() {
+        assertThatThrownBy(() -> orderService.getOrders("not-a-cursor", 10))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Invalid cursor");
+    }
+
+    @Test
+    @DisplayName("Should get recent orders newest first")
+    void shouldGetRecentOrdersNewestFirst() {
+        // Given
+        Order older = Order.create(List.of(new OrderItem("Item1", 10)));
+        Order newer = Order.create(List.of(new OrderItem("Item2", 20)));
+        OrderResponse olderResponse = OrderResponse.builder().id(older.getId().getValue()).build();
+        OrderResponse newerResponse = OrderResponse.builder().id(newer.getId().getValue()).build();
+        List<OrderView> views = List.of(view(newer, newerResponse), view(older, olderResponse));
+        when(orderQuery.findRecent(5)).thenReturn(views);
+
+        // When
+        List<OrderResponse> result = orderService.getRecentOrders(5);
+
+        // Then
+        assertThat(result).containsExactly(newerResponse, olderResponse);
+        assertThatThrownBy(() -> orderService.getRecentOrders(OrderApplicationServiceImpl.MAX_PAGE_SIZE + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Should export every order of the read model")
+    void shouldExportEveryOrderOfTheReadModel() {
+        // Given
+        List<OrderView> views = new ArrayList<>();
+        List<OrderResponse> responses = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Order order = Order.create(List.of(new OrderItem("Item" + i, 1)));
+            responses.add(OrderResponse.builder().id(order.getId().getValue()).build());
+            views.add(view(order, responses.get(i)));
+        }
+        when(orderQuery.forEach(any())).thenAnswer(invocation -> {
+            Consumer<OrderView> sink = invocation.getArgument(0);
+            views.forEach(sink);
+            return (long) views.size();
+        });
+
+        // When
+        List<OrderResponse> exported = new ArrayList<>();
+        long count = orderService.exportOrders(exported::add);
+
+        // Then
+        assertThat(count).isEqualTo(3);
+        assertThat(exported).containsExactlyElementsOf(responses);
+        verify(orderRepository, never()).findPage(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should get order by id from the read model")
+    void shouldGetOrderByIdFromTheReadModel() {
         // Given
-        OrderId orderId = OrderId.generate();
         Order order = Order.create(List.of(new OrderItem("Gloves", 50)));
+        OrderId orderId = order.getId();
 
         OrderResponse expectedResponse = OrderResponse.builder()
                 .id(orderId.getValue())
@@ -179,18 +479,34 @@ class OrderApplicationServiceTest {
                 .items(List.of(new OrderItemDto("Gloves", 50)))
                 .build();
 
-        when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
-        when(orderMapper.toResponse(order)).thenReturn(expectedResponse);
+        OrderView view = view(order, expectedResponse);
+        when(orderQuery.findById(orderId)).thenReturn(Optional.of(view));
 
         // When
         OrderResponse result = orderService.getOrder(orderId);
 
         // Then
-        assertThat(result).isNotNull();
-        assertThat(result.getId()).isEqualTo(orderId.getValue());
-        assertThat(result.getItems()).hasSize(1);
-        verify(orderRepository, times(1)).findById(orderId);
-        verify(orderMapper, times(1)).toResponse(order);
+        assertThat(result).isSameAs(expectedResponse);
+        verify(orderRepository, never()).findById(any());
+        verify(orderMapper, never()).toResponse(any(Order.class));
+    }
+
+    @Test
+    @DisplayName("Should fall back to the order store when the read model has not seen the order")
+    void shouldFallBackToTheOrderStoreWhenTheReadModelHasNotSeenTheOrder() {
+        // Given
+        Order order = Order.create(List.of(new OrderItem("Gloves", 50)));
+        when(orderQuery.findById(order.getId())).thenReturn(Optional.empty());
+        when(orderRepository.findById(order.getId())).thenReturn(Optional.of(order));
+
+        // When
+        OrderView result = orderService.getOrderView(order.getId());
+
+        // Then
+        assertThat(result.id()).isEqualTo(order.getId());
+        assertThat(result.version()).isEqualTo(order.getVersion());
+        assertThat(result.items()).containsExactly(new OrderItem("Gloves", 50));
+        verifyNoInteractions(orderMapper);
     }
 
     @Test
@@ -198,6 +514,7 @@ class OrderApplicationServiceTest {
     void shouldThrowExceptionWhenOrderNotFoundById() {
         // Given
         OrderId orderId = OrderId.generate();
+        when(orderQuery.findById(orderId)).thenReturn(Optional.empty());
         when(orderRepository.findById(orderId)).thenReturn(Optional.empty());
 
         // When/Then
@@ -206,6 +523,23 @@ class OrderApplicationServiceTest {
                 .hasMessageContaining("Order not found with id");
 
         verify(orderRepository, times(1)).findById(orderId);
-        verify(orderMapper, never()).toResponse(any());
+        verify(orderMapper, never()).toResponse(any(Order.class));
+    }
+
+    // a read model view the mocked mapper turns into the given response
+    private OrderView view(Order order, OrderResponse response) {
+        OrderView view = OrderView.of(order);
+        lenient().when(orderMapper.toResponse(view)).thenReturn(response);
+        return view;
+    }
+
+    // applies the requested change to a copy of the stored order, as a repository would
+    private Answer<Order> applyTransition(Order stored) {
+        return invocation -> {
+            Consumer<Order> change = invocation.getArgument(2);
+            appliedTransition = stored.copy();
+            change.accept(appliedTransition);
+            return appliedTransition;
+        };
     }
-}
\ No newline at end of file
+}
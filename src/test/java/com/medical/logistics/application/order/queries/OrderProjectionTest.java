@@ -0,0 +1,226 @@
+package com.medical.logistics.application.order.queries;
+
+import com.medical.logistics.domian.order.Order;
+import com.medical.logistics.domian.order.OrderItem;
+import com.medical.logistics.domian.order.OrderStatus;
+import com.medical.logistics.domian.order.events.OrderApprovedEvent;
+import com.medical.logistics.domian.order.events.OrderCancelledEvent;
+import com.medical.logistics.domian.order.events.OrderPlacedEvent;
+import com.medical.logistics.infrastructure.persistence.InMemoryOrderRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.*;
+
+class OrderProjectionTest {
+    private final InMemoryOrderRepository repository = new InMemoryOrderRepository();
+    private final AtomicLong published = new AtomicLong(-1);
+    private long sequence = -1;
+
+    @Test
+    @DisplayName("Should load the orders already in the store")
+    void shouldLoadTheOrdersAlreadyInTheStore() {
+        // Given
+        Order pending = repository.save(order("Syringe"));
+        Order approved = repository.save(changed(order("Gauze"), Order::approve));
+
+        // When
+        OrderProjection projection = projection(10, Duration.ZERO);
+
+        // Then
+        assertThat(projection.size()).isEqualTo(2);
+        assertThat(projection.findById(pending.getId())).get()
+                .extracting(OrderView::status).isEqualTo(OrderStatus.PENDING);
+        assertThat(projection.findByStatus(OrderStatus.APPROVED, null, 10))
+                .extracting(OrderView::id).containsExactly(approved.getId());
+        assertThat(projection.findPage(null, 10)).extracting(OrderView::id)
+                .containsExactly(pending.getId(), approved.getId());
+    }
+
+    @Test
+    @DisplayName("Should move an order between status indexes and ignore stale versions")
+    void shouldMoveAnOrderBetweenStatusIndexesAndIgnoreStaleVersions() {
+        // Given
+        OrderProjection projection = projection(10, Duration.ZERO);
+        Order placed = order("Syringe");
+        Order approved = changed(placed, Order::approve);
+
+        // When the approval arrives first
+        projection.onEvent(new OrderApprovedEvent(approved, Instant.now()), ++sequence, true);
+        projection.onEvent(new OrderPlacedEvent(placed, Instant.now()), ++sequence, true);
+
+        // Then
+        assertThat(projection.findById(placed.getId())).get().extracting(OrderView::version).isEqualTo(1L);
+        assertThat(projection.findByStatus(OrderStatus.PENDING, null, 10)).isEmpty();
+        assertThat(projection.findByStatus(OrderStatus.APPROVED, null, 10)).extracting(OrderView::id)
+                .containsExactly(placed.getId());
+        assertThat(projection.findPage(null, 10)).hasSize(1);
+        assertThat(projection.count(OrderStatus.PENDING)).isZero();
+        assertThat(projection.count(OrderStatus.APPROVED)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should keep a bounded list of recent changes, newest first")
+    void shouldKeepABoundedListOfRecentChangesNewestFirst() {
+        // Given
+        OrderProjection projection = projection(3, Duration.ZERO);
+        Order first = order("First");
+        Order second = order("Second");
+        Order third = order("Third");
+        Order fourth = order("Fourth");
+
+        // When
+        for (Order order : List.of(first, second, third, fourth)) {
+            projection.onEvent(new OrderPlacedEvent(order, Instant.now()), ++sequence, true);
+        }
+        projection.onEvent(new OrderCancelledEvent(changed(second, Order::cancel), Instant.now()), ++sequence, true);
+
+        // Then
+        assertThat(projection.findRecent(10)).extracting(OrderView::id)
+                .containsExactly(second.getId(), fourth.getId(), third.getId());
+        assertThat(projection.findRecent(1)).extracting(OrderView::status).containsExactly(OrderStatus.CANCELLED);
+    }
+
+    @Test
+    @DisplayName("Should wait for the changes named by a consistency token")
+    void shouldWaitForTheChangesNamedByAConsistencyToken() throws Exception {
+        // Given
+        OrderProjection projection = projection(10, Duration.ofSeconds(5));
+        Order order = order("Syringe");
+        published.set(0);
+        long token = projection.consistencyToken();
+        assertThat(projection.lag()).isEqualTo(1);
+
+        // When
+        CompletableFuture<Void> delivery = CompletableFuture.runAsync(() -> {
+            sleep(50);
+            projection.onEvent(new OrderPlacedEvent(order, Instant.now()), 0, true);
+        });
+
+        // Then
+        assertThat(projection.awaitChanges(token)).isTrue();
+        assertThat(projection.findById(order.getId())).isPresent();
+        assertThat(projection.lag()).isZero();
+        delivery.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    @DisplayName("Should serve reads without a token at once, however far behind it is")
+    void shouldServeReadsWithoutATokenAtOnceHoweverFarBehindItIs() {
+        // Given
+        OrderProjection projection = projection(10, Duration.ofSeconds(5));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        projection.bindTo(registry);
+        published.set(4);
+
+        // When
+        long started = System.nanoTime();
+        List<OrderView> page = projection.findPage(null, 10);
+        List<OrderView> recent = projection.findRecent(10);
+
+        // Then
+        assertThat(page).isEmpty();
+        assertThat(recent).isEmpty();
+        assertThat(Duration.ofNanos(System.nanoTime() - started)).isLessThan(Duration.ofSeconds(1));
+        assertThat(registry.get("orders.query.stale.reads").functionCounter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should give up on a consistency token once the consistency wait has passed")
+    void shouldGiveUpOnAConsistencyTokenOnceTheConsistencyWaitHasPassed() {
+        // Given
+        OrderProjection projection = projection(10, Duration.ofMillis(20));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        projection.bindTo(registry);
+        published.set(4);
+
+        // When
+        boolean caughtUp = projection.awaitChanges(projection.consistencyToken());
+
+        // Then
+        assertThat(caughtUp).isFalse();
+        assertThat(registry.get("orders.query.lag").gauge().value()).isEqualTo(5);
+        assertThat(registry.get("orders.query.stale.reads").functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get("orders.store.size").tag("status", "PENDING").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should rebuild from the order store when a change cannot be applied")
+    void shouldRebuildFromTheOrderStoreWhenAChangeCannotBeApplied() {
+        // Given
+        OrderProjection projection = projection(10, Duration.ZERO);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        projection.bindTo(registry);
+        Order stored = repository.save(order("Syringe"));
+
+        // When
+        projection.onEvent(new OrderPlacedEvent(null, Instant.now()), ++sequence, true);
+
+        // Then
+        assertThat(projection.findById(stored.getId())).isPresent();
+        assertThat(projection.count(OrderStatus.PENDING)).isEqualTo(1);
+        assertThat(registry.get("orders.query.rebuilds").functionCounter().count()).isEqualTo(1);
+        assertThat(projection.lag()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should fail every read once a rebuild has failed")
+    void shouldFailEveryReadOnceARebuildHasFailed() {
+        // Given
+        AtomicBoolean storeDown = new AtomicBoolean();
+        InMemoryOrderRepository failingStore = new InMemoryOrderRepository() {
+            @Override
+            public void forEach(Consumer<Order> visitor) {
+                if (storeDown.get()) {
+                    throw new IllegalStateException("Order store unavailable");
+                }
+                super.forEach(visitor);
+            }
+        };
+        OrderProjection projection = new OrderProjection(new OrderQuerySettings(10, Duration.ZERO), failingStore,
+                published::get);
+        storeDown.set(true);
+
+        // When
+        projection.onEvent(new OrderPlacedEvent(null, Instant.now()), ++sequence, true);
+
+        // Then
+        assertThatThrownBy(() -> projection.findPage(null, 10))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("read model is unavailable")
+                .hasRootCauseMessage("Order store unavailable");
+    }
+
+    private OrderProjection projection(int recentCapacity, Duration consistencyWait) {
+        return new OrderProjection(new OrderQuerySettings(recentCapacity, consistencyWait), repository,
+                published::get);
+    }
+
+    private static Order order(String item) {
+        return Order.create(List.of(new OrderItem(item, 5)));
+    }
+
+    private static Order changed(Order order, Consumer<Order> change) {
+        Order copy = order.copy();
+        change.accept(copy);
+        return copy;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.medical.logistics.application.order.queries;
+
+import com.medical.logistics.domian.order.ItemNameDictionary;
+import com.medical.logistics.domian.order.Order;
+import com.medical.logistics.domian.order.OrderItem;
+import com.medical.logistics.domian.order.OrderRepository;
+import com.medical.logistics.domian.order.OrderStatus;
+import com.medical.logistics.domian.order.events.OrderApprovedEvent;
+import com.medical.logistics.domian.order.events.OrderCancelledEvent;
+import com.medical.logistics.domian.order.events.OrderPlacedEvent;
+import com.medical.logistics.infrastructure.events.OrderEventBus;
+import com.medical.logistics.infrastructure.persistence.CompactOrderRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.*;
+
+class RepositoryOrderQueryTest {
+    private final CompactOrderRepository repository = new CompactOrderRepository(new ItemNameDictionary(name -> false));
+    private final AtomicLong published = new AtomicLong(-1);
+    private long sequence = -1;
+
+    @Test
+    @DisplayName("Should read orders from the store without waiting for their events")
+    void shouldReadOrdersFromTheStoreWithoutWaitingForTheirEvents() {
+        // Given
+        RepositoryOrderQuery query = query(10);
+        Order pending = repository.save(order("Syringe"));
+        Order approved = repository.save(changed(order("Gauze"), Order::approve));
+        published.set(1);
+
+        // When
+        boolean caughtUp = query.awaitChanges(query.consistencyToken());
+
+        // Then
+        assertThat(caughtUp).isTrue();
+        assertThat(query.findById(pending.getId())).get().extracting(OrderView::status).isEqualTo(OrderStatus.PENDING);
+        assertThat(query.findByStatus(OrderStatus.APPROVED, null, 10)).extracting(OrderView::id)
+                .containsExactly(approved.getId());
+        assertThat(query.findPage(null, 10)).hasSize(2);
+        assertThat(query.forEach(view -> { })).isEqualTo(2);
+        assertThat(query.lag()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should count orders per status whatever order their events arrive in")
+    void shouldCountOrdersPerStatusWhateverOrderTheirEventsArriveIn() {
+        // Given
+        repository.save(order("Loaded"));
+        RepositoryOrderQuery query = query(10);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        query.bindTo(registry);
+        Order placed = repository.save(order("Syringe"));
+        Order approved = repository.save(changed(placed, Order::approve));
+
+        // When the approval arrives first
+        query.onEvent(new OrderApprovedEvent(approved, Instant.now()), ++sequence, true);
+        query.onEvent(new OrderPlacedEvent(placed, Instant.now()), ++sequence, true);
+
+        // Then
+        assertThat(query.count(OrderStatus.PENDING)).isEqualTo(1);
+        assertThat(query.count(OrderStatus.APPROVED)).isEqualTo(1);
+        assertThat(registry.get("orders.store.size").tag("status", "APPROVED").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should keep a bounded list of recent changes, newest first")
+    void shouldKeepABoundedListOfRecentChangesNewestFirst() {
+        // Given
+        RepositoryOrderQuery query = query(3);
+        List<Order> orders = List.of(order("First"), order("Second"), order("Third"), order("Fourth"));
+
+        // When
+        for (Order order : orders) {
+            query.onEvent(new OrderPlacedEvent(repository.save(order), Instant.now()), ++sequence, true);
+        }
+        Order cancelled = repository.save(changed(orders.get(1), Order::cancel));
+        query.onEvent(new OrderCancelledEvent(cancelled, Instant.now()), ++sequence, true);
+
+        // Then
+        assertThat(query.findRecent(10)).extracting(OrderView::id)
+                .containsExactly(orders.get(1).getId(), orders.get(3).getId(), orders.get(2).getId());
+        assertThat(query.findRecent(1)).extracting(OrderView::status).containsExactly(OrderStatus.CANCELLED);
+    }
+
+    @Test
+    @DisplayName("Should replace the projection only for the compact store")
+    void shouldReplaceTheProjectionOnlyForTheCompactStore() {
+        ApplicationContextRunner runner = new ApplicationContextRunner()
+                .withUserConfiguration(OrderProjection.class, RepositoryOrderQuery.class)
+                .withBean(OrderRepository.class, () -> repository)
+                .withBean(OrderEventBus.class, () -> null);
+
+        runner.withPropertyValues("orders.repository.type=compact").run(context -> {
+            assertThat(context).hasSingleBean(OrderQuery.class);
+            assertThat(context).hasSingleBean(RepositoryOrderQuery.class);
+        });
+        runner.run(context -> {
+            assertThat(context).hasSingleBean(OrderQuery.class);
+            assertThat(context).hasSingleBean(OrderProjection.class);
+        });
+    }
+
+    private RepositoryOrderQuery query(int recentCapacity) {
+        return new RepositoryOrderQuery(new OrderQuerySettings(recentCapacity, Duration.ZERO), repository,
+                published::get);
+    }
+
+    private static Order order(String item) {
+        return Order.create(List.of(new OrderItem(item, 5)));
+    }
+
+    private static Order changed(Order order, Consumer<Order> change) {
+        Order copy = order.copy();
+        change.accept(copy);
+        return copy;
+    }
+}
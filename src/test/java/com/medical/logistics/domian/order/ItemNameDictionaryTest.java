@@ -0,0 +1,104 @@
+package com.medical.logistics.domian.order;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ItemNameDictionaryTest {
+
+    @Test
+    @DisplayName("Should give equal names the same code and decode it to one instance")
+    void shouldGiveEqualNamesTheSameCodeAndDecodeItToOneInstance() {
+        // Given
+        ItemNameDictionary dictionary = new ItemNameDictionary(16, name -> true);
+
+        // When
+        int first = dictionary.encode(new String("Saline 0.9% 500ml"));
+        int second = dictionary.encode(new String("Saline 0.9% 500ml"));
+        int other = dictionary.encode("Surgical Gloves");
+
+        // Then
+        assertThat(first).isEqualTo(second).isZero();
+        assertThat(other).isEqualTo(1);
+        assertThat(dictionary.decode(first)).isEqualTo("Saline 0.9% 500ml").isSameAs(dictionary.decode(second));
+        assertThat(dictionary.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should only add names it knows and leave every other name as written")
+    void shouldOnlyAddNamesItKnowsAndLeaveEveryOtherNameAsWritten() {
+        // Given
+        ItemNameDictionary dictionary = new ItemNameDictionary(16, Set.of("Syringe 5ml")::contains);
+        String typo = new String("Syrnge 5ml");
+
+        // When
+        String known = dictionary.canonical(new String("Syringe 5ml"));
+        String unknown = dictionary.canonical(typo);
+
+        // Then
+        assertThat(known).isSameAs(dictionary.canonical(new String("Syringe 5ml")));
+        assertThat(unknown).isSameAs(typo);
+        assertThat(dictionary.encode(typo)).isEqualTo(ItemNameDictionary.NO_CODE);
+        assertThat(dictionary.size()).isEqualTo(1);
+        assertThat(dictionary.unencoded()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should stop adding names once full and count the names left unencoded")
+    void shouldStopAddingNamesOnceFullAndCountTheNamesLeftUnencoded() {
+        // Given
+        ItemNameDictionary dictionary = new ItemNameDictionary(2, name -> true);
+        dictionary.encode("Syringe");
+        dictionary.encode("Gauze");
+
+        // When
+        int code = dictionary.encode("Scalpel");
+
+        // Then
+        assertThat(code).isEqualTo(ItemNameDictionary.NO_CODE);
+        assertThat(dictionary.encode("Gauze")).isEqualTo(1);
+        assertThat(dictionary.size()).isEqualTo(2);
+        assertThat(dictionary.unencoded()).isEqualTo(1);
+        assertThatThrownBy(() -> dictionary.decode(2))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Unknown item name code: 2");
+    }
+
+    @Test
+    @DisplayName("Should assign each name exactly one code under concurrent encoding")
+    void shouldAssignEachNameExactlyOneCodeUnderConcurrentEncoding() throws Exception {
+        // Given
+        ItemNameDictionary dictionary = new ItemNameDictionary(1000, name -> true);
+        Set<String> decoded = ConcurrentHashMap.newKeySet();
+
+        // When
+        try (ExecutorService threads = Executors.newFixedThreadPool(4)) {
+            Future<?>[] running = IntStream.range(0, 4).mapToObj(t -> threads.submit(() -> {
+                for (int i = 0; i < 1500; i++) {
+                    int code = dictionary.encode("Supply " + (i % 1200));
+                    if (code != ItemNameDictionary.NO_CODE) {
+                        decoded.add(dictionary.decode(code));
+                    }
+                }
+            })).toArray(Future[]::new);
+            for (Future<?> thread : running) {
+                thread.get();
+            }
+        }
+
+        // Then
+        assertThat(dictionary.size()).isEqualTo(1000);
+        assertThat(decoded).hasSize(1000);
+        Set<Integer> codes = decoded.stream().map(dictionary::encode).collect(Collectors.toSet());
+        assertThat(codes).hasSize(1000).allMatch(code -> code >= 0 && code < 1000);
+    }
+}
@@ -0,0 +1,92 @@
+package com.medical.logistics.domian.order;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Heap held by item names with the item name dictionary, against every order line keeping its
+ * own copy as it was parsed from a request or the journal. Orders are built from freshly
+ * allocated name strings drawn from a catalogue of a few thousand supplies. Opt-in:
+ * <pre>
+ * mvn test -Dtest=ItemNameFootprintBenchmarkTest -Dbenchmark=true -Dbenchmark.orders=10000000 -DargLine=-Xmx12g
+ * </pre>
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class ItemNameFootprintBenchmarkTest {
+    private static final String[] SUPPLIES = {
+            "Surgical Gloves", "Nitrile Gloves", "Syringe", "IV Cannula", "Saline 0.9%", "Gauze Pad",
+            "Elastic Bandage", "Suture Kit", "Surgical Mask", "Oxygen Mask", "Urinary Catheter", "Alcohol Swab"
+    };
+    private static final String[] SIZES = {"XS", "S", "M", "L", "XL", "5ml", "10ml", "20ml", "100ml", "250ml",
+            "500ml", "1000ml", "10x10cm", "7.5cm", "15cm", "18G", "20G", "22G", "24G", "2-0", "3-0", "Pack of 10",
+            "Pack of 50", "Pack of 100", "Sterile", "Non-sterile"};
+    private static final int VARIANTS = 10;
+
+    @Test
+    @DisplayName("Benchmark heap held by item names with and without the dictionary")
+    void benchmarkHeapHeldByItemNamesWithAndWithoutTheDictionary() {
+        // Given: about 3,000 distinct names
+        int orderCount = Integer.getInteger("benchmark.orders", 1_000_000);
+        List<String> catalogue = new ArrayList<>();
+        for (String supply : SUPPLIES) {
+            for (String size : SIZES) {
+                for (int variant = 1; variant <= VARIANTS; variant++) {
+                    catalogue.add(supply + " " + size + " (REF-" + variant + ")");
+                }
+            }
+        }
+        ItemNameDictionary itemNames = new ItemNameDictionary(Set.copyOf(catalogue)::contains);
+        SplittableRandom random = new SplittableRandom(42);
+        long before = usedHeap();
+
+        // When
+        Order[] orders = new Order[orderCount];
+        Map<String, Long> lines = new HashMap<>();
+        for (int i = 0; i < orderCount; i++) {
+            int itemCount = 1 + random.nextInt(5);
+            List<OrderItem> items = new ArrayList<>(itemCount);
+            for (int n = 0; n < itemCount; n++) {
+                String name = new String(catalogue.get(random.nextInt(catalogue.size())));
+                items.add(new OrderItem(itemNames.canonical(name), 1 + random.nextInt(100)));
+                lines.merge(name, 1L, Long::sum);
+            }
+            orders[i] = Order.create(items);
+        }
+        long heap = usedHeap() - before;
+
+        // Then: a copy per line without the dictionary, one per distinct name with it
+        long withoutDictionary = 0;
+        long withDictionary = 0;
+        for (Map.Entry<String, Long> name : lines.entrySet()) {
+            long bytes = GraphLayout.parseInstance(new String(name.getKey())).totalSize();
+            withoutDictionary += bytes * name.getValue();
+            withDictionary += bytes;
+        }
+        long items = lines.values().stream().mapToLong(Long::longValue).sum();
+        System.out.printf("%,d orders, %,d items, %,d distinct names, %,d MB of heap with the dictionary%n",
+                orderCount, items, lines.size(), heap >> 20);
+        System.out.printf("item names: %,d MB as per-line copies, %,d KB with the dictionary, %,d MB saved%n",
+                withoutDictionary >> 20, withDictionary >> 10, (withoutDictionary - withDictionary) >> 20);
+        assertThat(itemNames.size()).isEqualTo(lines.size());
+        assertThat(withDictionary).isLessThan(withoutDictionary);
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -88,4 +88,46 @@ class OrderIdTest {
         assertThat(id1).isNotEqualTo(null);
         assertThat(id1).isNotEqualTo("not an OrderId");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should order ids like their canonical string form")
+    void shouldOrderIdsLikeTheirCanonicalStringForm() {
+        // Given
+        OrderId low = OrderId.of("00000000-0000-0000-0000-000000000001");
+        OrderId high = OrderId.of("ffffffff-0000-0000-0000-000000000000");
+
+        // Then
+        assertThat(low).isLessThan(high);
+        assertThat(high.compareTo(low)).isPositive();
+        assertThat(low.compareTo(OrderId.of(low.getValue()))).isZero();
+    }
+
+    @Test
+    @DisplayName("Should accept both random and time-ordered id strings")
+    void shouldAcceptBothRandomAndTimeOrderedIdStrings() {
+        // Given
+        String randomId = UUID.randomUUID().toString();
+        String timeOrderedId = OrderIdGenerator.timeOrdered().next().toString();
+
+        // When
+        OrderId fromRandom = OrderId.of(randomId);
+        OrderId fromTimeOrdered = OrderId.of(timeOrderedId);
+
+        // Then
+        assertThat(fromRandom.getValue().version()).isEqualTo(4);
+        assertThat(fromTimeOrdered.getValue().version()).isEqualTo(7);
+        assertThat(fromTimeOrdered.toString()).isEqualTo(timeOrderedId);
+    }
+
+    @Test
+    @DisplayName("Should generate time-ordered ids by default")
+    void shouldGenerateTimeOrderedIdsByDefault() {
+        // When
+        OrderId first = OrderId.generate();
+        OrderId second = OrderId.generate();
+
+        // Then
+        assertThat(first.getValue().version()).isEqualTo(7);
+        assertThat(first).isLessThan(second);
+    }
+}
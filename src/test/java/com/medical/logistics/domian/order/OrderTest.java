@@ -146,4 +146,40 @@ class OrderTest {
                     .hasMessageContaining("Cannot cancel order in CANCELLED status");
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("Order Versioning")
+    class OrderVersioning {
+
+        @Test
+        @DisplayName("Should bump the version on every state change")
+        void shouldBumpTheVersionOnEveryStateChange() {
+            // Given
+            Order order = Order.create(List.of(new OrderItem("Mask", 100)));
+
+            // When
+            order.approve();
+
+            // Then
+            assertThat(order.getVersion()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Should copy without sharing state")
+        void shouldCopyWithoutSharingState() {
+            // Given
+            Order order = Order.create(List.of(new OrderItem("Mask", 100)));
+
+            // When
+            Order copy = order.copy();
+            copy.cancel();
+
+            // Then
+            assertThat(order.getStatus()).isEqualTo(OrderStatus.PENDING);
+            assertThat(order.getVersion()).isZero();
+            assertThat(copy.getId()).isEqualTo(order.getId());
+            assertThat(copy.getItems()).containsExactlyElementsOf(order.getItems());
+            assertThat(copy.getVersion()).isEqualTo(1);
+        }
+    }
+}
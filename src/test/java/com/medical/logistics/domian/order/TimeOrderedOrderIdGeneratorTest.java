@@ -0,0 +1,91 @@
+package com.medical.logistics.domian.order;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimeOrderedOrderIdGeneratorTest {
+
+    @Test
+    @DisplayName("Should generate version 7 ids with RFC variant")
+    void shouldGenerateVersion7IdsWithRfcVariant() {
+        // Given
+        TimeOrderedOrderIdGenerator generator = new TimeOrderedOrderIdGenerator(System::currentTimeMillis);
+
+        // When
+        UUID id = generator.next();
+
+        // Then
+        assertThat(id.version()).isEqualTo(7);
+        assertThat(id.variant()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should embed creation time in the most significant bits")
+    void shouldEmbedCreationTimeInTheMostSignificantBits() {
+        // Given
+        long millis = 1_700_000_000_000L;
+        TimeOrderedOrderIdGenerator generator = new TimeOrderedOrderIdGenerator(() -> millis);
+
+        // When
+        UUID id = generator.next();
+
+        // Then
+        assertThat(id.getMostSignificantBits() >>> 16).isEqualTo(millis);
+    }
+
+    @Test
+    @DisplayName("Should be strictly increasing within the same millisecond")
+    void shouldBeStrictlyIncreasingWithinTheSameMillisecond() {
+        // Given
+        TimeOrderedOrderIdGenerator generator = new TimeOrderedOrderIdGenerator(() -> 1_700_000_000_000L);
+
+        // When
+        List<OrderId> ids = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            ids.add(OrderId.of(generator.next()));
+        }
+
+        // Then
+        assertThat(ids).isSorted().doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("Should stay monotonic when the clock moves backwards")
+    void shouldStayMonotonicWhenTheClockMovesBackwards() {
+        // Given
+        AtomicLong clock = new AtomicLong(1_700_000_000_000L);
+        TimeOrderedOrderIdGenerator generator = new TimeOrderedOrderIdGenerator(clock::get);
+
+        // When
+        OrderId first = OrderId.of(generator.next());
+        clock.addAndGet(-5_000);
+        OrderId second = OrderId.of(generator.next());
+
+        // Then
+        assertThat(second).isGreaterThan(first);
+    }
+
+    @Test
+    @DisplayName("Should sort ids by creation time")
+    void shouldSortIdsByCreationTime() {
+        // Given
+        AtomicLong clock = new AtomicLong(1_700_000_000_000L);
+        TimeOrderedOrderIdGenerator generator = new TimeOrderedOrderIdGenerator(clock::get);
+
+        // When
+        OrderId earlier = OrderId.of(generator.next());
+        clock.incrementAndGet();
+        OrderId later = OrderId.of(generator.next());
+
+        // Then
+        assertThat(earlier).isLessThan(later);
+        assertThat(earlier.toString()).isLessThan(later.toString());
+    }
+}
@@ -0,0 +1,145 @@
+package com.medical.logistics.infrastructure.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.medical.logistics.domian.order.Order;
+import com.medical.logistics.domian.order.OrderItem;
+import com.medical.logistics.domian.order.events.OrderApprovedEvent;
+import com.medical.logistics.interfaces.rest.OrderMapper;
+import com.medical.logistics.interfaces.rest.dto.OrderResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+
+class OrderResponseCacheTest {
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final OrderMapper mapper = new OrderMapper();
+
+    @Test
+    @DisplayName("Should serialize each order version once")
+    void shouldSerializeEachOrderVersionOnce() throws Exception {
+        // Given
+        OrderResponseCache cache = cache(DataSize.ofMegabytes(1));
+        Order order = Order.create(List.of(new OrderItem("Syringe", 10)));
+        OrderResponse response = mapper.toResponse(order);
+
+        // When
+        byte[] first = cache.serialize(response);
+        byte[] second = cache.serialize(mapper.toResponse(order));
+
+        // Then
+        assertThat(second).isSameAs(first);
+        assertThat(objectMapper.readTree(first).get("id").asText()).isEqualTo(order.getId().getValue().toString());
+        assertThat(cache.hits()).isEqualTo(1);
+        assertThat(cache.misses()).isEqualTo(1);
+        assertThat(cache.bytes()).isEqualTo(first.length + OrderResponseCache.ENTRY_OVERHEAD_BYTES);
+    }
+
+    @Test
+    @DisplayName("Should only map an order when its version is not cached")
+    void shouldOnlyMapAnOrderWhenItsVersionIsNotCached() {
+        // Given
+        OrderResponseCache cache = cache(DataSize.ofMegabytes(1));
+        Order order = Order.create(List.of(new OrderItem("Syringe", 10)));
+        UUID id = order.getId().getValue();
+        AtomicInteger mapped = new AtomicInteger();
+        Supplier<OrderResponse> response = () -> {
+            mapped.incrementAndGet();
+            return mapper.toResponse(order);
+        };
+
+        // When
+        byte[] first = cache.serialize(id, order.getVersion(), response);
+        byte[] second = cache.serialize(id, order.getVersion(), response);
+
+        // Then
+        assertThat(second).isSameAs(first);
+        assertThat(mapped).hasValue(1);
+        assertThat(OrderResponseCache.etag(id, 0)).isEqualTo("\"" + id + "-0\"");
+    }
+
+    @Test
+    @DisplayName("Should drop an entry on a transition and replace it with the newer version")
+    void shouldDropAnEntryOnATransitionAndReplaceItWithTheNewerVersion() throws Exception {
+        // Given
+        OrderResponseCache cache = cache(DataSize.ofMegabytes(1));
+        Order order = Order.create(List.of(new OrderItem("Syringe", 10)));
+        cache.serialize(mapper.toResponse(order));
+        Order approved = order.copy();
+        approved.approve();
+
+        // When
+        cache.onEvent(new OrderApprovedEvent(approved, Instant.now()), 0, true);
+
+        // Then
+        assertThat(cache.size()).isZero();
+        assertThat(cache.bytes()).isZero();
+        byte[] json = cache.serialize(mapper.toResponse(approved));
+        assertThat(objectMapper.readTree(json).get("status").asText()).isEqualTo("APPROVED");
+        // an older version never displaces the newer one
+        cache.serialize(mapper.toResponse(order));
+        assertThat(cache.serialize(mapper.toResponse(approved))).isSameAs(json);
+    }
+
+    @Test
+    @DisplayName("Should stay within the memory bound and give recently read entries a second chance")
+    void shouldStayWithinTheMemoryBoundAndGiveRecentlyReadEntriesASecondChance() {
+        // Given
+        List<OrderResponse> orders = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            orders.add(mapper.toResponse(Order.create(List.of(new OrderItem("Item " + i, i + 1)))));
+        }
+        long entryBytes = cache(DataSize.ofMegabytes(1)).serialize(orders.get(0)).length
+                + OrderResponseCache.ENTRY_OVERHEAD_BYTES;
+        OrderResponseCache cache = cache(DataSize.ofBytes(entryBytes * 10));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        cache.bindTo(registry);
+        OrderResponse hot = orders.get(0);
+
+        // When
+        for (OrderResponse order : orders) {
+            cache.serialize(order);
+            cache.serialize(hot);
+        }
+
+        // Then
+        assertThat(cache.bytes()).isLessThanOrEqualTo(entryBytes * 10);
+        assertThat(cache.evictions()).isGreaterThan(80);
+        long hotHits = cache.hits();
+        cache.serialize(hot);
+        assertThat(cache.hits()).isEqualTo(hotHits + 1);
+        assertThat(registry.get("orders.response.cache.requests").tag("result", "hit").functionCounter().count())
+                .isEqualTo(hotHits + 1);
+        assertThat(registry.get("orders.response.cache.bytes").gauge().value()).isEqualTo(cache.bytes());
+    }
+
+    @Test
+    @DisplayName("Should only serialize when caching is disabled")
+    void shouldOnlySerializeWhenCachingIsDisabled() {
+        // Given
+        OrderResponseCache cache = cache(DataSize.ofBytes(0));
+        OrderResponse response = mapper.toResponse(Order.create(List.of(new OrderItem("Syringe", 10))));
+
+        // When
+        byte[] first = cache.serialize(response);
+        byte[] second = cache.serialize(response);
+
+        // Then
+        assertThat(second).isNotSameAs(first).isEqualTo(first);
+        assertThat(cache.size()).isZero();
+    }
+
+    private OrderResponseCache cache(DataSize maxSize) {
+        return new OrderResponseCache(new ResponseCacheSettings(maxSize), objectMapper);
+    }
+}
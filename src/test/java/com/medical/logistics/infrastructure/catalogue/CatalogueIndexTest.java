@@ -0,0 +1,63 @@
+package com.medical.logistics.infrastructure.catalogue;
+
+import com.medical.logistics.domian.catalogue.CatalogueItem;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class CatalogueIndexTest {
+    private static final CatalogueItem SYRINGE_5 = new CatalogueItem("SYR-005", "Syringe 5ml");
+    private static final CatalogueItem SYRINGE_10 = new CatalogueItem("SYR-010", "Syringe 10ml");
+    private static final CatalogueItem GLOVES = new CatalogueItem("GLV-NIT-M", "Nitrile Gloves M");
+    private static final CatalogueItem SURGICAL_GLOVES = new CatalogueItem("GLV-SUR-7", "Surgical Gloves 7");
+    private static final CatalogueItem SALINE = new CatalogueItem("SAL-500", "Saline 0.9% 500ml");
+
+    private final CatalogueIndex index = CatalogueIndex.of(List.of(SALINE, SURGICAL_GLOVES, SYRINGE_5, GLOVES, SYRINGE_10));
+
+    @Test
+    @DisplayName("Should find items by name, word or SKU prefix ignoring case")
+    void shouldFindItemsByNameWordOrSkuPrefixIgnoringCase() {
+        // When
+        List<CatalogueItem> byName = index.search("SYR", 10);
+        List<CatalogueItem> byWord = index.search("glo", 10);
+        List<CatalogueItem> bySku = index.search("glv-n", 10);
+
+        // Then
+        assertThat(byName).containsExactly(SYRINGE_5, SYRINGE_10);
+        assertThat(byWord).containsExactly(SURGICAL_GLOVES, GLOVES);
+        assertThat(bySku).containsExactly(GLOVES);
+        assertThat(index.search("  saline 0.9% 5", 10)).containsExactly(SALINE);
+        assertThat(index.search("scalpel", 10)).isEmpty();
+        assertThat(index.search("zzz", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should return each item once and stop at the limit")
+    void shouldReturnEachItemOnceAndStopAtTheLimit() {
+        // Given: "s" matches Syringe, Surgical and Saline by name and by SKU
+        // When
+        List<CatalogueItem> all = index.search("s", 10);
+        List<CatalogueItem> limited = index.search("s", 2);
+
+        // Then
+        assertThat(all).containsExactlyInAnyOrder(SALINE, SURGICAL_GLOVES, SYRINGE_5, SYRINGE_10);
+        assertThat(limited).hasSize(2).doesNotHaveDuplicates();
+        assertThat(CatalogueIndex.empty().search("s", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should match names exactly and reject duplicate SKUs")
+    void shouldMatchNamesExactlyAndRejectDuplicateSkus() {
+        // Then
+        assertThat(index.containsName("Syringe 5ml")).isTrue();
+        assertThat(index.containsName("syringe 5ml")).isFalse();
+        assertThat(index.containsName("Syringe 5 ml")).isFalse();
+        assertThat(index.size()).isEqualTo(5);
+        assertThatThrownBy(() -> CatalogueIndex.of(List.of(SYRINGE_5, new CatalogueItem("SYR-005", "Syringe 5ml Luer"))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Duplicate SKU SYR-005 for items 'Syringe 5ml' and 'Syringe 5ml Luer'");
+    }
+}
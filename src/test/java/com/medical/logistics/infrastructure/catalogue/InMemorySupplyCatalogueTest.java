@@ -0,0 +1,101 @@
+package com.medical.logistics.infrastructure.catalogue;
+
+import com.medical.logistics.domian.catalogue.CatalogueItem;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class InMemorySupplyCatalogueTest {
+
+    @Test
+    @DisplayName("Should load the configured file on startup and on reload")
+    void shouldLoadTheConfiguredFileOnStartupAndOnReload() {
+        // Given
+        ByteArrayResource file = new ByteArrayResource("""
+                # sku,name
+                SYR-005,Syringe 5ml
+
+                SUT-30, Suture 3-0, absorbable
+                """.getBytes(StandardCharsets.UTF_8));
+
+        // When
+        InMemorySupplyCatalogue catalogue = new InMemorySupplyCatalogue(new CatalogueSettings(file, false));
+        catalogue.replace(List.of());
+        int reloaded = catalogue.reload();
+
+        // Then
+        assertThat(reloaded).isEqualTo(2);
+        assertThat(catalogue.search("sut", 10)).containsExactly(new CatalogueItem("SUT-30", "Suture 3-0, absorbable"));
+        assertThat(catalogue.containsName("Syringe 5ml")).isTrue();
+        assertThatThrownBy(() -> new InMemorySupplyCatalogue(new CatalogueSettings(null, false)).reload())
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("No catalogue file configured in orders.catalogue.file");
+    }
+
+    @Test
+    @DisplayName("Should reject a line that is not sku and name")
+    void shouldRejectALineThatIsNotSkuAndName() {
+        // Given
+        ByteArrayResource file = new ByteArrayResource("SYR-005,Syringe 5ml\nGauze Pad\n".getBytes(StandardCharsets.UTF_8));
+
+        // Then
+        assertThatThrownBy(() -> new InMemorySupplyCatalogue(new CatalogueSettings(file, false)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Catalogue line 2 is not sku,name: Gauze Pad");
+    }
+
+    @Test
+    @DisplayName("Should keep serving a complete catalogue while it is replaced")
+    void shouldKeepServingACompleteCatalogueWhileItIsReplaced() throws Exception {
+        // Given
+        InMemorySupplyCatalogue catalogue = new InMemorySupplyCatalogue(new CatalogueSettings(null, false));
+        List<CatalogueItem> small = catalogue("Syringe", 10);
+        List<CatalogueItem> large = catalogue("Syringe", 20_000);
+        catalogue.replace(small);
+        AtomicBoolean replacing = new AtomicBoolean(true);
+        AtomicInteger searches = new AtomicInteger();
+
+        // When
+        CompletableFuture<Void> reader = CompletableFuture.runAsync(() -> {
+            do {
+                List<CatalogueItem> found = catalogue.search("syringe", 50);
+                int size = catalogue.size();
+                if (found.size() != 10 && found.size() != 50 || size != 10 && size != 20_000) {
+                    throw new AssertionError("Partial catalogue: " + found.size() + " of " + size);
+                }
+                searches.incrementAndGet();
+            } while (replacing.get());
+        });
+        for (int i = 0; i < 20; i++) {
+            catalogue.replace(i % 2 == 0 ? large : small);
+        }
+        replacing.set(false);
+        reader.get();
+
+        // Then
+        assertThat(searches).hasPositiveValue();
+        assertThat(catalogue.size()).isEqualTo(10);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        catalogue.bindTo(registry);
+        assertThat(registry.get("orders.catalogue.items").gauge().value()).isEqualTo(10);
+        assertThat(registry.get("orders.catalogue.replacements").functionCounter().count()).isEqualTo(21);
+    }
+
+    private static List<CatalogueItem> catalogue(String supply, int count) {
+        List<CatalogueItem> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            items.add(new CatalogueItem("SKU-" + i, supply + " " + i));
+        }
+        return items;
+    }
+}
@@ -0,0 +1,359 @@
+package com.medical.logistics.infrastructure.changelog;
+
+import com.medical.logistics.domian.order.Order;
+import com.medical.logistics.domian.order.OrderItem;
+import com.medical.logistics.infrastructure.persistence.journal.DurabilityMode;
+import com.medical.logistics.infrastructure.persistence.journal.JournalFollower;
+import com.medical.logistics.infrastructure.persistence.journal.JournalSettings;
+import com.medical.logistics.infrastructure.persistence.journal.JournaledOrderRepository;
+import com.medical.logistics.infrastructure.persistence.journal.SegmentedJournal;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+class OrderChangeLogTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Should record every committed change in journal order")
+    void shouldRecordEveryCommittedChangeInJournalOrder() throws Exception {
+        // Given
+        Order approved = Order.create(List.of(new OrderItem("Syringe", 10)));
+        Order cancelled = Order.create(List.of(new OrderItem("Gauze 10cm", 3)));
+
+        try (OrderChangeLog changeLog = new OrderChangeLog(changeLogSettings(DataSize.ofMegabytes(1)));
+             JournaledOrderRepository repository = new JournaledOrderRepository(journalSettings(), changeLog)) {
+            // When
+            repository.saveAll(List.of(approved, cancelled));
+            repository.transition(approved.getId(), 0, Order::approve);
+            repository.transition(cancelled.getId(), 0, Order::cancel);
+
+            // Then
+            awaitEndOffset(changeLog, 4);
+            List<ChangeLogEntry> entries = readAll(changeLog, 0, Long.MAX_VALUE);
+            assertThat(entries).extracting(ChangeLogEntry::offset).containsExactly(0L, 1L, 2L, 3L);
+            assertThat(entries).extracting(ChangeLogEntry::sourceSequence).containsExactly(0L, 1L, 2L, 3L);
+            assertThat(entries).extracting(ChangeLogEntry::type).containsExactly(
+                    ChangeType.PLACED, ChangeType.PLACED, ChangeType.APPROVED, ChangeType.CANCELLED);
+            assertThat(entries.get(2).order().getId()).isEqualTo(approved.getId());
+            assertThat(entries.get(2).order().getVersion()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    @DisplayName("Should read in bounded batches of whole frames across segments")
+    void shouldReadInBoundedBatchesOfWholeFramesAcrossSegments() throws Exception {
+        // Given
+        int orders = 2000;
+        try (OrderChangeLog changeLog = new OrderChangeLog(changeLogSettings(DataSize.ofKilobytes(32)));
+             JournaledOrderRepository repository = new JournaledOrderRepository(journalSettings(), changeLog)) {
+            for (int i = 0; i < orders; i++) {
+                repository.save(Order.create(List.of(new OrderItem("Nitrile gloves M", i + 1))));
+            }
+            awaitEndOffset(changeLog, orders);
+            assertThat(SegmentedJournal.listSegments(directory.resolve("changelog"))).hasSizeGreaterThan(3);
+
+            // When
+            List<ChangeLogEntry> entries = new ArrayList<>();
+            long offset = 0;
+            Optional<ChangeLogSlice> slice;
+            while ((slice = changeLog.read(offset, 4096)).isPresent()) {
+                assertThat(slice.get().length()).isLessThanOrEqualTo(4096);
+                assertThat(slice.get().offset()).isEqualTo(offset);
+                int decoded = ChangeLogEntry.decodeAll(transfer(changeLog, slice.get()), entries::add);
+                assertThat(decoded).isEqualTo(slice.get().count());
+                offset = slice.get().nextOffset();
+            }
+
+            // Then
+            assertThat(offset).isEqualTo(orders);
+            assertThat(entries).hasSize(orders);
+            for (int i = 0; i < orders; i++) {
+                assertThat(entries.get(i).offset()).isEqualTo(i);
+                assertThat(entries.get(i).order().getItems().get(0).getQuantity()).isEqualTo(i + 1);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should catch up from the journal after losing its tail in a crash")
+    void shouldCatchUpFromTheJournalAfterLosingItsTailInACrash() throws Exception {
+        // Given
+        try (OrderChangeLog changeLog = new OrderChangeLog(changeLogSettings(DataSize.ofMegabytes(1)));
+             JournaledOrderRepository repository = new JournaledOrderRepository(journalSettings(), changeLog)) {
+            for (int i = 0; i < 100; i++) {
+                repository.save(Order.create(List.of(new OrderItem("Masks", i + 1))));
+            }
+            awaitEndOffset(changeLog, 100);
+        }
+        // the last 30 entries never reached the disk, and the one before them is torn
+        Path segment = SegmentedJournal.listSegments(directory.resolve("changelog")).get(0);
+        long keep = framePosition(segment, 70) + 11;
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.truncate(keep);
+        }
+
+        // When
+        try (OrderChangeLog changeLog = new OrderChangeLog(changeLogSettings(DataSize.ofMegabytes(1)));
+             JournaledOrderRepository repository = new JournaledOrderRepository(journalSettings(), changeLog)) {
+            awaitEndOffset(changeLog, 100);
+            repository.save(Order.create(List.of(new OrderItem("Masks", 101))));
+            awaitEndOffset(changeLog, 101);
+
+            // Then
+            List<ChangeLogEntry> entries = readAll(changeLog, 0, Long.MAX_VALUE);
+            assertThat(entries).extracting(ChangeLogEntry::sourceSequence)
+                    .containsExactlyElementsOf(Stream.iterate(0L, i -> i + 1).limit(101).toList());
+            assertThat(entries).extracting(entry -> entry.order().getItems().get(0).getQuantity())
+                    .containsExactlyElementsOf(Stream.iterate(1, i -> i + 1).limit(101).toList());
+        }
+    }
+
+    @Test
+    @DisplayName("Should follow on from its last entry when the process stopped right after a roll")
+    void shouldFollowOnFromItsLastEntryWhenTheProcessStoppedRightAfterARoll() throws Exception {
+        // Given
+        try (OrderChangeLog changeLog = new OrderChangeLog(changeLogSettings(DataSize.ofKilobytes(2)));
+             JournaledOrderRepository repository = new JournaledOrderRepository(journalSettings(), changeLog)) {
+            for (int i = 0; i < 100; i++) {
+                repository.save(Order.create(List.of(new OrderItem("Masks", i + 1))));
+            }
+            awaitEndOffset(changeLog, 100);
+        }
+        // the process died after a roll created the next segment but before anything reached it
+        Files.createFile(directory.resolve("changelog").resolve(SegmentedJournal.segmentName(100)));
+        ChangeLogSettings smallRetention = new ChangeLogSettings(directory.resolve("changelog"),
+                DataSize.ofKilobytes(2), DataSize.ofBytes(1), Duration.ofDays(7), Duration.ZERO, DataSize.ofMegabytes(8));
+        try (OrderChangeLog changeLog = new OrderChangeLog(smallRetention)) {
+            changeLog.applyRetention();
+        }
+
+        // When
+        try (OrderChangeLog changeLog = new OrderChangeLog(changeLogSettings(DataSize.ofKilobytes(2)));
+             JournaledOrderRepository repository = new JournaledOrderRepository(journalSettings(), changeLog)) {
+            repository.save(Order.create(List.of(new OrderItem("Masks", 101))));
+            awaitEndOffset(changeLog, 101);
+
+            // Then
+            long earliest = changeLog.earliestOffset();
+            assertThat(earliest).isPositive();
+            List<ChangeLogEntry> entries = readAll(changeLog, earliest, Long.MAX_VALUE);
+            assertThat(entries).extracting(ChangeLogEntry::sourceSequence)
+                    .containsExactlyElementsOf(Stream.iterate(earliest, i -> i + 1).limit(101 - earliest).toList());
+            assertThat(changeLog.endOffset()).isEqualTo(101);
+        }
+    }
+
+    @Test
+    @DisplayName("Should hold every journal record exactly once when the process dies mid-write")
+    void shouldHoldEveryJournalRecordExactlyOnceWhenTheProcessDiesMidWrite() throws Exception {
+        // Given: writers keep saving while the data directory is copied, which is what a
+        // crash leaves on disk
+        Path crashed = Files.createDirectory(directory.resolve("crashed"));
+        try (OrderChangeLog changeLog = new OrderChangeLog(changeLogSettings(DataSize.ofKilobytes(16)));
+             JournaledOrderRepository repository = new JournaledOrderRepository(journalSettings(), changeLog)) {
+            AtomicBoolean running = new AtomicBoolean(true);
+            Thread writer = Thread.ofPlatform().start(() -> {
+                int i = 0;
+                while (running.get()) {
+                    repository.save(Order.create(List.of(new OrderItem("Saline 0.9% 500ml", ++i))));
+                }
+            });
+            awaitEndOffset(changeLog, 500);
+            // change log first: a copy taken later can only be further ahead, like the journal it follows
+            copyDirectory(directory.resolve("changelog"), crashed.resolve("changelog"));
+            copyDirectory(directory.resolve("journal"), crashed.resolve("journal"));
+            running.set(false);
+            writer.join();
+        }
+
+        // When
+        JournalSettings journal = new JournalSettings(crashed.resolve("journal"), DataSize.ofKilobytes(4),
+                DurabilityMode.GROUP, Duration.ofMillis(10), 1024, Duration.ZERO);
+        ChangeLogSettings changes = new ChangeLogSettings(crashed.resolve("changelog"), DataSize.ofKilobytes(16),
+                DataSize.ofGigabytes(1), Duration.ofDays(7), Duration.ZERO, DataSize.ofMegabytes(8));
+        try (OrderChangeLog changeLog = new OrderChangeLog(changes);
+             JournaledOrderRepository repository = new JournaledOrderRepository(journal, changeLog)) {
+            int orders = repository.findAll().size();
+            awaitEndOffset(changeLog, orders);
+
+            // Then
+            List<ChangeLogEntry> entries = readAll(changeLog, 0, 64 * 1024);
+            assertThat(entries).hasSize(orders);
+            assertThat(entries).extracting(ChangeLogEntry::sourceSequence)
+                    .containsExactlyElementsOf(Stream.iterate(0L, i -> i + 1).limit(orders).toList());
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep journal segments a follower has not caught up on through compaction")
+    void shouldKeepJournalSegmentsAFollowerHasNotCaughtUpOnThroughCompaction() throws Exception {
+        // Given
+        List<Long> followed = new ArrayList<>();
+        JournalFollower stalled = new JournalFollower() {
+            @Override
+            public long resumeSequence() {
+                return 0;
+            }
+
+            @Override
+            public void handle(long sequence, ByteBuffer payload) {
+                followed.add(sequence);
+            }
+        };
+        try (JournaledOrderRepository repository = new JournaledOrderRepository(journalSettings(), stalled)) {
+            for (int i = 0; i < 200; i++) {
+                repository.save(Order.create(List.of(new OrderItem("Gauze 10cm", i + 1))));
+            }
+
+            // When
+            repository.snapshot();
+        }
+        followed.clear();
+        try (JournaledOrderRepository restarted = new JournaledOrderRepository(journalSettings(), stalled)) {
+
+            // Then
+            assertThat(restarted.findAll()).hasSize(200);
+            assertThat(followed).containsExactlyElementsOf(Stream.iterate(0L, i -> i + 1).limit(200).toList());
+        }
+    }
+
+    @Test
+    @DisplayName("Should drop the oldest segments by size and age and report expired offsets")
+    void shouldDropTheOldestSegmentsBySizeAndAgeAndReportExpiredOffsets() throws Exception {
+        // Given
+        ChangeLogSettings settings = new ChangeLogSettings(directory.resolve("changelog"), DataSize.ofKilobytes(8),
+                DataSize.ofKilobytes(24), Duration.ofDays(7), Duration.ZERO, DataSize.ofMegabytes(8));
+        try (OrderChangeLog changeLog = new OrderChangeLog(settings);
+             JournaledOrderRepository repository = new JournaledOrderRepository(journalSettings(), changeLog)) {
+            for (int i = 0; i < 1000; i++) {
+                repository.save(Order.create(List.of(new OrderItem("Syringe", i + 1))));
+            }
+            awaitEndOffset(changeLog, 1000);
+
+            // When
+            int deletedBySize = changeLog.applyRetention();
+            List<Path> remaining = SegmentedJournal.listSegments(directory.resolve("changelog"));
+            Files.setLastModifiedTime(remaining.get(0), FileTime.from(Instant.now().minus(Duration.ofDays(8))));
+            int deletedByAge = changeLog.applyRetention();
+
+            // Then
+            assertThat(deletedBySize).isPositive();
+            assertThat(deletedByAge).isEqualTo(1);
+            long earliest = changeLog.earliestOffset();
+            assertThat(earliest).isPositive();
+            assertThatThrownBy(() -> changeLog.read(0, 4096))
+                    .isInstanceOf(ChangeLogOffsetExpiredException.class)
+                    .hasMessageContaining("earliest offset is " + earliest);
+            assertThat(readAll(changeLog, earliest, 4096)).hasSize((int) (1000 - earliest));
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep committed consumer offsets across restarts and ignore a damaged one")
+    void shouldKeepCommittedConsumerOffsetsAcrossRestartsAndIgnoreADamagedOne() throws Exception {
+        // Given
+        try (OrderChangeLog changeLog = new OrderChangeLog(changeLogSettings(DataSize.ofMegabytes(1)));
+             JournaledOrderRepository repository = new JournaledOrderRepository(journalSettings(), changeLog)) {
+            for (int i = 0; i < 10; i++) {
+                repository.save(Order.create(List.of(new OrderItem("Masks", i + 1))));
+            }
+            awaitEndOffset(changeLog, 10);
+            changeLog.commitOffset("billing", 7);
+            changeLog.commitOffset("warehouse", 3);
+            assertThatThrownBy(() -> changeLog.commitOffset("billing", 11))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> changeLog.commitOffset("../escape", 1))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+        Files.write(directory.resolve("changelog/offsets/warehouse.offset"), new byte[]{0, 0, 0, 0, 0, 0, 0, 3, 1, 2, 3, 4});
+
+        // When
+        try (OrderChangeLog changeLog = new OrderChangeLog(changeLogSettings(DataSize.ofMegabytes(1)))) {
+
+            // Then
+            assertThat(changeLog.committedOffset("billing")).hasValue(7);
+            assertThat(changeLog.committedOffset("warehouse")).isEmpty();
+            assertThat(changeLog.committedOffset("audit")).isEmpty();
+        }
+    }
+
+    private JournalSettings journalSettings() {
+        return new JournalSettings(directory.resolve("journal"), DataSize.ofKilobytes(4), DurabilityMode.GROUP,
+                Duration.ofMillis(10), 1024, Duration.ZERO);
+    }
+
+    private ChangeLogSettings changeLogSettings(DataSize segmentSize) {
+        return new ChangeLogSettings(directory.resolve("changelog"), segmentSize, DataSize.ofGigabytes(1),
+                Duration.ofDays(7), Duration.ZERO, DataSize.ofMegabytes(8));
+    }
+
+    private static List<ChangeLogEntry> readAll(OrderChangeLog changeLog, long from, long maxBytes) throws IOException {
+        List<ChangeLogEntry> entries = new ArrayList<>();
+        long offset = from;
+        Optional<ChangeLogSlice> slice;
+        while ((slice = changeLog.read(offset, maxBytes)).isPresent()) {
+            ChangeLogEntry.decodeAll(transfer(changeLog, slice.get()), entries::add);
+            offset = slice.get().nextOffset();
+        }
+        return entries;
+    }
+
+    private static ByteBuffer transfer(OrderChangeLog changeLog, ChangeLogSlice slice) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        changeLog.transferTo(slice, Channels.newChannel(out));
+        return ByteBuffer.wrap(out.toByteArray());
+    }
+
+    private static void awaitEndOffset(OrderChangeLog changeLog, long offset) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (changeLog.endOffset() < offset) {
+            if (System.nanoTime() > deadline) {
+                fail("Change log end offset " + changeLog.endOffset() + " did not reach " + offset);
+            }
+            Thread.sleep(1);
+        }
+    }
+
+    // byte position of the frame at index within a segment
+    private static long framePosition(Path segment, int index) throws IOException {
+        ByteBuffer bytes = ByteBuffer.wrap(Files.readAllBytes(segment));
+        long position = 0;
+        for (int i = 0; i < index; i++) {
+            position += SegmentedJournal.HEADER_BYTES + bytes.getInt((int) position);
+        }
+        return position;
+    }
+
+    private static void copyDirectory(Path source, Path target) throws IOException {
+        Files.createDirectories(target);
+        try (Stream<Path> files = Files.list(source)) {
+            for (Path file : files.filter(Files::isRegularFile).toList()) {
+                Files.copy(file, target.resolve(file.getFileName()));
+            }
+        }
+    }
+}
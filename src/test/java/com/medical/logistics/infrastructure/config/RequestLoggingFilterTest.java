@@ -0,0 +1,127 @@
+package com.medical.logistics.infrastructure.config;
+
+import com.medical.logistics.infrastructure.logging.AccessLog;
+import com.medical.logistics.infrastructure.logging.AccessLogMode;
+import com.medical.logistics.infrastructure.logging.AccessLogSettings;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RequestLoggingFilterTest {
+
+    @Mock
+    private AccessLog accessLog;
+
+    @Test
+    @DisplayName("Should assign a request id to the response header and the MDC")
+    void shouldAssignARequestIdToTheResponseHeaderAndTheMdc() throws Exception {
+        // Given
+        RequestLoggingFilter filter = filter(0, Duration.ofSeconds(10));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicReference<String> idInChain = new AtomicReference<>();
+
+        // When
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/orders"), response,
+                (req, res) -> idInChain.set(MDC.get(AccessLog.REQUEST_ID_KEY)));
+
+        // Then
+        String requestId = response.getHeader(RequestLoggingFilter.REQUEST_ID_HEADER);
+        assertThat(requestId).isNotBlank().isEqualTo(idInChain.get());
+        assertThat(MDC.get(AccessLog.REQUEST_ID_KEY)).isNull();
+        verify(accessLog, never()).offer(any());
+    }
+
+    @Test
+    @DisplayName("Should reuse an acceptable inbound request id and replace a malformed one")
+    void shouldReuseAnAcceptableInboundRequestIdAndReplaceAMalformedOne() throws Exception {
+        // Given
+        RequestLoggingFilter filter = filter(0, Duration.ofSeconds(10));
+        MockHttpServletRequest traced = new MockHttpServletRequest("GET", "/api/orders");
+        traced.addHeader(RequestLoggingFilter.REQUEST_ID_HEADER, "edge-42.a");
+        MockHttpServletRequest forged = new MockHttpServletRequest("GET", "/api/orders");
+        forged.addHeader(RequestLoggingFilter.REQUEST_ID_HEADER, "bad\r\nid");
+        MockHttpServletResponse tracedResponse = new MockHttpServletResponse();
+        MockHttpServletResponse forgedResponse = new MockHttpServletResponse();
+
+        // When
+        filter.doFilter(traced, tracedResponse, (req, res) -> { });
+        filter.doFilter(forged, forgedResponse, (req, res) -> { });
+
+        // Then
+        assertThat(tracedResponse.getHeader(RequestLoggingFilter.REQUEST_ID_HEADER)).isEqualTo("edge-42.a");
+        assertThat(forgedResponse.getHeader(RequestLoggingFilter.REQUEST_ID_HEADER))
+                .isNotEqualTo("bad\r\nid").doesNotContain("\n");
+    }
+
+    @Test
+    @DisplayName("Should always log errors and slow requests when sampling nothing else")
+    void shouldAlwaysLogErrorsAndSlowRequestsWhenSamplingNothingElse() throws Exception {
+        // Given
+        RequestLoggingFilter filter = filter(0, Duration.ofMillis(20));
+        ArgumentCaptor<AccessLog.Entry> entries = ArgumentCaptor.forClass(AccessLog.Entry.class);
+
+        // When
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/orders"), new MockHttpServletResponse(),
+                (req, res) -> { });
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/orders/missing"), new MockHttpServletResponse(),
+                (req, res) -> ((HttpServletResponse) res).setStatus(404));
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/orders/export"), new MockHttpServletResponse(),
+                (req, res) -> sleep(30));
+        assertThatThrownBy(() -> filter.doFilter(new MockHttpServletRequest("PUT", "/api/orders/x/approve"),
+                new MockHttpServletResponse(), (req, res) -> {
+                    throw new ServletException("boom");
+                })).isInstanceOf(ServletException.class);
+
+        // Then
+        verify(accessLog, times(3)).offer(entries.capture());
+        assertThat(entries.getAllValues()).extracting(AccessLog.Entry::uri)
+                .containsExactly("/api/orders/missing", "/api/orders/export", "/api/orders/x/approve");
+        assertThat(entries.getAllValues()).extracting(AccessLog.Entry::status).containsExactly(404, 200, 500);
+        assertThat(entries.getAllValues().get(1).durationNanos()).isGreaterThanOrEqualTo(Duration.ofMillis(20).toNanos());
+    }
+
+    @Test
+    @DisplayName("Should log every request when the sample rate is one")
+    void shouldLogEveryRequestWhenTheSampleRateIsOne() throws Exception {
+        // Given
+        RequestLoggingFilter filter = filter(1, Duration.ofSeconds(10));
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            filter.doFilter(new MockHttpServletRequest("GET", "/api/orders"), new MockHttpServletResponse(),
+                    (req, res) -> { });
+        }
+
+        // Then
+        verify(accessLog, times(5)).offer(any());
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private RequestLoggingFilter filter(double sampleRate, Duration slowThreshold) {
+        return new RequestLoggingFilter(accessLog,
+                new AccessLogSettings(AccessLogMode.SAMPLED, sampleRate, slowThreshold, 16));
+    }
+}
@@ -0,0 +1,131 @@
+package com.medical.logistics.infrastructure.events;
+
+import com.medical.logistics.domian.order.Order;
+import com.medical.logistics.domian.order.OrderItem;
+import com.medical.logistics.domian.order.events.OrderApprovedEvent;
+import com.medical.logistics.domian.order.events.OrderEvent;
+import com.medical.logistics.domian.order.events.OrderPlacedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.ref.WeakReference;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class OrderEventBusTest {
+    private final EventBusSettings settings = new EventBusSettings(16, WaitStrategyType.BLOCKING);
+
+    @Test
+    @DisplayName("Should deliver every published event to every handler in order")
+    void shouldDeliverEveryPublishedEventToEveryHandlerInOrder() throws Exception {
+        // Given
+        RecordingHandler first = new RecordingHandler();
+        RecordingHandler second = new RecordingHandler();
+        Order order = Order.create(List.of(new OrderItem("Syringe", 10)));
+        OrderEvent placed = new OrderPlacedEvent(order, Instant.now());
+        OrderEvent approved = new OrderApprovedEvent(order, Instant.now());
+
+        try (OrderEventBus bus = new OrderEventBus(settings, List.of(first, second))) {
+            // When
+            bus.publish(placed);
+            bus.publish(approved);
+
+            // Then
+            RingBufferTest.await(() -> first.events.size() == 2 && second.events.size() == 2);
+            assertThat(first.events).containsExactly(placed, approved);
+            assertThat(second.events).containsExactly(placed, approved);
+        }
+    }
+
+    @Test
+    @DisplayName("Should let a slow handler finish its backlog on close")
+    void shouldLetASlowHandlerFinishItsBacklogOnClose() {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingHandler slow = new RecordingHandler() {
+            @Override
+            public void onEvent(OrderEvent event, long sequence, boolean endOfBatch) throws Exception {
+                release.await(1, TimeUnit.SECONDS);
+                super.onEvent(event, sequence, endOfBatch);
+            }
+        };
+        OrderEventBus bus = new OrderEventBus(settings, List.of(slow));
+        Order order = Order.create(List.of(new OrderItem("Gauze", 5)));
+        for (int i = 0; i < 10; i++) {
+            bus.publish(new OrderPlacedEvent(order, Instant.now()));
+        }
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        bus.bindTo(registry);
+
+        // When
+        release.countDown();
+        bus.close();
+
+        // Then
+        assertThat(slow.events).hasSize(10);
+        assertThat(bus.backlog()).isZero();
+        assertThat(registry.get("orders.events.published").functionCounter().count()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("Should release an event once every handler has seen it")
+    void shouldReleaseAnEventOnceEveryHandlerHasSeenIt() throws Exception {
+        // Given
+        AtomicInteger handled = new AtomicInteger();
+        OrderEventHandler counting = (event, sequence, endOfBatch) -> handled.incrementAndGet();
+        OrderEvent event = new OrderPlacedEvent(Order.create(List.of(new OrderItem("Syringe", 1))), Instant.now());
+        WeakReference<OrderEvent> released = new WeakReference<>(event);
+
+        try (OrderEventBus bus = new OrderEventBus(settings, List.of(counting, counting))) {
+            // When
+            bus.publish(event);
+            event = null;
+            RingBufferTest.await(() -> handled.get() == 2);
+
+            // Then
+            RingBufferTest.await(() -> {
+                System.gc();
+                return released.get() == null;
+            });
+        }
+    }
+
+    @Test
+    @DisplayName("Should drop events published after close")
+    void shouldDropEventsPublishedAfterClose() throws Exception {
+        // Given
+        RecordingHandler handler = new RecordingHandler();
+        OrderEventBus bus = new OrderEventBus(settings, List.of(handler));
+        bus.close();
+
+        // When
+        bus.publish(new OrderPlacedEvent(Order.create(List.of(new OrderItem("Mask", 1))), Instant.now()));
+
+        // Then
+        Thread.sleep(50);
+        assertThat(handler.events).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should reject a ring size that is not a power of two")
+    void shouldRejectARingSizeThatIsNotAPowerOfTwo() {
+        assertThatThrownBy(() -> new EventBusSettings(1000, WaitStrategyType.SLEEPING))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static class RecordingHandler implements OrderEventHandler {
+        final List<OrderEvent> events = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void onEvent(OrderEvent event, long sequence, boolean endOfBatch) throws Exception {
+            events.add(event);
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.medical.logistics.infrastructure.events;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Throughput and publish-to-handle latency of the ring buffer for each wait strategy,
+ * against an {@link ArrayBlockingQueue} hand-off of the same size. Opt-in:
+ * <pre>
+ * mvn test -Dtest=RingBufferBenchmarkTest -Dbenchmark=true -Dbenchmark.events=10000000
+ * </pre>
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class RingBufferBenchmarkTest {
+    private static final int RING_SIZE = 65536;
+    private static final int PRODUCERS = 2;
+
+    @ParameterizedTest
+    @EnumSource(WaitStrategyType.class)
+    @DisplayName("Benchmark ring buffer hand-off for each wait strategy")
+    void benchmarkRingBufferHandOffForEachWaitStrategy(WaitStrategyType waitStrategy) throws Exception {
+        int events = Integer.getInteger("benchmark.events", 5_000_000);
+        for (ProducerType producerType : ProducerType.values()) {
+            int producers = producerType == ProducerType.SINGLE ? 1 : PRODUCERS;
+            RingBuffer<TimedEvent> ring = new RingBuffer<>(TimedEvent::new, RING_SIZE, producerType,
+                    WaitStrategy.of(waitStrategy));
+            LatencyRecorder recorder = new LatencyRecorder(events);
+            CountDownLatch done = new CountDownLatch(1);
+            BatchEventProcessor<TimedEvent> processor = new BatchEventProcessor<>(ring, (event, sequence, endOfBatch) -> {
+                recorder.record(System.nanoTime() - event.publishedAt);
+                if (sequence == events - 1) {
+                    done.countDown();
+                }
+            }, "benchmark");
+            Thread consumer = Thread.ofPlatform().start(processor);
+
+            long started = System.nanoTime();
+            runProducers(producers, events, () ->
+                    ring.publishEvent((event, time) -> event.publishedAt = time, System.nanoTime()));
+            assertThat(done.await(2, TimeUnit.MINUTES)).isTrue();
+            long elapsed = System.nanoTime() - started;
+            processor.halt();
+            consumer.join();
+
+            report("ring " + producerType + " " + waitStrategy, events, elapsed, recorder);
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = ProducerType.class)
+    @DisplayName("Benchmark blocking queue hand-off as a baseline")
+    void benchmarkBlockingQueueHandOffAsABaseline(ProducerType producerType) throws Exception {
+        int events = Integer.getInteger("benchmark.events", 5_000_000);
+        int producers = producerType == ProducerType.SINGLE ? 1 : PRODUCERS;
+        BlockingQueue<Long> queue = new ArrayBlockingQueue<>(RING_SIZE);
+        LatencyRecorder recorder = new LatencyRecorder(events);
+        Thread consumer = Thread.ofPlatform().start(() -> {
+            try {
+                for (int i = 0; i < events; i++) {
+                    recorder.record(System.nanoTime() - queue.take());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        long started = System.nanoTime();
+        runProducers(producers, events, () -> {
+            try {
+                queue.put(System.nanoTime());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        consumer.join();
+        long elapsed = System.nanoTime() - started;
+
+        report("queue " + producerType, events, elapsed, recorder);
+    }
+
+    private static void runProducers(int producers, int events, Runnable publishOne) throws InterruptedException {
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            int share = events / producers + (p < events % producers ? 1 : 0);
+            threads.add(Thread.ofPlatform().start(() -> {
+                for (int i = 0; i < share; i++) {
+                    publishOne.run();
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+    }
+
+    private static void report(String label, int events, long elapsedNanos, LatencyRecorder recorder) {
+        long[] latencies = recorder.sorted();
+        System.out.printf("%-26s %,12.0f events/s   latency p50 %,8d ns  p99 %,10d ns  p99.9 %,12d ns%n",
+                label, events * 1e9 / elapsedNanos,
+                percentile(latencies, 50), percentile(latencies, 99), percentile(latencies, 99.9));
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        int index = (int) Math.ceil(percentile / 100 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    private static final class TimedEvent {
+        long publishedAt;
+    }
+
+    // single consumer thread only; sampled to keep the array small at large event counts
+    private static final class LatencyRecorder {
+        private static final int MAX_SAMPLES = 1_000_000;
+
+        private final long[] samples;
+        private final int stride;
+        private long seen;
+        private int count;
+
+        LatencyRecorder(int events) {
+            this.stride = Math.max(1, events / MAX_SAMPLES);
+            this.samples = new long[events / stride + 1];
+        }
+
+        void record(long nanos) {
+            if (seen++ % stride == 0 && count < samples.length) {
+                samples[count++] = nanos;
+            }
+        }
+
+        long[] sorted() {
+            long[] copy = Arrays.copyOf(samples, count);
+            Arrays.sort(copy);
+            return copy;
+        }
+    }
+}
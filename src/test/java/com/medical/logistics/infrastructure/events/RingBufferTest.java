@@ -0,0 +1,170 @@
+package com.medical.logistics.infrastructure.events;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class RingBufferTest {
+
+    @ParameterizedTest
+    @EnumSource(WaitStrategyType.class)
+    @DisplayName("Should deliver every event from several producers in per-producer order")
+    void shouldDeliverEveryEventFromSeveralProducersInPerProducerOrder(WaitStrategyType waitStrategy) throws Exception {
+        // Given
+        int producers = 3;
+        int perProducer = 20_000;
+        RingBuffer<LongEvent> ring = new RingBuffer<>(LongEvent::new, 1024, ProducerType.MULTI, WaitStrategy.of(waitStrategy));
+        long[] lastSeen = new long[producers];
+        java.util.Arrays.fill(lastSeen, -1);
+        AtomicInteger outOfOrder = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(producers * perProducer);
+        BatchEventProcessor<LongEvent> processor = new BatchEventProcessor<>(ring, (event, sequence, endOfBatch) -> {
+            int producer = (int) (event.value / perProducer);
+            long counter = event.value % perProducer;
+            if (counter != lastSeen[producer] + 1) {
+                outOfOrder.incrementAndGet();
+            }
+            lastSeen[producer] = counter;
+            done.countDown();
+        }, "test");
+        Thread consumer = Thread.ofPlatform().start(processor);
+
+        // When
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            long base = (long) p * perProducer;
+            threads.add(Thread.ofPlatform().start(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    ring.publishEvent((event, value) -> event.value = value, base + i);
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // Then
+        assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(outOfOrder).hasValue(0);
+        processor.halt();
+        consumer.join(1000);
+        assertThat(consumer.isAlive()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should hold a producer back while the slowest consumer is a full ring behind")
+    void shouldHoldAProducerBackWhileTheSlowestConsumerIsAFullRingBehind() throws Exception {
+        // Given
+        RingBuffer<LongEvent> ring = new RingBuffer<>(LongEvent::new, 4, ProducerType.SINGLE,
+                WaitStrategy.of(WaitStrategyType.BLOCKING));
+        CountDownLatch release = new CountDownLatch(1);
+        List<Long> handled = new ArrayList<>();
+        BatchEventProcessor<LongEvent> processor = new BatchEventProcessor<>(ring, (event, sequence, endOfBatch) -> {
+            release.await();
+            handled.add(event.value);
+        }, "slow");
+        Thread consumer = Thread.ofPlatform().start(processor);
+        AtomicBoolean finished = new AtomicBoolean();
+        Thread producer = Thread.ofPlatform().start(() -> {
+            for (long i = 0; i < 10; i++) {
+                ring.publishEvent((event, value) -> event.value = value, i);
+            }
+            finished.set(true);
+        });
+
+        // When
+        producer.join(200);
+
+        // Then
+        assertThat(finished).isFalse();
+        release.countDown();
+        producer.join(5000);
+        assertThat(finished).isTrue();
+        await(() -> processor.sequence().get() == 9);
+        assertThat(handled).containsExactly(0L, 1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L);
+        processor.halt();
+        consumer.join(1000);
+    }
+
+    @Test
+    @DisplayName("Should hand a backlog to the handler as one batch")
+    void shouldHandABacklogToTheHandlerAsOneBatch() throws Exception {
+        // Given
+        RingBuffer<LongEvent> ring = new RingBuffer<>(LongEvent::new, 64, ProducerType.SINGLE,
+                WaitStrategy.of(WaitStrategyType.SLEEPING));
+        List<Boolean> endOfBatchFlags = new ArrayList<>();
+        BatchEventProcessor<LongEvent> processor = new BatchEventProcessor<>(ring,
+                (event, sequence, endOfBatch) -> endOfBatchFlags.add(endOfBatch), "batching");
+        for (long i = 0; i < 5; i++) {
+            ring.publishEvent((event, value) -> event.value = value, i);
+        }
+
+        // When
+        Thread consumer = Thread.ofPlatform().start(processor);
+        await(() -> processor.sequence().get() == 4);
+
+        // Then
+        assertThat(endOfBatchFlags).containsExactly(false, false, false, false, true);
+        processor.halt();
+        consumer.join(1000);
+    }
+
+    @Test
+    @DisplayName("Should keep consuming after a handler failure")
+    void shouldKeepConsumingAfterAHandlerFailure() throws Exception {
+        // Given
+        RingBuffer<LongEvent> ring = new RingBuffer<>(LongEvent::new, 16, ProducerType.MULTI,
+                WaitStrategy.of(WaitStrategyType.YIELDING));
+        List<Long> handled = new ArrayList<>();
+        BatchEventProcessor<LongEvent> processor = new BatchEventProcessor<>(ring, (event, sequence, endOfBatch) -> {
+            if (event.value == 1) {
+                throw new IllegalStateException("downstream unavailable");
+            }
+            handled.add(event.value);
+        }, "failing");
+        Thread consumer = Thread.ofPlatform().start(processor);
+
+        // When
+        for (long i = 0; i < 3; i++) {
+            ring.publishEvent((event, value) -> event.value = value, i);
+        }
+
+        // Then
+        await(() -> processor.sequence().get() == 2);
+        assertThat(handled).containsExactly(0L, 2L);
+        processor.halt();
+        consumer.join(1000);
+    }
+
+    @Test
+    @DisplayName("Should reject a size that is not a power of two")
+    void shouldRejectASizeThatIsNotAPowerOfTwo() {
+        assertThatThrownBy(() -> new RingBuffer<>(LongEvent::new, 1000, ProducerType.SINGLE,
+                WaitStrategy.of(WaitStrategyType.BUSY_SPIN)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    static void await(java.util.function.BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                fail("Condition not met within 5 seconds");
+            }
+            Thread.sleep(1);
+        }
+    }
+
+    static final class LongEvent {
+        long value;
+    }
+}
@@ -0,0 +1,209 @@
+package com.medical.logistics.infrastructure.idempotency;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+class IdempotencyCacheTest {
+    private static final byte[] BODY = "{\"items\":[{\"name\":\"Syringe 5ml\",\"quantity\":10}]}"
+            .getBytes(StandardCharsets.UTF_8);
+    private static final byte[] OTHER_BODY = "{\"items\":[{\"name\":\"Syringe 5ml\",\"quantity\":11}]}"
+            .getBytes(StandardCharsets.UTF_8);
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    @DisplayName("Should replay the first result for a repeated key")
+    void shouldReplayTheFirstResultForARepeatedKey() {
+        // Given
+        IdempotencyCache cache = cache(10, Duration.ofMinutes(5));
+        AtomicInteger executions = new AtomicInteger();
+
+        // When
+        IdempotencyCache.Execution<Integer> first = cache.execute("key-1", BODY, executions::incrementAndGet);
+        IdempotencyCache.Execution<Integer> retry = cache.execute("key-1", BODY, executions::incrementAndGet);
+
+        // Then
+        assertThat(first).isEqualTo(new IdempotencyCache.Execution<>(1, false));
+        assertThat(retry).isEqualTo(new IdempotencyCache.Execution<>(1, true));
+        assertThat(executions).hasValue(1);
+        assertThat(cache.hits()).isEqualTo(1);
+        assertThat(cache.misses()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should reject a key reused for a different request")
+    void shouldRejectAKeyReusedForADifferentRequest() {
+        // Given
+        IdempotencyCache cache = cache(10, Duration.ofMinutes(5));
+        cache.execute("key-1", BODY, () -> 1);
+
+        // When/Then
+        assertThatThrownBy(() -> cache.execute("key-1", OTHER_BODY, () -> 2))
+                .isInstanceOf(IdempotencyKeyReuseException.class)
+                .hasMessageContaining("key-1");
+    }
+
+    @Test
+    @DisplayName("Should let concurrent duplicates wait for the in-flight result")
+    void shouldLetConcurrentDuplicatesWaitForTheInFlightResult() throws Exception {
+        // Given
+        IdempotencyCache cache = cache(10, Duration.ofMinutes(5));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger executions = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Future<IdempotencyCache.Execution<Integer>> first = executor.submit(() -> cache.execute("key-1", BODY, () -> {
+                started.countDown();
+                await(release);
+                return executions.incrementAndGet();
+            }));
+            started.await();
+            List<Future<IdempotencyCache.Execution<Integer>>> duplicates = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                duplicates.add(executor.submit(() -> cache.execute("key-1", BODY, executions::incrementAndGet)));
+            }
+
+            // When
+            release.countDown();
+
+            // Then
+            assertThat(first.get(5, TimeUnit.SECONDS).replayed()).isFalse();
+            for (Future<IdempotencyCache.Execution<Integer>> duplicate : duplicates) {
+                assertThat(duplicate.get(5, TimeUnit.SECONDS)).isEqualTo(new IdempotencyCache.Execution<>(1, true));
+            }
+            assertThat(executions).hasValue(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Should forget a failed request so it can be retried")
+    void shouldForgetAFailedRequestSoItCanBeRetried() {
+        // Given
+        IdempotencyCache cache = cache(10, Duration.ofMinutes(5));
+        assertThatThrownBy(() -> cache.execute("key-1", BODY, () -> {
+            throw new IllegalStateException("storage unavailable");
+        })).hasMessage("storage unavailable");
+
+        // When
+        IdempotencyCache.Execution<Integer> retry = cache.execute("key-1", BODY, () -> 7);
+
+        // Then
+        assertThat(retry).isEqualTo(new IdempotencyCache.Execution<>(7, false));
+    }
+
+    @Test
+    @DisplayName("Should execute again once the result has expired")
+    void shouldExecuteAgainOnceTheResultHasExpired() {
+        // Given
+        IdempotencyCache cache = cache(10, Duration.ofSeconds(30));
+        cache.execute("key-1", BODY, () -> 1);
+
+        // When
+        clock.addAndGet(Duration.ofSeconds(31).toNanos());
+        IdempotencyCache.Execution<Integer> later = cache.execute("key-1", BODY, () -> 2);
+
+        // Then
+        assertThat(later).isEqualTo(new IdempotencyCache.Execution<>(2, false));
+    }
+
+    @Test
+    @DisplayName("Should evict the oldest keys once full")
+    void shouldEvictTheOldestKeysOnceFull() {
+        // Given
+        IdempotencyCache cache = cache(100, Duration.ofHours(24));
+
+        // When
+        for (int i = 0; i < 10_000; i++) {
+            cache.execute("key-" + i, BODY, () -> "order");
+        }
+
+        // Then
+        assertThat(cache.size()).isEqualTo(100);
+        assertThat(cache.execute("key-9999", BODY, () -> "new").replayed()).isTrue();
+        assertThat(cache.execute("key-0", BODY, () -> "new").replayed()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should keep a running request when the size bound evicts")
+    void shouldKeepARunningRequestWhenTheSizeBoundEvicts() throws Exception {
+        // Given
+        IdempotencyCache cache = cache(2, Duration.ofHours(24));
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+            Future<IdempotencyCache.Execution<Integer>> running = executor.submit(() -> cache.execute("key-0", BODY, () -> {
+                started.countDown();
+                await(release);
+                return executions.incrementAndGet();
+            }));
+            await(started);
+
+            // When
+            for (int i = 1; i <= 10; i++) {
+                cache.execute("key-" + i, BODY, () -> 0);
+            }
+            Future<IdempotencyCache.Execution<Integer>> duplicate = executor.submit(
+                    () -> cache.execute("key-0", BODY, executions::incrementAndGet));
+            release.countDown();
+
+            // Then
+            assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo(new IdempotencyCache.Execution<>(1, false));
+            assertThat(duplicate.get(5, TimeUnit.SECONDS)).isEqualTo(new IdempotencyCache.Execution<>(1, true));
+            assertThat(executions).hasValue(1);
+        }
+    }
+
+    @Test
+    @DisplayName("Should publish hit and miss counters")
+    void shouldPublishHitAndMissCounters() {
+        // Given
+        IdempotencyCache cache = cache(10, Duration.ofMinutes(5));
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        cache.bindTo(registry);
+
+        // When
+        cache.execute("key-1", BODY, () -> 1);
+        cache.execute("key-1", BODY, () -> 1);
+        cache.execute("key-1", BODY, () -> 1);
+
+        // Then
+        assertThat(registry.get("orders.idempotency.requests").tag("result", "hit").functionCounter().count())
+                .isEqualTo(2);
+        assertThat(registry.get("orders.idempotency.requests").tag("result", "miss").functionCounter().count())
+                .isEqualTo(1);
+        assertThat(registry.get("orders.idempotency.hit.ratio").gauge().value()).isCloseTo(2.0 / 3, within(1e-9));
+    }
+
+    private IdempotencyCache cache(int maxEntries, Duration ttl) {
+        return new IdempotencyCache(new IdempotencySettings(maxEntries, ttl), clock::get);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
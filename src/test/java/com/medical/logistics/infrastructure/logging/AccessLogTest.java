@@ -0,0 +1,57 @@
+package com.medical.logistics.infrastructure.logging;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+class AccessLogTest {
+    private final AccessLogSettings settings = new AccessLogSettings(AccessLogMode.SAMPLED, 1, Duration.ofSeconds(1), 64);
+
+    @Test
+    @DisplayName("Should write queued lines in the background and drop them once closed")
+    void shouldWriteQueuedLinesInTheBackgroundAndDropThemOnceClosed() throws Exception {
+        // Given
+        AccessLog accessLog = new AccessLog(settings);
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            assertThat(accessLog.offer(entry(i))).isTrue();
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (accessLog.written() < 10 && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        accessLog.close();
+
+        // Then
+        assertThat(accessLog.written()).isEqualTo(10);
+        assertThat(accessLog.offer(entry(10))).isFalse();
+        assertThat(accessLog.dropped()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should generate distinct short request ids")
+    void shouldGenerateDistinctShortRequestIds() {
+        // When
+        Set<String> ids = new HashSet<>();
+        for (int i = 0; i < 10_000; i++) {
+            ids.add(RequestIds.next());
+        }
+
+        // Then
+        assertThat(ids).hasSize(10_000);
+        assertThat(ids).allSatisfy(id -> assertThat(RequestIds.isAcceptable(id)).isTrue());
+        assertThat(RequestIds.isAcceptable("x".repeat(65))).isFalse();
+        assertThat(RequestIds.isAcceptable("a b")).isFalse();
+    }
+
+    private static AccessLog.Entry entry(int i) {
+        return new AccessLog.Entry("req-" + i, "GET", "/api/orders", 200, 1_000_000, "127.0.0.1");
+    }
+}
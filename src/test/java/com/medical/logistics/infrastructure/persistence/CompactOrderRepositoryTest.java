@@ -0,0 +1,161 @@
+package com.medical.logistics.infrastructure.persistence;
+
+import com.medical.logistics.domian.order.ItemNameDictionary;
+import com.medical.logistics.domian.order.Order;
+import com.medical.logistics.domian.order.OrderId;
+import com.medical.logistics.domian.order.OrderItem;
+import com.medical.logistics.domian.order.OrderStatus;
+import com.medical.logistics.domian.order.exceptions.ConcurrentOrderModificationException;
+import com.medical.logistics.domian.order.exceptions.OrderNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.*;
+
+class CompactOrderRepositoryTest {
+
+    private final ItemNameDictionary itemNames = new ItemNameDictionary(new KnownNames(Set.of("Syringe",
+            "Saline 0.9% 500ml", "Syringe 5ml", "Nitrile Gloves M", "Gauze Pad 10x10")));
+    private CompactOrderRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new CompactOrderRepository(itemNames);
+    }
+
+    @Test
+    @DisplayName("Should materialize a stored order with every field intact")
+    void shouldMaterializeAStoredOrderWithEveryFieldIntact() {
+        // Given
+        LocalDateTime createdAt = LocalDateTime.of(2025, 3, 14, 15, 9, 26, 535_897_932);
+        Order order = new Order(OrderId.generate(),
+                List.of(new OrderItem("Syringe", 10), new OrderItem("Saline 0.9% 500ml", Integer.MAX_VALUE)),
+                OrderStatus.APPROVED, createdAt, createdAt.plusMinutes(5), 3);
+
+        // When
+        repository.save(order);
+        Optional<Order> retrieved = repository.findById(OrderId.of(order.getId().toString()));
+
+        // Then
+        assertThat(retrieved).get().usingRecursiveComparison().isEqualTo(order);
+        assertThat(retrieved.get().getItems().get(0).getName()).isSameAs(order.getItems().get(0).getName());
+        assertThat(repository.findById(OrderId.generate())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should keep an item name that is not in the catalogue as written")
+    void shouldKeepAnItemNameThatIsNotInTheCatalogueAsWritten() {
+        // Given
+        Order order = Order.create(List.of(new OrderItem("Syringe", 1), new OrderItem("Custom splint", 2)));
+
+        // When
+        repository.save(order);
+        Order retrieved = repository.findById(order.getId()).orElseThrow();
+
+        // Then
+        assertThat(retrieved.getItems()).containsExactlyElementsOf(order.getItems());
+        assertThat(itemNames.encode("Custom splint")).isEqualTo(ItemNameDictionary.NO_CODE);
+        assertThat(itemNames.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should page in id order like the in-memory repository")
+    void shouldPageInIdOrderLikeTheInMemoryRepository() {
+        // Given
+        InMemoryOrderRepository reference = new InMemoryOrderRepository();
+        for (int i = 0; i < 50; i++) {
+            Order order = Order.create(List.of(new OrderItem("Item" + i, i + 1)));
+            if (i % 3 == 0) {
+                order.approve();
+            }
+            repository.save(order);
+            reference.save(order);
+        }
+        OrderId after = reference.findPage(null, 20).get(19).getId();
+        List<Order> visited = new ArrayList<>();
+
+        // When
+        repository.forEach(visited::add);
+
+        // Then
+        assertThat(repository.findPage(null, 7)).usingRecursiveFieldByFieldElementComparator()
+                .containsExactlyElementsOf(reference.findPage(null, 7));
+        assertThat(repository.findPage(after, 7)).usingRecursiveFieldByFieldElementComparator()
+                .containsExactlyElementsOf(reference.findPage(after, 7));
+        assertThat(repository.findByStatus(OrderStatus.APPROVED, null, 100)).usingRecursiveFieldByFieldElementComparator()
+                .containsExactlyElementsOf(reference.findByStatus(OrderStatus.APPROVED, null, 100));
+        assertThat(repository.findAll()).usingRecursiveFieldByFieldElementComparator()
+                .containsExactlyInAnyOrderElementsOf(reference.findAll());
+        assertThat(visited).extracting(Order::getId)
+                .containsExactlyInAnyOrderElementsOf(reference.findAll().stream().map(Order::getId).toList());
+    }
+
+    @Test
+    @DisplayName("Should apply a transition only when the version matches")
+    void shouldApplyATransitionOnlyWhenTheVersionMatches() {
+        // Given
+        Order order = repository.save(Order.create(List.of(new OrderItem("Syringe", 10))));
+
+        // When
+        Order approved = repository.transition(order.getId(), 0, Order::approve);
+
+        // Then
+        assertThat(repository.findById(order.getId())).get().usingRecursiveComparison().isEqualTo(approved);
+        assertThat(approved.getStatus()).isEqualTo(OrderStatus.APPROVED);
+        assertThat(approved.getVersion()).isEqualTo(1);
+        assertThatThrownBy(() -> repository.transition(order.getId(), 0, Order::cancel))
+                .isInstanceOf(ConcurrentOrderModificationException.class);
+        assertThatThrownBy(() -> repository.transition(OrderId.generate(), 0, Order::cancel))
+                .isInstanceOf(OrderNotFoundException.class);
+        assertThat(repository.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should hold an order in at least three times fewer bytes than the object graph store")
+    void shouldHoldAnOrderInAtLeastThreeTimesFewerBytesThanTheObjectGraphStore() {
+        // Given
+        int orderCount = 5_000;
+        String[] supplies = {"Syringe 5ml", "Nitrile Gloves M", "Gauze Pad 10x10", "Saline 0.9% 500ml"};
+        OpenAddressingOrderRepository objectGraphStore = new OpenAddressingOrderRepository();
+        List<Object> names = new ArrayList<>();
+        for (int i = 0; i < orderCount; i++) {
+            Order order = Order.create(List.of(new OrderItem(supplies[i % 4], i % 50 + 1),
+                    new OrderItem(supplies[(i + 1) % 4], 2), new OrderItem(supplies[(i + 2) % 4], 3)));
+            objectGraphStore.save(order);
+            repository.save(order);
+            names.add(order.getItems().getFirst().getName());
+        }
+
+        // When: both stores share the dictionary's name strings, so they are left out
+        GraphLayout sharedNames = GraphLayout.parseInstance(names.subList(0, supplies.length).toArray());
+        long objectGraphBytes = GraphLayout.parseInstance(objectGraphStore).subtract(sharedNames).totalSize();
+        long compactBytes = GraphLayout.parseInstance(repository).subtract(GraphLayout.parseInstance(itemNames))
+                .totalSize();
+
+        // Then
+        assertThat(compactBytes * 3).isLessThanOrEqualTo(objectGraphBytes);
+    }
+
+    // a plain class, since JOL cannot walk the fields of a lambda or a record
+    private static final class KnownNames implements Predicate<String> {
+        private final Set<String> names;
+
+        private KnownNames(Set<String> names) {
+            this.names = names;
+        }
+
+        @Override
+        public boolean test(String name) {
+            return names.contains(name);
+        }
+    }
+}
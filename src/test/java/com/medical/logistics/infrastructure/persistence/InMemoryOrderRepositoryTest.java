@@ -4,12 +4,25 @@ import com.medical.logistics.domian.order.Order;
 import com.medical.logistics.domian.order.OrderId;
 import com.medical.logistics.domian.order.OrderItem;
 import com.medical.logistics.domian.order.OrderStatus;
+import com.medical.logistics.domian.order.TransitionResult;
+import com.medical.logistics.domian.order.exceptions.ConcurrentOrderModificationException;
+import com.medical.logistics.domian.order.exceptions.InvalidOrderStateException;
+import com.medical.logistics.domian.order.exceptions.OrderNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -98,4 +111,254 @@ class InMemoryOrderRepositoryTest {
         // Then
         assertThat(orders).isEmpty();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should page through orders in id order")
+    void shouldPageThroughOrdersInIdOrder() {
+        // Given
+        List<Order> saved = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            saved.add(repository.save(Order.create(List.of(new OrderItem("Item" + i, i + 1)))));
+        }
+        saved.sort(Comparator.comparing(Order::getId));
+
+        // When
+        List<Order> first = repository.findPage(null, 2);
+        List<Order> second = repository.findPage(first.get(1).getId(), 2);
+        List<Order> last = repository.findPage(second.get(1).getId(), 2);
+
+        // Then
+        assertThat(first).containsExactly(saved.get(0), saved.get(1));
+        assertThat(second).containsExactly(saved.get(2), saved.get(3));
+        assertThat(last).containsExactly(saved.get(4));
+        assertThat(repository.findPage(saved.get(4).getId(), 2)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should not duplicate index entries when order is saved again")
+    void shouldNotDuplicateIndexEntriesWhenOrderIsSavedAgain() {
+        // Given
+        Order order = Order.create(List.of(new OrderItem("Mask", 100)));
+        repository.save(order);
+
+        // When
+        order.approve();
+        repository.save(order);
+
+        // Then
+        assertThat(repository.findPage(null, 10)).containsExactly(order);
+    }
+
+    @Test
+    @DisplayName("Should find orders by status")
+    void shouldFindOrdersByStatus() {
+        // Given
+        Order pending = repository.save(Order.create(List.of(new OrderItem("Gloves", 10))));
+        Order approved = Order.create(List.of(new OrderItem("Masks", 20)));
+        repository.save(approved);
+        approved.approve();
+        repository.save(approved);
+
+        // When
+        List<Order> pendingOrders = repository.findByStatus(OrderStatus.PENDING, null, 10);
+        List<Order> approvedOrders = repository.findByStatus(OrderStatus.APPROVED, null, 10);
+        List<Order> cancelledOrders = repository.findByStatus(OrderStatus.CANCELLED, null, 10);
+
+        // Then
+        assertThat(pendingOrders).containsExactly(pending);
+        assertThat(approvedOrders).containsExactly(approved);
+        assertThat(cancelledOrders).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should page through orders by status")
+    void shouldPageThroughOrdersByStatus() {
+        // Given
+        List<Order> cancelled = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            Order order = repository.save(Order.create(List.of(new OrderItem("Item" + i, 1))));
+            if (i % 2 == 0) {
+                order.cancel();
+                cancelled.add(repository.save(order));
+            }
+        }
+        cancelled.sort(Comparator.comparing(Order::getId));
+
+        // When
+        List<Order> first = repository.findByStatus(OrderStatus.CANCELLED, null, 2);
+        List<Order> second = repository.findByStatus(OrderStatus.CANCELLED, first.get(1).getId(), 2);
+
+        // Then
+        assertThat(first).containsExactly(cancelled.get(0), cancelled.get(1));
+        assertThat(second).containsExactly(cancelled.get(2));
+    }
+
+    @Test
+    @DisplayName("Should index restored orders like saved ones")
+    void shouldIndexRestoredOrdersLikeSavedOnes() {
+        // Given
+        Order pending = Order.create(List.of(new OrderItem("Syringe", 10)));
+        Order approved = Order.create(List.of(new OrderItem("Gauze", 5)));
+        approved.approve();
+
+        // When
+        repository.restore(pending);
+        repository.restore(approved);
+
+        // Then
+        assertThat(repository.findPage(null, 10)).hasSize(2);
+        assertThat(repository.findByStatus(OrderStatus.APPROVED, null, 10)).containsExactly(approved);
+        assertThat(repository.findByStatus(OrderStatus.PENDING, null, 10)).containsExactly(pending);
+    }
+
+    @Test
+    @DisplayName("Should keep status index consistent under concurrent transitions")
+    void shouldKeepStatusIndexConsistentUnderConcurrentTransitions() throws Exception {
+        // Given
+        int orderCount = 500;
+        List<Order> orders = new ArrayList<>();
+        for (int i = 0; i < orderCount; i++) {
+            orders.add(repository.save(Order.create(List.of(new OrderItem("Item" + i, 1)))));
+        }
+
+        // When
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (Order order : orders) {
+            futures.add(executor.submit(() -> transitionQuietly(start, order, Order::approve)));
+            futures.add(executor.submit(() -> transitionQuietly(start, order, Order::cancel)));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Then
+        List<Order> approved = repository.findByStatus(OrderStatus.APPROVED, null, orderCount);
+        List<Order> cancelled = repository.findByStatus(OrderStatus.CANCELLED, null, orderCount);
+        assertThat(repository.findByStatus(OrderStatus.PENDING, null, orderCount)).isEmpty();
+        assertThat(approved.size() + cancelled.size()).isEqualTo(orderCount);
+        assertThat(approved).allMatch(order -> order.getStatus() == OrderStatus.APPROVED);
+        assertThat(cancelled).allMatch(order -> order.getStatus() == OrderStatus.CANCELLED);
+    }
+
+    @Test
+    @DisplayName("Should apply a transition to a copy and bump the version")
+    void shouldApplyATransitionToACopyAndBumpTheVersion() {
+        // Given
+        Order order = repository.save(Order.create(List.of(new OrderItem("Syringe", 10))));
+
+        // When
+        Order approved = repository.transition(order.getId(), 0, Order::approve);
+
+        // Then
+        assertThat(approved).isNotSameAs(order);
+        assertThat(approved.getStatus()).isEqualTo(OrderStatus.APPROVED);
+        assertThat(approved.getVersion()).isEqualTo(1);
+        assertThat(order.getStatus()).isEqualTo(OrderStatus.PENDING);
+        assertThat(repository.findById(order.getId())).containsSame(approved);
+        assertThat(repository.findByStatus(OrderStatus.APPROVED, null, 10)).containsExactly(approved);
+        assertThat(repository.findByStatus(OrderStatus.PENDING, null, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should reject a transition based on a stale version")
+    void shouldRejectATransitionBasedOnAStaleVersion() {
+        // Given
+        Order order = repository.save(Order.create(List.of(new OrderItem("Syringe", 10))));
+        repository.transition(order.getId(), 0, Order::approve);
+
+        // When/Then
+        assertThatThrownBy(() -> repository.transition(order.getId(), 0, Order::cancel))
+                .isInstanceOf(ConcurrentOrderModificationException.class)
+                .hasMessageContaining("expected version 0 but found 1");
+        assertThat(repository.findById(order.getId())).get()
+                .returns(OrderStatus.APPROVED, Order::getStatus);
+    }
+
+    @Test
+    @DisplayName("Should reject a transition of an unknown order")
+    void shouldRejectATransitionOfAnUnknownOrder() {
+        // When/Then
+        assertThatThrownBy(() -> repository.transition(OrderId.generate(), 0, Order::approve))
+                .isInstanceOf(OrderNotFoundException.class);
+        assertThat(repository.findAll()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should transition a list of orders independently")
+    void shouldTransitionAListOfOrdersIndependently() {
+        // Given
+        Order pending = repository.save(Order.create(List.of(new OrderItem("Syringe", 10))));
+        Order cancelled = Order.create(List.of(new OrderItem("Gauze", 5)));
+        cancelled.cancel();
+        repository.save(cancelled);
+        OrderId missing = OrderId.generate();
+
+        // When
+        List<TransitionResult> results = repository.transitionAll(
+                List.of(pending.getId(), cancelled.getId(), missing), Order::approve);
+
+        // Then
+        assertThat(results).extracting(TransitionResult::id).containsExactly(pending.getId(), cancelled.getId(), missing);
+        assertThat(results.get(0).order().getStatus()).isEqualTo(OrderStatus.APPROVED);
+        assertThat(results.get(1).failure()).isInstanceOf(InvalidOrderStateException.class);
+        assertThat(results.get(2).failure()).isInstanceOf(OrderNotFoundException.class);
+        assertThat(repository.findByStatus(OrderStatus.APPROVED, null, 10)).extracting(Order::getId)
+                .containsExactly(pending.getId());
+    }
+
+    @Test
+    @DisplayName("Should let exactly one of two racing transitions win")
+    void shouldLetExactlyOneOfTwoRacingTransitionsWin() throws Exception {
+        // Given
+        int orderCount = 500;
+        List<Order> orders = new ArrayList<>();
+        for (int i = 0; i < orderCount; i++) {
+            orders.add(repository.save(Order.create(List.of(new OrderItem("Item" + i, 1)))));
+        }
+        AtomicInteger wins = new AtomicInteger();
+        AtomicInteger conflicts = new AtomicInteger();
+
+        // When
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (Order order : orders) {
+            for (Consumer<Order> change : List.<Consumer<Order>>of(Order::approve, Order::cancel)) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        repository.transition(order.getId(), order.getVersion(), change);
+                        wins.incrementAndGet();
+                    } catch (ConcurrentOrderModificationException e) {
+                        conflicts.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Then
+        assertThat(wins).hasValue(orderCount);
+        assertThat(conflicts).hasValue(orderCount);
+        assertThat(repository.findAll()).allMatch(order -> order.getVersion() == 1);
+    }
+
+    private void transitionQuietly(CountDownLatch start, Order order, Consumer<Order> transition) {
+        try {
+            start.await();
+            transition.accept(order);
+            repository.save(order);
+        } catch (InvalidOrderStateException | InterruptedException ignored) {
+            // the competing transition won
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.medical.logistics.infrastructure.persistence;
+
+import com.medical.logistics.domian.order.Order;
+import com.medical.logistics.domian.order.OrderId;
+import com.medical.logistics.domian.order.OrderItem;
+import com.medical.logistics.domian.order.OrderStatus;
+import com.medical.logistics.domian.order.exceptions.ConcurrentOrderModificationException;
+import com.medical.logistics.domian.order.exceptions.OrderNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.*;
+
+class OpenAddressingOrderRepositoryTest {
+
+    private OpenAddressingOrderRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new OpenAddressingOrderRepository();
+    }
+
+    @Test
+    @DisplayName("Should save and retrieve order")
+    void shouldSaveAndRetrieveOrder() {
+        // Given
+        Order order = Order.create(List.of(new OrderItem("Syringe", 10)));
+
+        // When
+        repository.save(order);
+        Optional<Order> retrievedOrder = repository.findById(OrderId.of(order.getId().toString()));
+
+        // Then
+        assertThat(retrievedOrder).contains(order);
+        assertThat(repository.findById(OrderId.generate())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should page in id order like the in-memory repository")
+    void shouldPageInIdOrderLikeTheInMemoryRepository() {
+        // Given
+        InMemoryOrderRepository reference = new InMemoryOrderRepository();
+        for (int i = 0; i < 50; i++) {
+            Order order = Order.create(List.of(new OrderItem("Item" + i, i + 1)));
+            if (i % 3 == 0) {
+                order.approve();
+            }
+            repository.save(order);
+            reference.save(order);
+        }
+
+        // Then
+        assertThat(repository.findPage(null, 7)).containsExactlyElementsOf(reference.findPage(null, 7));
+        OrderId after = reference.findPage(null, 20).get(19).getId();
+        assertThat(repository.findPage(after, 7)).containsExactlyElementsOf(reference.findPage(after, 7));
+        assertThat(repository.findByStatus(OrderStatus.APPROVED, null, 100))
+                .containsExactlyElementsOf(reference.findByStatus(OrderStatus.APPROVED, null, 100));
+        assertThat(repository.findAll()).containsExactlyInAnyOrderElementsOf(reference.findAll());
+    }
+
+    @Test
+    @DisplayName("Should apply a transition only when the version matches")
+    void shouldApplyATransitionOnlyWhenTheVersionMatches() {
+        // Given
+        Order order = repository.save(Order.create(List.of(new OrderItem("Syringe", 10))));
+
+        // When
+        Order approved = repository.transition(order.getId(), 0, Order::approve);
+
+        // Then
+        assertThat(repository.findById(order.getId())).containsSame(approved);
+        assertThat(approved.getVersion()).isEqualTo(1);
+        assertThatThrownBy(() -> repository.transition(order.getId(), 0, Order::cancel))
+                .isInstanceOf(ConcurrentOrderModificationException.class);
+        assertThatThrownBy(() -> repository.transition(OrderId.generate(), 0, Order::cancel))
+                .isInstanceOf(OrderNotFoundException.class);
+        assertThat(repository.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should use less memory per entry than a hash map")
+    void shouldUseLessMemoryPerEntryThanAHashMap() {
+        // Given
+        int orderCount = 5_000;
+        List<Order> orders = new ArrayList<>(orderCount);
+        List<OrderId> ids = new ArrayList<>(orderCount);
+        Map<OrderId, Order> hashMap = new ConcurrentHashMap<>();
+        for (int i = 0; i < orderCount; i++) {
+            Order order = Order.create(List.of(new OrderItem("Gloves", 1)));
+            orders.add(order);
+            ids.add(order.getId());
+            hashMap.put(order.getId(), order);
+            repository.save(order);
+        }
+
+        // When: leave out the orders but count their ids, which the hash map holds as keys
+        GraphLayout ordersWithoutIds = GraphLayout.parseInstance(orders.toArray())
+                .subtract(GraphLayout.parseInstance(ids.toArray()));
+        long hashMapBytes = GraphLayout.parseInstance(hashMap).subtract(ordersWithoutIds).totalSize();
+        long openAddressingBytes = GraphLayout.parseInstance(repository).subtract(ordersWithoutIds).totalSize();
+
+        // Then
+        assertThat(openAddressingBytes).isLessThan(hashMapBytes);
+    }
+}
@@ -0,0 +1,109 @@
+package com.medical.logistics.infrastructure.persistence;
+
+import com.medical.logistics.domian.order.Order;
+import com.medical.logistics.domian.order.OrderId;
+import com.medical.logistics.domian.order.OrderItem;
+import com.medical.logistics.domian.order.OrderStatus;
+import com.medical.logistics.domian.order.exceptions.ConcurrentOrderModificationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ReactiveOrderRepositoryAdapterTest {
+    private final AtomicInteger pageReads = new AtomicInteger();
+    private InMemoryOrderRepository store;
+    private ReactiveOrderRepositoryAdapter repository;
+
+    @BeforeEach
+    void setUp() {
+        store = new InMemoryOrderRepository() {
+            @Override
+            public List<Order> findPage(OrderId after, int limit) {
+                pageReads.incrementAndGet();
+                return super.findPage(after, limit);
+            }
+        };
+        repository = new ReactiveOrderRepositoryAdapter(store, Schedulers.immediate());
+    }
+
+    @Test
+    @DisplayName("Should not touch the store until subscribed")
+    void shouldNotTouchTheStoreUntilSubscribed() {
+        // Given
+        Order order = order();
+
+        // When
+        var pending = repository.save(order);
+
+        // Then
+        assertThat(store.findById(order.getId())).isEmpty();
+        StepVerifier.create(pending).expectNext(order).verifyComplete();
+        assertThat(store.findById(order.getId())).contains(order);
+    }
+
+    @Test
+    @DisplayName("Should complete empty for an unknown order")
+    void shouldCompleteEmptyForAnUnknownOrder() {
+        StepVerifier.create(repository.findById(OrderId.generate())).verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should read one page ahead of what the subscriber requested")
+    void shouldReadOnePageAheadOfWhatTheSubscriberRequested() {
+        // Given
+        int total = ReactiveOrderRepositoryAdapter.STREAM_PAGE_SIZE * 4;
+        for (int i = 0; i < total; i++) {
+            store.save(order());
+        }
+
+        // When & Then
+        StepVerifier.create(repository.streamAll(null), 10)
+                .expectNextCount(10)
+                .then(() -> assertThat(pageReads).hasValue(1))
+                .thenRequest(ReactiveOrderRepositoryAdapter.STREAM_PAGE_SIZE)
+                .expectNextCount(ReactiveOrderRepositoryAdapter.STREAM_PAGE_SIZE)
+                .then(() -> assertThat(pageReads).hasValue(2))
+                .thenRequest(Long.MAX_VALUE)
+                .expectNextCount(total - 10 - ReactiveOrderRepositoryAdapter.STREAM_PAGE_SIZE)
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should stream only orders in the requested status")
+    void shouldStreamOnlyOrdersInTheRequestedStatus() {
+        // Given
+        Order approved = order();
+        approved.approve();
+        store.save(approved);
+        store.save(order());
+
+        // When & Then
+        StepVerifier.create(repository.streamAll(OrderStatus.APPROVED))
+                .expectNextMatches(order -> order.getId().equals(approved.getId()))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("Should signal a lost compare-and-set as an error")
+    void shouldSignalALostCompareAndSetAsAnError() {
+        // Given
+        Order order = store.save(order());
+        store.transition(order.getId(), 0, Order::approve);
+
+        // When & Then
+        StepVerifier.create(repository.transition(order.getId(), 0, Order::cancel))
+                .expectError(ConcurrentOrderModificationException.class)
+                .verify();
+    }
+
+    private static Order order() {
+        return Order.create(List.of(new OrderItem("Syringe", 10)));
+    }
+}
@@ -0,0 +1,193 @@
+package com.medical.logistics.infrastructure.persistence;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+class UuidKeyedTableTest {
+
+    private UuidKeyedTable<String> table;
+
+    @BeforeEach
+    void setUp() {
+        table = new UuidKeyedTable<>(4);
+    }
+
+    @Test
+    @DisplayName("Should put and get by UUID halves")
+    void shouldPutAndGetByUuidHalves() {
+        // Given
+        UUID id = UUID.randomUUID();
+
+        // When
+        String previous = table.put(id.getMostSignificantBits(), id.getLeastSignificantBits(), "order");
+
+        // Then
+        assertThat(previous).isNull();
+        assertThat(table.get(id.getMostSignificantBits(), id.getLeastSignificantBits())).isEqualTo("order");
+        assertThat(table.get(id.getMostSignificantBits(), ~id.getLeastSignificantBits())).isNull();
+        assertThat(table.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should replace existing value without growing")
+    void shouldReplaceExistingValueWithoutGrowing() {
+        // Given
+        UUID id = UUID.randomUUID();
+        table.put(id.getMostSignificantBits(), id.getLeastSignificantBits(), "first");
+
+        // When
+        String previous = table.put(id.getMostSignificantBits(), id.getLeastSignificantBits(), "second");
+
+        // Then
+        assertThat(previous).isEqualTo("first");
+        assertThat(table.get(id.getMostSignificantBits(), id.getLeastSignificantBits())).isEqualTo("second");
+        assertThat(table.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should keep every entry reachable across resizes")
+    void shouldKeepEveryEntryReachableAcrossResizes() {
+        // Given
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            UUID id = new UUID(i / 7, i);
+            ids.add(id);
+            table.put(id.getMostSignificantBits(), id.getLeastSignificantBits(), id.toString());
+        }
+
+        // Then
+        assertThat(table.size()).isEqualTo(10_000);
+        assertThat(ids).allMatch(id ->
+                id.toString().equals(table.get(id.getMostSignificantBits(), id.getLeastSignificantBits())));
+
+        Set<String> visited = new HashSet<>();
+        table.forEach((msb, lsb, value) -> visited.add(value));
+        assertThat(visited).hasSize(10_000);
+    }
+
+    @Test
+    @DisplayName("Should apply compute atomically per key")
+    void shouldApplyComputeAtomicallyPerKey() throws Exception {
+        // Given
+        UuidKeyedTable<Integer> counters = new UuidKeyedTable<>();
+        UUID id = UUID.randomUUID();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // When
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            futures.add(executor.submit(() -> {
+                for (int j = 0; j < 1_000; j++) {
+                    counters.compute(id.getMostSignificantBits(), id.getLeastSignificantBits(),
+                            current -> current == null ? 1 : current + 1);
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Then
+        assertThat(counters.get(id.getMostSignificantBits(), id.getLeastSignificantBits())).isEqualTo(8_000);
+    }
+
+    @Test
+    @DisplayName("Should read consistently while writers resize the table")
+    void shouldReadConsistentlyWhileWritersResizeTheTable() throws Exception {
+        // Given
+        UUID stable = UUID.randomUUID();
+        table.put(stable.getMostSignificantBits(), stable.getLeastSignificantBits(), "stable");
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        // When
+        Future<?> writer = executor.submit(() -> {
+            for (int i = 0; i < 50_000; i++) {
+                UUID id = UUID.randomUUID();
+                table.put(id.getMostSignificantBits(), id.getLeastSignificantBits(), "v");
+            }
+        });
+        Future<Boolean> reader = executor.submit(() -> {
+            while (!writer.isDone()) {
+                if (!"stable".equals(table.get(stable.getMostSignificantBits(), stable.getLeastSignificantBits()))) {
+                    return false;
+                }
+            }
+            return true;
+        });
+
+        // Then
+        writer.get(10, TimeUnit.SECONDS);
+        assertThat(reader.get(10, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should never fail a lookup racing a resize of its segment")
+    void shouldNeverFailALookupRacingAResizeOfItsSegment() throws Exception {
+        // Given: one segment, so every insert lands where the readers probe and it resizes often
+        int rounds = 200;
+        int entries = 4096;
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+
+        for (int round = 0; round < rounds; round++) {
+            UuidKeyedTable<String> growing = new UuidKeyedTable<>(1);
+            UUID[] ids = new UUID[entries];
+            for (int i = 0; i < entries; i++) {
+                ids[i] = UUID.randomUUID();
+            }
+            growing.put(ids[0].getMostSignificantBits(), ids[0].getLeastSignificantBits(), "first");
+
+            // When
+            Future<?> writer = executor.submit(() -> {
+                for (int i = 1; i < entries; i++) {
+                    growing.put(ids[i].getMostSignificantBits(), ids[i].getLeastSignificantBits(), "v");
+                }
+            });
+            List<Future<Boolean>> readers = new ArrayList<>();
+            for (int r = 0; r < 2; r++) {
+                readers.add(executor.submit(() -> {
+                    int i = 0;
+                    do {
+                        UUID id = ids[i++ % entries];
+                        growing.get(id.getMostSignificantBits(), id.getLeastSignificantBits());
+                        if (!"first".equals(growing.get(ids[0].getMostSignificantBits(),
+                                ids[0].getLeastSignificantBits()))) {
+                            return false;
+                        }
+                    } while (!writer.isDone());
+                    return true;
+                }));
+            }
+
+            // Then
+            writer.get(10, TimeUnit.SECONDS);
+            for (Future<Boolean> reader : readers) {
+                assertThat(reader.get(10, TimeUnit.SECONDS)).isTrue();
+            }
+            assertThat(growing.size()).isEqualTo(entries);
+        }
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should reject segment counts that are not powers of two")
+    void shouldRejectSegmentCountsThatAreNotPowersOfTwo() {
+        assertThatThrownBy(() -> new UuidKeyedTable<String>(3))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Segment count must be a power of two");
+    }
+}
@@ -0,0 +1,303 @@
+package com.medical.logistics.infrastructure.persistence.journal;
+
+import com.medical.logistics.domian.order.ItemNameDictionary;
+import com.medical.logistics.domian.order.Order;
+import com.medical.logistics.domian.order.OrderItem;
+import com.medical.logistics.domian.order.OrderId;
+import com.medical.logistics.domian.order.OrderStatus;
+import com.medical.logistics.domian.order.TransitionResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+class JournaledOrderRepositoryTest {
+
+    @TempDir
+    Path directory;
+
+    @ParameterizedTest
+    @EnumSource(DurabilityMode.class)
+    @DisplayName("Should restore orders and their latest state after restart")
+    void shouldRestoreOrdersAndTheirLatestStateAfterRestart(DurabilityMode durability) throws IOException {
+        // Given
+        Order approved = Order.create(List.of(new OrderItem("Syringe", 10), new OrderItem("Gauze 10cm", 3)));
+        Order cancelled = Order.create(List.of(new OrderItem("Saline 0.9% 500ml", 2)));
+        Order pending = Order.create(List.of(new OrderItem("Masks", 100)));
+
+        try (JournaledOrderRepository repository = new JournaledOrderRepository(settings(durability))) {
+            repository.saveAll(List.of(approved, cancelled));
+            repository.save(pending);
+            approved.approve();
+            repository.save(approved);
+            cancelled.cancel();
+            repository.save(cancelled);
+        }
+
+        // When
+        try (JournaledOrderRepository restarted = new JournaledOrderRepository(settings(durability))) {
+
+            // Then
+            assertThat(restarted.findAll()).hasSize(3);
+            assertSameOrder(restarted.findById(approved.getId()).orElseThrow(), approved);
+            assertSameOrder(restarted.findById(cancelled.getId()).orElseThrow(), cancelled);
+            assertSameOrder(restarted.findById(pending.getId()).orElseThrow(), pending);
+            assertThat(restarted.findByStatus(OrderStatus.PENDING, null, 10))
+                    .extracting(Order::getId)
+                    .containsExactly(pending.getId());
+        }
+    }
+
+    @Test
+    @DisplayName("Should persist every save from concurrent writers with group commit")
+    void shouldPersistEverySaveFromConcurrentWritersWithGroupCommit() throws Exception {
+        // Given
+        int threads = 8;
+        int ordersPerThread = 250;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        try (JournaledOrderRepository repository = new JournaledOrderRepository(settings(DurabilityMode.GROUP))) {
+            // When
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < ordersPerThread; i++) {
+                        repository.save(Order.create(List.of(new OrderItem("Gloves", i + 1))));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        // Then
+        try (JournaledOrderRepository restarted = new JournaledOrderRepository(settings(DurabilityMode.GROUP))) {
+            assertThat(restarted.findAll()).hasSize(threads * ordersPerThread);
+        }
+    }
+
+    @Test
+    @DisplayName("Should restore from the snapshot plus the journal tail after compaction")
+    void shouldRestoreFromTheSnapshotPlusTheJournalTailAfterCompaction() throws IOException {
+        // Given
+        List<Order> orders = new ArrayList<>();
+        Order late = Order.create(List.of(new OrderItem("Masks", 50)));
+        try (JournaledOrderRepository repository = new JournaledOrderRepository(settings(DurabilityMode.GROUP))) {
+            for (int i = 0; i < 200; i++) {
+                orders.add(repository.save(Order.create(List.of(new OrderItem("Gloves", i + 1)))));
+            }
+            long segmentsBefore = segmentCount();
+
+            // When
+            repository.snapshot();
+            repository.save(late);
+            orders.get(0).approve();
+            repository.save(orders.get(0));
+
+            // Then
+            assertThat(segmentsBefore).isGreaterThan(1);
+            assertThat(segmentCount()).isEqualTo(1);
+        }
+
+        try (JournaledOrderRepository restarted = new JournaledOrderRepository(settings(DurabilityMode.GROUP))) {
+            assertThat(restarted.findAll()).hasSize(201);
+            assertSameOrder(restarted.findById(late.getId()).orElseThrow(), late);
+            assertSameOrder(restarted.findById(orders.get(0).getId()).orElseThrow(), orders.get(0));
+            assertThat(restarted.findByStatus(OrderStatus.APPROVED, null, 10))
+                    .extracting(Order::getId)
+                    .containsExactly(orders.get(0).getId());
+        }
+    }
+
+    @Test
+    @DisplayName("Should restore catalogue item names as the dictionary's instance")
+    void shouldRestoreCatalogueItemNamesAsTheDictionarysInstance() throws IOException {
+        // Given
+        ItemNameDictionary itemNames = new ItemNameDictionary(Set.of("Gloves")::contains);
+        try (JournaledOrderRepository repository = new JournaledOrderRepository(settings(DurabilityMode.GROUP))) {
+            repository.save(Order.create(List.of(new OrderItem("Gloves", 1), new OrderItem("Custom splint", 1))));
+            repository.snapshot();
+            repository.save(Order.create(List.of(new OrderItem("Gloves", 2))));
+        }
+
+        // When
+        try (JournaledOrderRepository restarted = new JournaledOrderRepository(settings(DurabilityMode.GROUP), null,
+                itemNames::canonical)) {
+
+            // Then
+            assertThat(restarted.findAll()).flatExtracting(Order::getItems).extracting(OrderItem::getName)
+                    .filteredOn("Gloves"::equals)
+                    .hasSize(2)
+                    .allSatisfy(name -> assertThat(name).isSameAs(itemNames.canonical("Gloves")));
+            assertThat(itemNames.size()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    @DisplayName("Should not lose saves that race with a snapshot")
+    void shouldNotLoseSavesThatRaceWithASnapshot() throws Exception {
+        // Given
+        int threads = 4;
+        int ordersPerThread = 500;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        try (JournaledOrderRepository repository = new JournaledOrderRepository(settings(DurabilityMode.ASYNC))) {
+            // When
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < ordersPerThread; i++) {
+                        repository.save(Order.create(List.of(new OrderItem("Gauze", i + 1))));
+                    }
+                }));
+            }
+            for (int i = 0; i < 5; i++) {
+                repository.snapshot();
+            }
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        // Then
+        try (JournaledOrderRepository restarted = new JournaledOrderRepository(settings(DurabilityMode.ASYNC))) {
+            assertThat(restarted.findAll()).hasSize(threads * ordersPerThread);
+        }
+    }
+
+    @Test
+    @DisplayName("Should persist transitions and restore the highest version")
+    void shouldPersistTransitionsAndRestoreTheHighestVersion() throws IOException {
+        // Given
+        Order order = Order.create(List.of(new OrderItem("Syringe", 10)));
+        try (JournaledOrderRepository repository = new JournaledOrderRepository(settings(DurabilityMode.GROUP))) {
+            repository.save(order);
+            assertThat(repository.transitionAll(List.of(order.getId(), OrderId.generate()), Order::approve))
+                    .extracting(TransitionResult::isSuccess)
+                    .containsExactly(true, false);
+            // a stale record reaching the journal late must not roll the order back
+            repository.save(order);
+        }
+
+        // When
+        try (JournaledOrderRepository restarted = new JournaledOrderRepository(settings(DurabilityMode.GROUP))) {
+
+            // Then
+            assertThat(restarted.findById(order.getId())).get()
+                    .returns(OrderStatus.APPROVED, Order::getStatus)
+                    .returns(1L, Order::getVersion);
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = DurabilityMode.class, names = {"PER_WRITE", "GROUP"})
+    @DisplayName("Should not expose a write whose journal append failed")
+    void shouldNotExposeAWriteWhoseJournalAppendFailed(DurabilityMode durability) throws IOException {
+        // Given: the journal directory disappears, so rolling to the next segment fails
+        Order saved = Order.create(List.of(new OrderItem("Syringe", 10)));
+        List<OrderItem> items = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            items.add(new OrderItem("Supply " + i, 1));
+        }
+        Order tooLargeForTheSegment = Order.create(items);
+        Order batched = Order.create(List.of(new OrderItem("Gauze", 3)));
+
+        try (JournaledOrderRepository repository = new JournaledOrderRepository(settings(durability))) {
+            repository.save(saved);
+            try (Stream<Path> files = Files.list(directory)) {
+                for (Path file : files.toList()) {
+                    Files.delete(file);
+                }
+            }
+            Files.delete(directory);
+
+            // When
+            assertThatThrownBy(() -> repository.save(tooLargeForTheSegment)).isInstanceOf(UncheckedIOException.class);
+            assertThatThrownBy(() -> repository.saveAll(List.of(batched))).isInstanceOf(UncheckedIOException.class);
+            assertThatThrownBy(() -> repository.transition(saved.getId(), 0, Order::approve))
+                    .isInstanceOf(UncheckedIOException.class);
+            assertThatThrownBy(() -> repository.transitionAll(List.of(saved.getId()), Order::cancel))
+                    .isInstanceOf(UncheckedIOException.class);
+
+            // Then
+            assertThat(repository.findById(tooLargeForTheSegment.getId())).isEmpty();
+            assertThat(repository.findById(batched.getId())).isEmpty();
+            assertThat(repository.findById(saved.getId())).get()
+                    .returns(OrderStatus.PENDING, Order::getStatus)
+                    .returns(0L, Order::getVersion);
+            assertThat(repository.findAll()).hasSize(1);
+            Files.createDirectories(directory);
+        }
+    }
+
+    @Test
+    @DisplayName("Should start empty with no journal on disk")
+    void shouldStartEmptyWithNoJournalOnDisk() throws IOException {
+        try (JournaledOrderRepository repository = new JournaledOrderRepository(settings(DurabilityMode.GROUP))) {
+            assertThat(repository.findAll()).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("Should be selected and configured from application properties")
+    void shouldBeSelectedAndConfiguredFromApplicationProperties() {
+        new ApplicationContextRunner()
+                .withUserConfiguration(JournaledOrderRepository.class)
+                .withBean(ItemNameDictionary.class, () -> new ItemNameDictionary(name -> true))
+                .withPropertyValues(
+                        "orders.repository.type=journal",
+                        "orders.journal.directory=" + directory,
+                        "orders.journal.durability=PER_WRITE",
+                        "orders.journal.segment-size=1MB")
+                .run(context -> {
+                    assertThat(context).hasSingleBean(JournaledOrderRepository.class);
+                    JournalSettings settings = context.getBean(JournalSettings.class);
+                    assertThat(settings.durability()).isEqualTo(DurabilityMode.PER_WRITE);
+                    assertThat(settings.segmentSize()).isEqualTo(DataSize.ofMegabytes(1));
+                    assertThat(settings.snapshotInterval()).isEqualTo(Duration.ofMinutes(15));
+                });
+    }
+
+    private JournalSettings settings(DurabilityMode durability) {
+        return new JournalSettings(directory, DataSize.ofKilobytes(4), durability, Duration.ofMillis(10), 1024, Duration.ZERO);
+    }
+
+    private long segmentCount() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(SegmentedJournal::isSegment).count();
+        }
+    }
+
+    private static void assertSameOrder(Order actual, Order expected) {
+        assertThat(actual.getId()).isEqualTo(expected.getId());
+        assertThat(actual.getStatus()).isEqualTo(expected.getStatus());
+        assertThat(actual.getItems()).containsExactlyElementsOf(expected.getItems());
+        assertThat(actual.getCreatedAt()).isEqualTo(expected.getCreatedAt());
+        assertThat(actual.getUpdatedAt()).isEqualTo(expected.getUpdatedAt());
+        assertThat(actual.getVersion()).isEqualTo(expected.getVersion());
+    }
+}
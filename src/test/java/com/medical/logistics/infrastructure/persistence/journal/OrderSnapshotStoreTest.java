@@ -0,0 +1,127 @@
+package com.medical.logistics.infrastructure.persistence.journal;
+
+import com.medical.logistics.domian.order.Order;
+import com.medical.logistics.domian.order.OrderId;
+import com.medical.logistics.domian.order.OrderItem;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+class OrderSnapshotStoreTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Should load every order written across several chunks")
+    void shouldLoadEveryOrderWrittenAcrossSeveralChunks() throws IOException {
+        // Given: enough orders to span more than one 4MB chunk
+        List<Order> orders = IntStream.range(0, 80_000)
+                .mapToObj(i -> Order.create(List.of(new OrderItem("Surgical gloves size " + (i % 10), i + 1))))
+                .toList();
+        OrderSnapshotStore store = new OrderSnapshotStore(directory);
+        store.write(1234, orders.stream());
+
+        // When
+        Map<OrderId, Order> loaded = new ConcurrentHashMap<>();
+        Optional<OrderSnapshotStore.Snapshot> snapshot = store.latest();
+        store.load(snapshot.orElseThrow(), order -> loaded.put(order.getId(), order));
+
+        // Then
+        assertThat(snapshot).get()
+                .returns(1234L, OrderSnapshotStore.Snapshot::sequence)
+                .returns(80_000L, OrderSnapshotStore.Snapshot::orderCount);
+        assertThat(loaded).hasSize(80_000);
+        Order sample = orders.get(54_321);
+        assertThat(loaded.get(sample.getId()).getItems()).containsExactlyElementsOf(sample.getItems());
+        assertThat(loaded.get(sample.getId()).getCreatedAt()).isEqualTo(sample.getCreatedAt());
+    }
+
+    @Test
+    @DisplayName("Should keep only the latest snapshot")
+    void shouldKeepOnlyTheLatestSnapshot() throws IOException {
+        // Given
+        OrderSnapshotStore store = new OrderSnapshotStore(directory);
+        store.write(10, Stream.of(order()));
+
+        // When
+        store.write(20, Stream.of(order(), order()));
+
+        // Then
+        assertThat(snapshotFiles()).containsExactly(OrderSnapshotStore.snapshotName(20));
+        assertThat(store.latest()).get().returns(2L, OrderSnapshotStore.Snapshot::orderCount);
+    }
+
+    @Test
+    @DisplayName("Should load an empty snapshot")
+    void shouldLoadAnEmptySnapshot() throws IOException {
+        // Given
+        OrderSnapshotStore store = new OrderSnapshotStore(directory);
+        store.write(7, Stream.empty());
+
+        // When
+        OrderSnapshotStore.Snapshot snapshot = store.latest().orElseThrow();
+
+        // Then
+        assertThat(snapshot.sequence()).isEqualTo(7);
+        assertThat(snapshot.orderCount()).isZero();
+        assertThatCode(() -> store.load(snapshot, order -> fail("no orders expected"))).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("Should ignore and remove a snapshot left half-written by a crash")
+    void shouldIgnoreAndRemoveASnapshotLeftHalfWrittenByACrash() throws IOException {
+        // Given
+        Path temp = directory.resolve(OrderSnapshotStore.snapshotName(99) + ".tmp");
+        Files.write(temp, new byte[]{1, 2, 3});
+
+        // When
+        Optional<OrderSnapshotStore.Snapshot> snapshot = new OrderSnapshotStore(directory).latest();
+
+        // Then
+        assertThat(snapshot).isEmpty();
+        assertThat(temp).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("Should refuse to load a damaged snapshot")
+    void shouldRefuseToLoadADamagedSnapshot() throws IOException {
+        // Given
+        OrderSnapshotStore store = new OrderSnapshotStore(directory);
+        Path file = store.write(5, Stream.of(order(), order()));
+        byte[] content = Files.readAllBytes(file);
+        content[40] ^= 0x7F;
+        Files.write(file, content);
+        OrderSnapshotStore.Snapshot snapshot = store.latest().orElseThrow();
+
+        // When/Then
+        assertThatThrownBy(() -> store.load(snapshot, order -> {
+        }))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("Corrupt snapshot");
+    }
+
+    private List<String> snapshotFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(OrderSnapshotStore::isSnapshot)
+                    .map(path -> path.getFileName().toString())
+                    .toList();
+        }
+    }
+
+    private static Order order() {
+        return Order.create(List.of(new OrderItem("Syringe", 10)));
+    }
+}
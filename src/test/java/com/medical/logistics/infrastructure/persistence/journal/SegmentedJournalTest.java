@@ -0,0 +1,334 @@
+package com.medical.logistics.infrastructure.persistence.journal;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+class SegmentedJournalTest {
+
+    @TempDir
+    Path directory;
+
+    @ParameterizedTest
+    @EnumSource(DurabilityMode.class)
+    @DisplayName("Should replay appended records after reopening")
+    void shouldReplayAppendedRecordsAfterReopening(DurabilityMode durability) throws IOException {
+        // Given
+        try (SegmentedJournal journal = SegmentedJournal.open(settings(durability, DataSize.ofMegabytes(1)), ignore())) {
+            journal.append(bytes("first"));
+            journal.append(bytes("second"));
+        }
+
+        // When
+        List<String> replayed = replay(settings(durability, DataSize.ofMegabytes(1)));
+
+        // Then
+        assertThat(replayed).containsExactly("0:first", "1:second");
+    }
+
+    @ParameterizedTest
+    @EnumSource(DurabilityMode.class)
+    @DisplayName("Should replay a batch of records appended together")
+    void shouldReplayABatchOfRecordsAppendedTogether(DurabilityMode durability) throws IOException {
+        // Given
+        try (SegmentedJournal journal = SegmentedJournal.open(settings(durability, DataSize.ofMegabytes(1)), ignore())) {
+            journal.append(bytes("single"));
+            journal.appendAll(List.of(bytes("batch-1"), bytes("batch-2"), bytes("batch-3")));
+            journal.appendAll(List.of());
+        }
+
+        // When
+        List<String> replayed = replay(settings(durability, DataSize.ofMegabytes(1)));
+
+        // Then
+        assertThat(replayed).containsExactly("0:single", "1:batch-1", "2:batch-2", "3:batch-3");
+    }
+
+    @Test
+    @DisplayName("Should roll segments and replay them in order")
+    void shouldRollSegmentsAndReplayThemInOrder() throws IOException {
+        // Given
+        JournalSettings settings = settings(DurabilityMode.PER_WRITE, DataSize.ofBytes(64));
+        try (SegmentedJournal journal = SegmentedJournal.open(settings, ignore())) {
+            for (int i = 0; i < 10; i++) {
+                journal.append(bytes("record-" + i));
+            }
+        }
+
+        // When
+        List<String> replayed = replay(settings);
+
+        // Then
+        assertThat(segments()).hasSizeGreaterThan(1);
+        assertThat(replayed).hasSize(10).startsWith("0:record-0").endsWith("9:record-9");
+    }
+
+    @Test
+    @DisplayName("Should truncate a torn record at the tail and keep appending")
+    void shouldTruncateATornRecordAtTheTailAndKeepAppending() throws IOException {
+        // Given
+        JournalSettings settings = settings(DurabilityMode.PER_WRITE, DataSize.ofMegabytes(1));
+        try (SegmentedJournal journal = SegmentedJournal.open(settings, ignore())) {
+            journal.append(bytes("committed"));
+        }
+        Path segment = segments().get(0);
+        long committedSize = Files.size(segment);
+        // a crash halfway through the next record: header claims 40 bytes, only 6 arrived
+        appendRaw(segment, ByteBuffer.allocate(14).putInt(40).putInt(123).put(bytes("torn!!")).array());
+
+        // When
+        List<String> replayed = replay(settings);
+
+        // Then
+        assertThat(replayed).containsExactly("0:committed");
+        assertThat(Files.size(segment)).isEqualTo(committedSize);
+
+        try (SegmentedJournal journal = SegmentedJournal.open(settings, ignore())) {
+            journal.append(bytes("after-recovery"));
+        }
+        assertThat(replay(settings)).containsExactly("0:committed", "1:after-recovery");
+    }
+
+    @Test
+    @DisplayName("Should drop a tail record whose checksum does not match")
+    void shouldDropATailRecordWhoseChecksumDoesNotMatch() throws IOException {
+        // Given
+        JournalSettings settings = settings(DurabilityMode.PER_WRITE, DataSize.ofMegabytes(1));
+        try (SegmentedJournal journal = SegmentedJournal.open(settings, ignore())) {
+            journal.append(bytes("committed"));
+            journal.append(bytes("corrupted"));
+        }
+        Path segment = segments().get(0);
+        flipLastByte(segment);
+
+        // When
+        List<String> replayed = replay(settings);
+
+        // Then
+        assertThat(replayed).containsExactly("0:committed");
+    }
+
+    @Test
+    @DisplayName("Should ignore zero-filled space left by a crash")
+    void shouldIgnoreZeroFilledSpaceLeftByACrash() throws IOException {
+        // Given
+        JournalSettings settings = settings(DurabilityMode.PER_WRITE, DataSize.ofMegabytes(1));
+        try (SegmentedJournal journal = SegmentedJournal.open(settings, ignore())) {
+            journal.append(bytes("committed"));
+        }
+        appendRaw(segments().get(0), new byte[512]);
+
+        // Then
+        assertThat(replay(settings)).containsExactly("0:committed");
+    }
+
+    @Test
+    @DisplayName("Should refuse to open when a sealed segment is corrupt")
+    void shouldRefuseToOpenWhenASealedSegmentIsCorrupt() throws IOException {
+        // Given
+        JournalSettings settings = settings(DurabilityMode.PER_WRITE, DataSize.ofBytes(64));
+        try (SegmentedJournal journal = SegmentedJournal.open(settings, ignore())) {
+            for (int i = 0; i < 5; i++) {
+                journal.append(bytes("record-" + i));
+            }
+        }
+        flipLastByte(segments().get(0));
+
+        // When/Then
+        assertThatThrownBy(() -> replay(settings))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("Corrupt record");
+    }
+
+    @Test
+    @DisplayName("Should replay only the tail after compacting rolled segments")
+    void shouldReplayOnlyTheTailAfterCompactingRolledSegments() throws IOException {
+        // Given
+        JournalSettings settings = settings(DurabilityMode.GROUP, DataSize.ofMegabytes(1));
+        long rolledAt;
+        try (SegmentedJournal journal = SegmentedJournal.open(settings, ignore())) {
+            journal.append(bytes("before-1"));
+            journal.append(bytes("before-2"));
+            rolledAt = journal.rollSegment();
+            journal.append(bytes("after"));
+
+            // When
+            assertThat(journal.deleteSegmentsBefore(rolledAt)).isEqualTo(1);
+        }
+
+        // Then
+        assertThat(rolledAt).isEqualTo(2);
+        assertThat(segments()).hasSize(1);
+        List<String> tail = new ArrayList<>();
+        try (SegmentedJournal ignored = SegmentedJournal.open(settings, rolledAt, (sequence, payload) ->
+                tail.add(sequence + ":" + StandardCharsets.UTF_8.decode(payload)))) {
+            assertThat(tail).containsExactly("2:after");
+        }
+    }
+
+    @Test
+    @DisplayName("Should skip records below the starting sequence when old segments remain")
+    void shouldSkipRecordsBelowTheStartingSequenceWhenOldSegmentsRemain() throws IOException {
+        // Given: a crash after a snapshot at sequence 2 but before compaction
+        JournalSettings settings = settings(DurabilityMode.PER_WRITE, DataSize.ofMegabytes(1));
+        try (SegmentedJournal journal = SegmentedJournal.open(settings, ignore())) {
+            journal.append(bytes("a"));
+            journal.append(bytes("b"));
+            journal.rollSegment();
+            journal.append(bytes("c"));
+        }
+
+        // When
+        List<String> tail = new ArrayList<>();
+        try (SegmentedJournal journal = SegmentedJournal.open(settings, 1, (sequence, payload) ->
+                tail.add(sequence + ":" + StandardCharsets.UTF_8.decode(payload)))) {
+
+            // Then
+            assertThat(tail).containsExactly("1:b", "2:c");
+            assertThat(journal.nextSequence()).isEqualTo(3);
+        }
+    }
+
+    @Test
+    @DisplayName("Should continue numbering from the starting sequence when every segment is gone")
+    void shouldContinueNumberingFromTheStartingSequenceWhenEverySegmentIsGone() throws IOException {
+        // When
+        try (SegmentedJournal journal = SegmentedJournal.open(
+                settings(DurabilityMode.PER_WRITE, DataSize.ofMegabytes(1)), 42, ignore())) {
+
+            // Then
+            assertThat(journal.nextSequence()).isEqualTo(42);
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject appends after close")
+    void shouldRejectAppendsAfterClose() throws IOException {
+        // Given
+        SegmentedJournal journal = SegmentedJournal.open(settings(DurabilityMode.GROUP, DataSize.ofMegabytes(1)), ignore());
+        journal.close();
+
+        // When/Then
+        assertThatThrownBy(() -> journal.append(bytes("late")))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Journal is closed");
+    }
+
+    @Test
+    @DisplayName("Should hand records to the commit listener only once they are synced")
+    void shouldHandRecordsToTheCommitListenerOnlyOnceTheyAreSynced() throws Exception {
+        // Given: an fsync interval no test waits for
+        JournalSettings settings = new JournalSettings(directory, DataSize.ofMegabytes(1), DurabilityMode.ASYNC,
+                Duration.ofHours(1), 1024, Duration.ZERO);
+        List<Long> committed = new CopyOnWriteArrayList<>();
+        SegmentedJournal journal = SegmentedJournal.open(settings, 0, ignore(),
+                (sequence, payload) -> committed.add(sequence));
+        journal.append(bytes("first"));
+        journal.appendAsync(bytes("second"));
+        Thread.sleep(100);
+        List<Long> beforeSync = List.copyOf(committed);
+
+        // When
+        journal.rollSegment();
+        journal.append(bytes("third"));
+        journal.close();
+
+        // Then
+        assertThat(beforeSync).isEmpty();
+        assertThat(committed).containsExactly(0L, 1L, 2L);
+    }
+
+    @Test
+    @DisplayName("Should keep appending while the commit listener is stuck")
+    void shouldKeepAppendingWhileTheCommitListenerIsStuck() throws Exception {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        List<Long> committed = new CopyOnWriteArrayList<>();
+        SegmentedJournal journal = SegmentedJournal.open(settings(DurabilityMode.GROUP, DataSize.ofKilobytes(1)), 0,
+                ignore(), (sequence, payload) -> {
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    committed.add(sequence);
+                });
+
+        // When
+        try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+            Future<?> appended = executor.submit(() -> {
+                for (int i = 0; i < 100; i++) {
+                    journal.append(bytes("record-" + i));
+                }
+            });
+            appended.get(10, TimeUnit.SECONDS);
+        }
+        release.countDown();
+        journal.close();
+
+        // Then
+        assertThat(committed).containsExactlyElementsOf(Stream.iterate(0L, i -> i + 1).limit(100).toList());
+    }
+
+    private JournalSettings settings(DurabilityMode durability, DataSize segmentSize) {
+        return new JournalSettings(directory, segmentSize, durability, Duration.ofMillis(10), 1024, Duration.ZERO);
+    }
+
+    private List<String> replay(JournalSettings settings) throws IOException {
+        List<String> replayed = new ArrayList<>();
+        try (SegmentedJournal ignored = SegmentedJournal.open(settings, (sequence, payload) -> {
+            byte[] bytes = new byte[payload.remaining()];
+            payload.get(bytes);
+            replayed.add(sequence + ":" + new String(bytes, StandardCharsets.UTF_8));
+        })) {
+            return replayed;
+        }
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(SegmentedJournal::isSegment).sorted().toList();
+        }
+    }
+
+    private static JournalRecordHandler ignore() {
+        return (sequence, payload) -> {
+        };
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static void appendRaw(Path segment, byte[] bytes) throws IOException {
+        Files.write(segment, bytes, StandardOpenOption.APPEND);
+    }
+
+    private static void flipLastByte(Path segment) throws IOException {
+        byte[] content = Files.readAllBytes(segment);
+        content[content.length - 1] ^= 0x7F;
+        Files.write(segment, content);
+    }
+}
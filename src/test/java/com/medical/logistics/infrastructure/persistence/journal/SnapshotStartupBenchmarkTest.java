@@ -0,0 +1,71 @@
+package com.medical.logistics.infrastructure.persistence.journal;
+
+import com.medical.logistics.domian.order.Order;
+import com.medical.logistics.domian.order.OrderItem;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Restart time with and without a snapshot. Opt-in, as it needs several GB of heap at
+ * the target size:
+ * <pre>
+ * mvn test -Dtest=SnapshotStartupBenchmarkTest -Dbenchmark=true -Dbenchmark.orders=10000000 -DargLine=-Xmx12g
+ * </pre>
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class SnapshotStartupBenchmarkTest {
+    private static final String[] ITEMS = {"Syringe", "Gauze 10cm", "Saline 0.9% 500ml", "Nitrile gloves M", "Masks"};
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Benchmark restart from the journal alone and from a snapshot plus tail")
+    void benchmarkRestartFromTheJournalAloneAndFromASnapshotPlusTail() throws IOException {
+        // Given
+        int orders = Integer.getInteger("benchmark.orders", 1_000_000);
+        JournalSettings settings = new JournalSettings(directory, DataSize.ofMegabytes(64),
+                DurabilityMode.ASYNC, Duration.ofMillis(100), 65536, Duration.ZERO);
+        try (SegmentedJournal journal = SegmentedJournal.open(settings, (sequence, payload) -> {
+        })) {
+            for (int i = 0; i < orders; i++) {
+                journal.append(OrderRecordCodec.encode(
+                        Order.create(List.of(new OrderItem(ITEMS[i % ITEMS.length], i % 100 + 1)))));
+            }
+        }
+
+        // When
+        long journalOnlyMillis = timeRestart(settings, orders, true);
+        long snapshotMillis = timeRestart(settings, orders, false);
+
+        // Then
+        System.out.printf("Restart with %,d orders: journal replay %,d ms, snapshot + tail %,d ms%n",
+                orders, journalOnlyMillis, snapshotMillis);
+    }
+
+    // opens the store, optionally snapshotting before close, and returns how long the open took
+    private static long timeRestart(JournalSettings settings, int expectedOrders, boolean snapshotAfterOpen)
+            throws IOException {
+        System.gc();
+        long started = System.nanoTime();
+        try (JournaledOrderRepository repository = new JournaledOrderRepository(settings)) {
+            long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+            assertThat(repository.findPage(null, 1)).hasSize(1);
+            if (snapshotAfterOpen) {
+                repository.snapshot();
+            }
+            assertThat(repository.findAll()).hasSize(expectedOrders);
+            return elapsedMillis;
+        }
+    }
+}
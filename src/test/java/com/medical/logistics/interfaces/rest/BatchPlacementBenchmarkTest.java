@@ -0,0 +1,121 @@
+package com.medical.logistics.interfaces.rest;
+
+import com.medical.logistics.MedicalLogisticsApiApplication;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Orders placed per second through {@code POST /api/orders} against {@code POST /api/orders/batch},
+ * with the same number of concurrent clients and orders. Runs on the journal store by default,
+ * where every request waits for its fsync. Opt-in:
+ * <pre>
+ * mvn test -Dtest=BatchPlacementBenchmarkTest -Dbenchmark=true -Dbenchmark.orders=20000 -Dbenchmark.store=in-memory
+ * </pre>
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class BatchPlacementBenchmarkTest {
+    private static final String ORDER = """
+            {"items": [{"name": "Syringe 5ml", "quantity": 10}, {"name": "Gauze Pad", "quantity": 3}]}""";
+
+    @Test
+    @DisplayName("Benchmark orders placed per second one at a time and in batches")
+    void benchmarkOrdersPlacedPerSecondOneAtATimeAndInBatches() throws Exception {
+        // Given
+        int orders = Integer.getInteger("benchmark.orders", 20_000);
+        int clients = Integer.getInteger("benchmark.clients", 16);
+        int batchSize = Integer.getInteger("benchmark.batch-size", 100);
+        String store = System.getProperty("benchmark.store", "journal");
+        Path journal = Files.createTempDirectory("batch-benchmark");
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(MedicalLogisticsApiApplication.class)
+                .properties("server.port=0",
+                        "orders.repository.type=" + store,
+                        "orders.journal.directory=" + journal,
+                        "orders.journal.snapshot-interval=0",
+                        "orders.access-log.mode=OFF",
+                        "logging.level.com.medical.logistics=WARN")
+                .run();
+             ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient http = HttpClient.newBuilder().executor(callers).version(HttpClient.Version.HTTP_1_1)
+                     .connectTimeout(Duration.ofSeconds(30)).build()) {
+            URI base = URI.create("http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort());
+            String batch = batchBody(batchSize);
+
+            // When: a warm-up pass of each, then the measured ones
+            run(http, callers, clients, orders / 10, 1, base.resolve("/api/orders"), ORDER);
+            run(http, callers, clients, orders / 10 / batchSize, batchSize, base.resolve("/api/orders/batch"), batch);
+            double single = run(http, callers, clients, orders, 1, base.resolve("/api/orders"), ORDER);
+            double batched = run(http, callers, clients, orders / batchSize, batchSize,
+                    base.resolve("/api/orders/batch"), batch);
+
+            // Then
+            System.out.printf("%s store, %d clients, %,d orders%n", store, clients, orders);
+            System.out.printf("single:           %,.0f orders/s%n", single);
+            System.out.printf("batches of %-4d   %,.0f orders/s (%.1fx)%n", batchSize, batched, batched / single);
+            assertThat(batched).isPositive();
+        }
+    }
+
+    /**
+     * @return orders placed per second
+     */
+    private static double run(HttpClient http, ExecutorService callers, int clients, int requests, int ordersPerRequest,
+                              URI uri, String body) throws Exception {
+        AtomicInteger remaining = new AtomicInteger(requests);
+        AtomicInteger failures = new AtomicInteger();
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+
+        long started = System.nanoTime();
+        List<Future<?>> running = new ArrayList<>(clients);
+        for (int c = 0; c < clients; c++) {
+            running.add(callers.submit(() -> {
+                while (remaining.getAndDecrement() > 0) {
+                    HttpResponse<Void> response = http.send(request, HttpResponse.BodyHandlers.discarding());
+                    if (response.statusCode() / 100 != 2) {
+                        failures.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+        for (Future<?> client : running) {
+            client.get();
+        }
+        long elapsed = System.nanoTime() - started;
+
+        assertThat(failures).hasValue(0);
+        return (double) requests * ordersPerRequest * 1e9 / elapsed;
+    }
+
+    private static String batchBody(int size) {
+        StringJoiner orders = new StringJoiner(",", "{\"orders\": [", "]}");
+        for (int i = 0; i < size; i++) {
+            orders.add(ORDER);
+        }
+        return orders.toString();
+    }
+}
@@ -0,0 +1,87 @@
+package com.medical.logistics.interfaces.rest;
+
+import com.medical.logistics.domian.catalogue.SupplyCatalogue;
+import com.medical.logistics.infrastructure.catalogue.InMemorySupplyCatalogue;
+import com.medical.logistics.infrastructure.logging.AccessLog;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(CatalogueController.class)
+@Import({InMemorySupplyCatalogue.class, AccessLog.class})
+class CatalogueControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SupplyCatalogue catalogue;
+
+    @Test
+    @DisplayName("Should replace the catalogue and suggest items by prefix")
+    void shouldReplaceTheCatalogueAndSuggestItemsByPrefix() throws Exception {
+        // Given
+        String catalogueBody = """
+                {
+                    "items": [
+                        {"sku": "SYR-005", "name": "Syringe 5ml"},
+                        {"sku": "SYR-010", "name": "Syringe 10ml"},
+                        {"sku": "GLV-NIT-M", "name": "Nitrile Gloves M"}
+                    ]
+                }
+                """;
+
+        // When & Then
+        mockMvc.perform(put("/api/catalogue/items")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(catalogueBody))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items").value(3));
+
+        mockMvc.perform(get("/api/catalogue/items").param("prefix", "syr").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].sku").value("SYR-005"))
+                .andExpect(jsonPath("$[0].name").value("Syringe 5ml"));
+
+        mockMvc.perform(get("/api/catalogue/items").param("prefix", "GLOVES"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name").value("Nitrile Gloves M"));
+        assertThat(catalogue.containsName("Syringe 10ml")).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should return 400 for an invalid search or catalogue")
+    void shouldReturn400ForAnInvalidSearchOrCatalogue() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/catalogue/items").param("prefix", " "))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/catalogue/items").param("prefix", "syr").param("limit", "51"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(put("/api/catalogue/items")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"items": [{"sku": "SYR-005", "name": "Syringe 5ml"}, {"sku": "SYR-005", "name": "Syringe"}]}
+                                """))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Duplicate SKU SYR-005 for items 'Syringe' and 'Syringe 5ml'"));
+        mockMvc.perform(put("/api/catalogue/items")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"items": [{"sku": "", "name": "Syringe 5ml"}]}
+                                """))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Validation Failed"));
+        mockMvc.perform(post("/api/catalogue/reload"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,130 @@
+package com.medical.logistics.interfaces.rest;
+
+import com.medical.logistics.infrastructure.changelog.ChangeLogEntry;
+import com.medical.logistics.infrastructure.changelog.ChangeType;
+import com.medical.logistics.infrastructure.changelog.OrderChangeLog;
+import com.medical.logistics.interfaces.rest.dto.CommitOffsetRequest;
+import com.medical.logistics.interfaces.rest.dto.ConsumerOffsetResponse;
+import com.medical.logistics.interfaces.rest.dto.CreateOrderRequest;
+import com.medical.logistics.interfaces.rest.dto.OrderItemDto;
+import com.medical.logistics.interfaces.rest.dto.OrderResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ChangeLogControllerIntegrationTest {
+
+    @TempDir
+    static Path directory;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private OrderChangeLog changeLog;
+
+    @DynamicPropertySource
+    static void properties(DynamicPropertyRegistry registry) {
+        registry.add("orders.repository.type", () -> "journal");
+        registry.add("orders.journal.directory", () -> directory.resolve("journal").toString());
+        registry.add("orders.changelog.enabled", () -> "true");
+        registry.add("orders.changelog.directory", () -> directory.resolve("changelog").toString());
+    }
+
+    @Test
+    @DisplayName("Should serve committed changes as frames and resume a consumer from its offset")
+    void shouldServeCommittedChangesAsFramesAndResumeAConsumerFromItsOffset() throws Exception {
+        // Given
+        long start = changeLog.endOffset();
+        UUID first = placeOrder("Syringe");
+        UUID second = placeOrder("Gauze 10cm");
+        restTemplate.exchange("/api/orders/{orderId}/approve", HttpMethod.PUT, null, OrderResponse.class, first);
+        awaitEndOffset(start + 3);
+
+        // When
+        ResponseEntity<byte[]> read = restTemplate.getForEntity("/api/changelog?offset={offset}", byte[].class, start);
+
+        // Then
+        assertThat(read.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(read.getHeaders().getFirst(ChangeLogController.NEXT_OFFSET_HEADER))
+                .isEqualTo(Long.toString(start + 3));
+        List<ChangeLogEntry> entries = new ArrayList<>();
+        ChangeLogEntry.decodeAll(ByteBuffer.wrap(read.getBody()), entries::add);
+        assertThat(entries).extracting(ChangeLogEntry::type)
+                .containsExactly(ChangeType.PLACED, ChangeType.PLACED, ChangeType.APPROVED);
+        assertThat(entries).extracting(entry -> entry.order().getId().getValue())
+                .containsExactly(first, second, first);
+
+        // When a consumer commits and reads again by name
+        ResponseEntity<ConsumerOffsetResponse> committed = restTemplate.exchange(
+                "/api/changelog/consumers/billing", HttpMethod.PUT,
+                new HttpEntity<>(new CommitOffsetRequest(start + 2)), ConsumerOffsetResponse.class);
+        ResponseEntity<byte[]> resumed = restTemplate.getForEntity("/api/changelog?consumer=billing", byte[].class);
+
+        // Then
+        assertThat(committed.getBody().getCommittedOffset()).isEqualTo(start + 2);
+        assertThat(committed.getBody().getLag()).isEqualTo(1);
+        List<ChangeLogEntry> remaining = new ArrayList<>();
+        ChangeLogEntry.decodeAll(ByteBuffer.wrap(resumed.getBody()), remaining::add);
+        assertThat(remaining).extracting(ChangeLogEntry::offset).containsExactly(start + 2);
+    }
+
+    @Test
+    @DisplayName("Should return an empty body for a reader that is caught up")
+    void shouldReturnAnEmptyBodyForAReaderThatIsCaughtUp() {
+        // When
+        ResponseEntity<byte[]> read = restTemplate.getForEntity("/api/changelog?offset={offset}", byte[].class,
+                changeLog.endOffset());
+
+        // Then
+        assertThat(read.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(read.getBody()).isNullOrEmpty();
+        assertThat(read.getHeaders().getFirst(ChangeLogController.NEXT_OFFSET_HEADER))
+                .isEqualTo(read.getHeaders().getFirst(ChangeLogController.END_OFFSET_HEADER));
+    }
+
+    @Test
+    @DisplayName("Should reject a read without an offset or consumer")
+    void shouldRejectAReadWithoutAnOffsetOrConsumer() {
+        // When
+        ResponseEntity<String> read = restTemplate.getForEntity("/api/changelog", String.class);
+
+        // Then
+        assertThat(read.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    private UUID placeOrder(String item) {
+        CreateOrderRequest request = new CreateOrderRequest();
+        request.setItems(List.of(new OrderItemDto(item, 5)));
+        return restTemplate.postForEntity("/api/orders", request, OrderResponse.class).getBody().getId();
+    }
+
+    private void awaitEndOffset(long offset) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (changeLog.endOffset() < offset) {
+            if (System.nanoTime() > deadline) {
+                fail("Change log did not reach offset " + offset);
+            }
+            Thread.sleep(1);
+        }
+    }
+}
@@ -1,23 +1,31 @@
 package com.medical.logistics.interfaces.rest;
 
+import com.medical.logistics.interfaces.rest.dto.BatchCreateOrderRequest;
+import com.medical.logistics.interfaces.rest.dto.BatchOrderResponse;
+import com.medical.logistics.interfaces.rest.dto.BatchOrderResult;
 import com.medical.logistics.interfaces.rest.dto.CreateOrderRequest;
 import com.medical.logistics.interfaces.rest.dto.OrderItemDto;
 import com.medical.logistics.interfaces.rest.dto.OrderResponse;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureObservability(tracing = false)
 class OrderControllerIntegrationTest {
 
     @Autowired
@@ -118,4 +126,178 @@ class OrderControllerIntegrationTest {
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody()).hasSizeGreaterThanOrEqualTo(2);
     }
+
+    @Test
+    @DisplayName("Should revalidate an order with its ETag until the order changes")
+    void shouldRevalidateAnOrderWithItsETagUntilTheOrderChanges() {
+        CreateOrderRequest request = new CreateOrderRequest();
+        request.setItems(List.of(new OrderItemDto("Forceps", 2)));
+        UUID orderId = restTemplate.postForEntity("/api/orders", request, OrderResponse.class).getBody().getId();
+        ResponseEntity<OrderResponse> first = restTemplate.getForEntity("/api/orders/{orderId}", OrderResponse.class, orderId);
+        String etag = first.getHeaders().getETag();
+
+        ResponseEntity<String> unchanged = restTemplate.exchange("/api/orders/{orderId}", HttpMethod.GET,
+                new HttpEntity<>(ifNoneMatch(etag)), String.class, orderId);
+        ResponseEntity<OrderResponse> approved = restTemplate.exchange("/api/orders/{orderId}/approve", HttpMethod.PUT,
+                null, OrderResponse.class, orderId);
+        HttpHeaders revalidate = consistentWith(approved);
+        revalidate.setIfNoneMatch(etag);
+        ResponseEntity<OrderResponse> changed = restTemplate.exchange("/api/orders/{orderId}", HttpMethod.GET,
+                new HttpEntity<>(revalidate), OrderResponse.class, orderId);
+
+        assertThat(first.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(first.getBody().getStatus()).isEqualTo("PENDING");
+        assertThat(first.getHeaders().getFirst("X-Request-Id")).isNotBlank();
+        assertThat(unchanged.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(unchanged.getBody()).isNull();
+        assertThat(changed.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(changed.getBody().getStatus()).isEqualTo("APPROVED");
+        assertThat(changed.getHeaders().getETag()).isNotEqualTo(etag);
+    }
+
+    private static HttpHeaders ifNoneMatch(String etag) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfNoneMatch(etag);
+        return headers;
+    }
+
+    // headers for a read that must see the given write
+    private static HttpHeaders consistentWith(ResponseEntity<?> write) {
+        String token = write.getHeaders().getFirst(OrderController.CONSISTENCY_TOKEN_HEADER);
+        assertThat(token).isNotBlank();
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(OrderController.CONSISTENCY_TOKEN_HEADER, token);
+        return headers;
+    }
+
+    @Test
+    @DisplayName("Should list a just approved order first among recent orders")
+    void shouldListAJustApprovedOrderFirstAmongRecentOrders() {
+        CreateOrderRequest request = new CreateOrderRequest();
+        request.setItems(List.of(new OrderItemDto("Scalpel", 3)));
+        UUID orderId = restTemplate.postForEntity("/api/orders", request, OrderResponse.class).getBody().getId();
+        ResponseEntity<OrderResponse> approved = restTemplate.exchange("/api/orders/{orderId}/approve", HttpMethod.PUT,
+                null, OrderResponse.class, orderId);
+
+        ResponseEntity<OrderResponse[]> response = restTemplate.exchange("/api/orders/recent?limit=5", HttpMethod.GET,
+                new HttpEntity<>(consistentWith(approved)), OrderResponse[].class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).hasSizeLessThanOrEqualTo(5);
+        assertThat(response.getBody()[0].getId()).isEqualTo(orderId);
+        assertThat(response.getBody()[0].getStatus()).isEqualTo("APPROVED");
+    }
+
+    @Test
+    @DisplayName("Should publish command latency histograms for Prometheus")
+    void shouldPublishCommandLatencyHistogramsForPrometheus() {
+        CreateOrderRequest request = new CreateOrderRequest();
+        request.setItems(List.of(new OrderItemDto("Gauze", 2)));
+        restTemplate.postForEntity("/api/orders", request, OrderResponse.class);
+
+        ResponseEntity<String> response = restTemplate.getForEntity("/actuator/prometheus", String.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody())
+                .contains("orders_commands_seconds_bucket{command=\"place\",outcome=\"success\"")
+                .contains("orders_store_size{status=\"PENDING\"}");
+    }
+
+    @Test
+    @DisplayName("Should page through orders with continuation cursor")
+    void shouldPageThroughOrdersWithContinuationCursor() {
+        // Create some orders
+        for (int i = 0; i < 3; i++) {
+            CreateOrderRequest request = new CreateOrderRequest();
+            request.setItems(List.of(new OrderItemDto("Item" + i, 10)));
+            restTemplate.postForEntity("/api/orders", request, OrderResponse.class);
+        }
+
+        // First page
+        ResponseEntity<OrderResponse[]> firstPage = restTemplate.getForEntity(
+                "/api/orders?limit=1",
+                OrderResponse[].class
+        );
+
+        assertThat(firstPage.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(firstPage.getBody()).hasSize(1);
+        String cursor = firstPage.getHeaders().getFirst("X-Next-Cursor");
+        assertThat(cursor).isNotBlank();
+
+        // Second page
+        ResponseEntity<OrderResponse[]> secondPage = restTemplate.getForEntity(
+                "/api/orders?limit=1&cursor={cursor}",
+                OrderResponse[].class,
+                cursor
+        );
+
+        assertThat(secondPage.getBody()).hasSize(1);
+        assertThat(secondPage.getBody()[0].getId().toString())
+                .isGreaterThan(firstPage.getBody()[0].getId().toString());
+    }
+
+    @Test
+    @DisplayName("Should export orders as newline-delimited JSON")
+    void shouldExportOrdersAsNewlineDelimitedJson() {
+        // Create an order
+        CreateOrderRequest request = new CreateOrderRequest();
+        request.setItems(List.of(new OrderItemDto("Gauze", 5)));
+        ResponseEntity<OrderResponse> placed = restTemplate.postForEntity("/api/orders", request, OrderResponse.class);
+        UUID orderId = placed.getBody().getId();
+
+        // Export
+        ResponseEntity<String> response = restTemplate.exchange("/api/orders/export", HttpMethod.GET,
+                new HttpEntity<>(consistentWith(placed)), String.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getContentType().toString()).isEqualTo("application/x-ndjson");
+        assertThat(response.getBody().lines())
+                .allMatch(line -> line.startsWith("{") && line.endsWith("}"))
+                .anyMatch(line -> line.contains(orderId.toString()));
+    }
+
+    @Test
+    @DisplayName("Should list only orders in requested status")
+    void shouldListOnlyOrdersInRequestedStatus() {
+        // Create and cancel an order
+        CreateOrderRequest request = new CreateOrderRequest();
+        request.setItems(List.of(new OrderItemDto("Saline", 3)));
+        UUID orderId = restTemplate.postForEntity("/api/orders", request, OrderResponse.class)
+                .getBody().getId();
+        ResponseEntity<OrderResponse> cancelled = restTemplate.exchange("/api/orders/{orderId}/cancel", HttpMethod.PUT,
+                null, OrderResponse.class, orderId);
+
+        // Filter by status
+        ResponseEntity<OrderResponse[]> response = restTemplate.exchange("/api/orders?status=CANCELLED&limit=500",
+                HttpMethod.GET, new HttpEntity<>(consistentWith(cancelled)), OrderResponse[].class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody())
+                .allMatch(order -> order.getStatus().equals("CANCELLED"))
+                .anyMatch(order -> order.getId().equals(orderId));
+    }
+
+    @Test
+    @DisplayName("Should place a batch of orders and make them readable")
+    void shouldPlaceABatchOfOrdersAndMakeThemReadable() {
+        // Given
+        List<CreateOrderRequest> orders = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            orders.add(new CreateOrderRequest(List.of(new OrderItemDto("Saline " + i, i + 1))));
+        }
+        orders.add(new CreateOrderRequest(List.of()));
+
+        // When
+        ResponseEntity<BatchOrderResponse> response = restTemplate.postForEntity(
+                "/api/orders/batch", new BatchCreateOrderRequest(orders), BatchOrderResponse.class);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody().getSucceeded()).isEqualTo(100);
+        assertThat(response.getBody().getFailed()).isEqualTo(1);
+        assertThat(response.getBody().getResults().get(100).getOutcome()).isEqualTo(BatchOrderResult.REJECTED);
+        UUID placed = response.getBody().getResults().get(42).getOrder().getId();
+        ResponseEntity<OrderResponse> fetched = restTemplate.getForEntity("/api/orders/{orderId}", OrderResponse.class, placed);
+        assertThat(fetched.getBody().getItems()).containsExactly(new OrderItemDto("Saline 42", 43));
+    }
 }
@@ -1,36 +1,58 @@
 package com.medical.logistics.interfaces.rest;
 
 import com.medical.logistics.application.order.OrderApplicationService;
+import com.medical.logistics.application.order.OrderItemValidator;
 import com.medical.logistics.application.order.commands.ApproveOrderCommand;
 import com.medical.logistics.application.order.commands.CancelOrderCommand;
 import com.medical.logistics.application.order.commands.PlaceOrderCommand;
+import com.medical.logistics.application.order.queries.OrderView;
+import com.medical.logistics.domian.catalogue.exceptions.UnknownCatalogueItemException;
 import com.medical.logistics.domian.order.Order;
 import com.medical.logistics.domian.order.OrderId;
 import com.medical.logistics.domian.order.OrderItem;
 import com.medical.logistics.domian.order.OrderStatus;
+import com.medical.logistics.domian.order.exceptions.ConcurrentOrderModificationException;
 import com.medical.logistics.domian.order.exceptions.InvalidOrderStateException;
 import com.medical.logistics.domian.order.exceptions.OrderNotFoundException;
+import com.medical.logistics.infrastructure.cache.OrderResponseCache;
+import com.medical.logistics.infrastructure.idempotency.IdempotencyCache;
+import com.medical.logistics.infrastructure.logging.AccessLog;
+import com.medical.logistics.interfaces.rest.dto.BatchOrderResponse;
+import com.medical.logistics.interfaces.rest.dto.BatchOrderResult;
 import com.medical.logistics.interfaces.rest.dto.OrderItemDto;
+import com.medical.logistics.interfaces.rest.dto.OrderPageResponse;
 import com.medical.logistics.interfaces.rest.dto.OrderResponse;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(OrderController.class)
+@Import({IdempotencyCache.class, OrderResponseCache.class, OrderMapper.class, AccessLog.class})
 class OrderControllerTest {
 
     @Autowired
@@ -39,6 +61,9 @@ class OrderControllerTest {
     @MockitoBean
     private OrderApplicationService orderService;
 
+    @MockitoBean
+    private OrderItemValidator itemValidator;
+
     @Test
     @DisplayName("Should create order successfully")
     void shouldCreateOrderSuccessfully() throws Exception {
@@ -81,6 +106,62 @@ class OrderControllerTest {
         verify(orderService, times(1)).placeOrder(any(PlaceOrderCommand.class));
     }
 
+    @Test
+    @DisplayName("Should replay the created order for a retried idempotency key")
+    void shouldReplayTheCreatedOrderForARetriedIdempotencyKey() throws Exception {
+        // Given
+        String requestBody = """
+                {"items": [{"name": "Syringe", "quantity": 10}]}
+                """;
+        UUID orderId = UUID.randomUUID();
+        when(orderService.placeOrder(any(PlaceOrderCommand.class)))
+                .thenReturn(OrderResponse.builder().id(orderId).status("PENDING").build());
+        String key = UUID.randomUUID().toString();
+
+        // When & Then
+        mockMvc.perform(post("/api/orders")
+                        .header("Idempotency-Key", key)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestBody))
+                .andExpect(status().isCreated())
+                .andExpect(header().doesNotExist("Idempotent-Replayed"))
+                .andExpect(jsonPath("$.id").value(orderId.toString()));
+
+        mockMvc.perform(post("/api/orders")
+                        .header("Idempotency-Key", key)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestBody))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Idempotent-Replayed", "true"))
+                .andExpect(jsonPath("$.id").value(orderId.toString()));
+
+        verify(orderService, times(1)).placeOrder(any(PlaceOrderCommand.class));
+    }
+
+    @Test
+    @DisplayName("Should reject an idempotency key reused with a different body")
+    void shouldRejectAnIdempotencyKeyReusedWithADifferentBody() throws Exception {
+        // Given
+        when(orderService.placeOrder(any(PlaceOrderCommand.class)))
+                .thenReturn(OrderResponse.builder().id(UUID.randomUUID()).status("PENDING").build());
+        String key = UUID.randomUUID().toString();
+        mockMvc.perform(post("/api/orders")
+                        .header("Idempotency-Key", key)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"items\": [{\"name\": \"Syringe\", \"quantity\": 10}]}"))
+                .andExpect(status().isCreated());
+
+        // When & Then
+        mockMvc.perform(post("/api/orders")
+                        .header("Idempotency-Key", key)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"items\": [{\"name\": \"Syringe\", \"quantity\": 50}]}"))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.error").value("Idempotency Key Reuse"));
+
+        verify(orderService, times(1)).placeOrder(any(PlaceOrderCommand.class));
+    }
+
     @Test
     @DisplayName("Should return bad request for empty items")
     void shouldReturnBadRequestForEmptyItems() throws Exception {
@@ -100,6 +181,122 @@ class OrderControllerTest {
         verify(orderService, never()).placeOrder(any());
     }
 
+    @Test
+    @DisplayName("Should place valid orders of a batch and report invalid ones by position")
+    void shouldPlaceValidOrdersOfABatchAndReportInvalidOnesByPosition() throws Exception {
+        // Given
+        String requestBody = """
+                {
+                    "orders": [
+                        {"items": [{"name": "Syringe", "quantity": 10}]},
+                        {"items": [{"name": "Bandage", "quantity": 0}]},
+                        {"items": [{"name": "Gauze", "quantity": 5}]}
+                    ]
+                }
+                """;
+        OrderResponse first = OrderResponse.builder().id(UUID.randomUUID()).status("PENDING").build();
+        OrderResponse third = OrderResponse.builder().id(UUID.randomUUID()).status("PENDING").build();
+        when(orderService.placeOrders(anyList())).thenReturn(List.of(first, third));
+
+        // When & Then
+        mockMvc.perform(post("/api/orders/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestBody))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.succeeded").value(2))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.results[0].outcome").value("CREATED"))
+                .andExpect(jsonPath("$.results[0].order.id").value(first.getId().toString()))
+                .andExpect(jsonPath("$.results[1].index").value(1))
+                .andExpect(jsonPath("$.results[1].outcome").value("REJECTED"))
+                .andExpect(jsonPath("$.results[1].error").value("items[0].quantity: Quantity must be at least 1"))
+                .andExpect(jsonPath("$.results[1].order").doesNotExist())
+                .andExpect(jsonPath("$.results[2].order.id").value(third.getId().toString()));
+
+        verify(orderService, times(1)).placeOrders(argThat(commands -> commands.size() == 2));
+    }
+
+    @Test
+    @DisplayName("Should reject only the order of a batch with an item missing from the catalogue")
+    void shouldRejectOnlyTheOrderOfABatchWithAnItemMissingFromTheCatalogue() throws Exception {
+        // Given
+        String requestBody = """
+                {"orders": [{"items": [{"name": "Syringe", "quantity": 1}]}, {"items": [{"name": "Syrnge", "quantity": 1}]}]}
+                """;
+        when(itemValidator.unknownItemError(argThat(command -> command.getItems().getFirst().name().equals("Syrnge"))))
+                .thenReturn("Item 'Syrnge' is not in the supply catalogue");
+        OrderResponse placed = OrderResponse.builder().id(UUID.randomUUID()).status("PENDING").build();
+        when(orderService.placeOrders(anyList())).thenReturn(List.of(placed));
+
+        // When & Then
+        mockMvc.perform(post("/api/orders/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestBody))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.succeeded").value(1))
+                .andExpect(jsonPath("$.results[0].outcome").value("CREATED"))
+                .andExpect(jsonPath("$.results[1].outcome").value("REJECTED"))
+                .andExpect(jsonPath("$.results[1].error").value("Item 'Syrnge' is not in the supply catalogue"));
+
+        verify(orderService).placeOrders(argThat(commands -> commands.size() == 1));
+    }
+
+    @Test
+    @DisplayName("Should not call the service when every order of a batch is invalid")
+    void shouldNotCallTheServiceWhenEveryOrderOfABatchIsInvalid() throws Exception {
+        // Given
+        String requestBody = """
+                {"orders": [{"items": []}, {"items": [{"name": " ", "quantity": 1}]}]}
+                """;
+
+        // When & Then
+        mockMvc.perform(post("/api/orders/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(requestBody))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.succeeded").value(0))
+                .andExpect(jsonPath("$.failed").value(2))
+                .andExpect(jsonPath("$.results[0].error").value("items: Order must have at least one item"))
+                .andExpect(jsonPath("$.results[1].error").value("items[0].name: Item name is required"));
+
+        verify(orderService, never()).placeOrders(any());
+    }
+
+    @Test
+    @DisplayName("Should reject an empty batch")
+    void shouldRejectAnEmptyBatch() throws Exception {
+        // When & Then
+        mockMvc.perform(post("/api/orders/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"orders\": []}"))
+                .andExpect(status().isBadRequest());
+
+        verify(orderService, never()).placeOrders(any());
+    }
+
+    @Test
+    @DisplayName("Should answer 304 for a matching ETag and serve the order otherwise")
+    void shouldAnswer304ForAMatchingETagAndServeTheOrderOtherwise() throws Exception {
+        // Given
+        UUID orderId = UUID.randomUUID();
+        OrderView order = view(orderId, OrderStatus.PENDING, 0, new OrderItem("Mask", 100));
+        when(orderService.getOrderView(OrderId.of(orderId))).thenReturn(order);
+        String etag = "\"" + orderId + "-0\"";
+
+        // When & Then
+        mockMvc.perform(get("/api/orders/{orderId}", orderId))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", etag))
+                .andExpect(jsonPath("$.id").value(orderId.toString()))
+                .andExpect(jsonPath("$.items[0].name").value("Mask"));
+        mockMvc.perform(get("/api/orders/{orderId}", orderId).header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", etag));
+        mockMvc.perform(get("/api/orders/{orderId}", orderId).header("If-None-Match", "\"" + orderId + "-1\""))
+                .andExpect(status().isOk());
+        verify(orderService, never()).getOrder(any(OrderId.class));
+    }
+
     @Test
     @DisplayName("Should approve order successfully")
     void shouldApproveOrderSuccessfully() throws Exception {
@@ -113,19 +310,20 @@ class OrderControllerTest {
                 .updatedAt(LocalDateTime.now())
                 .build();
 
-        doNothing().when(orderService).approveOrder(any(ApproveOrderCommand.class));
-        when(orderService.getOrder(any(OrderId.class))).thenReturn(approvedOrder);
+        when(orderService.approveOrder(any(ApproveOrderCommand.class))).thenReturn(approvedOrder);
+        when(orderService.consistencyToken()).thenReturn(41L);
 
         // When & Then
         mockMvc.perform(put("/api/orders/{orderId}/approve", orderId))
                 .andExpect(status().isOk())
+                .andExpect(header().string(OrderController.CONSISTENCY_TOKEN_HEADER, "41"))
                 .andExpect(jsonPath("$.id").value(orderId.toString()))
                 .andExpect(jsonPath("$.status").value("APPROVED"))
                 .andExpect(jsonPath("$.items[0].name").value("Mask"))
                 .andExpect(jsonPath("$.items[0].quantity").value(100));
 
         verify(orderService, times(1)).approveOrder(any(ApproveOrderCommand.class));
-        verify(orderService, times(1)).getOrder(any(OrderId.class));
+        verify(orderService, never()).getOrder(any(OrderId.class));
     }
 
 
@@ -144,6 +342,38 @@ class OrderControllerTest {
         verify(orderService, times(1)).approveOrder(any(ApproveOrderCommand.class));
     }
 
+    @Test
+    @DisplayName("Should return 409 when the order was modified concurrently")
+    void shouldReturn409WhenTheOrderWasModifiedConcurrently() throws Exception {
+        // Given
+        UUID orderId = UUID.randomUUID();
+        doThrow(new ConcurrentOrderModificationException("Order was modified concurrently"))
+                .when(orderService).approveOrder(any(ApproveOrderCommand.class));
+
+        // When & Then
+        mockMvc.perform(put("/api/orders/{orderId}/approve", orderId))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.error").value("Concurrent Modification"));
+    }
+
+    @Test
+    @DisplayName("Should return 422 when an item is not in the supply catalogue")
+    void shouldReturn422WhenAnItemIsNotInTheSupplyCatalogue() throws Exception {
+        // Given
+        when(orderService.placeOrder(any(PlaceOrderCommand.class)))
+                .thenThrow(new UnknownCatalogueItemException("Item 'Syrnge' is not in the supply catalogue"));
+
+        // When & Then
+        mockMvc.perform(post("/api/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"items": [{"name": "Syrnge", "quantity": 10}]}
+                                """))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.error").value("Unknown Item"))
+                .andExpect(jsonPath("$.message").value("Item 'Syrnge' is not in the supply catalogue"));
+    }
+
     @Test
     @DisplayName("Should cancel order successfully")
     void shouldCancelOrderSuccessfully() throws Exception {
@@ -157,8 +387,7 @@ class OrderControllerTest {
                 .updatedAt(LocalDateTime.now())
                 .build();
 
-        doNothing().when(orderService).cancelOrder(any(CancelOrderCommand.class));
-        when(orderService.getOrder(any(OrderId.class))).thenReturn(cancelledOrder);
+        when(orderService.cancelOrder(any(CancelOrderCommand.class))).thenReturn(cancelledOrder);
 
         // When & Then
         mockMvc.perform(put("/api/orders/{orderId}/cancel", orderId))
@@ -169,7 +398,49 @@ class OrderControllerTest {
                 .andExpect(jsonPath("$.items[0].quantity").value(5));
 
         verify(orderService, times(1)).cancelOrder(any(CancelOrderCommand.class));
-        verify(orderService, times(1)).getOrder(any(OrderId.class));
+        verify(orderService, never()).getOrder(any(OrderId.class));
+    }
+
+    @Test
+    @DisplayName("Should approve a list of orders and return per-id outcomes")
+    void shouldApproveAListOfOrdersAndReturnPerIdOutcomes() throws Exception {
+        // Given
+        UUID approved = UUID.randomUUID();
+        UUID missing = UUID.randomUUID();
+        when(orderService.approveOrders(anyList())).thenReturn(BatchOrderResponse.builder()
+                .succeeded(1)
+                .failed(1)
+                .results(List.of(
+                        BatchOrderResult.builder().index(0).orderId(approved).outcome(BatchOrderResult.APPROVED)
+                                .order(OrderResponse.builder().id(approved).status("APPROVED").build()).build(),
+                        BatchOrderResult.builder().index(1).orderId(missing).outcome(BatchOrderResult.NOT_FOUND)
+                                .error("Order not found with id: " + missing).build()))
+                .build());
+
+        // When & Then
+        mockMvc.perform(post("/api/orders/batch/approve")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"orderIds\": [\"" + approved + "\", \"" + missing + "\"]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.succeeded").value(1))
+                .andExpect(jsonPath("$.results[0].order.status").value("APPROVED"))
+                .andExpect(jsonPath("$.results[1].orderId").value(missing.toString()))
+                .andExpect(jsonPath("$.results[1].outcome").value("NOT_FOUND"));
+
+        verify(orderService, times(1)).approveOrders(argThat(commands -> commands.size() == 2
+                && commands.get(1).getOrderId().getValue().equals(missing)));
+    }
+
+    @Test
+    @DisplayName("Should reject a bulk cancel without order ids")
+    void shouldRejectABulkCancelWithoutOrderIds() throws Exception {
+        // When & Then
+        mockMvc.perform(post("/api/orders/batch/cancel")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"orderIds\": []}"))
+                .andExpect(status().isBadRequest());
+
+        verify(orderService, never()).cancelOrders(any());
     }
 
     @Test
@@ -195,11 +466,14 @@ class OrderControllerTest {
                 .updatedAt(LocalDateTime.now())
                 .build();
 
-        when(orderService.getAllOrders()).thenReturn(List.of(order1, order2));
+        when(orderService.getOrders(null, 50)).thenReturn(OrderPageResponse.builder()
+                .items(List.of(order1, order2))
+                .build());
 
         // When & Then
         mockMvc.perform(get("/api/orders"))
                 .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("X-Next-Cursor"))
                 .andExpect(jsonPath("$[0].id").value(orderId1.toString()))
                 .andExpect(jsonPath("$[0].status").value("PENDING"))
                 .andExpect(jsonPath("$[0].items[0].name").value("Item1"))
@@ -208,23 +482,80 @@ class OrderControllerTest {
                 .andExpect(jsonPath("$[1].items[0].name").value("Item2"))
                 .andExpect(jsonPath("$.length()").value(2));
 
-        verify(orderService, times(1)).getAllOrders();
+        verify(orderService, times(1)).getOrders(null, 50);
     }
 
     @Test
-    @DisplayName("Should get order by id")
-    void shouldGetOrderById() throws Exception {
+    @DisplayName("Should return next cursor header when more orders exist")
+    void shouldReturnNextCursorHeaderWhenMoreOrdersExist() throws Exception {
         // Given
-        UUID orderId = UUID.randomUUID();
         OrderResponse order = OrderResponse.builder()
-                .id(orderId)
+                .id(UUID.randomUUID())
                 .status("PENDING")
-                .items(List.of(new OrderItemDto("Gloves", 50)))
-                .createdAt(LocalDateTime.now())
-                .updatedAt(LocalDateTime.now())
+                .items(List.of(new OrderItemDto("Item1", 10)))
                 .build();
 
-        when(orderService.getOrder(any(OrderId.class))).thenReturn(order);
+        when(orderService.getOrders("abc", 1)).thenReturn(OrderPageResponse.builder()
+                .items(List.of(order))
+                .nextCursor("def")
+                .build());
+
+        // When & Then
+        mockMvc.perform(get("/api/orders").param("cursor", "abc").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Next-Cursor", "def"))
+                .andExpect(jsonPath("$.length()").value(1));
+    }
+
+    @Test
+    @DisplayName("Should filter orders by status")
+    void shouldFilterOrdersByStatus() throws Exception {
+        // Given
+        OrderResponse order = OrderResponse.builder()
+                .id(UUID.randomUUID())
+                .status("PENDING")
+                .items(List.of(new OrderItemDto("Item1", 10)))
+                .build();
+
+        when(orderService.getOrdersByStatus(OrderStatus.PENDING, null, 50)).thenReturn(OrderPageResponse.builder()
+                .items(List.of(order))
+                .build());
+
+        // When & Then
+        mockMvc.perform(get("/api/orders").param("status", "PENDING"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].status").value("PENDING"))
+                .andExpect(jsonPath("$.length()").value(1));
+
+        verify(orderService, never()).getOrders(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should return bad request for unknown status filter")
+    void shouldReturnBadRequestForUnknownStatusFilter() throws Exception {
+        mockMvc.perform(get("/api/orders").param("status", "SHIPPED"))
+                .andExpect(status().isBadRequest());
+
+        verify(orderService, never()).getOrdersByStatus(any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should return bad request for non-numeric page limit")
+    void shouldReturnBadRequestForNonNumericPageLimit() throws Exception {
+        mockMvc.perform(get("/api/orders").param("limit", "many"))
+                .andExpect(status().isBadRequest());
+
+        verify(orderService, never()).getOrders(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should get order by id")
+    void shouldGetOrderById() throws Exception {
+        // Given
+        UUID orderId = UUID.randomUUID();
+        OrderView order = view(orderId, OrderStatus.PENDING, 0, new OrderItem("Gloves", 50));
+
+        when(orderService.getOrderView(any(OrderId.class))).thenReturn(order);
 
         // When & Then
         mockMvc.perform(get("/api/orders/{orderId}", orderId))
@@ -234,7 +565,27 @@ class OrderControllerTest {
                 .andExpect(jsonPath("$.items[0].name").value("Gloves"))
                 .andExpect(jsonPath("$.items[0].quantity").value(50));
 
-        verify(orderService, times(1)).getOrder(any(OrderId.class));
+        verify(orderService, times(1)).getOrderView(any(OrderId.class));
+        verify(orderService, never()).awaitChanges(anyLong());
+    }
+
+    @Test
+    @DisplayName("Should wait for the writes named by a consistency token before reading")
+    void shouldWaitForTheWritesNamedByAConsistencyTokenBeforeReading() throws Exception {
+        // Given
+        UUID orderId = UUID.randomUUID();
+        OrderView approved = view(orderId, OrderStatus.APPROVED, 1, new OrderItem("Gloves", 50));
+        when(orderService.getOrderView(any(OrderId.class))).thenReturn(approved);
+
+        // When & Then
+        mockMvc.perform(get("/api/orders/{orderId}", orderId)
+                        .header(OrderController.CONSISTENCY_TOKEN_HEADER, "41"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("APPROVED"));
+
+        var inOrder = inOrder(orderService);
+        inOrder.verify(orderService).awaitChanges(41L);
+        inOrder.verify(orderService).getOrderView(OrderId.of(orderId));
     }
 
     @Test
@@ -242,13 +593,51 @@ class OrderControllerTest {
     void shouldReturnNotFoundWhenGettingNonExistentOrder() throws Exception {
         // Given
         UUID orderId = UUID.randomUUID();
-        when(orderService.getOrder(any(OrderId.class)))
+        when(orderService.getOrderView(any(OrderId.class)))
                 .thenThrow(new OrderNotFoundException("Order not found"));
 
         // When & Then
         mockMvc.perform(get("/api/orders/{orderId}", orderId))
                 .andExpect(status().isNotFound());
 
-        verify(orderService, times(1)).getOrder(any(OrderId.class));
+        verify(orderService, times(1)).getOrderView(any(OrderId.class));
+    }
+
+    @Test
+    @DisplayName("Should stream orders as newline-delimited JSON")
+    void shouldStreamOrdersAsNewlineDelimitedJson() throws Exception {
+        // Given
+        UUID orderId1 = UUID.randomUUID();
+        UUID orderId2 = UUID.randomUUID();
+        when(orderService.exportOrders(any())).thenAnswer(invocation -> {
+            Consumer<OrderResponse> sink = invocation.getArgument(0);
+            sink.accept(OrderResponse.builder().id(orderId1).status("PENDING").build());
+            sink.accept(OrderResponse.builder().id(orderId2).status("APPROVED").build());
+            return 2L;
+        });
+
+        // When
+        MvcResult result = mockMvc.perform(get("/api/orders/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "application/x-ndjson"))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        String[] lines = body.split("\n");
+        assertThat(body).endsWith("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).contains(orderId1.toString()).contains("PENDING");
+        assertThat(lines[1]).contains(orderId2.toString()).contains("APPROVED");
+    }
+
+    private static OrderView view(UUID orderId, OrderStatus status, long version, OrderItem... items) {
+        LocalDateTime now = LocalDateTime.now();
+        return new OrderView(OrderId.of(orderId), status, version, List.of(items), now, now);
     }
-}
\ No newline at end of file
+}
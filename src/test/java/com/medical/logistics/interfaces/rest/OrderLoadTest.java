@@ -0,0 +1,301 @@
+package com.medical.logistics.interfaces.rest;
+
+import com.medical.logistics.MedicalLogisticsApiApplication;
+import com.medical.logistics.domian.order.Order;
+import com.medical.logistics.domian.order.OrderId;
+import com.medical.logistics.domian.order.OrderItem;
+import com.medical.logistics.domian.order.OrderRepository;
+import com.medical.logistics.domian.order.OrderStatus;
+import com.medical.logistics.infrastructure.persistence.InMemoryOrderRepository;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.support.GenericApplicationContext;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Open-loop load against the order API. Requests are sent at a fixed arrival rate whether or
+ * not earlier ones have completed, and each latency is measured from the time the request
+ * was due rather than sent, so a stalled server shows up in the percentiles instead of
+ * quietly slowing the load down (coordinated omission). The store is seeded with synthetic
+ * orders first; approvals and cancellations each take a distinct seeded pending order.
+ * Opt-in:
+ * <pre>
+ * mvn test -Dtest=OrderLoadTest -Dbenchmark=true -Dbenchmark.orders=5000000 -Dbenchmark.rate=5000
+ *     -Dbenchmark.seconds=60 -Dbenchmark.mix=place:15,approve:10,cancel:5,get:55,list:15 -DargLine=-Xmx12g
+ * </pre>
+ * Full percentile distributions are written to {@code target/load/<endpoint>.hgrm}.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class OrderLoadTest {
+    private static final String DEFAULT_MIX = "place:15,approve:10,cancel:5,get:55,list:15";
+    private static final String[] SUPPLIES = {
+            "Syringe 5ml", "Nitrile Gloves M", "Surgical Mask", "FFP2 Respirator", "Gauze Pad 10x10",
+            "Elastic Bandage", "Saline 0.9% 500ml", "IV Cannula 20G", "Suture Kit", "Oxygen Mask"
+    };
+    private static final LocalDateTime SEEDED_AT = LocalDateTime.of(2025, 1, 1, 0, 0);
+    private static final Duration DRAIN_TIMEOUT = Duration.ofMinutes(1);
+
+    @Test
+    @DisplayName("Drive a fixed-rate mix of order traffic and report latency percentiles per endpoint")
+    void driveAFixedRateMixOfOrderTrafficAndReportLatencyPercentilesPerEndpoint() throws Exception {
+        // Given
+        int orders = Integer.getInteger("benchmark.orders", 1_000_000);
+        int rate = Integer.getInteger("benchmark.rate", 2000);
+        int seconds = Integer.getInteger("benchmark.seconds", 30);
+        Mix mix = Mix.parse(System.getProperty("benchmark.mix", DEFAULT_MIX));
+        InMemoryOrderRepository repository = new InMemoryOrderRepository(orders + rate * seconds);
+        Seed seed = seed(repository, orders);
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(MedicalLogisticsApiApplication.class)
+                .properties("server.port=0",
+                        "logging.level.com.medical.logistics=WARN",
+                        "orders.access-log.mode=OFF")
+                .initializers(ctx -> ((GenericApplicationContext) ctx).registerBean("seededOrderRepository",
+                        OrderRepository.class, () -> repository, definition -> definition.setPrimary(true)))
+                .run();
+             ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient http = HttpClient.newBuilder().executor(callers).version(HttpClient.Version.HTTP_1_1)
+                     .connectTimeout(Duration.ofSeconds(30)).build()) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            Load load = new Load(http, URI.create("http://localhost:" + port + "/api/orders"), seed, mix);
+
+            // When
+            load.run(rate, Math.max(1, seconds / 5));
+            Map<Endpoint, Stats> stats = load.run(rate, seconds);
+
+            // Then
+            report(orders, rate, seconds, stats);
+            assertThat(stats.values()).allSatisfy(endpoint -> {
+                assertThat(endpoint.serverErrors.sum()).isZero();
+                assertThat(endpoint.failures.sum()).isZero();
+            });
+        }
+    }
+
+    private static Seed seed(InMemoryOrderRepository repository, int orders) {
+        OrderId[] ids = new OrderId[orders];
+        boolean[] pending = new boolean[orders];
+        IntStream.range(0, orders).parallel().forEach(i -> {
+            SplittableRandom random = new SplittableRandom(i);
+            OrderStatus status = random.nextInt(4) == 0
+                    ? (random.nextBoolean() ? OrderStatus.APPROVED : OrderStatus.CANCELLED)
+                    : OrderStatus.PENDING;
+            List<OrderItem> items = IntStream.range(0, 1 + random.nextInt(4))
+                    .mapToObj(n -> new OrderItem(SUPPLIES[random.nextInt(SUPPLIES.length)], 1 + random.nextInt(200)))
+                    .toList();
+            LocalDateTime createdAt = SEEDED_AT.plusSeconds(i);
+            Order order = new Order(OrderId.generate(), items, status, createdAt, createdAt,
+                    status == OrderStatus.PENDING ? 0 : 1);
+            repository.restore(order);
+            ids[i] = order.getId();
+            pending[i] = status == OrderStatus.PENDING;
+        });
+        OrderId[] pendingIds = IntStream.range(0, orders).filter(i -> pending[i]).mapToObj(i -> ids[i])
+                .toArray(OrderId[]::new);
+        shuffle(pendingIds, new SplittableRandom(42));
+        return new Seed(ids, pendingIds);
+    }
+
+    private static void shuffle(OrderId[] ids, SplittableRandom random) {
+        for (int i = ids.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            OrderId swap = ids[i];
+            ids[i] = ids[j];
+            ids[j] = swap;
+        }
+    }
+
+    private static void report(int orders, int rate, int seconds, Map<Endpoint, Stats> stats) throws IOException {
+        Path directory = Files.createDirectories(Path.of("target", "load"));
+        long requests = stats.values().stream().mapToLong(endpoint -> endpoint.latency.getTotalCount()).sum();
+        System.out.printf("%,d orders seeded, %,d req/s offered for %d s, %,.0f req/s completed%n",
+                orders, rate, seconds, (double) requests / seconds);
+        System.out.printf("%-8s %10s %9s %7s %7s %7s %9s %9s %9s %9s %9s%n", "endpoint", "requests", "req/s",
+                "4xx", "5xx", "failed", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (Map.Entry<Endpoint, Stats> entry : stats.entrySet()) {
+            Stats endpoint = entry.getValue();
+            Histogram latency = endpoint.latency;
+            System.out.printf("%-8s %,10d %,9.0f %,7d %,7d %,7d %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    entry.getKey().tag, latency.getTotalCount(), (double) latency.getTotalCount() / seconds,
+                    endpoint.clientErrors.sum(), endpoint.serverErrors.sum(), endpoint.failures.sum(),
+                    millis(latency.getValueAtPercentile(50)), millis(latency.getValueAtPercentile(90)),
+                    millis(latency.getValueAtPercentile(99)), millis(latency.getValueAtPercentile(99.9)),
+                    millis(latency.getMaxValue()));
+            try (PrintStream out = new PrintStream(directory.resolve(entry.getKey().tag + ".hgrm").toFile())) {
+                latency.outputPercentileDistribution(out, 1_000_000.0);
+            }
+        }
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private enum Endpoint {
+        PLACE, APPROVE, CANCEL, GET, LIST;
+
+        private final String tag = name().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Weighted choice of endpoint, e.g. {@code place:15,approve:10,get:75}
+     */
+    private record Mix(Endpoint[] endpoints, int[] cumulativeWeights) {
+        static Mix parse(String mix) {
+            Map<Endpoint, Integer> weights = new EnumMap<>(Endpoint.class);
+            for (String part : mix.split(",")) {
+                String[] pair = part.trim().split(":");
+                if (pair.length != 2) {
+                    throw new IllegalArgumentException("Expected endpoint:weight, got " + part);
+                }
+                weights.put(Endpoint.valueOf(pair[0].trim().toUpperCase(Locale.ROOT)), Integer.parseInt(pair[1].trim()));
+            }
+            Endpoint[] endpoints = weights.keySet().toArray(Endpoint[]::new);
+            int[] cumulative = new int[endpoints.length];
+            int total = 0;
+            for (int i = 0; i < endpoints.length; i++) {
+                total += weights.get(endpoints[i]);
+                cumulative[i] = total;
+            }
+            if (total <= 0) {
+                throw new IllegalArgumentException("Mix has no weight: " + mix);
+            }
+            return new Mix(endpoints, cumulative);
+        }
+
+        Endpoint pick(SplittableRandom random) {
+            int ticket = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+            for (int i = 0; ; i++) {
+                if (ticket < cumulativeWeights[i]) {
+                    return endpoints[i];
+                }
+            }
+        }
+    }
+
+    private record Seed(OrderId[] ids, OrderId[] pending) {
+    }
+
+    private static final class Stats {
+        // latencies in nanoseconds, resized as needed
+        private final Histogram latency = new ConcurrentHistogram(3);
+        private final LongAdder clientErrors = new LongAdder();
+        private final LongAdder serverErrors = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+
+        void record(long latencyNanos, int status) {
+            latency.recordValue(latencyNanos);
+            if (status < 0) {
+                failures.increment();
+            } else if (status >= 500) {
+                serverErrors.increment();
+            } else if (status >= 400) {
+                clientErrors.increment();
+            }
+        }
+    }
+
+    /**
+     * Sends requests from one scheduling thread at fixed intervals; responses are handled
+     * on the client's virtual threads
+     */
+    private static final class Load {
+        private final HttpClient http;
+        private final URI orders;
+        private final Seed seed;
+        private final Mix mix;
+        private final SplittableRandom random = new SplittableRandom(7);
+        // next pending order to approve or cancel; once all are used, transitions get 400
+        private int nextPending;
+
+        Load(HttpClient http, URI orders, Seed seed, Mix mix) {
+            this.http = http;
+            this.orders = orders;
+            this.seed = seed;
+            this.mix = mix;
+        }
+
+        Map<Endpoint, Stats> run(int rate, int seconds) throws InterruptedException {
+            Map<Endpoint, Stats> stats = new EnumMap<>(Endpoint.class);
+            for (Endpoint endpoint : mix.endpoints()) {
+                stats.put(endpoint, new Stats());
+            }
+            long requests = (long) rate * seconds;
+            CountDownLatch completed = new CountDownLatch(Math.toIntExact(requests));
+            double intervalNanos = 1e9 / rate;
+            long start = System.nanoTime();
+            for (long i = 0; i < requests; i++) {
+                long due = start + (long) (i * intervalNanos);
+                long wait;
+                while ((wait = due - System.nanoTime()) > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                Endpoint endpoint = mix.pick(random);
+                Stats endpointStats = stats.get(endpoint);
+                http.sendAsync(request(endpoint), HttpResponse.BodyHandlers.discarding())
+                        .whenComplete((response, failure) -> {
+                            endpointStats.record(System.nanoTime() - due, failure == null ? response.statusCode() : -1);
+                            completed.countDown();
+                        });
+            }
+            assertThat(completed.await(DRAIN_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)).isTrue();
+            return stats;
+        }
+
+        private HttpRequest request(Endpoint endpoint) {
+            return switch (endpoint) {
+                case PLACE -> HttpRequest.newBuilder(orders)
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString("{\"items\":[{\"name\":\""
+                                + SUPPLIES[random.nextInt(SUPPLIES.length)] + "\",\"quantity\":"
+                                + (1 + random.nextInt(200)) + "}]}"))
+                        .build();
+                case APPROVE -> transition("/approve");
+                case CANCEL -> transition("/cancel");
+                case GET -> HttpRequest.newBuilder(orders.resolve("orders/" + anyOrder().getValue())).GET().build();
+                case LIST -> HttpRequest.newBuilder(orders.resolve("orders?limit=50")).GET().build();
+            };
+        }
+
+        private HttpRequest transition(String action) {
+            OrderId id = nextPending < seed.pending().length ? seed.pending()[nextPending++] : anyOrder();
+            return HttpRequest.newBuilder(orders.resolve("orders/" + id.getValue() + action))
+                    .PUT(HttpRequest.BodyPublishers.noBody())
+                    .build();
+        }
+
+        private OrderId anyOrder() {
+            return seed.ids()[random.nextInt(seed.ids().length)];
+        }
+    }
+}
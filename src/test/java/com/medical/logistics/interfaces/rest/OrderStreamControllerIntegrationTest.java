@@ -0,0 +1,115 @@
+package com.medical.logistics.interfaces.rest;
+
+import com.medical.logistics.interfaces.rest.dto.CreateOrderRequest;
+import com.medical.logistics.interfaces.rest.dto.OrderItemDto;
+import com.medical.logistics.interfaces.rest.dto.OrderResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpMethod;
+
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class OrderStreamControllerIntegrationTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @LocalServerPort
+    private int port;
+
+    @Test
+    @DisplayName("Should push order changes to a stream subscriber as they happen")
+    void shouldPushOrderChangesToAStreamSubscriberAsTheyHappen() throws Exception {
+        // Given
+        HttpResponse<InputStream> stream = subscribe("");
+        assertThat(stream.statusCode()).isEqualTo(200);
+        assertThat(stream.headers().firstValue("Content-Type")).hasValueSatisfying(
+                type -> assertThat(type).startsWith("text/event-stream"));
+
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(stream.body(), StandardCharsets.UTF_8))) {
+            // When
+            UUID orderId = placeOrder();
+            restTemplate.exchange("/api/orders/{orderId}/approve", HttpMethod.PUT, null, OrderResponse.class, orderId);
+
+            // Then
+            List<String> first = readEvent(reader);
+            List<String> second = readEvent(reader);
+            assertThat(first).contains("event:placed");
+            assertThat(first).anySatisfy(line -> assertThat(line).startsWith("data:").contains(orderId.toString()));
+            assertThat(second).contains("event:approved");
+            assertThat(second).anySatisfy(line -> assertThat(line).contains("\"status\":\"APPROVED\""));
+        }
+    }
+
+    @Test
+    @DisplayName("Should only push changes for the requested status")
+    void shouldOnlyPushChangesForTheRequestedStatus() throws Exception {
+        // Given
+        HttpResponse<InputStream> stream = subscribe("?status=CANCELLED");
+
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(stream.body(), StandardCharsets.UTF_8))) {
+            // When
+            placeOrder();
+            UUID cancelled = placeOrder();
+            restTemplate.exchange("/api/orders/{orderId}/cancel", HttpMethod.PUT, null, OrderResponse.class, cancelled);
+
+            // Then
+            List<String> event = readEvent(reader);
+            assertThat(event).contains("event:cancelled");
+            assertThat(event).anySatisfy(line -> assertThat(line).contains(cancelled.toString()));
+        }
+    }
+
+    private HttpResponse<InputStream> subscribe(String query) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/orders/stream" + query))
+                .header("Accept", "text/event-stream")
+                .timeout(Duration.ofSeconds(10))
+                .build();
+        HttpResponse<InputStream> response = HttpClient.newHttpClient()
+                .send(request, HttpResponse.BodyHandlers.ofInputStream());
+        // the subscription is registered before the response headers are sent
+        return response;
+    }
+
+    private UUID placeOrder() {
+        CreateOrderRequest request = new CreateOrderRequest();
+        request.setItems(List.of(new OrderItemDto("Saline 0.9% 500ml", 4)));
+        return restTemplate.postForEntity("/api/orders", request, OrderResponse.class).getBody().getId();
+    }
+
+    // lines of the next event, skipping comment lines such as heartbeats
+    private static List<String> readEvent(BufferedReader reader) throws Exception {
+        List<String> lines = new ArrayList<>();
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isEmpty()) {
+                if (!lines.isEmpty()) {
+                    return lines;
+                }
+            } else if (!line.startsWith(":")) {
+                lines.add(line);
+            }
+        }
+        return lines;
+    }
+}
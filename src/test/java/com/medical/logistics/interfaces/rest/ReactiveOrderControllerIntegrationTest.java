@@ -0,0 +1,149 @@
+package com.medical.logistics.interfaces.rest;
+
+import com.medical.logistics.interfaces.rest.dto.CreateOrderRequest;
+import com.medical.logistics.interfaces.rest.dto.OrderItemDto;
+import com.medical.logistics.interfaces.rest.dto.OrderResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.test.web.reactive.server.FluxExchangeResult;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.main.web-application-type=reactive")
+class ReactiveOrderControllerIntegrationTest {
+
+    @Autowired
+    private WebTestClient webClient;
+
+    @Test
+    @DisplayName("Should complete order lifecycle on the reactive stack")
+    void shouldCompleteOrderLifecycleOnTheReactiveStack() {
+        // Create order
+        OrderResponse created = placeOrder("Syringe", 10);
+        assertThat(created.getStatus()).isEqualTo("PENDING");
+
+        // Approve order
+        webClient.put().uri("/api/orders/{orderId}/approve", created.getId())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.status").isEqualTo("APPROVED")
+                .jsonPath("$.version").isEqualTo(1);
+
+        // Try to cancel approved order (should fail)
+        webClient.put().uri("/api/orders/{orderId}/cancel", created.getId())
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.error").isEqualTo("Invalid Order State");
+    }
+
+    @Test
+    @DisplayName("Should push order changes over server-sent events")
+    void shouldPushOrderChangesOverServerSentEvents() {
+        // Given
+        FluxExchangeResult<ServerSentEvent<String>> stream = webClient.get().uri("/api/orders/stream?status=PENDING")
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(new ParameterizedTypeReference<>() {
+                });
+
+        // When
+        OrderResponse placed = placeOrder("Saline 0.9% 500ml", 2);
+
+        // Then
+        StepVerifier.create(stream.getResponseBody().filter(event -> event.event() != null))
+                .assertNext(event -> {
+                    assertThat(event.event()).isEqualTo("placed");
+                    assertThat(event.data()).contains(placed.getId().toString());
+                })
+                .thenCancel()
+                .verify(Duration.ofSeconds(10));
+    }
+
+    @Test
+    @DisplayName("Should page orders with a next cursor header")
+    void shouldPageOrdersWithANextCursorHeader() {
+        // Given
+        for (int i = 0; i < 3; i++) {
+            placeOrder("Gauze", i + 1);
+        }
+
+        // When & Then
+        String cursor = webClient.get().uri("/api/orders?limit=2")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().exists(OrderController.NEXT_CURSOR_HEADER)
+                .expectBodyList(OrderResponse.class).hasSize(2)
+                .returnResult()
+                .getResponseHeaders().getFirst(OrderController.NEXT_CURSOR_HEADER);
+
+        webClient.get().uri("/api/orders?limit=2&cursor={cursor}", cursor)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBodyList(OrderResponse.class).value(page -> assertThat(page).isNotEmpty());
+    }
+
+    @Test
+    @DisplayName("Should stream orders as newline-delimited JSON")
+    void shouldStreamOrdersAsNewlineDelimitedJson() {
+        // Given
+        OrderResponse created = placeOrder("Saline 500ml", 4);
+
+        // When
+        List<OrderResponse> streamed = webClient.get().uri("/api/orders/export")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(OrderResponse.class)
+                .getResponseBody()
+                .collectList()
+                .block();
+
+        // Then
+        assertThat(streamed).extracting(OrderResponse::getId).contains(created.getId());
+    }
+
+    @Test
+    @DisplayName("Should reject invalid input with the servlet error format")
+    void shouldRejectInvalidInputWithTheServletErrorFormat() {
+        webClient.post().uri("/api/orders")
+                .bodyValue(new CreateOrderRequest(List.of()))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.error").isEqualTo("Validation Failed")
+                .jsonPath("$.details.items").isEqualTo("Order must have at least one item");
+
+        webClient.get().uri("/api/orders/{orderId}", UUID.randomUUID())
+                .exchange()
+                .expectStatus().isNotFound();
+
+        webClient.get().uri("/api/orders/not-a-uuid")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    private OrderResponse placeOrder(String name, int quantity) {
+        return webClient.post().uri("/api/orders")
+                .bodyValue(new CreateOrderRequest(List.of(new OrderItemDto(name, quantity))))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(OrderResponse.class)
+                .returnResult()
+                .getResponseBody();
+    }
+}
@@ -0,0 +1,172 @@
+package com.medical.logistics.interfaces.rest;
+
+import com.medical.logistics.MedicalLogisticsApiApplication;
+import com.medical.logistics.domian.order.Order;
+import com.medical.logistics.domian.order.OrderId;
+import com.medical.logistics.domian.order.OrderItem;
+import com.medical.logistics.domian.order.OrderRepository;
+import com.medical.logistics.domian.order.OrderStatus;
+import com.medical.logistics.infrastructure.persistence.InMemoryOrderRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.support.GenericApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Approve throughput and latency on platform and virtual request threads, with every
+ * transition blocked for a simulated downstream call (inventory, payment). Opt-in:
+ * <pre>
+ * mvn test -Dtest=VirtualThreadBenchmarkTest -Dbenchmark=true -Dbenchmark.clients=1000 -Dbenchmark.downstream-millis=50
+ * </pre>
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class VirtualThreadBenchmarkTest {
+    private static final int REQUESTS_PER_CLIENT = 5;
+
+    @Test
+    @DisplayName("Benchmark approvals with blocking downstream calls on platform and virtual threads")
+    void benchmarkApprovalsWithBlockingDownstreamCallsOnPlatformAndVirtualThreads() throws Exception {
+        // Given
+        int clients = Integer.getInteger("benchmark.clients", 1000);
+        long downstreamMillis = Long.getLong("benchmark.downstream-millis", 50);
+
+        // When
+        Result platform = run(false, clients, downstreamMillis);
+        Result virtual = run(true, clients, downstreamMillis);
+
+        // Then
+        System.out.printf("%d clients x %d approvals, %d ms downstream call%n",
+                clients, REQUESTS_PER_CLIENT, downstreamMillis);
+        System.out.println("platform threads: " + platform);
+        System.out.println("virtual threads:  " + virtual);
+    }
+
+    private static Result run(boolean virtualThreads, int clients, long downstreamMillis) throws Exception {
+        SlowDownstreamOrderRepository repository = new SlowDownstreamOrderRepository(downstreamMillis);
+        List<OrderId> ids = new ArrayList<>();
+        for (int i = 0; i < clients * REQUESTS_PER_CLIENT; i++) {
+            ids.add(repository.save(Order.create(List.of(new OrderItem("Saline 500ml", i % 50 + 1)))).getId());
+        }
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(MedicalLogisticsApiApplication.class)
+                .properties("server.port=0",
+                        "spring.threads.virtual.enabled=" + virtualThreads,
+                        "logging.level.com.medical.logistics=WARN")
+                .initializers(ctx -> ((GenericApplicationContext) ctx).registerBean("slowDownstreamOrderRepository",
+                        OrderRepository.class, () -> repository, definition -> definition.setPrimary(true)))
+                .run();
+             ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient http = HttpClient.newBuilder().executor(callers).connectTimeout(Duration.ofSeconds(30)).build()) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            long[] latencies = new long[ids.size()];
+            AtomicInteger next = new AtomicInteger();
+            AtomicInteger failures = new AtomicInteger();
+
+            long started = System.nanoTime();
+            List<Future<?>> running = new ArrayList<>(clients);
+            for (int c = 0; c < clients; c++) {
+                running.add(callers.submit(() -> {
+                    for (int r = 0; r < REQUESTS_PER_CLIENT; r++) {
+                        int index = next.getAndIncrement();
+                        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port
+                                        + "/api/orders/" + ids.get(index).getValue() + "/approve"))
+                                .PUT(HttpRequest.BodyPublishers.noBody())
+                                .build();
+                        long sent = System.nanoTime();
+                        HttpResponse<Void> response = http.send(request, HttpResponse.BodyHandlers.discarding());
+                        latencies[index] = System.nanoTime() - sent;
+                        if (response.statusCode() != 200) {
+                            failures.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> client : running) {
+                client.get();
+            }
+            long elapsed = System.nanoTime() - started;
+
+            assertThat(failures).hasValue(0);
+            Arrays.sort(latencies);
+            return new Result(ids.size() * 1e9 / elapsed,
+                    latencies[latencies.length / 2] / 1_000_000,
+                    latencies[(int) (latencies.length * 0.99)] / 1_000_000);
+        }
+    }
+
+    private record Result(double requestsPerSecond, long p50Millis, long p99Millis) {
+        @Override
+        public String toString() {
+            return String.format("%,.0f req/s, p50 %d ms, p99 %d ms", requestsPerSecond, p50Millis, p99Millis);
+        }
+    }
+
+    /**
+     * In-memory store whose transitions first wait on a blocking downstream call
+     */
+    private static final class SlowDownstreamOrderRepository implements OrderRepository {
+        private final InMemoryOrderRepository delegate = new InMemoryOrderRepository();
+        private final long downstreamMillis;
+
+        private SlowDownstreamOrderRepository(long downstreamMillis) {
+            this.downstreamMillis = downstreamMillis;
+        }
+
+        @Override
+        public Order save(Order order) {
+            return delegate.save(order);
+        }
+
+        @Override
+        public Optional<Order> findById(OrderId id) {
+            return delegate.findById(id);
+        }
+
+        @Override
+        public List<Order> findAll() {
+            return delegate.findAll();
+        }
+
+        @Override
+        public List<Order> findPage(OrderId after, int limit) {
+            return delegate.findPage(after, limit);
+        }
+
+        @Override
+        public List<Order> findByStatus(OrderStatus status, OrderId after, int limit) {
+            return delegate.findByStatus(status, after, limit);
+        }
+
+        @Override
+        public Order transition(OrderId id, long expectedVersion, Consumer<Order> change) {
+            try {
+                Thread.sleep(downstreamMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+            return delegate.transition(id, expectedVersion, change);
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.medical.logistics.interfaces.rest.stream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.medical.logistics.domian.order.Order;
+import com.medical.logistics.domian.order.OrderItem;
+import com.medical.logistics.domian.order.OrderStatus;
+import com.medical.logistics.domian.order.events.OrderApprovedEvent;
+import com.medical.logistics.domian.order.events.OrderPlacedEvent;
+import com.medical.logistics.interfaces.rest.OrderMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.*;
+
+class OrderChangeBroadcasterTest {
+    private final OrderChangeBroadcaster broadcaster = new OrderChangeBroadcaster(
+            new OrderStreamSettings(4, 2, Duration.ofSeconds(15)), new OrderMapper(),
+            new ObjectMapper().registerModule(new JavaTimeModule()), false);
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.close();
+    }
+
+    @Test
+    @DisplayName("Should deliver changes in order to subscribers whose filter matches")
+    void shouldDeliverChangesInOrderToSubscribersWhoseFilterMatches() throws Exception {
+        // Given
+        RecordingSink everything = new RecordingSink();
+        RecordingSink approvals = new RecordingSink();
+        broadcaster.subscribe(null, everything);
+        broadcaster.subscribe(OrderStatus.APPROVED, approvals);
+        Order order = Order.create(List.of(new OrderItem("Syringe", 10)));
+        Order approved = order.copy();
+        approved.approve();
+
+        // When
+        broadcaster.onEvent(new OrderPlacedEvent(order, Instant.now()), 0, true);
+        broadcaster.onEvent(new OrderApprovedEvent(approved, Instant.now()), 1, true);
+
+        // Then
+        await(() -> everything.changes.size() == 2 && approvals.changes.size() == 1);
+        assertThat(everything.changes).extracting(OrderChange::type)
+                .containsExactly(OrderChange.Type.PLACED, OrderChange.Type.APPROVED);
+        assertThat(approvals.changes.get(0).sequence()).isEqualTo(1);
+        assertThat(approvals.changes.get(0).data())
+                .contains(order.getId().getValue().toString())
+                .contains("\"status\":\"APPROVED\"");
+    }
+
+    @Test
+    @DisplayName("Should drop changes for a subscriber that falls behind and then resync it")
+    void shouldDropChangesForASubscriberThatFallsBehindAndThenResyncIt() throws Exception {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingSink slow = new RecordingSink() {
+            @Override
+            public void send(OrderChange change) throws IOException {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                super.send(change);
+            }
+        };
+        broadcaster.subscribe(null, slow);
+        Order order = Order.create(List.of(new OrderItem("Gauze", 5)));
+
+        // When: publishing completes while the subscriber is still stuck on its first write
+        for (int i = 0; i < 20; i++) {
+            broadcaster.onEvent(new OrderPlacedEvent(order, Instant.now()), i, true);
+        }
+        release.countDown();
+
+        // Then
+        await(() -> !slow.changes.isEmpty() && slow.changes.get(slow.changes.size() - 1) == OrderChange.RESYNC);
+        assertThat(slow.changes.size()).isLessThanOrEqualTo(6);
+        assertThat(slow.changes.subList(0, slow.changes.size() - 1))
+                .extracting(OrderChange::type)
+                .containsOnly(OrderChange.Type.PLACED);
+    }
+
+    @Test
+    @DisplayName("Should close and forget a subscriber whose connection fails")
+    void shouldCloseAndForgetASubscriberWhoseConnectionFails() throws Exception {
+        // Given
+        RecordingSink broken = new RecordingSink() {
+            @Override
+            public void send(OrderChange change) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+        OrderChangeSubscription subscription = broadcaster.subscribe(null, broken);
+
+        // When
+        broadcaster.onEvent(new OrderPlacedEvent(Order.create(List.of(new OrderItem("Mask", 1))), Instant.now()),
+                0, true);
+
+        // Then
+        await(subscription::isClosed);
+        assertThat(broken.completed).isTrue();
+        assertThat(broadcaster.subscribers()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should refuse subscribers beyond the limit until one leaves")
+    void shouldRefuseSubscribersBeyondTheLimitUntilOneLeaves() {
+        // Given
+        OrderChangeSubscription first = broadcaster.subscribe(null, new RecordingSink());
+        broadcaster.subscribe(OrderStatus.PENDING, new RecordingSink());
+
+        // When
+        OrderChangeSubscription refused = broadcaster.subscribe(null, new RecordingSink());
+        first.close();
+        OrderChangeSubscription accepted = broadcaster.subscribe(null, new RecordingSink());
+
+        // Then
+        assertThat(refused).isNull();
+        assertThat(accepted).isNotNull();
+        assertThat(broadcaster.subscribers()).isEqualTo(2);
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                fail("Condition not met within 5 seconds");
+            }
+            Thread.sleep(1);
+        }
+    }
+
+    private static class RecordingSink implements OrderChangeSink {
+        final List<OrderChange> changes = new CopyOnWriteArrayList<>();
+        volatile boolean completed;
+
+        @Override
+        public void send(OrderChange change) throws IOException {
+            changes.add(change);
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+    }
+}